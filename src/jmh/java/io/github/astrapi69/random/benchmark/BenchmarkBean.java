@@ -0,0 +1,120 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.benchmark;
+
+import java.util.Date;
+
+/**
+ * The class {@link BenchmarkBean} is the bean that is populated in the
+ * {@link RandomObjectBenchmark}
+ */
+public class BenchmarkBean
+{
+
+	private boolean active;
+
+	private int age;
+
+	private Date birthday;
+
+	private String firstName;
+
+	private long id;
+
+	private String lastName;
+
+	private double salary;
+
+	public int getAge()
+	{
+		return age;
+	}
+
+	public Date getBirthday()
+	{
+		return birthday;
+	}
+
+	public String getFirstName()
+	{
+		return firstName;
+	}
+
+	public long getId()
+	{
+		return id;
+	}
+
+	public String getLastName()
+	{
+		return lastName;
+	}
+
+	public double getSalary()
+	{
+		return salary;
+	}
+
+	public boolean isActive()
+	{
+		return active;
+	}
+
+	public void setActive(final boolean active)
+	{
+		this.active = active;
+	}
+
+	public void setAge(final int age)
+	{
+		this.age = age;
+	}
+
+	public void setBirthday(final Date birthday)
+	{
+		this.birthday = birthday;
+	}
+
+	public void setFirstName(final String firstName)
+	{
+		this.firstName = firstName;
+	}
+
+	public void setId(final long id)
+	{
+		this.id = id;
+	}
+
+	public void setLastName(final String lastName)
+	{
+		this.lastName = lastName;
+	}
+
+	public void setSalary(final double salary)
+	{
+		this.salary = salary;
+	}
+
+}
@@ -0,0 +1,90 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.benchmark;
+
+import java.io.File;
+import java.util.TreeSet;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * The class {@link BenchmarkRunner} runs the benchmarks with 1 to N threads and the gc profiler
+ * for report the throughput and the allocation rate. The thread counts are the powers of two up
+ * to N and N itself. The results of every thread count are written as json to the given result
+ * directory. Run it with the gradle task <code>jmh</code>
+ */
+public final class BenchmarkRunner
+{
+
+	private BenchmarkRunner()
+	{
+	}
+
+	/**
+	 * The main method
+	 *
+	 * @param args
+	 *            the regular expression of the benchmarks to include, the maximum number of
+	 *            threads and the result directory
+	 * @throws RunnerException
+	 *             if the benchmarks fail
+	 */
+	public static void main(final String[] args) throws RunnerException
+	{
+		final String include = 0 < args.length ? args[0] : ".*";
+		final int maxThreads = 1 < args.length
+			? Integer.parseInt(args[1])
+			: Runtime.getRuntime().availableProcessors();
+		final File resultDirectory = new File(2 < args.length ? args[2] : "build/reports/jmh");
+		resultDirectory.mkdirs();
+		for (final int threads : threadCounts(maxThreads))
+		{
+			new Runner(new OptionsBuilder().include(include).threads(threads)
+				.addProfiler(GCProfiler.class).resultFormat(ResultFormatType.JSON)
+				.result(new File(resultDirectory, "result-" + threads + "-threads.json").getPath())
+				.build()).run();
+		}
+	}
+
+	private static TreeSet<Integer> threadCounts(final int maxThreads)
+	{
+		if (maxThreads < 1)
+		{
+			throw new IllegalArgumentException("maxThreads must be positive: " + maxThreads);
+		}
+		final TreeSet<Integer> threadCounts = new TreeSet<>();
+		for (int threads = 1; threads < maxThreads; threads <<= 1)
+		{
+			threadCounts.add(threads);
+		}
+		threadCounts.add(maxThreads);
+		return threadCounts;
+	}
+
+}
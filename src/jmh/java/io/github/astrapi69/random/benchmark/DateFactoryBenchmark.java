@@ -0,0 +1,105 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.benchmark;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.astrapi69.random.date.RandomDateFactory;
+
+/**
+ * The benchmark class {@link DateFactoryBenchmark} measures the date generation of the
+ * {@link RandomDateFactory}
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DateFactoryBenchmark
+{
+
+	private Date start;
+
+	private Date end;
+
+	@Setup
+	public void setUp()
+	{
+		end = new Date();
+		start = new Date(end.getTime() - TimeUnit.DAYS.toMillis(3650));
+	}
+
+	@Benchmark
+	public Date randomBirthday()
+	{
+		return RandomDateFactory.randomBirthday();
+	}
+
+	@Benchmark
+	public Date randomDate()
+	{
+		return RandomDateFactory.randomDate();
+	}
+
+	@Benchmark
+	public Date randomDateAfter()
+	{
+		return RandomDateFactory.randomDateAfter(start);
+	}
+
+	@Benchmark
+	public Date randomDateBetween()
+	{
+		return RandomDateFactory.randomDatebetween(start, end);
+	}
+
+	@Benchmark
+	public LocalDate randomLocalDate()
+	{
+		return RandomDateFactory.randomLocalDate();
+	}
+
+	@Benchmark
+	public LocalDateTime randomLocalDateTime()
+	{
+		return RandomDateFactory.randomLocalDateTime();
+	}
+
+}
@@ -0,0 +1,97 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.astrapi69.random.distribution.ExponentialSampler;
+import io.github.astrapi69.random.distribution.GammaSampler;
+import io.github.astrapi69.random.distribution.GaussianSampler;
+import io.github.astrapi69.random.source.RandomSource;
+import io.github.astrapi69.random.source.RandomSourceFactory;
+
+/**
+ * The benchmark class {@link DistributionBenchmark} compares the ziggurat samplers against the
+ * Box-Muller and the inversion method on top of uniform values
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class DistributionBenchmark
+{
+
+	private final RandomSource randomSource = RandomSourceFactory.newXoshiro256StarStarSource(1L);
+
+	private final GaussianSampler gaussianSampler = new GaussianSampler(0.0, 1.0);
+
+	private final ExponentialSampler exponentialSampler = new ExponentialSampler(1.0);
+
+	private final GammaSampler gammaSampler = new GammaSampler(2.5, 1.0);
+
+	@Benchmark
+	public double gaussianZiggurat()
+	{
+		return gaussianSampler.sample(randomSource);
+	}
+
+	@Benchmark
+	public double gaussianBoxMuller()
+	{
+		final double radius = Math.sqrt(-2.0 * Math.log(1.0 - randomSource.nextDouble()));
+		return radius * Math.cos(2.0 * Math.PI * randomSource.nextDouble());
+	}
+
+	@Benchmark
+	public double exponentialZiggurat()
+	{
+		return exponentialSampler.sample(randomSource);
+	}
+
+	@Benchmark
+	public double exponentialInversion()
+	{
+		return -Math.log(1.0 - randomSource.nextDouble());
+	}
+
+	@Benchmark
+	public double gamma()
+	{
+		return gammaSampler.sample(randomSource);
+	}
+
+}
@@ -0,0 +1,131 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.benchmark;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.astrapi69.random.number.RandomBigDecimalFactory;
+import io.github.astrapi69.random.number.RandomBigIntegerFactory;
+import io.github.astrapi69.random.number.RandomBooleanFactory;
+import io.github.astrapi69.random.number.RandomByteFactory;
+import io.github.astrapi69.random.number.RandomCharFactory;
+import io.github.astrapi69.random.number.RandomDoubleFactory;
+import io.github.astrapi69.random.number.RandomFloatFactory;
+import io.github.astrapi69.random.number.RandomIntFactory;
+import io.github.astrapi69.random.number.RandomLongFactory;
+import io.github.astrapi69.random.number.RandomShortFactory;
+
+/**
+ * The benchmark class {@link NumberFactoryBenchmark} measures the default methods of the number
+ * factories
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class NumberFactoryBenchmark
+{
+
+	@Benchmark
+	public BigDecimal randomBigDecimal()
+	{
+		return RandomBigDecimalFactory.randomBigDecimal();
+	}
+
+	@Benchmark
+	public BigInteger randomBigInteger()
+	{
+		return RandomBigIntegerFactory.randomBigInteger();
+	}
+
+	@Benchmark
+	public boolean randomBoolean()
+	{
+		return RandomBooleanFactory.randomBoolean();
+	}
+
+	@Benchmark
+	public byte randomByte()
+	{
+		return RandomByteFactory.randomByte();
+	}
+
+	@Benchmark
+	public char randomChar()
+	{
+		return RandomCharFactory.randomChar();
+	}
+
+	@Benchmark
+	public double randomDouble()
+	{
+		return RandomDoubleFactory.randomDouble();
+	}
+
+	@Benchmark
+	public float randomFloat()
+	{
+		return RandomFloatFactory.randomFloat();
+	}
+
+	@Benchmark
+	public int randomInt()
+	{
+		return RandomIntFactory.randomInt();
+	}
+
+	@Benchmark
+	public int randomIntBetween()
+	{
+		return RandomIntFactory.randomIntBetween(-1000, 1000);
+	}
+
+	@Benchmark
+	public long randomLong()
+	{
+		return RandomLongFactory.randomLong();
+	}
+
+	@Benchmark
+	public short randomShort()
+	{
+		return RandomShortFactory.randomShort();
+	}
+
+}
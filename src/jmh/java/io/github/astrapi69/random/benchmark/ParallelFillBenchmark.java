@@ -0,0 +1,118 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.astrapi69.random.RandomCharacters;
+import io.github.astrapi69.random.number.RandomDoubleFactory;
+import io.github.astrapi69.random.number.RandomLongFactory;
+import io.github.astrapi69.random.object.RandomStringFactory;
+import io.github.astrapi69.random.source.RandomSource;
+import io.github.astrapi69.random.source.RandomSourceFactory;
+
+/**
+ * The benchmark class {@link ParallelFillBenchmark} compares the sequential bulk methods with a
+ * fast engine against the parallel bulk methods of the factories
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class ParallelFillBenchmark
+{
+
+	private static final int NUMBER_COUNT = 10_000_000;
+
+	private static final int STRING_COUNT = 100_000;
+
+	private static final String CHARS = RandomCharacters.lowcaseWithUppercaseAndNumbers
+		.getCharacters();
+
+	private final double[] doubles = new double[NUMBER_COUNT];
+
+	private final long[] longs = new long[NUMBER_COUNT];
+
+	private final String[] strings = new String[STRING_COUNT];
+
+	@Benchmark
+	public double[] fillDoubles()
+	{
+		RandomDoubleFactory.fill(doubles, RandomSourceFactory.newL64X128MixRandomSource(42L));
+		return doubles;
+	}
+
+	@Benchmark
+	public double[] parallelFillDoubles()
+	{
+		RandomDoubleFactory.parallelFill(doubles, 42L);
+		return doubles;
+	}
+
+	@Benchmark
+	public long[] fillLongs()
+	{
+		RandomLongFactory.fill(longs, RandomSourceFactory.newL64X128MixRandomSource(42L));
+		return longs;
+	}
+
+	@Benchmark
+	public long[] parallelFillLongs()
+	{
+		RandomLongFactory.parallelFill(longs, 42L);
+		return longs;
+	}
+
+	@Benchmark
+	public String[] fillStrings()
+	{
+		final RandomSource randomSource = RandomSourceFactory.newL64X128MixRandomSource(42L);
+		for (int i = 0; i < strings.length; i++)
+		{
+			strings[i] = RandomStringFactory.newRandomString(CHARS, 16, randomSource);
+		}
+		return strings;
+	}
+
+	@Benchmark
+	public String[] parallelFillStrings()
+	{
+		RandomStringFactory.parallelFill(strings, CHARS, 16, 42L);
+		return strings;
+	}
+
+}
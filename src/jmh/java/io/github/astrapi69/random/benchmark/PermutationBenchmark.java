@@ -0,0 +1,93 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.astrapi69.random.permutation.RandomPermutation;
+import io.github.astrapi69.random.permutation.RandomShuffleExtensions;
+import io.github.astrapi69.random.source.RandomSource;
+import io.github.astrapi69.random.source.RandomSourceFactory;
+
+/**
+ * The benchmark class {@link PermutationBenchmark} compares the visit of all indexes in random
+ * order with the constant memory {@link RandomPermutation} against a shuffled index array
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PermutationBenchmark
+{
+
+	/** The number of indexes to visit */
+	@Param({ "1000", "1000000" })
+	public int size;
+
+	private final RandomSource randomSource = RandomSourceFactory.newXoshiro256StarStarSource(1L);
+
+	@Benchmark
+	public long feistelPermutation()
+	{
+		long sum = 0;
+		final RandomPermutation permutation = RandomPermutation.of(size, randomSource);
+		for (long index = 0; index < size; index++)
+		{
+			sum += permutation.permute(index);
+		}
+		return sum;
+	}
+
+	@Benchmark
+	public long shuffledIndexArray()
+	{
+		long sum = 0;
+		final int[] indexes = new int[size];
+		for (int index = 0; index < size; index++)
+		{
+			indexes[index] = index;
+		}
+		RandomShuffleExtensions.shuffle(indexes, randomSource);
+		for (final int index : indexes)
+		{
+			sum += index;
+		}
+		return sum;
+	}
+
+}
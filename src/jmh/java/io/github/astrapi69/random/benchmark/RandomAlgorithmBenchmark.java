@@ -0,0 +1,87 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.astrapi69.random.enumeration.RandomAlgorithm;
+import io.github.astrapi69.random.number.RandomDoubleFactory;
+import io.github.astrapi69.random.number.RandomFloatFactory;
+import io.github.astrapi69.random.number.RandomIntFactory;
+import io.github.astrapi69.random.number.RandomLongFactory;
+
+/**
+ * The benchmark class {@link RandomAlgorithmBenchmark} measures the bounded number generation of
+ * the number factories for every value of {@link RandomAlgorithm}
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class RandomAlgorithmBenchmark
+{
+
+	/** The algorithm, all values of the enum are measured */
+	@Param
+	public RandomAlgorithm algorithm;
+
+	@Benchmark
+	public double randomDouble()
+	{
+		return RandomDoubleFactory.randomDouble(1000d, algorithm);
+	}
+
+	@Benchmark
+	public float randomFloat()
+	{
+		return RandomFloatFactory.randomFloat(1000f, algorithm);
+	}
+
+	@Benchmark
+	public int randomInt()
+	{
+		return RandomIntFactory.randomInt(1000, algorithm);
+	}
+
+	@Benchmark
+	public long randomLong()
+	{
+		return RandomLongFactory.randomLong(1000L, algorithm);
+	}
+
+}
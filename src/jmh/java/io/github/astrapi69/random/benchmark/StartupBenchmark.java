@@ -0,0 +1,160 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.benchmark;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import io.github.astrapi69.random.DefaultSecureRandom;
+import io.github.astrapi69.random.date.RandomDateFactory;
+import io.github.astrapi69.random.enumeration.SecureRandomInitMode;
+import io.github.astrapi69.random.number.RandomBigDecimalFactory;
+import io.github.astrapi69.random.number.RandomBigIntegerFactory;
+import io.github.astrapi69.random.number.RandomBooleanFactory;
+import io.github.astrapi69.random.number.RandomByteFactory;
+import io.github.astrapi69.random.number.RandomCharFactory;
+import io.github.astrapi69.random.number.RandomDoubleFactory;
+import io.github.astrapi69.random.number.RandomFloatFactory;
+import io.github.astrapi69.random.number.RandomIntFactory;
+import io.github.astrapi69.random.number.RandomLongFactory;
+import io.github.astrapi69.random.number.RandomShortFactory;
+import io.github.astrapi69.random.object.RandomObjectFactory;
+import io.github.astrapi69.random.object.RandomStringFactory;
+import io.github.astrapi69.random.object.RandomWebObjectFactory;
+
+/**
+ * The class {@link StartupBenchmark} measures the time to the first value of every factory class.
+ * Every measurement runs in a fresh JVM, so the time includes the class loading, the provider
+ * lookup and the seeding that the first call of a factory pays. Every factory is measured with
+ * every {@link SecureRandomInitMode}. Run it with the gradle task <code>startupBenchmark</code>
+ */
+public final class StartupBenchmark
+{
+
+	/** The number of forked JVMs for every factory and init mode, the median is reported */
+	private static final int FORKS = 5;
+
+	/** The first value calls of the factory classes */
+	private static final Map<String, Supplier<Object>> FACTORIES = new LinkedHashMap<>();
+
+	static
+	{
+		FACTORIES.put("RandomBooleanFactory", RandomBooleanFactory::randomBoolean);
+		FACTORIES.put("RandomByteFactory", RandomByteFactory::randomByte);
+		FACTORIES.put("RandomCharFactory", RandomCharFactory::randomChar);
+		FACTORIES.put("RandomShortFactory", RandomShortFactory::randomShort);
+		FACTORIES.put("RandomIntFactory", RandomIntFactory::randomInt);
+		FACTORIES.put("RandomLongFactory", RandomLongFactory::randomLong);
+		FACTORIES.put("RandomFloatFactory", RandomFloatFactory::randomFloat);
+		FACTORIES.put("RandomDoubleFactory", RandomDoubleFactory::randomDouble);
+		FACTORIES.put("RandomBigIntegerFactory", RandomBigIntegerFactory::randomBigInteger);
+		FACTORIES.put("RandomBigDecimalFactory", RandomBigDecimalFactory::randomBigDecimal);
+		FACTORIES.put("RandomStringFactory", RandomStringFactory::newRandomString);
+		FACTORIES.put("RandomDateFactory", RandomDateFactory::randomDate);
+		FACTORIES.put("RandomWebObjectFactory", RandomWebObjectFactory::randomEmail);
+		FACTORIES.put("RandomObjectFactory", RandomObjectFactory::randomToken);
+	}
+
+	private StartupBenchmark()
+	{
+	}
+
+	/**
+	 * The main method. Without arguments every factory is measured in forked JVMs, with the name
+	 * of a factory as argument the time to the first value of this factory is measured and
+	 * printed in nanoseconds
+	 *
+	 * @param args
+	 *            the name of the factory or nothing
+	 * @throws IOException
+	 *             Signals that an I/O exception has occurred
+	 * @throws InterruptedException
+	 *             if the current thread was interrupted while waiting for a forked JVM
+	 */
+	public static void main(final String[] args) throws IOException, InterruptedException
+	{
+		if (args.length == 1)
+		{
+			final long start = System.nanoTime();
+			final Object value = FACTORIES.get(args[0]).get();
+			final long elapsed = System.nanoTime() - start;
+			if (value == null)
+			{
+				throw new IllegalStateException("No value from " + args[0]);
+			}
+			System.out.println(elapsed);
+			return;
+		}
+		System.out.printf("%-26s", "time to first value [ms]");
+		for (final SecureRandomInitMode initMode : SecureRandomInitMode.values())
+		{
+			System.out.printf("%10s", initMode);
+		}
+		System.out.println();
+		for (final String factory : FACTORIES.keySet())
+		{
+			System.out.printf("%-26s", factory);
+			for (final SecureRandomInitMode initMode : SecureRandomInitMode.values())
+			{
+				System.out.printf("%10.2f", measure(factory, initMode) / 1_000_000.0);
+			}
+			System.out.println();
+		}
+	}
+
+	private static long measure(final String factory, final SecureRandomInitMode initMode)
+		throws IOException, InterruptedException
+	{
+		final long[] elapsed = new long[FORKS];
+		for (int i = 0; i < FORKS; i++)
+		{
+			final Process process = new ProcessBuilder(
+				Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+				"-D" + DefaultSecureRandom.INIT_MODE_PROPERTY + "=" + initMode.name(), "-cp",
+				System.getProperty("java.class.path"), StartupBenchmark.class.getName(), factory)
+					.redirectErrorStream(true).start();
+			try (BufferedReader reader = new BufferedReader(
+				new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8)))
+			{
+				final String line = reader.readLine();
+				if (process.waitFor() != 0 || line == null)
+				{
+					throw new IllegalStateException("Forked JVM failed for " + factory);
+				}
+				elapsed[i] = Long.parseLong(line.trim());
+			}
+		}
+		Arrays.sort(elapsed);
+		return elapsed[FORKS / 2];
+	}
+
+}
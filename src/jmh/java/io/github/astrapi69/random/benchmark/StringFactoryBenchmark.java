@@ -0,0 +1,108 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.benchmark;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.astrapi69.random.RandomCharacters;
+import io.github.astrapi69.random.object.RandomStringFactory;
+import io.github.astrapi69.random.source.RandomSource;
+import io.github.astrapi69.random.source.RandomSourceFactory;
+
+/**
+ * The benchmark class {@link StringFactoryBenchmark} measures the string generation of the
+ * {@link RandomStringFactory}
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class StringFactoryBenchmark
+{
+
+	/** The length of the generated strings */
+	@Param({ "8", "64", "1024" })
+	public int length;
+
+	private final RandomSource randomSource = RandomSourceFactory.newXoshiro256StarStarSource(1L);
+
+	@Benchmark
+	public String newRandomString()
+	{
+		return RandomStringFactory.newRandomString(length);
+	}
+
+	@Benchmark
+	public String newRandomStringFromChars()
+	{
+		return RandomStringFactory.newRandomString(
+			RandomCharacters.lowcaseWithUppercaseAndNumbers.getCharacters(), length);
+	}
+
+	@Benchmark
+	public String newRandomStringFromCharsWithRandomSource()
+	{
+		return RandomStringFactory.newRandomString(
+			RandomCharacters.lowcaseWithUppercaseAndNumbers.getCharacters(), length, randomSource);
+	}
+
+	@Benchmark
+	public String newRandomStringFromNonLatin1CharsWithRandomSource()
+	{
+		return RandomStringFactory.newRandomString("αβγδεζηθικλμνξοπρστυφχψω", length,
+			randomSource);
+	}
+
+	@Benchmark
+	public void writeRandomLongStringToOutputStream() throws IOException
+	{
+		RandomStringFactory.writeRandomLongString(OutputStream.nullOutputStream(),
+			RandomCharacters.lowcaseWithUppercaseAndNumbers.getCharacters(), length,
+			StandardCharsets.UTF_8, randomSource);
+	}
+
+	@Benchmark
+	public String randomHexString()
+	{
+		return RandomStringFactory.randomHexString(length);
+	}
+
+}
@@ -0,0 +1,114 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.benchmark;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.astrapi69.random.RandomCharacters;
+import io.github.astrapi69.random.object.RandomStringFactory;
+import io.github.astrapi69.random.source.RandomSource;
+import io.github.astrapi69.random.source.RandomSourceFactory;
+import io.github.astrapi69.random.unique.UniqueRandomGenerator;
+
+/**
+ * The benchmark class {@link UniqueValueBenchmark} compares the generation of unique random
+ * strings with the {@link UniqueRandomGenerator} against the deduplication in a {@link HashSet}
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgsAppend = "-Xmx2g")
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class UniqueValueBenchmark
+{
+
+	private static final String CHARS = RandomCharacters.lowcaseWithNumbers.getCharacters();
+
+	private static final int LENGTH = 12;
+
+	/** The number of unique values */
+	@Param({ "1000000" })
+	public int size;
+
+	private final RandomSource randomSource = RandomSourceFactory.newXoshiro256StarStarSource(1L);
+
+	@Benchmark
+	public long fingerprintSet()
+	{
+		final UniqueRandomGenerator<String> generator = UniqueRandomGenerator
+			.stringBuilder(CHARS, LENGTH).expectedSize(size).randomSource(randomSource).build();
+		long length = 0;
+		for (int i = 0; i < size; i++)
+		{
+			length += generator.next().length();
+		}
+		return length;
+	}
+
+	@Benchmark
+	public long bloomFilter()
+	{
+		final UniqueRandomGenerator<String> generator = UniqueRandomGenerator
+			.stringBuilder(CHARS, LENGTH).bloomFilter(size, 0.01).randomSource(randomSource)
+			.build();
+		long length = 0;
+		for (int i = 0; i < size; i++)
+		{
+			length += generator.next().length();
+		}
+		return length;
+	}
+
+	@Benchmark
+	public long hashSet()
+	{
+		final Set<String> values = new HashSet<>();
+		long length = 0;
+		while (values.size() < size)
+		{
+			final String value = RandomStringFactory.newRandomString(CHARS, LENGTH, randomSource);
+			if (values.add(value))
+			{
+				length += value.length();
+			}
+		}
+		return length;
+	}
+
+}
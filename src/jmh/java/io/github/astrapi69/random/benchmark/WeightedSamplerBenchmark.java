@@ -0,0 +1,110 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.astrapi69.random.distribution.WeightedSampler;
+import io.github.astrapi69.random.source.RandomSource;
+import io.github.astrapi69.random.source.RandomSourceFactory;
+
+/**
+ * The benchmark class {@link WeightedSamplerBenchmark} compares the alias table of the
+ * {@link WeightedSampler} against a linear scan over the cumulative weights
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class WeightedSamplerBenchmark
+{
+
+	/** The number of weighted items */
+	@Param({ "10", "1000", "100000" })
+	public int size;
+
+	private final RandomSource randomSource = RandomSourceFactory.newXoshiro256StarStarSource(1L);
+
+	private WeightedSampler<Integer> sampler;
+
+	private List<Integer> items;
+
+	private double[] weights;
+
+	private double totalWeight;
+
+	@Setup
+	public void setUp()
+	{
+		items = new ArrayList<>(size);
+		weights = new double[size];
+		totalWeight = 0.0;
+		for (int i = 0; i < size; i++)
+		{
+			items.add(i);
+			weights[i] = 1.0 + randomSource.nextInt(100);
+			totalWeight += weights[i];
+		}
+		sampler = WeightedSampler.of(items, weights);
+	}
+
+	@Benchmark
+	public Integer aliasTable()
+	{
+		return sampler.sample(randomSource);
+	}
+
+	@Benchmark
+	public Integer cumulativeScan()
+	{
+		double target = randomSource.nextDouble() * totalWeight;
+		for (int i = 0; i < weights.length; i++)
+		{
+			target -= weights[i];
+			if (target < 0.0)
+			{
+				return items.get(i);
+			}
+		}
+		return items.get(weights.length - 1);
+	}
+
+}
@@ -0,0 +1,107 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.number;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.astrapi69.random.number.spi.UniformConverter;
+
+/**
+ * The benchmark class {@link UniformConverterBenchmark} compares the scalar and the vectorized
+ * {@link UniformConverter}. The benchmark is in the package of the converters, because they are
+ * package private
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+@Fork(value = 1, jvmArgsAppend = { "--add-modules", "jdk.incubator.vector" })
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class UniformConverterBenchmark
+{
+
+	/** The converter, scalar or vector */
+	@Param({ "scalar", "vector" })
+	public String converter;
+
+	private UniformConverter uniformConverter;
+
+	private final long[] longWords = new long[UniformConverters.BLOCK_SIZE];
+
+	private final int[] intWords = new int[UniformConverters.BLOCK_SIZE];
+
+	private final double[] doubles = new double[UniformConverters.BLOCK_SIZE];
+
+	private final float[] floats = new float[UniformConverters.BLOCK_SIZE];
+
+	@Setup
+	public void setUp()
+	{
+		uniformConverter = "vector".equals(converter)
+			? UniformConverters.vector()
+			: UniformConverters.scalar();
+		if (uniformConverter == null)
+		{
+			throw new IllegalStateException("The vectorized converter is not available");
+		}
+		final SplittableRandom random = new SplittableRandom(42L);
+		for (int i = 0; i < longWords.length; i++)
+		{
+			longWords[i] = random.nextLong();
+			intWords[i] = random.nextInt();
+		}
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(UniformConverters.BLOCK_SIZE)
+	public double[] toDoubles()
+	{
+		uniformConverter.toDoubles(longWords, longWords.length, -1d, 2d, doubles, 0);
+		return doubles;
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(UniformConverters.BLOCK_SIZE)
+	public float[] toFloats()
+	{
+		uniformConverter.toFloats(intWords, intWords.length, -1f, 2f, floats, 0);
+		return floats;
+	}
+
+}
@@ -25,19 +25,57 @@
 package io.github.astrapi69.random;
 
 import java.security.SecureRandom;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import io.github.astrapi69.random.enumeration.SecureRandomInitMode;
+import io.github.astrapi69.random.enumeration.SecureRandomPoolStrategy;
+import io.github.astrapi69.random.metrics.RandomMetrics;
+import io.github.astrapi69.random.source.AsyncSeededSecureRandom;
+import io.github.astrapi69.random.source.BufferedSecureRandom;
 
 /**
  * The class {@link DefaultSecureRandom} holds a {@link SecureRandom} with the default algorithm and
- * provider
+ * provider. The instance that is returned from {@link DefaultSecureRandom#get()} depends on the
+ * current {@link SecureRandomPoolStrategy}. The default strategy is
+ * {@link SecureRandomPoolStrategy#THREAD_LOCAL} and can be changed with the system property
+ * {@value #POOL_STRATEGY_PROPERTY} or the method
+ * {@link DefaultSecureRandom#setPoolStrategy(SecureRandomPoolStrategy)}. For pin the legacy single
+ * instance use the strategy {@link SecureRandomPoolStrategy#SINGLE}, for serve the values from
+ * prefetched blocks use the strategy {@link SecureRandomPoolStrategy#THREAD_LOCAL_BUFFERED}.<br>
+ * <br>
+ * When the instances are created and seeded depends on the {@link SecureRandomInitMode} that can
+ * be set with the system property {@value #INIT_MODE_PROPERTY}. The default mode is
+ * {@link SecureRandomInitMode#LAZY}, so loading this class costs nothing and the seeding happens
+ * on the first request of a value
  */
 public final class DefaultSecureRandom
 {
-	/** The secure random */
-	private static SecureRandom secureRandom;
+
+	/** The name of the system property for the pool strategy */
+	public static final String POOL_STRATEGY_PROPERTY = "randomizer.securerandom.pool";
+
+	/** The name of the system property for the init mode */
+	public static final String INIT_MODE_PROPERTY = "randomizer.securerandom.init";
+
+	/** The number of the seed bytes of the instances that are seeded from the seed source */
+	public static final int SEED_LENGTH = 32;
+
+	/** The init mode */
+	private static final SecureRandomInitMode initMode = SecureRandomInitMode
+		.valueOf(System.getProperty(INIT_MODE_PROPERTY, SecureRandomInitMode.LAZY.name()));
+
+	/** The current pool, will be created on first access */
+	private static volatile SecureRandomPool pool;
 
 	static
 	{
-		secureRandom = SecureRandomFactory.newSecureRandom();
+		if (initMode == SecureRandomInitMode.EAGER)
+		{
+			// draw once so the seeding of the seed source happens now
+			SeedHolder.SECURE_RANDOM.nextInt();
+			getPool();
+		}
 	}
 
 	private DefaultSecureRandom()
@@ -45,12 +83,133 @@ public final class DefaultSecureRandom
 	}
 
 	/**
-	 * Gets the secure random
+	 * Gets the secure random for the current thread
 	 *
 	 * @return the secure random
 	 */
 	public static SecureRandom get()
 	{
+		return getPool().get();
+	}
+
+	/**
+	 * Gets the init mode
+	 *
+	 * @return the init mode
+	 */
+	public static SecureRandomInitMode getInitMode()
+	{
+		return initMode;
+	}
+
+	/**
+	 * Gets the current pool strategy
+	 *
+	 * @return the current pool strategy
+	 */
+	public static SecureRandomPoolStrategy getPoolStrategy()
+	{
+		final SecureRandomPool current = pool;
+		return current != null ? current.getStrategy() : getConfiguredPoolStrategy();
+	}
+
+	/**
+	 * Sets the pool strategy. Note that the instances of the previous pool will be discarded
+	 *
+	 * @param strategy
+	 *            the new pool strategy
+	 */
+	public static synchronized void setPoolStrategy(final SecureRandomPoolStrategy strategy)
+	{
+		Objects.requireNonNull(strategy);
+		if (pool == null || pool.getStrategy() != strategy)
+		{
+			pool = newPool(strategy);
+		}
+	}
+
+	private static SecureRandomPool getPool()
+	{
+		final SecureRandomPool current = pool;
+		return current != null ? current : initPool();
+	}
+
+	private static synchronized SecureRandomPool initPool()
+	{
+		if (pool == null)
+		{
+			pool = newPool(getConfiguredPoolStrategy());
+		}
+		return pool;
+	}
+
+	private static SecureRandomPoolStrategy getConfiguredPoolStrategy()
+	{
+		return SecureRandomPoolStrategy.valueOf(System.getProperty(POOL_STRATEGY_PROPERTY,
+			SecureRandomPoolStrategy.THREAD_LOCAL.name()));
+	}
+
+	private static SecureRandomPool newPool(final SecureRandomPoolStrategy strategy)
+	{
+		switch (strategy)
+		{
+			case SINGLE :
+				return new SecureRandomPool(strategy,
+					initMode == SecureRandomInitMode.ASYNC
+						? () -> RandomMetrics.meterSecureRandom(AsyncSeedHolder.SECURE_RANDOM)
+						: () -> RandomMetrics.meterSecureRandom(SeedHolder.SECURE_RANDOM));
+			case THREAD_LOCAL_BUFFERED :
+				return new SecureRandomPool(strategy,
+					withInitMode(() -> new BufferedSecureRandom(newSeededSecureRandom())));
+			default :
+				return new SecureRandomPool(strategy,
+					withInitMode(DefaultSecureRandom::newSeededSecureRandom));
+		}
+	}
+
+	private static Supplier<SecureRandom> withInitMode(final Supplier<SecureRandom> factory)
+	{
+		if (initMode == SecureRandomInitMode.ASYNC)
+		{
+			return () -> RandomMetrics.meterSecureRandom(new AsyncSeededSecureRandom(factory));
+		}
+		return () -> RandomMetrics.meterSecureRandom(factory.get());
+	}
+
+	/**
+	 * Factory method for create a new {@link SecureRandom} object with the default algorithm that
+	 * is seeded with {@value #SEED_LENGTH} bytes from the legacy single instance, so every instance
+	 * gets its own independent seed that covers the whole state of the engine
+	 *
+	 * @return the new {@link SecureRandom} object
+	 */
+	public static SecureRandom newSeededSecureRandom()
+	{
+		final byte[] seed = new byte[SEED_LENGTH];
+		SeedHolder.SECURE_RANDOM.nextBytes(seed);
+		final SecureRandom secureRandom = SecureRandomBuilder.getInstance().build();
+		secureRandom.setSeed(seed);
 		return secureRandom;
 	}
+
+	/**
+	 * Holder of the secure random that is used as the legacy single instance and as the seed
+	 * source, the secure random will be created on first use
+	 */
+	private static final class SeedHolder
+	{
+		private static final SecureRandom SECURE_RANDOM = SecureRandomFactory.newSecureRandom();
+	}
+
+	/**
+	 * Holder of the legacy single instance for the init mode {@link SecureRandomInitMode#ASYNC},
+	 * the seed source will be created and seeded on a background thread
+	 */
+	private static final class AsyncSeedHolder
+	{
+		private static final SecureRandom SECURE_RANDOM = new AsyncSeededSecureRandom(() -> {
+			SeedHolder.SECURE_RANDOM.nextInt();
+			return SeedHolder.SECURE_RANDOM;
+		});
+	}
 }
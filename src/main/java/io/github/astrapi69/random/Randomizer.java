@@ -0,0 +1,774 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random;
+
+import java.security.SecureRandom;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+import io.github.astrapi69.random.date.RandomDateFactory;
+import io.github.astrapi69.random.enumeration.RandomAlgorithm;
+import io.github.astrapi69.random.number.RandomBooleanFactory;
+import io.github.astrapi69.random.number.RandomDoubleFactory;
+import io.github.astrapi69.random.number.RandomIntFactory;
+import io.github.astrapi69.random.number.RandomLongFactory;
+import io.github.astrapi69.random.object.RandomObjectFactory;
+import io.github.astrapi69.random.object.RandomStringFactory;
+import io.github.astrapi69.random.object.RandomWebObjectFactory;
+import io.github.astrapi69.random.source.RandomGeneratorSource;
+import io.github.astrapi69.random.source.RandomSource;
+import io.github.astrapi69.random.source.RandomSourceFactory;
+
+/**
+ * The class {@link Randomizer} is an immutable facade over the random factories that is bound to
+ * its own configured engine and limits. An instance is built once with the {@link #builder()} and
+ * can be shared between threads, every thread draws from its own engine that is created on first
+ * use from the configured {@link RandomSource} factory. The instance from {@link #getDefault()}
+ * draws from {@link DefaultSecureRandom} and is the instance that the static methods of the
+ * factories delegate to if this class has a method with the same behavior
+ */
+public final class Randomizer
+{
+
+	/** The default minimum length of the strings from {@link #newRandomString()} */
+	public static final int DEFAULT_MIN_STRING_LENGTH = 3;
+
+	/** The default maximum length of the strings from {@link #newRandomString()} */
+	public static final int DEFAULT_MAX_STRING_LENGTH = 25;
+
+	/** The default range in days of the dates from {@link #randomDateAfter(Date)} */
+	public static final int DEFAULT_DATE_RANGE = 10000;
+
+	/** The default instance */
+	private static final Randomizer defaultRandomizer = Randomizer.builder().build();
+
+	/** The wrappers of the {@link DefaultSecureRandom} instances of the threads */
+	private static final ThreadLocal<RandomSource> defaultRandomSources = new ThreadLocal<>();
+
+	/** The engines of the threads or null if the engine is the {@link DefaultSecureRandom} */
+	private final ThreadLocal<RandomSource> randomSources;
+
+	/** The minimum length of the strings from {@link #newRandomString()} */
+	private final int minStringLength;
+
+	/** The maximum length of the strings from {@link #newRandomString()} */
+	private final int maxStringLength;
+
+	/** The range in days of the dates from {@link #randomDateAfter(Date)} */
+	private final int dateRange;
+
+	private Randomizer(final RandomizerBuilder builder)
+	{
+		this.randomSources = builder.randomSourceFactory == null
+			? null
+			: ThreadLocal.withInitial(builder.randomSourceFactory);
+		this.minStringLength = builder.minStringLength;
+		this.maxStringLength = builder.maxStringLength;
+		this.dateRange = builder.dateRange;
+	}
+
+	/**
+	 * Factory method for create a new {@link RandomizerBuilder}
+	 *
+	 * @return the new {@link RandomizerBuilder}
+	 */
+	public static RandomizerBuilder builder()
+	{
+		return new RandomizerBuilder();
+	}
+
+	/**
+	 * Gets the default instance that draws from {@link DefaultSecureRandom}
+	 *
+	 * @return the default instance
+	 */
+	public static Randomizer getDefault()
+	{
+		return defaultRandomizer;
+	}
+
+	/**
+	 * Gets the engine of the current thread
+	 *
+	 * @return the engine of the current thread
+	 */
+	public RandomSource getRandomSource()
+	{
+		if (randomSources == null)
+		{
+			return getDefaultRandomSource();
+		}
+		return randomSources.get();
+	}
+
+	/**
+	 * Gets the cached wrapper of the {@link DefaultSecureRandom} of the current thread. A new
+	 * wrapper is only created if the {@link DefaultSecureRandom} hands out another instance, for
+	 * instance after the pool strategy was changed
+	 *
+	 * @return the wrapper of the {@link DefaultSecureRandom} of the current thread
+	 */
+	private static RandomSource getDefaultRandomSource()
+	{
+		final SecureRandom secureRandom = DefaultSecureRandom.get();
+		RandomSource randomSource = defaultRandomSources.get();
+		final RandomGenerator generator = randomSource instanceof RandomGeneratorSource
+			? ((RandomGeneratorSource)randomSource).getGenerator()
+			: randomSource;
+		if (generator != secureRandom)
+		{
+			randomSource = RandomSourceFactory.newRandomSource(secureRandom);
+			defaultRandomSources.set(randomSource);
+		}
+		return randomSource;
+	}
+
+	/**
+	 * Gets the minimum length of the strings from {@link #newRandomString()}
+	 *
+	 * @return the minimum string length
+	 */
+	public int getMinStringLength()
+	{
+		return minStringLength;
+	}
+
+	/**
+	 * Gets the maximum length of the strings from {@link #newRandomString()}
+	 *
+	 * @return the maximum string length
+	 */
+	public int getMaxStringLength()
+	{
+		return maxStringLength;
+	}
+
+	/**
+	 * Gets the range in days of the dates from {@link #randomDateAfter(Date)} and
+	 * {@link #randomDateBefore(Date)}
+	 *
+	 * @return the date range in days
+	 */
+	public int getDateRange()
+	{
+		return dateRange;
+	}
+
+	/**
+	 * Gets a random int
+	 *
+	 * @return the random int
+	 */
+	public int randomInt()
+	{
+		return RandomIntFactory.randomInt(getRandomSource());
+	}
+
+	/**
+	 * Gets a random int between 0 inclusive and the given range exclusive
+	 *
+	 * @param range
+	 *            the range
+	 * @return the random int
+	 */
+	public int randomInt(final int range)
+	{
+		return RandomIntFactory.randomInt(range, getRandomSource());
+	}
+
+	/**
+	 * Gets a random int between the given start inclusive and the given end exclusive
+	 *
+	 * @param start
+	 *            the start
+	 * @param end
+	 *            the end
+	 * @return the random int
+	 */
+	public int randomIntBetween(final int start, final int end)
+	{
+		return RandomIntFactory.randomIntBetween(start, end, getRandomSource());
+	}
+
+	/**
+	 * Gets a random long
+	 *
+	 * @return the random long
+	 */
+	public long randomLong()
+	{
+		return RandomLongFactory.randomLong(getRandomSource());
+	}
+
+	/**
+	 * Gets a random long between the given start and end
+	 *
+	 * @param start
+	 *            the start
+	 * @param end
+	 *            the end
+	 * @return the random long
+	 */
+	public long randomLongBetween(final long start, final long end)
+	{
+		return RandomLongFactory.randomLongBetween(start, end, getRandomSource());
+	}
+
+	/**
+	 * Gets a random double between 0.0 inclusive and 1.0 exclusive
+	 *
+	 * @return the random double
+	 */
+	public double randomDouble()
+	{
+		return RandomDoubleFactory.randomDouble(getRandomSource());
+	}
+
+	/**
+	 * Gets a random double between the given start and end
+	 *
+	 * @param start
+	 *            the start
+	 * @param end
+	 *            the end
+	 * @return the random double
+	 */
+	public double randomDoubleBetween(final double start, final double end)
+	{
+		return RandomDoubleFactory.randomDoubleBetween(start, end, getRandomSource());
+	}
+
+	/**
+	 * Gets a random boolean
+	 *
+	 * @return the random boolean
+	 */
+	public boolean randomBoolean()
+	{
+		return RandomBooleanFactory.randomBoolean(getRandomSource());
+	}
+
+	/**
+	 * Fills the given array with random int values between the given start inclusive and the
+	 * given end exclusive
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param start
+	 *            the start
+	 * @param end
+	 *            the end
+	 */
+	public void fillBetween(final int[] array, final int start, final int end)
+	{
+		RandomIntFactory.fillBetween(array, start, end, getRandomSource());
+	}
+
+	/**
+	 * Generates a random string with a length between the configured minimum and maximum length
+	 *
+	 * @return the random string
+	 */
+	public String newRandomString()
+	{
+		final RandomSource randomSource = getRandomSource();
+		return RandomStringFactory.newRandomString(
+			RandomCharacters.lowcaseWithUppercaseAndNumbers.getCharacters(),
+			RandomIntFactory.randomIntBetween(minStringLength, maxStringLength, randomSource),
+			randomSource);
+	}
+
+	/**
+	 * Generates a random string with the given length
+	 *
+	 * @param length
+	 *            the length
+	 * @return the random string
+	 */
+	public String newRandomString(final int length)
+	{
+		return RandomStringFactory.newRandomString(length, getRandomSource());
+	}
+
+	/**
+	 * Generates a random string with the given length from the given characters
+	 *
+	 * @param chars
+	 *            the characters
+	 * @param length
+	 *            the length
+	 * @return the random string
+	 */
+	public String newRandomString(final String chars, final int length)
+	{
+		return RandomStringFactory.newRandomString(chars, length, getRandomSource());
+	}
+
+	/**
+	 * Selects a random string from the given array
+	 *
+	 * @param array
+	 *            the array
+	 * @return the selected string
+	 */
+	public String newRandomString(final String[] array)
+	{
+		return RandomStringFactory.newRandomString(array, getRandomSource());
+	}
+
+	/**
+	 * Creates a random date
+	 *
+	 * @return the random date
+	 */
+	public Date randomDate()
+	{
+		return RandomDateFactory.randomDate(getRandomSource());
+	}
+
+	/**
+	 * Creates a random date from the given date
+	 *
+	 * @param from
+	 *            the date from where to compute the random date
+	 * @return the random date
+	 */
+	public Date randomDate(final Date from)
+	{
+		return RandomDateFactory.randomDate(from, getRandomSource());
+	}
+
+	/**
+	 * Creates a random date that is after the given date within the configured date range
+	 *
+	 * @param date
+	 *            the date from where to compute the future date
+	 * @return the random date in the future
+	 */
+	public Date randomDateAfter(final Date date)
+	{
+		return randomDateAfter(date, dateRange);
+	}
+
+	/**
+	 * Creates a random date that is after the given date within the given range in days
+	 *
+	 * @param date
+	 *            the date from where to compute the future date
+	 * @param range
+	 *            the range in days
+	 * @return the random date in the future
+	 */
+	public Date randomDateAfter(final Date date, final int range)
+	{
+		return RandomDateFactory.randomDateAfter(date, range, getRandomSource());
+	}
+
+	/**
+	 * Creates a random date that is before the given date within the configured date range
+	 *
+	 * @param date
+	 *            the date from where to compute the past date
+	 * @return the random date in the past
+	 */
+	public Date randomDateBefore(final Date date)
+	{
+		return randomDateBefore(date, dateRange);
+	}
+
+	/**
+	 * Creates a random date that is before the given date within the given range in days
+	 *
+	 * @param date
+	 *            the date from where to compute the past date
+	 * @param range
+	 *            the range in days
+	 * @return the random date in the past
+	 */
+	public Date randomDateBefore(final Date date, final int range)
+	{
+		return RandomDateFactory.randomDateBefore(date, range, getRandomSource());
+	}
+
+	/**
+	 * Creates a random date between the given start and end
+	 *
+	 * @param start
+	 *            the date from where the range starts
+	 * @param end
+	 *            the date from where the range ends
+	 * @return the random date
+	 */
+	public Date randomDateBetween(final Date start, final Date end)
+	{
+		return RandomDateFactory.randomDateBetween(start, end, getRandomSource());
+	}
+
+	/**
+	 * Creates a random {@link LocalDate} object
+	 *
+	 * @return the random {@link LocalDate} object
+	 */
+	public LocalDate randomLocalDate()
+	{
+		return RandomDateFactory.randomLocalDate(getRandomSource());
+	}
+
+	/**
+	 * Creates a random {@link LocalDateTime} object
+	 *
+	 * @return the random {@link LocalDateTime} object
+	 */
+	public LocalDateTime randomLocalDateTime()
+	{
+		return RandomDateFactory.randomLocalDateTime(getRandomSource());
+	}
+
+	/**
+	 * Creates a random {@link LocalTime} object
+	 *
+	 * @return the random {@link LocalTime} object
+	 */
+	public LocalTime randomLocalTime()
+	{
+		return RandomDateFactory.randomLocalTime(getRandomSource());
+	}
+
+	/**
+	 * Generates a random email address
+	 *
+	 * @return the random email address
+	 */
+	public String randomEmail()
+	{
+		return RandomWebObjectFactory.randomEmail(getRandomSource());
+	}
+
+	/**
+	 * Generates a random mobil number
+	 *
+	 * @return the random mobil number
+	 */
+	public String randomMobilnumber()
+	{
+		return RandomWebObjectFactory.randomMobilnumber(getRandomSource());
+	}
+
+	/**
+	 * Generates a random password
+	 *
+	 * @param length
+	 *            the length of the password
+	 * @return the random password
+	 */
+	public String randomPassword(final int length)
+	{
+		return RandomWebObjectFactory.randomPassword(length, getRandomSource());
+	}
+
+	/**
+	 * Generates a random phone number
+	 *
+	 * @return the random phone number
+	 */
+	public String randomPhonenumber()
+	{
+		return RandomWebObjectFactory.randomPhonenumber(getRandomSource());
+	}
+
+	/**
+	 * Generates a random website name
+	 *
+	 * @return the random website name
+	 */
+	public String randomWebsite()
+	{
+		return RandomWebObjectFactory.randomWebsite(getRandomSource());
+	}
+
+	/**
+	 * Generates a random id
+	 *
+	 * @return the random id
+	 */
+	public String randomId()
+	{
+		return RandomWebObjectFactory.randomId(getRandomSource());
+	}
+
+	/**
+	 * Generates a random name from the given characters
+	 *
+	 * @param donatedChars
+	 *            the characters for the name
+	 * @return the random name
+	 */
+	public String randomName(final char[] donatedChars)
+	{
+		return RandomWebObjectFactory.randomName(donatedChars, getRandomSource());
+	}
+
+	/**
+	 * Factory method for create a new random object of the given class
+	 *
+	 * @param <T>
+	 *            the generic type
+	 * @param cls
+	 *            the class
+	 * @param ignoreFieldNames
+	 *            an optional array with the field names that shell be ignored
+	 * @return the new random object
+	 * @throws IllegalAccessException
+	 *             is thrown if the class or its default constructor is not accessible.
+	 * @throws InstantiationException
+	 *             is thrown if this {@code Class} represents an abstract class, an interface, an
+	 *             array class, a primitive type, or void; or if the class has no default
+	 *             constructor; or if the instantiation fails for some other reason.
+	 * @throws NoSuchFieldException
+	 *             is thrown if no such field exists
+	 */
+	public <T> T newRandomObject(final Class<T> cls, final String... ignoreFieldNames)
+		throws IllegalAccessException, InstantiationException, NoSuchFieldException
+	{
+		return RandomObjectFactory.newRandomObject(cls, getRandomSource(), ignoreFieldNames);
+	}
+
+	/**
+	 * Returns a random entry from the given list
+	 *
+	 * @param <T>
+	 *            the generic type
+	 * @param list
+	 *            the list
+	 * @return the random entry
+	 */
+	public <T> T randomListEntry(final List<T> list)
+	{
+		return RandomObjectFactory.randomListEntry(list, getRandomSource());
+	}
+
+	/**
+	 * Returns a random entry from the given map
+	 *
+	 * @param <K>
+	 *            the key type
+	 * @param <V>
+	 *            the value type
+	 * @param map
+	 *            the map
+	 * @return the random entry
+	 */
+	public <K, V> Object randomMapEntry(final Map<K, V> map)
+	{
+		return RandomObjectFactory.randomMapEntry(map, getRandomSource());
+	}
+
+	/**
+	 * Returns a random key from the given map
+	 *
+	 * @param <K>
+	 *            the key type
+	 * @param <V>
+	 *            the value type
+	 * @param map
+	 *            the map
+	 * @return the random key
+	 */
+	public <K, V> Object randomKey(final Map<K, V> map)
+	{
+		return RandomObjectFactory.randomKey(map, getRandomSource());
+	}
+
+	/**
+	 * Returns a random index of the given collection
+	 *
+	 * @param <T>
+	 *            the generic type
+	 * @param collection
+	 *            the collection
+	 * @return the random index
+	 */
+	public <T> int randomIndex(final Collection<T> collection)
+	{
+		return RandomObjectFactory.randomIndex(collection, getRandomSource());
+	}
+
+	/**
+	 * Returns a random enum value from the given enum values
+	 *
+	 * @param <T>
+	 *            the generic type
+	 * @param values
+	 *            the enum values
+	 * @return the random enum value
+	 */
+	public <T extends Enum<?>> T randomEnumFromEnumValues(final T[] values)
+	{
+		return RandomObjectFactory.randomEnumFromEnumValues(values, getRandomSource());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString()
+	{
+		return "Randomizer(minStringLength=" + minStringLength + ", maxStringLength="
+			+ maxStringLength + ", dateRange=" + dateRange + ")";
+	}
+
+	/**
+	 * The class {@link RandomizerBuilder} builds a {@link Randomizer}. If no engine is set the
+	 * {@link Randomizer} draws from {@link DefaultSecureRandom}
+	 */
+	public static final class RandomizerBuilder
+	{
+
+		/** The factory for the engines of the threads */
+		private Supplier<RandomSource> randomSourceFactory;
+
+		/** The minimum string length */
+		private int minStringLength = DEFAULT_MIN_STRING_LENGTH;
+
+		/** The maximum string length */
+		private int maxStringLength = DEFAULT_MAX_STRING_LENGTH;
+
+		/** The date range in days */
+		private int dateRange = DEFAULT_DATE_RANGE;
+
+		private RandomizerBuilder()
+		{
+		}
+
+		/**
+		 * Sets the factory for the engines. The factory is called once for every thread that
+		 * uses the {@link Randomizer}
+		 *
+		 * @param randomSourceFactory
+		 *            the factory for the engines
+		 * @return this {@link RandomizerBuilder} object. For chaining.
+		 */
+		public RandomizerBuilder randomSource(final Supplier<RandomSource> randomSourceFactory)
+		{
+			this.randomSourceFactory = Objects.requireNonNull(randomSourceFactory);
+			return this;
+		}
+
+		/**
+		 * Sets the algorithm of the engines, see the constants of {@link RandomSourceFactory}
+		 *
+		 * @param algorithm
+		 *            the name of the algorithm
+		 * @return this {@link RandomizerBuilder} object. For chaining.
+		 * @throws IllegalArgumentException
+		 *             if the algorithm is not supported
+		 */
+		public RandomizerBuilder algorithm(final String algorithm)
+		{
+			Objects.requireNonNull(algorithm);
+			if (!RandomSourceFactory.isSupported(algorithm))
+			{
+				throw new IllegalArgumentException("Unsupported algorithm: " + algorithm);
+			}
+			return randomSource(() -> RandomSourceFactory.newRandomSource(algorithm));
+		}
+
+		/**
+		 * Sets the algorithm of the engines from the engine of the given {@link RandomAlgorithm}
+		 *
+		 * @param algorithm
+		 *            the random algorithm
+		 * @return this {@link RandomizerBuilder} object. For chaining.
+		 */
+		public RandomizerBuilder algorithm(final RandomAlgorithm algorithm)
+		{
+			final String engine = Objects.requireNonNull(algorithm).getEngine();
+			return randomSource(() -> RandomSourceFactory.newRandomSource(engine));
+		}
+
+		/**
+		 * Sets the minimum and maximum length of the strings from
+		 * {@link Randomizer#newRandomString()}
+		 *
+		 * @param minStringLength
+		 *            the minimum string length
+		 * @param maxStringLength
+		 *            the maximum string length
+		 * @return this {@link RandomizerBuilder} object. For chaining.
+		 * @throws IllegalArgumentException
+		 *             if the minimum is negative or greater than the maximum
+		 */
+		public RandomizerBuilder stringLength(final int minStringLength, final int maxStringLength)
+		{
+			if (minStringLength < 0 || maxStringLength < minStringLength)
+			{
+				throw new IllegalArgumentException("Invalid string length range: "
+					+ minStringLength + " - " + maxStringLength);
+			}
+			this.minStringLength = minStringLength;
+			this.maxStringLength = maxStringLength;
+			return this;
+		}
+
+		/**
+		 * Sets the range in days of the dates from {@link Randomizer#randomDateAfter(Date)} and
+		 * {@link Randomizer#randomDateBefore(Date)}
+		 *
+		 * @param dateRange
+		 *            the date range in days
+		 * @return this {@link RandomizerBuilder} object. For chaining.
+		 * @throws IllegalArgumentException
+		 *             if the date range is not positive
+		 */
+		public RandomizerBuilder dateRange(final int dateRange)
+		{
+			if (dateRange < 1)
+			{
+				throw new IllegalArgumentException("dateRange must be positive: " + dateRange);
+			}
+			this.dateRange = dateRange;
+			return this;
+		}
+
+		/**
+		 * Builds the {@link Randomizer}
+		 *
+		 * @return the new {@link Randomizer}
+		 */
+		public Randomizer build()
+		{
+			return new Randomizer(this);
+		}
+	}
+
+}
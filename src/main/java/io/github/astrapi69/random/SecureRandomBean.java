@@ -26,9 +26,12 @@ package io.github.astrapi69.random;
 
 import java.security.SecureRandom;
 
+import io.github.astrapi69.random.enumeration.SeedPolicy;
+
 /**
  * The class {@link SecureRandomBean} holds the data for build a {@link SecureRandom} from the given
- * algorithm and provider.
+ * algorithm and provider. The {@link SeedPolicy} defines if the seed is set explicitly or if the
+ * {@link SecureRandom} seeds itself, the seed of a self seeded bean is ignored
  */
 public final class SecureRandomBean
 {
@@ -43,6 +46,8 @@ public final class SecureRandomBean
 	private final String provider;
 	/** The seed. */
 	private final long seed;
+	/** The seed policy. */
+	private final SeedPolicy seedPolicy;
 
 	/**
 	 * Instantiates a new {@link SecureRandomBean} object with the default values
@@ -53,10 +58,30 @@ public final class SecureRandomBean
 	}
 
 	public SecureRandomBean(String algorithm, String provider, long seed)
+	{
+		this(algorithm, provider, seed, SeedPolicy.EXPLICIT);
+	}
+
+	/**
+	 * Instantiates a new self seeded {@link SecureRandomBean} object with the given algorithm and
+	 * provider
+	 *
+	 * @param algorithm
+	 *            the algorithm
+	 * @param provider
+	 *            the provider
+	 */
+	public SecureRandomBean(String algorithm, String provider)
+	{
+		this(algorithm, provider, 0L, SeedPolicy.SELF_SEEDED);
+	}
+
+	public SecureRandomBean(String algorithm, String provider, long seed, SeedPolicy seedPolicy)
 	{
 		this.algorithm = algorithm;
 		this.provider = provider;
 		this.seed = seed;
+		this.seedPolicy = seedPolicy;
 	}
 
 	public static SecureRandomBeanBuilder builder()
@@ -84,6 +109,12 @@ public final class SecureRandomBean
 			return false;
 		if (this.getSeed() != other.getSeed())
 			return false;
+		final Object this$seedPolicy = this.getSeedPolicy();
+		final Object other$seedPolicy = other.getSeedPolicy();
+		if (this$seedPolicy == null
+			? other$seedPolicy != null
+			: !this$seedPolicy.equals(other$seedPolicy))
+			return false;
 		return true;
 	}
 
@@ -102,6 +133,11 @@ public final class SecureRandomBean
 		return this.seed;
 	}
 
+	public SeedPolicy getSeedPolicy()
+	{
+		return this.seedPolicy;
+	}
+
 	@Override
 	public int hashCode()
 	{
@@ -113,20 +149,23 @@ public final class SecureRandomBean
 		result = result * PRIME + ($provider == null ? 43 : $provider.hashCode());
 		final long $seed = this.getSeed();
 		result = result * PRIME + (int)($seed >>> 32 ^ $seed);
+		final Object $seedPolicy = this.getSeedPolicy();
+		result = result * PRIME + ($seedPolicy == null ? 43 : $seedPolicy.hashCode());
 		return result;
 	}
 
 	public SecureRandomBeanBuilder toBuilder()
 	{
 		return new SecureRandomBeanBuilder().algorithm(this.algorithm).provider(this.provider)
-			.seed(this.seed);
+			.seed(this.seed).seedPolicy(this.seedPolicy);
 	}
 
 	@Override
 	public String toString()
 	{
 		return "SecureRandomBean(algorithm=" + this.getAlgorithm() + ", provider="
-			+ this.getProvider() + ", seed=" + this.getSeed() + ")";
+			+ this.getProvider() + ", seed=" + this.getSeed() + ", seedPolicy="
+			+ this.getSeedPolicy() + ")";
 	}
 
 	public static class SecureRandomBeanBuilder
@@ -134,6 +173,7 @@ public final class SecureRandomBean
 		private String algorithm;
 		private String provider;
 		private long seed;
+		private SeedPolicy seedPolicy = SeedPolicy.EXPLICIT;
 
 		SecureRandomBeanBuilder()
 		{
@@ -147,7 +187,7 @@ public final class SecureRandomBean
 
 		public SecureRandomBean build()
 		{
-			return new SecureRandomBean(algorithm, provider, seed);
+			return new SecureRandomBean(algorithm, provider, seed, seedPolicy);
 		}
 
 		public SecureRandomBean.SecureRandomBeanBuilder provider(String provider)
@@ -162,11 +202,18 @@ public final class SecureRandomBean
 			return this;
 		}
 
+		public SecureRandomBean.SecureRandomBeanBuilder seedPolicy(SeedPolicy seedPolicy)
+		{
+			this.seedPolicy = seedPolicy;
+			return this;
+		}
+
 		@Override
 		public String toString()
 		{
 			return "SecureRandomBean.SecureRandomBeanBuilder(algorithm=" + this.algorithm
-				+ ", provider=" + this.provider + ", seed=" + this.seed + ")";
+				+ ", provider=" + this.provider + ", seed=" + this.seed + ", seedPolicy="
+				+ this.seedPolicy + ")";
 		}
 	}
 }
@@ -30,10 +30,14 @@ import java.security.SecureRandom;
 import java.util.Date;
 import java.util.Objects;
 
+import io.github.astrapi69.random.enumeration.SeedPolicy;
+
 /**
  * The class {@link SecureRandomBuilder} builds a {@link SecureRandom} from the given algorithm and
  * provider. If nothing is set the default {@link SecureRandom} object with the default algorithm
- * will be build.
+ * will be build. If no seed is set the {@link SecureRandom} object is not seeded with the
+ * {@link SecureRandom#setSeed(long)} method, so it seeds itself from the entropy source of the
+ * provider on first use
  */
 public final class SecureRandomBuilder
 {
@@ -44,8 +48,11 @@ public final class SecureRandomBuilder
 	private String algorithm;
 	/** The provider. */
 	private String provider;
-	/** The seed. Default seed is the current time milliseconds */
-	private long seed = System.currentTimeMillis();
+	/**
+	 * The seed. If no seed is set the {@link SecureRandom} seeds itself from the entropy source of
+	 * the provider on first use
+	 */
+	private Long seed;
 
 	/**
 	 * Instantiates a new {@link SecureRandomBuilder}
@@ -125,6 +132,34 @@ public final class SecureRandomBuilder
 			.seed(seed.getTime());
 	}
 
+	/**
+	 * Gets an instance of {@link SecureRandomBuilder} from the algorithm, provider and seed of the
+	 * given {@link SecureRandomBean} object. A <code>null</code> algorithm or provider is not set,
+	 * the seed is only set if the seed policy is {@link SeedPolicy#EXPLICIT}
+	 *
+	 * @param secureRandomBean
+	 *            the secure random bean
+	 * @return the new {@link SecureRandomBuilder} object
+	 */
+	public static SecureRandomBuilder getInstance(final SecureRandomBean secureRandomBean)
+	{
+		Objects.requireNonNull(secureRandomBean);
+		SecureRandomBuilder builder = SecureRandomBuilder.newInstance();
+		if (secureRandomBean.getSeedPolicy() != SeedPolicy.SELF_SEEDED)
+		{
+			builder.seed(secureRandomBean.getSeed());
+		}
+		if (secureRandomBean.getAlgorithm() != null)
+		{
+			builder.algorithm(secureRandomBean.getAlgorithm());
+		}
+		if (secureRandomBean.getProvider() != null)
+		{
+			builder.provider(secureRandomBean.getProvider());
+		}
+		return builder;
+	}
+
 	/**
 	 * Gets an new instance of {@link SecureRandomBuilder} for build a {@link SecureRandom} object
 	 *
@@ -169,7 +204,7 @@ public final class SecureRandomBuilder
 				throw new RuntimeException(e);
 			}
 		}
-		if (algorithm != null)
+		else if (algorithm != null)
 		{
 			try
 			{
@@ -189,7 +224,10 @@ public final class SecureRandomBuilder
 			{
 				throw new RuntimeException(e);
 			}
-		secureRandom.setSeed(seed);
+		if (seed != null)
+		{
+			secureRandom.setSeed(seed);
+		}
 		return secureRandom;
 	}
 
@@ -25,9 +25,14 @@
 package io.github.astrapi69.random;
 
 import java.security.SecureRandom;
+import java.util.Objects;
+
+import io.github.astrapi69.random.enumeration.SeedPolicy;
 
 /**
- * A factory for creating {@link SecureRandom} objects
+ * A factory for creating {@link SecureRandom} objects. The objects of an algorithm and provider
+ * without a seed are served from the {@link SecureRandomRegistry} and shared, objects with a seed
+ * are always new
  */
 public final class SecureRandomFactory
 {
@@ -46,29 +51,32 @@ public final class SecureRandomFactory
 	}
 
 	/**
-	 * Factory method for create a new {@link SecureRandom} object
+	 * Factory method for create a new {@link SecureRandom} object. The object seeds itself and is
+	 * cached and shared by the {@link SecureRandomRegistry}
 	 *
 	 * @param algorithm
 	 *            the algorithm
-	 * @return the new {@link SecureRandom} object
+	 * @return the self seeded {@link SecureRandom} object
 	 */
 	public static SecureRandom newSecureRandom(final String algorithm)
 	{
-		return SecureRandomBuilder.getInstance().algorithm(algorithm).build();
+		return SecureRandomRegistry.getInstance().get(algorithm, null);
 	}
 
 	/**
-	 * Factory method for create a new {@link SecureRandom} object
+	 * Factory method for create a new {@link SecureRandom} object. The object seeds itself and is
+	 * cached and shared by the {@link SecureRandomRegistry}
 	 *
 	 * @param algorithm
 	 *            the algorithm
 	 * @param provider
 	 *            the provider
-	 * @return the new {@link SecureRandom} object
+	 * @return the self seeded {@link SecureRandom} object
 	 */
 	public static SecureRandom newSecureRandom(final String algorithm, final String provider)
 	{
-		return SecureRandomBuilder.getInstance().algorithm(algorithm).provider(provider).build();
+		Objects.requireNonNull(provider);
+		return SecureRandomRegistry.getInstance().get(algorithm, provider);
 	}
 
 	/**
@@ -85,8 +93,22 @@ public final class SecureRandomFactory
 	public static SecureRandom newSecureRandom(final String algorithm, final String provider,
 		final long seed)
 	{
-		return SecureRandomBuilder.getInstance().algorithm(algorithm).provider(provider).seed(seed)
-			.build();
+		return newSecureRandom(new SecureRandomBean(Objects.requireNonNull(algorithm),
+			Objects.requireNonNull(provider), seed));
+	}
+
+	/**
+	 * Factory method for create a new {@link SecureRandom} object from the given configuration. A
+	 * bean with the seed policy {@link SeedPolicy#SELF_SEEDED} gets the cached and shared object
+	 * of the {@link SecureRandomRegistry}, a bean with an explicit seed gets always a new object
+	 *
+	 * @param secureRandomBean
+	 *            the configuration of the secure random
+	 * @return the {@link SecureRandom} object
+	 */
+	public static SecureRandom newSecureRandom(final SecureRandomBean secureRandomBean)
+	{
+		return SecureRandomRegistry.getInstance().get(secureRandomBean);
 	}
 
 }
@@ -0,0 +1,153 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random;
+
+import java.security.SecureRandom;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Supplier;
+
+import io.github.astrapi69.random.enumeration.SecureRandomPoolStrategy;
+
+/**
+ * The class {@link SecureRandomPool} provides {@link SecureRandom} objects to the calling threads
+ * with the given {@link SecureRandomPoolStrategy}. The pooled instances are created lazy on first
+ * access from the given factory
+ */
+public final class SecureRandomPool
+{
+
+	/** The strategy of this pool */
+	private final SecureRandomPoolStrategy strategy;
+
+	/** The factory for the pooled instances */
+	private final Supplier<SecureRandom> factory;
+
+	/** The single instance for the strategy {@link SecureRandomPoolStrategy#SINGLE} */
+	private final SecureRandom single;
+
+	/** The stripes for the strategy {@link SecureRandomPoolStrategy#STRIPED} */
+	private final AtomicReferenceArray<SecureRandom> stripes;
+
+	/**
+	 * The thread local for the strategies {@link SecureRandomPoolStrategy#THREAD_LOCAL} and
+	 * {@link SecureRandomPoolStrategy#THREAD_LOCAL_BUFFERED}
+	 */
+	private final ThreadLocal<SecureRandom> threadLocal;
+
+	/**
+	 * Instantiates a new {@link SecureRandomPool} object with the given strategy. The number of
+	 * stripes is derived from the number of available processors
+	 *
+	 * @param strategy
+	 *            the pool strategy
+	 * @param factory
+	 *            the factory for new independently seeded instances
+	 */
+	public SecureRandomPool(final SecureRandomPoolStrategy strategy,
+		final Supplier<SecureRandom> factory)
+	{
+		this(strategy, factory, Runtime.getRuntime().availableProcessors() * 2);
+	}
+
+	/**
+	 * Instantiates a new {@link SecureRandomPool} object with the given strategy
+	 *
+	 * @param strategy
+	 *            the pool strategy
+	 * @param factory
+	 *            the factory for new independently seeded instances
+	 * @param stripeCount
+	 *            the number of stripes, will be rounded up to the next power of two
+	 */
+	public SecureRandomPool(final SecureRandomPoolStrategy strategy,
+		final Supplier<SecureRandom> factory, final int stripeCount)
+	{
+		this.strategy = Objects.requireNonNull(strategy);
+		this.factory = Objects.requireNonNull(factory);
+		if (stripeCount < 1)
+		{
+			throw new IllegalArgumentException("stripeCount must be positive: " + stripeCount);
+		}
+		this.single = strategy == SecureRandomPoolStrategy.SINGLE ? factory.get() : null;
+		this.stripes = strategy == SecureRandomPoolStrategy.STRIPED
+			? new AtomicReferenceArray<>(nextPowerOfTwo(stripeCount))
+			: null;
+		this.threadLocal = strategy == SecureRandomPoolStrategy.THREAD_LOCAL
+			|| strategy == SecureRandomPoolStrategy.THREAD_LOCAL_BUFFERED
+				? ThreadLocal.withInitial(factory)
+				: null;
+	}
+
+	private static int nextPowerOfTwo(final int value)
+	{
+		return value == 1 ? 1 : Integer.highestOneBit(value - 1) << 1;
+	}
+
+	/**
+	 * Gets the strategy of this pool
+	 *
+	 * @return the strategy
+	 */
+	public SecureRandomPoolStrategy getStrategy()
+	{
+		return strategy;
+	}
+
+	/**
+	 * Gets the {@link SecureRandom} object for the current thread
+	 *
+	 * @return the {@link SecureRandom} object for the current thread
+	 */
+	public SecureRandom get()
+	{
+		switch (strategy)
+		{
+			case SINGLE :
+				return single;
+			case STRIPED :
+				return getStripe();
+			case THREAD_LOCAL :
+			case THREAD_LOCAL_BUFFERED :
+			default :
+				return threadLocal.get();
+		}
+	}
+
+	private SecureRandom getStripe()
+	{
+		final int index = (int)(Thread.currentThread().getId() & (stripes.length() - 1));
+		SecureRandom secureRandom = stripes.get(index);
+		if (secureRandom == null)
+		{
+			secureRandom = factory.get();
+			if (!stripes.compareAndSet(index, null, secureRandom))
+			{
+				secureRandom = stripes.get(index);
+			}
+		}
+		return secureRandom;
+	}
+}
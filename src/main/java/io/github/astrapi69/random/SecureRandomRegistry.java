@@ -0,0 +1,198 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random;
+
+import java.security.SecureRandom;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import io.github.astrapi69.random.enumeration.SeedPolicy;
+
+/**
+ * The class {@link SecureRandomRegistry} caches {@link SecureRandom} objects keyed by the
+ * {@link SecureRandomBean} of their algorithm, provider and seed policy, so the provider lookup
+ * and the seeding is only done once for every configuration. Only beans with the seed policy
+ * {@link SeedPolicy#SELF_SEEDED} are cached, these objects seed themselves from the entropy source
+ * of the provider on first use. The registry is bounded and evicts the least recently used
+ * instance if the maximum size is reached. The maximum size of the shared instance is
+ * {@value #DEFAULT_MAXIMUM_SIZE} and can be changed with the system property
+ * {@value #MAXIMUM_SIZE_PROPERTY}.<br>
+ * <br>
+ * A bean with the seed policy {@link SeedPolicy#EXPLICIT} carries a seed, so its
+ * {@link SecureRandom} objects are never cached or shared, every caller gets a new object that
+ * reproduces the sequence of the seed. The default instance is the per thread instance of the
+ * {@link DefaultSecureRandom} and needs no lock.<br>
+ * <br>
+ * Note: the cached {@link SecureRandom} objects are shared between all callers of the same
+ * configuration, the implementations of the default providers are thread safe
+ */
+public final class SecureRandomRegistry
+{
+
+	/** The default maximum number of cached instances */
+	public static final int DEFAULT_MAXIMUM_SIZE = 16;
+
+	/** The name of the system property for the maximum size of the shared instance */
+	public static final String MAXIMUM_SIZE_PROPERTY = "randomizer.securerandom.registry.size";
+
+	/** The shared instance */
+	private static final SecureRandomRegistry instance = new SecureRandomRegistry(
+		Integer.getInteger(MAXIMUM_SIZE_PROPERTY, DEFAULT_MAXIMUM_SIZE));
+
+	/** The maximum number of cached instances */
+	private final int maximumSize;
+
+	/**
+	 * The cached instances keyed by their self seeded bean in the order of their last access,
+	 * guarded by this map
+	 */
+	private final Map<SecureRandomBean, SecureRandom> secureRandoms;
+
+	/**
+	 * Instantiates a new {@link SecureRandomRegistry} object with the given maximum size
+	 *
+	 * @param maximumSize
+	 *            the maximum number of cached instances, must be at least 1
+	 */
+	public SecureRandomRegistry(final int maximumSize)
+	{
+		if (maximumSize < 1)
+		{
+			throw new IllegalArgumentException("maximumSize must be at least 1: " + maximumSize);
+		}
+		this.maximumSize = maximumSize;
+		this.secureRandoms = new LinkedHashMap<>(16, 0.75f, true)
+		{
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(
+				final Map.Entry<SecureRandomBean, SecureRandom> eldest)
+			{
+				return SecureRandomRegistry.this.maximumSize < size();
+			}
+		};
+	}
+
+	/**
+	 * Gets the shared instance
+	 *
+	 * @return the shared instance
+	 */
+	public static SecureRandomRegistry getInstance()
+	{
+		return instance;
+	}
+
+	/**
+	 * Gets the cached self seeded {@link SecureRandom} object for the given algorithm and
+	 * provider, if there is no cached object a new one will be build with the
+	 * {@link SecureRandomBuilder}
+	 *
+	 * @param algorithm
+	 *            the algorithm
+	 * @param provider
+	 *            the provider or null for the preferred provider of the algorithm
+	 * @return the cached {@link SecureRandom} object
+	 */
+	public SecureRandom get(final String algorithm, final String provider)
+	{
+		Objects.requireNonNull(algorithm);
+		return get(new SecureRandomBean(algorithm, provider));
+	}
+
+	/**
+	 * Gets the {@link SecureRandom} object for the given configuration. The object of a bean with
+	 * the seed policy {@link SeedPolicy#SELF_SEEDED} is cached and shared, the seed of the bean is
+	 * ignored. A bean with an explicit seed gets always a new object, so the sequence of the seed
+	 * is reproducible
+	 *
+	 * @param secureRandomBean
+	 *            the configuration of the secure random
+	 * @return the cached or new {@link SecureRandom} object
+	 */
+	public SecureRandom get(final SecureRandomBean secureRandomBean)
+	{
+		Objects.requireNonNull(secureRandomBean);
+		if (secureRandomBean.getSeedPolicy() != SeedPolicy.SELF_SEEDED)
+		{
+			return SecureRandomBuilder.getInstance(secureRandomBean).build();
+		}
+		final SecureRandomBean key = new SecureRandomBean(secureRandomBean.getAlgorithm(),
+			secureRandomBean.getProvider());
+		synchronized (secureRandoms)
+		{
+			return secureRandoms.computeIfAbsent(key,
+				bean -> SecureRandomBuilder.getInstance(bean).build());
+		}
+	}
+
+	/**
+	 * Gets the {@link SecureRandom} object with the default algorithm and provider of the current
+	 * thread, that is the {@link DefaultSecureRandom}
+	 *
+	 * @return the {@link SecureRandom} object with the default configuration
+	 */
+	public SecureRandom getDefault()
+	{
+		return DefaultSecureRandom.get();
+	}
+
+	/**
+	 * Gets the maximum number of cached instances
+	 *
+	 * @return the maximum number of cached instances
+	 */
+	public int getMaximumSize()
+	{
+		return maximumSize;
+	}
+
+	/**
+	 * Gets the current number of cached instances
+	 *
+	 * @return the current number of cached instances
+	 */
+	public int size()
+	{
+		synchronized (secureRandoms)
+		{
+			return secureRandoms.size();
+		}
+	}
+
+	/**
+	 * Removes all cached instances
+	 */
+	public void clear()
+	{
+		synchronized (secureRandoms)
+		{
+			secureRandoms.clear();
+		}
+	}
+
+}
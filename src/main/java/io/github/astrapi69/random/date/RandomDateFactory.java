@@ -38,11 +38,13 @@ import java.util.Objects;
 import io.github.astrapi69.date.CalculateDateExtensions;
 import io.github.astrapi69.date.CreateDateExtensions;
 import io.github.astrapi69.random.DefaultSecureRandom;
-import io.github.astrapi69.random.SecureRandomFactory;
+import io.github.astrapi69.random.Randomizer;
 import io.github.astrapi69.random.enumeration.RandomAlgorithm;
+import io.github.astrapi69.random.metrics.RandomMetrics;
 import io.github.astrapi69.random.number.RandomBooleanFactory;
 import io.github.astrapi69.random.number.RandomIntFactory;
 import io.github.astrapi69.random.number.RandomLongFactory;
+import io.github.astrapi69.random.source.RandomSource;
 
 /**
  * The factory class {@link RandomDateFactory} for creating random Date objects
@@ -61,12 +63,20 @@ public final class RandomDateFactory
 	 */
 	public static Date randomBirthday()
 	{
-		final Date now = CreateDateExtensions.now();
-		// About 55 years.
-		final Date past = randomDateBefore(now, 20000);
-		// About 9 years.
-		final Date recentlyPast = randomDateBefore(now, 3000);
-		return randomBirthday(recentlyPast, past);
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			final Date now = CreateDateExtensions.now();
+			// About 55 years.
+			final Date past = randomDateBefore(now, 20000);
+			// About 9 years.
+			final Date recentlyPast = randomDateBefore(now, 3000);
+			return randomBirthday(recentlyPast, past);
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomDateFactory#randomBirthday()", startNanos);
+		}
 	}
 
 	/**
@@ -80,7 +90,15 @@ public final class RandomDateFactory
 	 */
 	public static Date randomBirthday(final Date from, final Date till)
 	{
-		return randomDatebetween(from, till);
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return randomDatebetween(from, till);
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomDateFactory#randomBirthday(Date, Date)", startNanos);
+		}
 	}
 
 	/**
@@ -93,7 +111,15 @@ public final class RandomDateFactory
 	 */
 	public static Date randomDateAfter(final Date date)
 	{
-		return randomDateAfter(date, RandomIntFactory.randomInt(10000));
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return randomDateAfter(date, RandomIntFactory.randomInt(10000));
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomDateFactory#randomDateAfter(Date)", startNanos);
+		}
 	}
 
 	/**
@@ -108,7 +134,15 @@ public final class RandomDateFactory
 	 */
 	public static Date randomDateAfter(final Date date, final int range)
 	{
-		return randomDateAfter(date, range, DefaultSecureRandom.get());
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return Randomizer.getDefault().randomDateAfter(date, range);
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomDateFactory#randomDateAfter(Date, int)", startNanos);
+		}
 	}
 
 	/**
@@ -129,6 +163,24 @@ public final class RandomDateFactory
 			RandomIntFactory.randomInt(range, RandomAlgorithm.SECURE_RANDOM, secureRandom));
 	}
 
+	/**
+	 * Creates a random Date that is after from the given Date.
+	 *
+	 * @param date
+	 *            The Date from where to compute the future date.
+	 * @param range
+	 *            The range.
+	 * @param randomSource
+	 *            the random source for Date generation
+	 *
+	 * @return The random Date in the future.
+	 */
+	public static Date randomDateAfter(final Date date, final int range, RandomSource randomSource)
+	{
+		return CalculateDateExtensions.addDays(date,
+			RandomIntFactory.randomInt(range, RandomAlgorithm.SECURE_RANDOM, randomSource));
+	}
+
 	/**
 	 * Creates a random date that is before from the given date.
 	 *
@@ -139,7 +191,15 @@ public final class RandomDateFactory
 	 */
 	public static Date randomDateBefore(final Date date)
 	{
-		return randomDateBefore(date, 10000);
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return Randomizer.getDefault().randomDateBefore(date);
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomDateFactory#randomDateBefore(Date)", startNanos);
+		}
 	}
 
 	/**
@@ -154,8 +214,15 @@ public final class RandomDateFactory
 	 */
 	public static Date randomDateBefore(final Date date, final int range)
 	{
-		return RandomDateFactory.randomDateBefore(date, range,
-			SecureRandomFactory.newSecureRandom());
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return Randomizer.getDefault().randomDateBefore(date, range);
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomDateFactory#randomDateBefore(Date, int)", startNanos);
+		}
 	}
 
 	/**
@@ -176,6 +243,25 @@ public final class RandomDateFactory
 			RandomIntFactory.randomInt(range, RandomAlgorithm.SECURE_RANDOM, secureRandom));
 	}
 
+	/**
+	 * Creates a random date that is before from the given date.
+	 *
+	 * @param date
+	 *            The date from where to compute the past date.
+	 * @param range
+	 *            The range.
+	 * @param randomSource
+	 *            the random source for Date generation
+	 *
+	 * @return The random Date in the past.
+	 */
+	public static Date randomDateBefore(final Date date, final int range,
+		RandomSource randomSource)
+	{
+		return CalculateDateExtensions.substractDaysFromDate(date,
+			RandomIntFactory.randomInt(range, RandomAlgorithm.SECURE_RANDOM, randomSource));
+	}
+
 	/**
 	 * Creates a random {@link Date}
 	 *
@@ -183,7 +269,15 @@ public final class RandomDateFactory
 	 */
 	public static Date randomDate()
 	{
-		return RandomDateFactory.randomDate(SecureRandomFactory.newSecureRandom());
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return Randomizer.getDefault().randomDate();
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomDateFactory#randomDate()", startNanos);
+		}
 	}
 
 	/**
@@ -195,7 +289,15 @@ public final class RandomDateFactory
 	 */
 	public static Date randomDate(final Date from)
 	{
-		return RandomDateFactory.randomDate(from, SecureRandomFactory.newSecureRandom());
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return Randomizer.getDefault().randomDate(from);
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomDateFactory#randomDate(Date)", startNanos);
+		}
 	}
 
 	/**
@@ -216,6 +318,24 @@ public final class RandomDateFactory
 		return new Date((long)result);
 	}
 
+	/**
+	 * Creates a random date.
+	 *
+	 * @param from
+	 *            The date from where to begin.
+	 * @param randomSource
+	 *            the random source for date generation
+	 * @return The random date.
+	 */
+	public static Date randomDate(final Date from, RandomSource randomSource)
+	{
+		Objects.requireNonNull(randomSource);
+		final double randDouble = -randomSource.nextDouble() * from.getTime();
+		final double randomDouble = from.getTime() - randomSource.nextDouble();
+		final double result = (randDouble / 99999) * (randomDouble / 99999);
+		return new Date((long)result);
+	}
+
 	/**
 	 * Creates a random {@link Date}
 	 *
@@ -234,6 +354,24 @@ public final class RandomDateFactory
 		return randomDateBefore(now, 10000, secureRandom);
 	}
 
+	/**
+	 * Creates a random {@link Date}
+	 *
+	 * @param randomSource
+	 *            the random source for {@link Date} generation
+	 *
+	 * @return The random {@link Date}
+	 */
+	public static Date randomDate(RandomSource randomSource)
+	{
+		final Date now = CreateDateExtensions.now();
+		if (RandomBooleanFactory.randomBoolean(randomSource))
+		{
+			return randomDateAfter(now, 10000, randomSource);
+		}
+		return randomDateBefore(now, 10000, randomSource);
+	}
+
 	/**
 	 * Creates a random Date between the range from start and end.
 	 *
@@ -254,6 +392,26 @@ public final class RandomDateFactory
 		return new Date(randomLong);
 	}
 
+	/**
+	 * Creates a random Date between the range from start and end.
+	 *
+	 * @param start
+	 *            The Date from where the range starts.
+	 * @param end
+	 *            The Date from where the range ends.
+	 * @param randomSource
+	 *            the random source for date generation
+	 * @return A random Date between the range from start and end.
+	 */
+	public static Date randomDateBetween(final Date start, final Date end,
+		RandomSource randomSource)
+	{
+		Objects.requireNonNull(randomSource);
+		final long randomLong = (long)(start.getTime()
+			+ (randomSource.nextDouble() * (end.getTime() - start.getTime())));
+		return new Date(randomLong);
+	}
+
 	/**
 	 * Creates a random Date between the range from startDays and endDays from the given Date and
 	 * gives it back as a string to the given format.
@@ -279,6 +437,31 @@ public final class RandomDateFactory
 		return sdf.format(between);
 	}
 
+	/**
+	 * Creates a random Date between the range from startDays and endDays from the given Date and
+	 * gives it back as a string to the given format.
+	 *
+	 * @param startDate
+	 *            The date from where to start as a long.
+	 * @param endDate
+	 *            The date from where to end as a long.
+	 * @param format
+	 *            The format for the date.
+	 * @param randomSource
+	 *            the random source for String generation
+	 * @return The random date as a String.
+	 */
+	public static String randomDateBetween(final long startDate, final long endDate,
+		final String format, RandomSource randomSource)
+	{
+		Objects.requireNonNull(randomSource);
+		final SimpleDateFormat sdf = new SimpleDateFormat(format);
+		long randomLongBetween = RandomLongFactory.randomLongBetween(startDate, endDate,
+			randomSource);
+		Date between = new Date(randomLongBetween);
+		return sdf.format(between);
+	}
+
 	/**
 	 * Creates a random Date between the range from start and end.
 	 *
@@ -290,8 +473,15 @@ public final class RandomDateFactory
 	 */
 	public static Date randomDatebetween(final Date start, final Date end)
 	{
-		return RandomDateFactory.randomDateBetween(start, end,
-			SecureRandomFactory.newSecureRandom());
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return Randomizer.getDefault().randomDateBetween(start, end);
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomDateFactory#randomDatebetween(Date, Date)", startNanos);
+		}
 	}
 
 	/**
@@ -306,7 +496,15 @@ public final class RandomDateFactory
 	 */
 	public static String randomDatebetween(final long startDate, final long endDate)
 	{
-		return randomDatebetween(startDate, endDate, "dd.MM.yyyy HH:mm:ss");
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return randomDatebetween(startDate, endDate, "dd.MM.yyyy HH:mm:ss");
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomDateFactory#randomDatebetween(long, long)", startNanos);
+		}
 	}
 
 	/**
@@ -324,8 +522,17 @@ public final class RandomDateFactory
 	public static String randomDatebetween(final long startDate, final long endDate,
 		final String format)
 	{
-		return RandomDateFactory.randomDateBetween(startDate, endDate, format,
-			SecureRandomFactory.newSecureRandom());
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return RandomDateFactory.randomDateBetween(startDate, endDate, format,
+				DefaultSecureRandom.get());
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomDateFactory#randomDatebetween(long, long, String)",
+				startNanos);
+		}
 	}
 
 	/**
@@ -341,8 +548,16 @@ public final class RandomDateFactory
 	 */
 	public static Date randomDateBetween(final Date from, final int startDays, final int endDays)
 	{
-		return RandomDateFactory.randomDateAfter(from,
-			RandomIntFactory.randomIntBetween(startDays, endDays));
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return RandomDateFactory.randomDateAfter(from,
+				RandomIntFactory.randomIntBetween(startDays, endDays));
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomDateFactory#randomDateBetween(Date, int, int)", startNanos);
+		}
 	}
 
 	/**
@@ -351,18 +566,38 @@ public final class RandomDateFactory
 	 * @return the random {@link LocalDate} object
 	 */
 	public static LocalDate randomLocalDate()
+	{
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return Randomizer.getDefault().randomLocalDate();
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomDateFactory#randomLocalDate()", startNanos);
+		}
+	}
+
+	/**
+	 * Creates a random {@link LocalDate} object
+	 *
+	 * @param randomSource
+	 *            the random source for {@link LocalDate} generation
+	 * @return the random {@link LocalDate} object
+	 */
+	public static LocalDate randomLocalDate(RandomSource randomSource)
 	{
 		LocalDate randomLocalDate;
 		LocalDate now = LocalDate.now();
-		if (RandomBooleanFactory.randomBoolean())
+		if (RandomBooleanFactory.randomBoolean(randomSource))
 		{
-			randomLocalDate = now
-				.plusDays(RandomLongFactory.randomLongBetween(-999999999L, 999999999L));
+			randomLocalDate = now.plusDays(
+				RandomLongFactory.randomLongBetween(-999999999L, 999999999L, randomSource));
 		}
 		else
 		{
-			randomLocalDate = now
-				.minusDays(RandomLongFactory.randomLongBetween(-999999999L, 999999999L));
+			randomLocalDate = now.minusDays(
+				RandomLongFactory.randomLongBetween(-999999999L, 999999999L, randomSource));
 		}
 		return randomLocalDate;
 	}
@@ -374,7 +609,27 @@ public final class RandomDateFactory
 	 */
 	public static LocalDateTime randomLocalDateTime()
 	{
-		return LocalDateTime.of(randomLocalDate(), randomLocalTime());
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return Randomizer.getDefault().randomLocalDateTime();
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomDateFactory#randomLocalDateTime()", startNanos);
+		}
+	}
+
+	/**
+	 * Creates a random {@link LocalDateTime} object
+	 *
+	 * @param randomSource
+	 *            the random source for {@link LocalDateTime} generation
+	 * @return the random {@link LocalDateTime} object
+	 */
+	public static LocalDateTime randomLocalDateTime(RandomSource randomSource)
+	{
+		return LocalDateTime.of(randomLocalDate(randomSource), randomLocalTime(randomSource));
 	}
 
 	/**
@@ -383,20 +638,40 @@ public final class RandomDateFactory
 	 * @return the random {@link LocalTime} object
 	 */
 	public static LocalTime randomLocalTime()
+	{
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return Randomizer.getDefault().randomLocalTime();
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomDateFactory#randomLocalTime()", startNanos);
+		}
+	}
+
+	/**
+	 * Creates a random {@link LocalTime} object
+	 *
+	 * @param randomSource
+	 *            the random source for {@link LocalTime} generation
+	 * @return the random {@link LocalTime} object
+	 */
+	public static LocalTime randomLocalTime(RandomSource randomSource)
 	{
 		LocalTime randomLocalTime;
 		LocalTime now = LocalTime.now();
-		if (RandomBooleanFactory.randomBoolean())
+		if (RandomBooleanFactory.randomBoolean(randomSource))
 		{
-			randomLocalTime = now.plusHours(RandomLongFactory.randomLong(23))
-				.plusMinutes(RandomLongFactory.randomLong(59))
-				.plusSeconds(RandomLongFactory.randomLong(59));
+			randomLocalTime = now.plusHours(RandomLongFactory.randomLong(23, randomSource))
+				.plusMinutes(RandomLongFactory.randomLong(59, randomSource))
+				.plusSeconds(RandomLongFactory.randomLong(59, randomSource));
 		}
 		else
 		{
-			randomLocalTime = now.minusHours(RandomLongFactory.randomLong(23))
-				.minusMinutes(RandomLongFactory.randomLong(59))
-				.minusSeconds(RandomLongFactory.randomLong(59));
+			randomLocalTime = now.minusHours(RandomLongFactory.randomLong(23, randomSource))
+				.minusMinutes(RandomLongFactory.randomLong(59, randomSource))
+				.minusSeconds(RandomLongFactory.randomLong(59, randomSource));
 		}
 		return randomLocalTime;
 	}
@@ -408,7 +683,16 @@ public final class RandomDateFactory
 	 */
 	public static ZoneId randomZoneId()
 	{
-		List<String> availableZoneIds = new ArrayList<>(ZoneId.getAvailableZoneIds());
-		return ZoneId.of(availableZoneIds.get(RandomIntFactory.randomInt(availableZoneIds.size())));
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			List<String> availableZoneIds = new ArrayList<>(ZoneId.getAvailableZoneIds());
+			return ZoneId
+				.of(availableZoneIds.get(RandomIntFactory.randomInt(availableZoneIds.size())));
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomDateFactory#randomZoneId()", startNanos);
+		}
 	}
 }
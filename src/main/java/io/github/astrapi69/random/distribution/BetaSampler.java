@@ -0,0 +1,102 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.distribution;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * The class {@link BetaSampler} samples values of the beta distribution with the given shapes
+ * alpha and beta from two gamma values <code>x</code> and <code>y</code> as
+ * <code>x / (x + y)</code>. If a shape is less than one, both gamma values can underflow to zero,
+ * in that case the value is computed from the logarithms of the gamma values as
+ * <code>1 / (1 + exp(log(y) - log(x)))</code>
+ */
+public final class BetaSampler implements ContinuousSampler
+{
+
+	/** The sampler of the gamma value with the shape alpha */
+	private final GammaSampler alphaSampler;
+
+	/** The sampler of the gamma value with the shape beta */
+	private final GammaSampler betaSampler;
+
+	/** The flag if the value is computed from the logarithms of the gamma values */
+	private final boolean logarithmic;
+
+	/**
+	 * Instantiates a new {@link BetaSampler} object
+	 *
+	 * @param alpha
+	 *            the first shape, must be positive
+	 * @param beta
+	 *            the second shape, must be positive
+	 * @throws IllegalArgumentException
+	 *             if one of the shapes is not positive
+	 */
+	public BetaSampler(final double alpha, final double beta)
+	{
+		this.alphaSampler = new GammaSampler(alpha, 1.0);
+		this.betaSampler = new GammaSampler(beta, 1.0);
+		this.logarithmic = alpha < 1.0 || beta < 1.0;
+	}
+
+	/**
+	 * Gets the first shape alpha
+	 *
+	 * @return the first shape
+	 */
+	public double getAlpha()
+	{
+		return alphaSampler.getShape();
+	}
+
+	/**
+	 * Gets the second shape beta
+	 *
+	 * @return the second shape
+	 */
+	public double getBeta()
+	{
+		return betaSampler.getShape();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public double sample(final RandomGenerator generator)
+	{
+		if (logarithmic)
+		{
+			final double logX = alphaSampler.sampleLog(generator);
+			final double logY = betaSampler.sampleLog(generator);
+			return 1.0 / (1.0 + Math.exp(logY - logX));
+		}
+		final double x = alphaSampler.sample(generator);
+		final double y = betaSampler.sample(generator);
+		return x / (x + y);
+	}
+
+}
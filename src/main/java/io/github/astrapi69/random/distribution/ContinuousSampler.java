@@ -0,0 +1,110 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.distribution;
+
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+import io.github.astrapi69.random.DefaultSecureRandom;
+
+/**
+ * The interface {@link ContinuousSampler} draws values of a continuous distribution from a
+ * {@link RandomGenerator}. Every {@link java.security.SecureRandom} and every
+ * {@link io.github.astrapi69.random.source.RandomSource} can be given as generator. The
+ * implementations are immutable and can be shared between threads, as long as every thread uses
+ * its own generator or a thread safe one
+ */
+public interface ContinuousSampler
+{
+
+	/**
+	 * Samples one value from the given generator
+	 *
+	 * @param generator
+	 *            the generator
+	 * @return the sampled value
+	 */
+	double sample(RandomGenerator generator);
+
+	/**
+	 * Samples one value from the {@link DefaultSecureRandom}
+	 *
+	 * @return the sampled value
+	 */
+	default double sample()
+	{
+		return sample(DefaultSecureRandom.get());
+	}
+
+	/**
+	 * Fills the given array with sampled values from the {@link DefaultSecureRandom}
+	 *
+	 * @param array
+	 *            the array to fill
+	 */
+	default void fill(final double[] array)
+	{
+		fill(array, DefaultSecureRandom.get());
+	}
+
+	/**
+	 * Fills the given array with sampled values from the given generator
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param generator
+	 *            the generator
+	 */
+	default void fill(final double[] array, final RandomGenerator generator)
+	{
+		Objects.requireNonNull(array);
+		fill(array, 0, array.length, generator);
+	}
+
+	/**
+	 * Fills the given range of the given array with sampled values from the given generator
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param offset
+	 *            the index of the first element to fill
+	 * @param length
+	 *            the number of elements to fill
+	 * @param generator
+	 *            the generator
+	 */
+	default void fill(final double[] array, final int offset, final int length,
+		final RandomGenerator generator)
+	{
+		Objects.requireNonNull(array);
+		Objects.requireNonNull(generator);
+		Objects.checkFromIndexSize(offset, length, array.length);
+		for (int i = offset, to = offset + length; i < to; i++)
+		{
+			array[i] = sample(generator);
+		}
+	}
+
+}
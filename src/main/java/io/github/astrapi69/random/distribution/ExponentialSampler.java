@@ -0,0 +1,87 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.distribution;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * The class {@link ExponentialSampler} samples values of the exponential distribution with a
+ * given rate, for instance the times between independent events. The standard exponential values
+ * are drawn with the ziggurat method, so the most values need no transcendental call
+ */
+public final class ExponentialSampler implements ContinuousSampler
+{
+
+	/** The rate */
+	private final double rate;
+
+	/** The mean, the inverse of the rate */
+	private final double mean;
+
+	/**
+	 * Instantiates a new {@link ExponentialSampler} object
+	 *
+	 * @param rate
+	 *            the rate, must be positive
+	 * @throws IllegalArgumentException
+	 *             if the rate is not positive
+	 */
+	public ExponentialSampler(final double rate)
+	{
+		Samplers.checkPositive(rate, "rate");
+		this.rate = rate;
+		this.mean = 1.0 / rate;
+	}
+
+	/**
+	 * Gets the rate
+	 *
+	 * @return the rate
+	 */
+	public double getRate()
+	{
+		return rate;
+	}
+
+	/**
+	 * Gets the mean, the inverse of the rate
+	 *
+	 * @return the mean
+	 */
+	public double getMean()
+	{
+		return mean;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public double sample(final RandomGenerator generator)
+	{
+		return mean * Ziggurat.nextExponential(generator);
+	}
+
+}
@@ -0,0 +1,150 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.distribution;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * The class {@link GammaSampler} samples values of the gamma distribution with a given shape and
+ * scale with the method of Marsaglia and Tsang, that needs in the mean about one normal value
+ * from the ziggurat and one uniform value for every sample. A shape less than one is boosted with
+ * a uniform power
+ */
+public final class GammaSampler implements ContinuousSampler
+{
+
+	/** The shape */
+	private final double shape;
+
+	/** The scale */
+	private final double scale;
+
+	/** The constant d of the method of Marsaglia and Tsang for the boosted shape */
+	private final double d;
+
+	/** The constant c of the method of Marsaglia and Tsang for the boosted shape */
+	private final double c;
+
+	/** The inverse of the shape for the boost of a shape less than one, otherwise zero */
+	private final double inverseShape;
+
+	/**
+	 * Instantiates a new {@link GammaSampler} object
+	 *
+	 * @param shape
+	 *            the shape, must be positive
+	 * @param scale
+	 *            the scale, must be positive
+	 * @throws IllegalArgumentException
+	 *             if the shape or the scale is not positive
+	 */
+	public GammaSampler(final double shape, final double scale)
+	{
+		Samplers.checkPositive(shape, "shape");
+		Samplers.checkPositive(scale, "scale");
+		this.shape = shape;
+		this.scale = scale;
+		this.inverseShape = shape < 1.0 ? 1.0 / shape : 0.0;
+		this.d = (shape < 1.0 ? shape + 1.0 : shape) - 1.0 / 3.0;
+		this.c = 1.0 / Math.sqrt(9.0 * d);
+	}
+
+	/**
+	 * Gets the shape
+	 *
+	 * @return the shape
+	 */
+	public double getShape()
+	{
+		return shape;
+	}
+
+	/**
+	 * Gets the scale
+	 *
+	 * @return the scale
+	 */
+	public double getScale()
+	{
+		return scale;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public double sample(final RandomGenerator generator)
+	{
+		double value = nextStandardGamma(generator);
+		if (inverseShape != 0.0)
+		{
+			value *= Math.pow(1.0 - generator.nextDouble(), inverseShape);
+		}
+		return scale * value;
+	}
+
+	/**
+	 * Samples the natural logarithm of a value of this distribution. A boosted value of a small
+	 * shape can underflow to zero, its logarithm stays finite
+	 *
+	 * @param generator
+	 *            the generator
+	 * @return the natural logarithm of the sampled value
+	 */
+	double sampleLog(final RandomGenerator generator)
+	{
+		double value = Math.log(scale * nextStandardGamma(generator));
+		if (inverseShape != 0.0)
+		{
+			value += Math.log(1.0 - generator.nextDouble()) * inverseShape;
+		}
+		return value;
+	}
+
+	private double nextStandardGamma(final RandomGenerator generator)
+	{
+		for (;;)
+		{
+			final double x = Ziggurat.nextNormal(generator);
+			double v = 1.0 + c * x;
+			if (v <= 0.0)
+			{
+				continue;
+			}
+			v = v * v * v;
+			final double u = generator.nextDouble();
+			final double xx = x * x;
+			if (u < 1.0 - 0.0331 * xx * xx)
+			{
+				return d * v;
+			}
+			if (Math.log(u) < 0.5 * xx + d * (1.0 - v + Math.log(v)))
+			{
+				return d * v;
+			}
+		}
+	}
+
+}
@@ -0,0 +1,93 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.distribution;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * The class {@link GaussianSampler} samples values of the normal distribution with a given mean
+ * and standard deviation. The standard normal values are drawn with the ziggurat method, so the
+ * most values need no transcendental call
+ */
+public final class GaussianSampler implements ContinuousSampler
+{
+
+	/** The sampler of the standard normal distribution with the mean 0 and the deviation 1 */
+	public static final GaussianSampler STANDARD = new GaussianSampler(0.0, 1.0);
+
+	/** The mean */
+	private final double mean;
+
+	/** The standard deviation */
+	private final double standardDeviation;
+
+	/**
+	 * Instantiates a new {@link GaussianSampler} object
+	 *
+	 * @param mean
+	 *            the mean
+	 * @param standardDeviation
+	 *            the standard deviation, must be positive
+	 * @throws IllegalArgumentException
+	 *             if the mean is not finite or the standard deviation is not positive
+	 */
+	public GaussianSampler(final double mean, final double standardDeviation)
+	{
+		Samplers.checkFinite(mean, "mean");
+		Samplers.checkPositive(standardDeviation, "standardDeviation");
+		this.mean = mean;
+		this.standardDeviation = standardDeviation;
+	}
+
+	/**
+	 * Gets the mean
+	 *
+	 * @return the mean
+	 */
+	public double getMean()
+	{
+		return mean;
+	}
+
+	/**
+	 * Gets the standard deviation
+	 *
+	 * @return the standard deviation
+	 */
+	public double getStandardDeviation()
+	{
+		return standardDeviation;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public double sample(final RandomGenerator generator)
+	{
+		return mean + standardDeviation * Ziggurat.nextNormal(generator);
+	}
+
+}
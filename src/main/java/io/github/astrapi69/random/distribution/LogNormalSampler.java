@@ -0,0 +1,89 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.distribution;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * The class {@link LogNormalSampler} samples values of the log-normal distribution, the natural
+ * logarithm of the values is normal distributed with the given mean and standard deviation
+ */
+public final class LogNormalSampler implements ContinuousSampler
+{
+
+	/** The mean of the logarithm */
+	private final double mu;
+
+	/** The standard deviation of the logarithm */
+	private final double sigma;
+
+	/**
+	 * Instantiates a new {@link LogNormalSampler} object
+	 *
+	 * @param mu
+	 *            the mean of the logarithm of the values
+	 * @param sigma
+	 *            the standard deviation of the logarithm of the values, must be positive
+	 * @throws IllegalArgumentException
+	 *             if mu is not finite or sigma is not positive
+	 */
+	public LogNormalSampler(final double mu, final double sigma)
+	{
+		Samplers.checkFinite(mu, "mu");
+		Samplers.checkPositive(sigma, "sigma");
+		this.mu = mu;
+		this.sigma = sigma;
+	}
+
+	/**
+	 * Gets the mean of the logarithm of the values
+	 *
+	 * @return the mean of the logarithm
+	 */
+	public double getMu()
+	{
+		return mu;
+	}
+
+	/**
+	 * Gets the standard deviation of the logarithm of the values
+	 *
+	 * @return the standard deviation of the logarithm
+	 */
+	public double getSigma()
+	{
+		return sigma;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public double sample(final RandomGenerator generator)
+	{
+		return Math.exp(mu + sigma * Ziggurat.nextNormal(generator));
+	}
+
+}
@@ -0,0 +1,425 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.distribution;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.ToDoubleFunction;
+import java.util.random.RandomGenerator;
+import java.util.stream.Stream;
+
+import io.github.astrapi69.random.DefaultSecureRandom;
+
+/**
+ * Utility class for the single pass sampling of items from sources of unknown length, like
+ * iterators, streams or the lines of large files. Only the sampled items are held in memory.<br>
+ * <br>
+ * The uniform sampling uses the algorithm L of Li that computes how many items can be skipped
+ * before the next item enters the reservoir, so it draws only about
+ * <code>k * (1 + log(n / k))</code> random values for <code>n</code> items. The weighted sampling
+ * uses the algorithm A-ExpJ of Efraimidis and Spirakis with exponential jumps, every item is
+ * sampled with a probability that is proportional to its weight.<br>
+ * <br>
+ * If the source has not more than <code>k</code> items all items are returned. The items in the
+ * returned list are not in a random order
+ */
+public final class ReservoirSampler
+{
+
+	private ReservoirSampler()
+	{
+	}
+
+	/**
+	 * Samples uniformly up to the given number of items from the given iterator
+	 *
+	 * @param <T>
+	 *            the type of the items
+	 * @param iterator
+	 *            the iterator
+	 * @param k
+	 *            the number of the items to sample
+	 * @param generator
+	 *            the generator
+	 * @return the list with the sampled items
+	 */
+	public static <T> List<T> sample(final Iterator<? extends T> iterator, final int k,
+		final RandomGenerator generator)
+	{
+		Objects.requireNonNull(iterator);
+		Objects.requireNonNull(generator);
+		checkSampleSize(k);
+		final List<T> reservoir = new ArrayList<>(Math.min(k, 1024));
+		while (reservoir.size() < k && iterator.hasNext())
+		{
+			reservoir.add(iterator.next());
+		}
+		if (reservoir.size() < k || k == 0)
+		{
+			return reservoir;
+		}
+		double w = Math.exp(Math.log(nextOpenDouble(generator)) / k);
+		for (;;)
+		{
+			long skip = (long)Math.floor(Math.log(nextOpenDouble(generator)) / Math.log1p(-w));
+			while (0 < skip && iterator.hasNext())
+			{
+				iterator.next();
+				skip--;
+			}
+			if (!iterator.hasNext())
+			{
+				return reservoir;
+			}
+			reservoir.set(generator.nextInt(k), iterator.next());
+			w *= Math.exp(Math.log(nextOpenDouble(generator)) / k);
+		}
+	}
+
+	/**
+	 * Samples uniformly up to the given number of items from the given iterable
+	 *
+	 * @param <T>
+	 *            the type of the items
+	 * @param iterable
+	 *            the iterable
+	 * @param k
+	 *            the number of the items to sample
+	 * @param generator
+	 *            the generator
+	 * @return the list with the sampled items
+	 */
+	public static <T> List<T> sample(final Iterable<? extends T> iterable, final int k,
+		final RandomGenerator generator)
+	{
+		return sample(Objects.requireNonNull(iterable).iterator(), k, generator);
+	}
+
+	/**
+	 * Samples uniformly up to the given number of items from the given iterable with the
+	 * {@link DefaultSecureRandom}
+	 *
+	 * @param <T>
+	 *            the type of the items
+	 * @param iterable
+	 *            the iterable
+	 * @param k
+	 *            the number of the items to sample
+	 * @return the list with the sampled items
+	 */
+	public static <T> List<T> sample(final Iterable<? extends T> iterable, final int k)
+	{
+		return sample(iterable, k, DefaultSecureRandom.get());
+	}
+
+	/**
+	 * Samples uniformly up to the given number of items from the given spliterator
+	 *
+	 * @param <T>
+	 *            the type of the items
+	 * @param spliterator
+	 *            the spliterator
+	 * @param k
+	 *            the number of the items to sample
+	 * @param generator
+	 *            the generator
+	 * @return the list with the sampled items
+	 */
+	public static <T> List<T> sample(final Spliterator<? extends T> spliterator, final int k,
+		final RandomGenerator generator)
+	{
+		return sample(Spliterators.iterator(Objects.requireNonNull(spliterator)), k, generator);
+	}
+
+	/**
+	 * Samples uniformly up to the given number of items from the given stream. The stream is
+	 * consumed sequentially, but it is not closed
+	 *
+	 * @param <T>
+	 *            the type of the items
+	 * @param stream
+	 *            the stream
+	 * @param k
+	 *            the number of the items to sample
+	 * @param generator
+	 *            the generator
+	 * @return the list with the sampled items
+	 */
+	public static <T> List<T> sample(final Stream<? extends T> stream, final int k,
+		final RandomGenerator generator)
+	{
+		return sample(Objects.requireNonNull(stream).iterator(), k, generator);
+	}
+
+	/**
+	 * Samples uniformly up to the given number of items from the given stream with the
+	 * {@link DefaultSecureRandom}. The stream is consumed sequentially, but it is not closed
+	 *
+	 * @param <T>
+	 *            the type of the items
+	 * @param stream
+	 *            the stream
+	 * @param k
+	 *            the number of the items to sample
+	 * @return the list with the sampled items
+	 */
+	public static <T> List<T> sample(final Stream<? extends T> stream, final int k)
+	{
+		return sample(stream, k, DefaultSecureRandom.get());
+	}
+
+	/**
+	 * Samples uniformly up to the given number of lines from the given file. The file is read
+	 * once line by line, so only the sampled lines are held in memory
+	 *
+	 * @param path
+	 *            the path of the file
+	 * @param charset
+	 *            the charset of the file
+	 * @param k
+	 *            the number of the lines to sample
+	 * @param generator
+	 *            the generator
+	 * @return the list with the sampled lines
+	 * @throws IOException
+	 *             if the file can not be read
+	 */
+	public static List<String> sampleLines(final Path path, final Charset charset, final int k,
+		final RandomGenerator generator) throws IOException
+	{
+		Objects.requireNonNull(path);
+		Objects.requireNonNull(charset);
+		try (BufferedReader reader = Files.newBufferedReader(path, charset))
+		{
+			return sample(reader.lines().iterator(), k, generator);
+		}
+		catch (final UncheckedIOException e)
+		{
+			throw e.getCause();
+		}
+	}
+
+	/**
+	 * Samples up to the given number of items without replacement from the given iterator, the
+	 * probability of an item is proportional to its weight. Items with a weight of zero are never
+	 * sampled
+	 *
+	 * @param <T>
+	 *            the type of the items
+	 * @param iterator
+	 *            the iterator
+	 * @param weightFunction
+	 *            the function that computes the weight of an item, the weight must be
+	 *            non-negative and finite
+	 * @param k
+	 *            the number of the items to sample
+	 * @param generator
+	 *            the generator
+	 * @return the list with the sampled items
+	 * @throws IllegalArgumentException
+	 *             if a weight is negative or not finite
+	 */
+	public static <T> List<T> sampleWeighted(final Iterator<? extends T> iterator,
+		final ToDoubleFunction<? super T> weightFunction, final int k,
+		final RandomGenerator generator)
+	{
+		Objects.requireNonNull(iterator);
+		Objects.requireNonNull(weightFunction);
+		Objects.requireNonNull(generator);
+		checkSampleSize(k);
+		// min heap of the keys log(u) / weight, the largest keys are the sampled items
+		final PriorityQueue<WeightedItem<T>> reservoir = new PriorityQueue<>(Math.max(1, k));
+		if (k == 0)
+		{
+			return new ArrayList<>();
+		}
+		double skip = Double.NaN;
+		while (iterator.hasNext())
+		{
+			final T item = iterator.next();
+			final double weight = checkWeight(weightFunction.applyAsDouble(item));
+			if (weight == 0.0)
+			{
+				continue;
+			}
+			if (reservoir.size() < k)
+			{
+				reservoir.add(new WeightedItem<>(item,
+					Math.log(nextOpenDouble(generator)) / weight));
+				if (reservoir.size() == k)
+				{
+					skip = nextSkip(reservoir.peek().key, generator);
+				}
+				continue;
+			}
+			skip -= weight;
+			if (0.0 < skip)
+			{
+				continue;
+			}
+			// the item enters the reservoir with a key above the current minimum key
+			final double minimum = Math.exp(weight * reservoir.peek().key);
+			final double u = minimum + (1.0 - minimum) * nextOpenDouble(generator);
+			reservoir.poll();
+			reservoir.add(new WeightedItem<>(item, Math.log(u) / weight));
+			skip = nextSkip(reservoir.peek().key, generator);
+		}
+		final List<T> sample = new ArrayList<>(reservoir.size());
+		for (final WeightedItem<T> weightedItem : reservoir)
+		{
+			sample.add(weightedItem.item);
+		}
+		return sample;
+	}
+
+	/**
+	 * Samples up to the given number of items without replacement from the given iterable, the
+	 * probability of an item is proportional to its weight
+	 *
+	 * @param <T>
+	 *            the type of the items
+	 * @param iterable
+	 *            the iterable
+	 * @param weightFunction
+	 *            the function that computes the weight of an item
+	 * @param k
+	 *            the number of the items to sample
+	 * @param generator
+	 *            the generator
+	 * @return the list with the sampled items
+	 * @see #sampleWeighted(Iterator, ToDoubleFunction, int, RandomGenerator)
+	 */
+	public static <T> List<T> sampleWeighted(final Iterable<? extends T> iterable,
+		final ToDoubleFunction<? super T> weightFunction, final int k,
+		final RandomGenerator generator)
+	{
+		return sampleWeighted(Objects.requireNonNull(iterable).iterator(), weightFunction, k,
+			generator);
+	}
+
+	/**
+	 * Samples up to the given number of items without replacement from the given stream, the
+	 * probability of an item is proportional to its weight. The stream is consumed sequentially,
+	 * but it is not closed
+	 *
+	 * @param <T>
+	 *            the type of the items
+	 * @param stream
+	 *            the stream
+	 * @param weightFunction
+	 *            the function that computes the weight of an item
+	 * @param k
+	 *            the number of the items to sample
+	 * @param generator
+	 *            the generator
+	 * @return the list with the sampled items
+	 * @see #sampleWeighted(Iterator, ToDoubleFunction, int, RandomGenerator)
+	 */
+	public static <T> List<T> sampleWeighted(final Stream<? extends T> stream,
+		final ToDoubleFunction<? super T> weightFunction, final int k,
+		final RandomGenerator generator)
+	{
+		return sampleWeighted(Objects.requireNonNull(stream).iterator(), weightFunction, k,
+			generator);
+	}
+
+	/**
+	 * Computes the weight that is skipped before the next item enters the weighted reservoir
+	 *
+	 * @param minimumKey
+	 *            the minimum key of the reservoir
+	 * @param generator
+	 *            the generator
+	 * @return the weight to skip
+	 */
+	private static double nextSkip(final double minimumKey, final RandomGenerator generator)
+	{
+		return Math.log(nextOpenDouble(generator)) / minimumKey;
+	}
+
+	/**
+	 * Gets a random double value between 0 exclusive and 1 inclusive, so the logarithm is finite
+	 *
+	 * @param generator
+	 *            the generator
+	 * @return the random double value
+	 */
+	private static double nextOpenDouble(final RandomGenerator generator)
+	{
+		return 1.0 - generator.nextDouble();
+	}
+
+	private static void checkSampleSize(final int k)
+	{
+		if (k < 0)
+		{
+			throw new IllegalArgumentException("k must be non-negative: " + k);
+		}
+	}
+
+	private static double checkWeight(final double weight)
+	{
+		if (!(0.0 <= weight && weight < Double.POSITIVE_INFINITY))
+		{
+			throw new IllegalArgumentException("The weight must be non-negative and finite: "
+				+ weight);
+		}
+		return weight;
+	}
+
+	/**
+	 * The class {@link WeightedItem} is an item of the weighted reservoir with its key
+	 */
+	private static final class WeightedItem<T> implements Comparable<WeightedItem<T>>
+	{
+		private final T item;
+
+		private final double key;
+
+		WeightedItem(final T item, final double key)
+		{
+			this.item = item;
+			this.key = key;
+		}
+
+		@Override
+		public int compareTo(final WeightedItem<T> other)
+		{
+			return Double.compare(key, other.key);
+		}
+	}
+
+}
@@ -0,0 +1,466 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.distribution;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.ToDoubleFunction;
+import java.util.random.RandomGenerator;
+
+import io.github.astrapi69.random.DefaultSecureRandom;
+
+/**
+ * The class {@link WeightedSampler} selects items with probabilities that are proportional to
+ * their weights. The alias table of Vose is built once in linear time, after that every sample
+ * needs constant time with two random draws, one for the column and one for the coin between the
+ * item of the column and its alias.<br>
+ * <br>
+ * Instances of this class are immutable and can be shared between threads, as long as every
+ * thread uses its own generator or a thread safe one. For change some weights of a large weight
+ * set use {@link #toBuilder()}, the builder holds the weights in a primitive array and rebuilds
+ * the table without boxing
+ *
+ * @param <T>
+ *            the type of the items
+ */
+public final class WeightedSampler<T>
+{
+
+	/** The items */
+	private final List<T> items;
+
+	/** The weights of the items */
+	private final double[] weights;
+
+	/** The total weight */
+	private final double totalWeight;
+
+	/** The probabilities to keep the item of a column instead of its alias */
+	private final double[] probabilities;
+
+	/** The aliases of the columns */
+	private final int[] aliases;
+
+	private WeightedSampler(final List<T> items, final double[] weights)
+	{
+		final int size = weights.length;
+		if (size == 0)
+		{
+			throw new IllegalArgumentException("At least one item is required");
+		}
+		double total = 0.0;
+		for (int i = 0; i < size; i++)
+		{
+			final double weight = weights[i];
+			if (!(0.0 <= weight && weight < Double.POSITIVE_INFINITY))
+			{
+				throw new IllegalArgumentException(
+					"The weight at index " + i + " must be non-negative and finite: " + weight);
+			}
+			total += weight;
+		}
+		if (!(0.0 < total && total < Double.POSITIVE_INFINITY))
+		{
+			throw new IllegalArgumentException("The total weight must be positive: " + total);
+		}
+		this.items = items;
+		this.weights = weights;
+		this.totalWeight = total;
+		this.probabilities = new double[size];
+		this.aliases = new int[size];
+		buildAliasTable();
+	}
+
+	/**
+	 * Builds the alias table with the method of Vose. The small columns are stacked from the
+	 * start and the large columns from the end of one work array, because every column is in at
+	 * most one of the stacks
+	 */
+	private void buildAliasTable()
+	{
+		final int size = weights.length;
+		final double[] scaled = new double[size];
+		final int[] work = new int[size];
+		int small = 0;
+		int large = size;
+		for (int i = 0; i < size; i++)
+		{
+			scaled[i] = weights[i] * size / totalWeight;
+			if (scaled[i] < 1.0)
+			{
+				work[small++] = i;
+			}
+			else
+			{
+				work[--large] = i;
+			}
+		}
+		while (0 < small && large < size)
+		{
+			final int less = work[--small];
+			final int more = work[large++];
+			probabilities[less] = scaled[less];
+			aliases[less] = more;
+			scaled[more] = (scaled[more] + scaled[less]) - 1.0;
+			if (scaled[more] < 1.0)
+			{
+				work[small++] = more;
+			}
+			else
+			{
+				work[--large] = more;
+			}
+		}
+		// the remaining columns are full, a rest is only a rounding error
+		while (large < size)
+		{
+			final int column = work[large++];
+			probabilities[column] = 1.0;
+			aliases[column] = column;
+		}
+		while (0 < small)
+		{
+			final int column = work[--small];
+			probabilities[column] = 1.0;
+			aliases[column] = column;
+		}
+	}
+
+	/**
+	 * Factory method for create a new {@link WeightedSampler} object from the given items and
+	 * weights
+	 *
+	 * @param <T>
+	 *            the type of the items
+	 * @param items
+	 *            the items
+	 * @param weights
+	 *            the weights of the items, must be non-negative with a positive sum
+	 * @return the new {@link WeightedSampler} object
+	 * @throws IllegalArgumentException
+	 *             if the sizes differ or a weight is invalid
+	 */
+	public static <T> WeightedSampler<T> of(final List<? extends T> items, final double[] weights)
+	{
+		Objects.requireNonNull(items);
+		Objects.requireNonNull(weights);
+		if (items.size() != weights.length)
+		{
+			throw new IllegalArgumentException("The number of items " + items.size()
+				+ " differs from the number of weights " + weights.length);
+		}
+		return new WeightedSampler<>(Collections.unmodifiableList(new ArrayList<>(items)),
+			weights.clone());
+	}
+
+	/**
+	 * Factory method for create a new {@link WeightedSampler} object from the given items and the
+	 * given function that computes the weight of an item
+	 *
+	 * @param <T>
+	 *            the type of the items
+	 * @param items
+	 *            the items
+	 * @param weightFunction
+	 *            the function that computes the weight of an item
+	 * @return the new {@link WeightedSampler} object
+	 * @throws IllegalArgumentException
+	 *             if a weight is invalid
+	 */
+	public static <T> WeightedSampler<T> of(final List<? extends T> items,
+		final ToDoubleFunction<? super T> weightFunction)
+	{
+		Objects.requireNonNull(items);
+		Objects.requireNonNull(weightFunction);
+		final List<T> copy = Collections.unmodifiableList(new ArrayList<>(items));
+		final double[] weights = new double[copy.size()];
+		for (int i = 0; i < weights.length; i++)
+		{
+			weights[i] = weightFunction.applyAsDouble(copy.get(i));
+		}
+		return new WeightedSampler<>(copy, weights);
+	}
+
+	/**
+	 * Factory method for create a new {@link WeightedSampler} object from the given map with the
+	 * items as keys and the weights as values
+	 *
+	 * @param <T>
+	 *            the type of the items
+	 * @param weights
+	 *            the map with the weights of the items
+	 * @return the new {@link WeightedSampler} object
+	 * @throws IllegalArgumentException
+	 *             if a weight is invalid
+	 */
+	public static <T> WeightedSampler<T> of(final Map<? extends T, ? extends Number> weights)
+	{
+		Objects.requireNonNull(weights);
+		final List<T> items = new ArrayList<>(weights.size());
+		final double[] values = new double[weights.size()];
+		int index = 0;
+		for (final Map.Entry<? extends T, ? extends Number> entry : weights.entrySet())
+		{
+			items.add(entry.getKey());
+			values[index++] = entry.getValue().doubleValue();
+		}
+		return new WeightedSampler<>(Collections.unmodifiableList(items), values);
+	}
+
+	/**
+	 * Factory method for create a new {@link WeightedSampler} object for the constants of the
+	 * given enum class and the given function that computes the weight of a constant
+	 *
+	 * @param <E>
+	 *            the enum type
+	 * @param enumClass
+	 *            the enum class
+	 * @param weightFunction
+	 *            the function that computes the weight of a constant
+	 * @return the new {@link WeightedSampler} object
+	 * @throws IllegalArgumentException
+	 *             if a weight is invalid
+	 */
+	public static <E extends Enum<E>> WeightedSampler<E> of(final Class<E> enumClass,
+		final ToDoubleFunction<? super E> weightFunction)
+	{
+		Objects.requireNonNull(enumClass);
+		return of(Arrays.asList(enumClass.getEnumConstants()), weightFunction);
+	}
+
+	/**
+	 * Factory method for create a new {@link WeightedSamplerBuilder} object
+	 *
+	 * @param <T>
+	 *            the type of the items
+	 * @return the new {@link WeightedSamplerBuilder} object
+	 */
+	public static <T> WeightedSamplerBuilder<T> builder()
+	{
+		return new WeightedSamplerBuilder<>(new ArrayList<>(), new double[16], 0);
+	}
+
+	/**
+	 * Creates a new {@link WeightedSamplerBuilder} object with the items and weights of this
+	 * sampler
+	 *
+	 * @return the new {@link WeightedSamplerBuilder} object
+	 */
+	public WeightedSamplerBuilder<T> toBuilder()
+	{
+		return new WeightedSamplerBuilder<>(new ArrayList<>(items), weights.clone(),
+			weights.length);
+	}
+
+	/**
+	 * Gets the number of items
+	 *
+	 * @return the number of items
+	 */
+	public int size()
+	{
+		return weights.length;
+	}
+
+	/**
+	 * Gets the items
+	 *
+	 * @return the unmodifiable list of the items
+	 */
+	public List<T> getItems()
+	{
+		return items;
+	}
+
+	/**
+	 * Gets the weight of the item at the given index
+	 *
+	 * @param index
+	 *            the index of the item
+	 * @return the weight of the item
+	 */
+	public double getWeight(final int index)
+	{
+		return weights[index];
+	}
+
+	/**
+	 * Gets the total weight
+	 *
+	 * @return the total weight
+	 */
+	public double getTotalWeight()
+	{
+		return totalWeight;
+	}
+
+	/**
+	 * Gets the probability of the item at the given index
+	 *
+	 * @param index
+	 *            the index of the item
+	 * @return the probability of the item
+	 */
+	public double getProbability(final int index)
+	{
+		return weights[index] / totalWeight;
+	}
+
+	/**
+	 * Samples the index of an item from the given generator
+	 *
+	 * @param generator
+	 *            the generator
+	 * @return the index of the sampled item
+	 */
+	public int sampleIndex(final RandomGenerator generator)
+	{
+		final int column = generator.nextInt(probabilities.length);
+		return generator.nextDouble() < probabilities[column] ? column : aliases[column];
+	}
+
+	/**
+	 * Samples an item from the given generator
+	 *
+	 * @param generator
+	 *            the generator
+	 * @return the sampled item
+	 */
+	public T sample(final RandomGenerator generator)
+	{
+		return items.get(sampleIndex(generator));
+	}
+
+	/**
+	 * Samples an item from the {@link DefaultSecureRandom}
+	 *
+	 * @return the sampled item
+	 */
+	public T sample()
+	{
+		return sample(DefaultSecureRandom.get());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString()
+	{
+		return "WeightedSampler(size=" + weights.length + ", totalWeight=" + totalWeight + ")";
+	}
+
+	/**
+	 * The class {@link WeightedSamplerBuilder} collects items and weights for a
+	 * {@link WeightedSampler}. The weights are held in a primitive array, so single weights of a
+	 * large weight set can be changed and the sampler can be rebuilt in linear time without boxing
+	 *
+	 * @param <T>
+	 *            the type of the items
+	 */
+	public static final class WeightedSamplerBuilder<T>
+	{
+
+		/** The items */
+		private final List<T> items;
+
+		/** The weights, the array can be larger than the number of items */
+		private double[] weights;
+
+		/** The number of items */
+		private int size;
+
+		private WeightedSamplerBuilder(final List<T> items, final double[] weights, final int size)
+		{
+			this.items = items;
+			this.weights = weights;
+			this.size = size;
+		}
+
+		/**
+		 * Adds the given item with the given weight
+		 *
+		 * @param item
+		 *            the item
+		 * @param weight
+		 *            the weight of the item
+		 * @return this {@link WeightedSamplerBuilder} object. For chaining.
+		 */
+		public WeightedSamplerBuilder<T> add(final T item, final double weight)
+		{
+			if (size == weights.length)
+			{
+				weights = Arrays.copyOf(weights, Math.max(16, size + (size >> 1)));
+			}
+			items.add(item);
+			weights[size++] = weight;
+			return this;
+		}
+
+		/**
+		 * Sets the weight of the item at the given index
+		 *
+		 * @param index
+		 *            the index of the item
+		 * @param weight
+		 *            the new weight of the item
+		 * @return this {@link WeightedSamplerBuilder} object. For chaining.
+		 */
+		public WeightedSamplerBuilder<T> weight(final int index, final double weight)
+		{
+			Objects.checkIndex(index, size);
+			weights[index] = weight;
+			return this;
+		}
+
+		/**
+		 * Gets the number of items
+		 *
+		 * @return the number of items
+		 */
+		public int size()
+		{
+			return size;
+		}
+
+		/**
+		 * Builds the {@link WeightedSampler} object from the items and weights of this builder
+		 *
+		 * @return the new {@link WeightedSampler} object
+		 * @throws IllegalArgumentException
+		 *             if there is no item or a weight is invalid
+		 */
+		public WeightedSampler<T> build()
+		{
+			return new WeightedSampler<>(Collections.unmodifiableList(new ArrayList<>(items)),
+				Arrays.copyOf(weights, size));
+		}
+	}
+
+}
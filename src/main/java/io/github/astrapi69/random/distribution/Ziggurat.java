@@ -0,0 +1,207 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.distribution;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * The class {@link Ziggurat} samples standard normal and standard exponential values with the
+ * ziggurat method of Marsaglia and Tsang. The area under the density is covered with layers of
+ * equal area, a value is drawn from a random layer and accepted without any transcendental call
+ * if it falls into the inner rectangle of the layer, which is the case for more than 98 percent
+ * of the values. The layer index and the uniform value are taken from disjoint bits of one
+ * random long value.<br>
+ * <br>
+ * The tables are computed once when this class is loaded
+ */
+final class Ziggurat
+{
+
+	/** The number of layers of the normal ziggurat */
+	private static final int NORMAL_LAYERS = 128;
+
+	/** The start of the tail of the normal ziggurat */
+	private static final double NORMAL_R = 3.442619855899;
+
+	/** The area of one layer of the normal ziggurat */
+	private static final double NORMAL_V = 9.91256303526217e-3;
+
+	/** The number of layers of the exponential ziggurat */
+	private static final int EXPONENTIAL_LAYERS = 256;
+
+	/** The start of the tail of the exponential ziggurat */
+	private static final double EXPONENTIAL_R = 7.69711747013104972;
+
+	/** The area of one layer of the exponential ziggurat */
+	private static final double EXPONENTIAL_V = 3.949659822581572e-3;
+
+	/** The factor for convert the upper 53 bits of a long value to a double */
+	private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+	/** The right edges of the layers of the normal ziggurat */
+	private static final double[] NORMAL_X = new double[NORMAL_LAYERS + 1];
+
+	/** The density at the right edges of the layers of the normal ziggurat */
+	private static final double[] NORMAL_F = new double[NORMAL_LAYERS + 1];
+
+	/** The ratios of the inner rectangles of the layers of the normal ziggurat */
+	private static final double[] NORMAL_RATIO = new double[NORMAL_LAYERS];
+
+	/** The right edges of the layers of the exponential ziggurat */
+	private static final double[] EXPONENTIAL_X = new double[EXPONENTIAL_LAYERS + 1];
+
+	/** The density at the right edges of the layers of the exponential ziggurat */
+	private static final double[] EXPONENTIAL_F = new double[EXPONENTIAL_LAYERS + 1];
+
+	/** The ratios of the inner rectangles of the layers of the exponential ziggurat */
+	private static final double[] EXPONENTIAL_RATIO = new double[EXPONENTIAL_LAYERS];
+
+	static
+	{
+		NORMAL_X[0] = NORMAL_V / normalDensity(NORMAL_R);
+		NORMAL_X[1] = NORMAL_R;
+		for (int i = 2; i < NORMAL_LAYERS; i++)
+		{
+			NORMAL_X[i] = Math
+				.sqrt(-2.0 * Math.log(NORMAL_V / NORMAL_X[i - 1] + normalDensity(NORMAL_X[i - 1])));
+		}
+		NORMAL_X[NORMAL_LAYERS] = 0.0;
+		for (int i = 0; i <= NORMAL_LAYERS; i++)
+		{
+			NORMAL_F[i] = normalDensity(NORMAL_X[i]);
+		}
+		for (int i = 0; i < NORMAL_LAYERS; i++)
+		{
+			NORMAL_RATIO[i] = NORMAL_X[i + 1] / NORMAL_X[i];
+		}
+
+		EXPONENTIAL_X[0] = EXPONENTIAL_V / Math.exp(-EXPONENTIAL_R);
+		EXPONENTIAL_X[1] = EXPONENTIAL_R;
+		for (int i = 2; i < EXPONENTIAL_LAYERS; i++)
+		{
+			EXPONENTIAL_X[i] = -Math
+				.log(EXPONENTIAL_V / EXPONENTIAL_X[i - 1] + Math.exp(-EXPONENTIAL_X[i - 1]));
+		}
+		EXPONENTIAL_X[EXPONENTIAL_LAYERS] = 0.0;
+		for (int i = 0; i <= EXPONENTIAL_LAYERS; i++)
+		{
+			EXPONENTIAL_F[i] = Math.exp(-EXPONENTIAL_X[i]);
+		}
+		for (int i = 0; i < EXPONENTIAL_LAYERS; i++)
+		{
+			EXPONENTIAL_RATIO[i] = EXPONENTIAL_X[i + 1] / EXPONENTIAL_X[i];
+		}
+	}
+
+	private Ziggurat()
+	{
+	}
+
+	private static double normalDensity(final double x)
+	{
+		return Math.exp(-0.5 * x * x);
+	}
+
+	/**
+	 * Samples a standard normal value with the mean 0 and the standard deviation 1
+	 *
+	 * @param generator
+	 *            the generator
+	 * @return the standard normal value
+	 */
+	static double nextNormal(final RandomGenerator generator)
+	{
+		for (;;)
+		{
+			final long bits = generator.nextLong();
+			final int layer = (int)(bits & (NORMAL_LAYERS - 1));
+			final double u = 2.0 * ((bits >>> 11) * DOUBLE_UNIT) - 1.0;
+			if (Math.abs(u) < NORMAL_RATIO[layer])
+			{
+				return u * NORMAL_X[layer];
+			}
+			if (layer == 0)
+			{
+				return nextNormalTail(generator, u < 0.0);
+			}
+			final double x = u * NORMAL_X[layer];
+			final double y = NORMAL_F[layer]
+				+ generator.nextDouble() * (NORMAL_F[layer + 1] - NORMAL_F[layer]);
+			if (y < normalDensity(x))
+			{
+				return x;
+			}
+		}
+	}
+
+	private static double nextNormalTail(final RandomGenerator generator, final boolean negative)
+	{
+		double x;
+		double y;
+		do
+		{
+			x = Math.log(1.0 - generator.nextDouble()) / NORMAL_R;
+			y = Math.log(1.0 - generator.nextDouble());
+		}
+		while (-2.0 * y < x * x);
+		return negative ? x - NORMAL_R : NORMAL_R - x;
+	}
+
+	/**
+	 * Samples a standard exponential value with the rate 1
+	 *
+	 * @param generator
+	 *            the generator
+	 * @return the standard exponential value
+	 */
+	static double nextExponential(final RandomGenerator generator)
+	{
+		double tail = 0.0;
+		for (;;)
+		{
+			final long bits = generator.nextLong();
+			final int layer = (int)(bits & (EXPONENTIAL_LAYERS - 1));
+			final double u = (bits >>> 11) * DOUBLE_UNIT;
+			if (u < EXPONENTIAL_RATIO[layer])
+			{
+				return tail + u * EXPONENTIAL_X[layer];
+			}
+			if (layer == 0)
+			{
+				// the tail is again exponential, so it is sampled with a shifted ziggurat
+				tail += EXPONENTIAL_R;
+				continue;
+			}
+			final double x = u * EXPONENTIAL_X[layer];
+			final double y = EXPONENTIAL_F[layer]
+				+ generator.nextDouble() * (EXPONENTIAL_F[layer + 1] - EXPONENTIAL_F[layer]);
+			if (y < Math.exp(-x))
+			{
+				return tail + x;
+			}
+		}
+	}
+
+}
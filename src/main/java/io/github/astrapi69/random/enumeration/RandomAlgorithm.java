@@ -24,21 +24,77 @@
  */
 package io.github.astrapi69.random.enumeration;
 
+import io.github.astrapi69.random.metrics.RandomMetrics;
+import io.github.astrapi69.random.source.RandomSource;
+import io.github.astrapi69.random.source.RandomSourceFactory;
+
 /**
- * The enum {@link RandomAlgorithm} holds the algorithm for calculate random values
+ * The enum {@link RandomAlgorithm} holds the algorithm for calculate random values. Every
+ * algorithm describes the engine that is behind it, the engine can be obtained with the method
+ * {@link RandomAlgorithm#getRandomSource()}. The engines are cached per thread and are seeded once
+ * on first access of a thread
  */
 public enum RandomAlgorithm
 {
 
 	/** The algorithm with <code>Math#abs</code> method */
-	MATH_ABS,
+	MATH_ABS(RandomSourceFactory.SECURE_RANDOM),
 
 	/** The algorithm with <code>Math#random</code> method */
-	MATH_RANDOM,
+	MATH_RANDOM(RandomSourceFactory.RANDOM),
 
 	/** The algorithm with <code>Random</code> class */
-	RANDOM,
+	RANDOM(RandomSourceFactory.RANDOM),
 
 	/** The algorithm with <code>SecureRandom</code> class */
-	SECURE_RANDOM;
+	SECURE_RANDOM(RandomSourceFactory.SECURE_RANDOM),
+
+	/** The algorithm with <code>SplittableRandom</code> class */
+	SPLITTABLE(RandomSourceFactory.SPLITTABLE_RANDOM),
+
+	/** The algorithm with the xoshiro256** engine */
+	XOSHIRO(RandomSourceFactory.XOSHIRO_256_STAR_STAR),
+
+	/** The algorithm with the <code>L64X128MixRandom</code> engine */
+	L64X128_MIX(RandomSourceFactory.L64X128_MIX_RANDOM);
+
+	/** The name of the engine */
+	private final String engine;
+
+	/** The engine per thread */
+	private final ThreadLocal<RandomSource> randomSource;
+
+	/**
+	 * Instantiates a new {@link RandomAlgorithm}
+	 *
+	 * @param engine
+	 *            the name of the engine
+	 */
+	RandomAlgorithm(final String engine)
+	{
+		this.engine = engine;
+		this.randomSource = ThreadLocal
+			.withInitial(() -> RandomMetrics
+				.meterRandomSource(RandomSourceFactory.newRandomSource(engine)));
+	}
+
+	/**
+	 * Gets the name of the engine
+	 *
+	 * @return the name of the engine
+	 */
+	public String getEngine()
+	{
+		return engine;
+	}
+
+	/**
+	 * Gets the engine of this algorithm for the current thread
+	 *
+	 * @return the engine of this algorithm for the current thread
+	 */
+	public RandomSource getRandomSource()
+	{
+		return randomSource.get();
+	}
 }
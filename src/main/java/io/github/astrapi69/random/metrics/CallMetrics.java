@@ -0,0 +1,156 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The class {@link CallMetrics} holds the number of calls and the latency histogram of one
+ * factory method. The histogram has one bucket for every power of two of nanoseconds, so a
+ * percentile is reported as the upper bound of its bucket
+ */
+public final class CallMetrics
+{
+
+	/** The number of buckets of the latency histogram */
+	public static final int BUCKET_COUNT = Long.SIZE;
+
+	/** The number of calls */
+	private final LongAdder count = new LongAdder();
+
+	/** The sum of the latencies in nanoseconds */
+	private final LongAdder totalNanos = new LongAdder();
+
+	/** The latency histogram, bucket i counts the latencies below 2^i nanoseconds */
+	private final AtomicLongArray histogram = new AtomicLongArray(BUCKET_COUNT);
+
+	CallMetrics()
+	{
+	}
+
+	void record(final long nanos)
+	{
+		final long latency = Math.max(0L, nanos);
+		count.increment();
+		totalNanos.add(latency);
+		histogram.incrementAndGet(
+			Math.min(BUCKET_COUNT - 1, Long.SIZE - Long.numberOfLeadingZeros(latency)));
+	}
+
+	void reset()
+	{
+		count.reset();
+		totalNanos.reset();
+		for (int i = 0; i < BUCKET_COUNT; i++)
+		{
+			histogram.set(i, 0L);
+		}
+	}
+
+	/**
+	 * Gets the number of calls
+	 *
+	 * @return the number of calls
+	 */
+	public long getCount()
+	{
+		return count.sum();
+	}
+
+	/**
+	 * Gets the sum of the latencies in nanoseconds
+	 *
+	 * @return the sum of the latencies in nanoseconds
+	 */
+	public long getTotalNanos()
+	{
+		return totalNanos.sum();
+	}
+
+	/**
+	 * Gets the mean latency in nanoseconds
+	 *
+	 * @return the mean latency in nanoseconds or 0 if there was no call
+	 */
+	public double getMeanNanos()
+	{
+		final long calls = getCount();
+		return calls == 0 ? 0d : (double)getTotalNanos() / calls;
+	}
+
+	/**
+	 * Gets a copy of the latency histogram, the value at index i is the number of calls with a
+	 * latency of at least 2^(i-1) and less than 2^i nanoseconds
+	 *
+	 * @return the latency histogram
+	 */
+	public long[] getHistogram()
+	{
+		final long[] copy = new long[BUCKET_COUNT];
+		for (int i = 0; i < BUCKET_COUNT; i++)
+		{
+			copy[i] = histogram.get(i);
+		}
+		return copy;
+	}
+
+	/**
+	 * Gets the upper bound in nanoseconds of the bucket that contains the given percentile
+	 *
+	 * @param percentile
+	 *            the percentile between 0 exclusive and 100 inclusive
+	 * @return the upper bound of the latency in nanoseconds or 0 if there was no call
+	 */
+	public long getPercentileNanos(final double percentile)
+	{
+		if (!(0d < percentile && percentile <= 100d))
+		{
+			throw new IllegalArgumentException("percentile must be in (0, 100]: " + percentile);
+		}
+		final long[] buckets = getHistogram();
+		long total = 0L;
+		for (final long bucket : buckets)
+		{
+			total += bucket;
+		}
+		if (total == 0L)
+		{
+			return 0L;
+		}
+		final long rank = (long)Math.ceil(total * percentile / 100d);
+		long seen = 0L;
+		for (int i = 0; i < BUCKET_COUNT; i++)
+		{
+			seen += buckets[i];
+			if (rank <= seen)
+			{
+				return i == BUCKET_COUNT - 1 ? Long.MAX_VALUE : 1L << i;
+			}
+		}
+		return Long.MAX_VALUE;
+	}
+
+}
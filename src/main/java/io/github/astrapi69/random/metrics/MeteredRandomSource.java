@@ -0,0 +1,83 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.metrics;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.github.astrapi69.random.source.RandomSource;
+
+/**
+ * The class {@link MeteredRandomSource} decorates a {@link RandomSource} and counts the bytes that
+ * are drawn from it. Only the 32-bit and 64-bit draws are passed to the decorated random source,
+ * all other values are derived from them by the default methods of the interface
+ * {@link java.util.random.RandomGenerator}, so every draw is counted with its real size including
+ * the draws that are rejected by the bounded methods
+ */
+final class MeteredRandomSource implements RandomSource
+{
+
+	/** The decorated random source */
+	private final RandomSource randomSource;
+
+	/** The counter of the drawn bytes */
+	private final LongAdder bytesDrawn;
+
+	MeteredRandomSource(final RandomSource randomSource, final LongAdder bytesDrawn)
+	{
+		this.randomSource = Objects.requireNonNull(randomSource);
+		this.bytesDrawn = Objects.requireNonNull(bytesDrawn);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String getAlgorithm()
+	{
+		return randomSource.getAlgorithm();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int nextInt()
+	{
+		bytesDrawn.add(Integer.BYTES);
+		return randomSource.nextInt();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long nextLong()
+	{
+		bytesDrawn.add(Long.BYTES);
+		return randomSource.nextLong();
+	}
+
+}
@@ -0,0 +1,110 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.metrics;
+
+import java.security.SecureRandom;
+import java.security.SecureRandomSpi;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+import io.github.astrapi69.random.source.RandomSource;
+
+/**
+ * The class {@link MeteredSecureRandom} decorates a {@link SecureRandom} and counts the bytes that
+ * are drawn from it. All values of a {@link SecureRandom} are built from the bytes of
+ * {@link SecureRandom#nextBytes(byte[])}, so only this method is counted and every draw is counted
+ * with its real size including the draws that are rejected by the bounded methods
+ */
+final class MeteredSecureRandom extends SecureRandom implements RandomSource
+{
+
+	private static final long serialVersionUID = 1L;
+
+	/** The decorated secure random */
+	private final SecureRandom secureRandom;
+
+	/** The counter of the drawn bytes */
+	private final transient LongAdder bytesDrawn;
+
+	MeteredSecureRandom(final SecureRandom secureRandom, final LongAdder bytesDrawn)
+	{
+		super(new DelegatingSecureRandomSpi(secureRandom), secureRandom.getProvider());
+		this.secureRandom = secureRandom;
+		this.bytesDrawn = Objects.requireNonNull(bytesDrawn);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String getAlgorithm()
+	{
+		return secureRandom.getAlgorithm();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void nextBytes(final byte[] bytes)
+	{
+		bytesDrawn.add(bytes.length);
+		secureRandom.nextBytes(bytes);
+	}
+
+	/**
+	 * The class {@link DelegatingSecureRandomSpi} delegates the seed handling to the decorated
+	 * secure random
+	 */
+	private static final class DelegatingSecureRandomSpi extends SecureRandomSpi
+	{
+		private static final long serialVersionUID = 1L;
+
+		private final SecureRandom secureRandom;
+
+		DelegatingSecureRandomSpi(final SecureRandom secureRandom)
+		{
+			this.secureRandom = Objects.requireNonNull(secureRandom);
+		}
+
+		@Override
+		protected byte[] engineGenerateSeed(final int numBytes)
+		{
+			return secureRandom.generateSeed(numBytes);
+		}
+
+		@Override
+		protected void engineNextBytes(final byte[] bytes)
+		{
+			secureRandom.nextBytes(bytes);
+		}
+
+		@Override
+		protected void engineSetSeed(final byte[] seed)
+		{
+			secureRandom.setSeed(seed);
+		}
+	}
+}
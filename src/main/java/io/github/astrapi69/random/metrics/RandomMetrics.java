@@ -0,0 +1,223 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.security.SecureRandom;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+
+import io.github.astrapi69.random.source.RandomSource;
+
+/**
+ * The class {@link RandomMetrics} is the optional instrumentation of the random factories. It
+ * counts the calls and the latency of the factory methods and the bytes that are drawn from the
+ * engines. The instrumentation is enabled with the system property {@value #ENABLED_PROPERTY},
+ * the property is read once when this class is loaded. If it is disabled the factory methods only
+ * check a constant and nothing is allocated or counted.<br>
+ * <br>
+ * Every public factory method that draws from the default engines is metered, the overloads with
+ * a given random generator or a given seed are not. If a metered factory method calls another
+ * metered factory method only the outer call is counted, so the call counts sum up to the calls
+ * of the application.<br>
+ * <br>
+ * The metrics can be pulled with the methods of this class or over the platform MBean with the
+ * name {@value #OBJECT_NAME}
+ */
+public final class RandomMetrics
+{
+
+	/** The name of the system property that enables the instrumentation */
+	public static final String ENABLED_PROPERTY = "randomizer.metrics";
+
+	/** The object name of the platform MBean */
+	public static final String OBJECT_NAME = "io.github.astrapi69.random:type=RandomMetrics";
+
+	/** The flag if the instrumentation is enabled */
+	public static final boolean ENABLED = Boolean.getBoolean(ENABLED_PROPERTY);
+
+	/** The metrics of the factory methods */
+	private static final ConcurrentMap<String, CallMetrics> callMetrics = new ConcurrentHashMap<>();
+
+	/** The number of the drawn bytes of the engines */
+	private static final ConcurrentMap<String, LongAdder> bytesDrawn = new ConcurrentHashMap<>();
+
+	/** The nesting depth of the metered calls of the current thread */
+	private static final ThreadLocal<int[]> callDepth = ENABLED
+		? ThreadLocal.withInitial(() -> new int[1])
+		: null;
+
+	static
+	{
+		if (ENABLED)
+		{
+			try
+			{
+				ManagementFactory.getPlatformMBeanServer()
+					.registerMBean(new RandomMetricsBean(), new ObjectName(OBJECT_NAME));
+			}
+			catch (final JMException e)
+			{
+				throw new IllegalStateException("Could not register the MBean " + OBJECT_NAME, e);
+			}
+		}
+	}
+
+	private RandomMetrics()
+	{
+	}
+
+	/**
+	 * Starts the measurement of a call. Every call of this method has to be followed by a call of
+	 * the method {@link #stop(String, long)} in a finally block
+	 *
+	 * @return the start time in nanoseconds or 0 if the instrumentation is disabled
+	 */
+	public static long start()
+	{
+		if (!ENABLED)
+		{
+			return 0L;
+		}
+		callDepth.get()[0]++;
+		return System.nanoTime();
+	}
+
+	/**
+	 * Stops the measurement of a call of the factory method with the given name. The call is only
+	 * recorded if it is not nested in another metered call
+	 *
+	 * @param name
+	 *            the name of the factory method
+	 * @param start
+	 *            the start time from {@link #start()}
+	 */
+	public static void stop(final String name, final long start)
+	{
+		if (ENABLED && --callDepth.get()[0] == 0)
+		{
+			getCallMetrics(name).record(System.nanoTime() - start);
+		}
+	}
+
+	/**
+	 * Decorates the given secure random, so the drawn bytes are counted. If the instrumentation is
+	 * disabled the given secure random is returned
+	 *
+	 * @param secureRandom
+	 *            the secure random
+	 * @return the decorated secure random or the given one if the instrumentation is disabled
+	 */
+	public static SecureRandom meterSecureRandom(final SecureRandom secureRandom)
+	{
+		if (!ENABLED || secureRandom instanceof MeteredSecureRandom)
+		{
+			return secureRandom;
+		}
+		return new MeteredSecureRandom(secureRandom, getBytesDrawnCounter(
+			secureRandom instanceof RandomSource
+				? ((RandomSource)secureRandom).getAlgorithm()
+				: secureRandom.getAlgorithm()));
+	}
+
+	/**
+	 * Decorates the given random source, so the drawn bytes are counted. If the instrumentation is
+	 * disabled the given random source is returned
+	 *
+	 * @param randomSource
+	 *            the random source
+	 * @return the decorated random source or the given one if the instrumentation is disabled
+	 */
+	public static RandomSource meterRandomSource(final RandomSource randomSource)
+	{
+		if (!ENABLED || randomSource instanceof MeteredRandomSource
+			|| randomSource instanceof MeteredSecureRandom)
+		{
+			return randomSource;
+		}
+		if (randomSource instanceof SecureRandom)
+		{
+			return (RandomSource)meterSecureRandom((SecureRandom)randomSource);
+		}
+		return new MeteredRandomSource(randomSource,
+			getBytesDrawnCounter(randomSource.getAlgorithm()));
+	}
+
+	/**
+	 * Gets the metrics of the factory method with the given name
+	 *
+	 * @param name
+	 *            the name of the factory method
+	 * @return the metrics of the factory method
+	 */
+	public static CallMetrics getCallMetrics(final String name)
+	{
+		return callMetrics.computeIfAbsent(name, key -> new CallMetrics());
+	}
+
+	/**
+	 * Gets the metrics of all called factory methods sorted by the name
+	 *
+	 * @return the metrics of all called factory methods
+	 */
+	public static Map<String, CallMetrics> getCallMetrics()
+	{
+		return Collections.unmodifiableMap(new TreeMap<>(callMetrics));
+	}
+
+	/**
+	 * Gets the number of the drawn bytes of all engines sorted by the name of the engine
+	 *
+	 * @return the number of the drawn bytes of all engines
+	 */
+	public static Map<String, Long> getBytesDrawn()
+	{
+		final Map<String, Long> result = new TreeMap<>();
+		bytesDrawn.forEach((engine, counter) -> result.put(engine, counter.sum()));
+		return Collections.unmodifiableMap(result);
+	}
+
+	/**
+	 * Resets all metrics
+	 */
+	public static void reset()
+	{
+		callMetrics.values().forEach(CallMetrics::reset);
+		bytesDrawn.values().forEach(LongAdder::reset);
+	}
+
+	static LongAdder getBytesDrawnCounter(final String engine)
+	{
+		return bytesDrawn.computeIfAbsent(engine, key -> new LongAdder());
+	}
+
+}
@@ -0,0 +1,90 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.metrics;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * The class {@link RandomMetricsBean} is the platform MBean that exposes the {@link RandomMetrics}
+ */
+final class RandomMetricsBean implements RandomMetricsMXBean
+{
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Map<String, Long> getCallCounts()
+	{
+		final Map<String, Long> result = new TreeMap<>();
+		RandomMetrics.getCallMetrics().forEach((name, metrics) -> result.put(name,
+			metrics.getCount()));
+		return result;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Map<String, Double> getMeanLatencyNanos()
+	{
+		final Map<String, Double> result = new TreeMap<>();
+		RandomMetrics.getCallMetrics().forEach((name, metrics) -> result.put(name,
+			metrics.getMeanNanos()));
+		return result;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Map<String, Long> getP99LatencyNanos()
+	{
+		final Map<String, Long> result = new TreeMap<>();
+		RandomMetrics.getCallMetrics().forEach((name, metrics) -> result.put(name,
+			metrics.getPercentileNanos(99d)));
+		return result;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public Map<String, Long> getBytesDrawn()
+	{
+		return new TreeMap<>(RandomMetrics.getBytesDrawn());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void reset()
+	{
+		RandomMetrics.reset();
+	}
+
+}
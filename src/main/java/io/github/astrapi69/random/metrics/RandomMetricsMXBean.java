@@ -0,0 +1,70 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.metrics;
+
+import java.util.Map;
+
+/**
+ * The interface {@link RandomMetricsMXBean} is the management interface of the platform MBean of
+ * the {@link RandomMetrics}
+ */
+public interface RandomMetricsMXBean
+{
+
+	/**
+	 * Gets the number of calls of the factory methods
+	 *
+	 * @return the number of calls by the name of the factory method
+	 */
+	Map<String, Long> getCallCounts();
+
+	/**
+	 * Gets the mean latency of the factory methods in nanoseconds
+	 *
+	 * @return the mean latency by the name of the factory method
+	 */
+	Map<String, Double> getMeanLatencyNanos();
+
+	/**
+	 * Gets the upper bound of the 99th percentile of the latency of the factory methods in
+	 * nanoseconds
+	 *
+	 * @return the 99th percentile of the latency by the name of the factory method
+	 */
+	Map<String, Long> getP99LatencyNanos();
+
+	/**
+	 * Gets the number of the drawn bytes of the engines
+	 *
+	 * @return the number of the drawn bytes by the name of the engine
+	 */
+	Map<String, Long> getBytesDrawn();
+
+	/**
+	 * Resets all metrics
+	 */
+	void reset();
+
+}
@@ -0,0 +1,77 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.number;
+
+import java.security.SecureRandom;
+import java.util.random.RandomGenerator;
+
+import io.github.astrapi69.random.source.BufferedSecureRandom;
+import io.github.astrapi69.random.source.RandomGeneratorSource;
+
+/**
+ * Utility class for the bulk generation of random values
+ *
+ * @version 1.0
+ * @author Asterios Raptis
+ */
+final class BulkRandomGenerators
+{
+
+	/** The minimum number of bytes for that a secure random is buffered */
+	static final int MIN_BUFFERED_BYTES = 64;
+
+	private BulkRandomGenerators()
+	{
+	}
+
+	/**
+	 * Gets the generator for the bulk generation of the given number of random bytes. A plain
+	 * {@link SecureRandom} is decorated with a {@link BufferedSecureRandom} so the bytes are drawn
+	 * with a few large synchronized calls instead of one call for every value. A
+	 * {@link RandomGeneratorSource} is unwrapped before, so a wrapped {@link SecureRandom} is
+	 * buffered too. All other generators are returned as they are
+	 *
+	 * @param generator
+	 *            the generator
+	 * @param byteCount
+	 *            the number of random bytes that will be consumed
+	 * @return the generator for the bulk generation
+	 */
+	static RandomGenerator of(final RandomGenerator generator, final long byteCount)
+	{
+		final RandomGenerator unwrapped = generator instanceof RandomGeneratorSource
+			? ((RandomGeneratorSource)generator).getGenerator()
+			: generator;
+		if (unwrapped instanceof SecureRandom && !(unwrapped instanceof BufferedSecureRandom)
+			&& MIN_BUFFERED_BYTES <= byteCount)
+		{
+			final int blockSize = (int)Math.min(byteCount,
+				BufferedSecureRandom.DEFAULT_BLOCK_SIZE - Long.BYTES) + Long.BYTES;
+			return new BufferedSecureRandom((SecureRandom)unwrapped, blockSize, false);
+		}
+		return generator;
+	}
+
+}
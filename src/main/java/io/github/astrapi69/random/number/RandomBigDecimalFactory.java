@@ -28,6 +28,8 @@ import java.math.BigDecimal;
 import java.security.SecureRandom;
 
 import io.github.astrapi69.random.DefaultSecureRandom;
+import io.github.astrapi69.random.metrics.RandomMetrics;
+import io.github.astrapi69.random.source.RandomSource;
 
 /**
  * Utility class for producing random BigDecimal types
@@ -62,7 +64,15 @@ public final class RandomBigDecimalFactory
 	 */
 	public static BigDecimal randomBigDecimal()
 	{
-		return randomBigDecimal(DefaultSecureRandom.get());
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return randomBigDecimal(DefaultSecureRandom.get());
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomBigDecimalFactory#randomBigDecimal()", startNanos);
+		}
 	}
 
 	/**
@@ -76,14 +86,35 @@ public final class RandomBigDecimalFactory
 	 */
 	public static BigDecimal randomBigDecimal(final int afterComma, final int beforeComma)
 	{
-		String randomFloatString;
-		do
+		final long startNanos = RandomMetrics.start();
+		try
 		{
-			randomFloatString = RandomNumberExtensions.getRandomNumberString(afterComma,
-				beforeComma);
+			String randomFloatString;
+			do
+			{
+				randomFloatString = RandomNumberExtensions.getRandomNumberString(afterComma,
+					beforeComma);
+			}
+			while (randomFloatString.equals("."));
+			return new BigDecimal(randomFloatString);
 		}
-		while (randomFloatString.equals("."));
-		return new BigDecimal(randomFloatString);
+		finally
+		{
+			RandomMetrics.stop("RandomBigDecimalFactory#randomBigDecimal(int, int)", startNanos);
+		}
+	}
+
+	/**
+	 * Generates a random {@link BigDecimal}
+	 *
+	 * @param randomSource
+	 *            the random source for generation
+	 * @return the random {@link BigDecimal}
+	 */
+	public static BigDecimal randomBigDecimal(RandomSource randomSource)
+	{
+		BigDecimal bigDecimal = BigDecimal.valueOf(RandomDoubleFactory.randomDouble(randomSource));
+		return bigDecimal;
 	}
 
 }
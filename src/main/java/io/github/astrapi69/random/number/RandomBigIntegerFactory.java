@@ -26,8 +26,11 @@ package io.github.astrapi69.random.number;
 
 import java.math.BigInteger;
 import java.security.SecureRandom;
+import java.util.Objects;
 
 import io.github.astrapi69.random.DefaultSecureRandom;
+import io.github.astrapi69.random.metrics.RandomMetrics;
+import io.github.astrapi69.random.source.RandomSource;
 
 /**
  * Utility class for producing random BigInteger types
@@ -49,7 +52,15 @@ public final class RandomBigIntegerFactory
 	 */
 	public static BigInteger randomBigInteger()
 	{
-		return randomBigInteger(DefaultSecureRandom.get());
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return randomBigInteger(DefaultSecureRandom.get());
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomBigIntegerFactory#randomBigInteger()", startNanos);
+		}
 	}
 
 	/**
@@ -71,7 +82,15 @@ public final class RandomBigIntegerFactory
 	 */
 	public static BigInteger randomSerialNumber()
 	{
-		return randomSerialNumber(DefaultSecureRandom.get());
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return randomSerialNumber(DefaultSecureRandom.get());
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomBigIntegerFactory#randomSerialNumber()", startNanos);
+		}
 	}
 
 	/**
@@ -92,4 +111,43 @@ public final class RandomBigIntegerFactory
 		return serialNumber;
 	}
 
+	/**
+	 * Generates a random {@link BigInteger}
+	 *
+	 * @param randomSource
+	 *            the random source for generation
+	 * @return the random {@link BigInteger}
+	 */
+	public static BigInteger randomBigInteger(RandomSource randomSource)
+	{
+		Objects.requireNonNull(randomSource);
+		final int numBits = RandomIntFactory.randomInt(180, randomSource);
+		final byte[] magnitude = new byte[(numBits + 7) / 8];
+		randomSource.nextBytes(magnitude);
+		if (0 < magnitude.length)
+		{
+			// clear the excess bits of the most significant byte
+			magnitude[0] &= (byte)(0xFF >>> (8 * magnitude.length - numBits));
+		}
+		return new BigInteger(1, magnitude);
+	}
+
+	/**
+	 * Returns a random serial number that can be used for a serial number.
+	 *
+	 * @param randomSource
+	 *            the random source for generation
+	 * @return a random serial number as a {@link BigInteger} object.
+	 */
+	public static BigInteger randomSerialNumber(RandomSource randomSource)
+	{
+		long next = Objects.requireNonNull(randomSource).nextLong();
+		if (next < 0)
+		{
+			next = next * (-1);
+		}
+		final BigInteger serialNumber = BigInteger.valueOf(next);
+		return serialNumber;
+	}
+
 }
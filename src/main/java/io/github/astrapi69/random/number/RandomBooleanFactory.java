@@ -27,8 +27,10 @@ package io.github.astrapi69.random.number;
 import java.security.SecureRandom;
 import java.util.Objects;
 
-import io.github.astrapi69.random.DefaultSecureRandom;
+import io.github.astrapi69.random.Randomizer;
 import io.github.astrapi69.random.enumeration.RandomAlgorithm;
+import io.github.astrapi69.random.metrics.RandomMetrics;
+import io.github.astrapi69.random.source.RandomSource;
 
 /**
  * Utility class for producing random primitive boolean types
@@ -50,7 +52,15 @@ public final class RandomBooleanFactory
 	 */
 	public static boolean randomBoolean()
 	{
-		return randomBoolean(DefaultSecureRandom.get());
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return Randomizer.getDefault().randomBoolean();
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomBooleanFactory#randomBoolean()", startNanos);
+		}
 	}
 
 	/**
@@ -67,4 +77,18 @@ public final class RandomBooleanFactory
 			Objects.requireNonNull(secureRandom)) == 0;
 	}
 
+	/**
+	 * Returns a random boolean.
+	 *
+	 * @param randomSource
+	 *            the random source for boolean generation
+	 *
+	 * @return The random boolean.
+	 */
+	public static boolean randomBoolean(RandomSource randomSource)
+	{
+		return RandomIntFactory.randomInt(2, RandomAlgorithm.SECURE_RANDOM,
+			Objects.requireNonNull(randomSource)) == 0;
+	}
+
 }
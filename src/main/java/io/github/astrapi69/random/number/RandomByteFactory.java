@@ -24,11 +24,19 @@
  */
 package io.github.astrapi69.random.number;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.security.SecureRandom;
 import java.util.Objects;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
 
 import io.github.astrapi69.random.DefaultSecureRandom;
 import io.github.astrapi69.random.enumeration.RandomAlgorithm;
+import io.github.astrapi69.random.metrics.RandomMetrics;
+import io.github.astrapi69.random.source.RandomSource;
 
 /**
  * Utility class for producing random primitive byte types
@@ -39,6 +47,15 @@ import io.github.astrapi69.random.enumeration.RandomAlgorithm;
 public final class RandomByteFactory
 {
 
+	/** The maximum size of the chunks that are drawn from a secure random for a slice */
+	private static final int CHUNK_SIZE = 8 * 1024;
+
+	/** The size of the chunks that are filled in parallel */
+	private static final int PARALLEL_CHUNK_SIZE = 1024 * 1024;
+
+	private static final VarHandle LONG_VIEW = MethodHandles
+		.byteArrayViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
 	private RandomByteFactory()
 	{
 	}
@@ -50,7 +67,15 @@ public final class RandomByteFactory
 	 */
 	public static byte randomByte()
 	{
-		return randomByte(DefaultSecureRandom.get());
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return randomByte(DefaultSecureRandom.get());
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomByteFactory#randomByte()", startNanos);
+		}
 	}
 
 	/**
@@ -63,7 +88,7 @@ public final class RandomByteFactory
 	 */
 	public static byte randomByte(SecureRandom secureRandom)
 	{
-		return (byte)RandomIntFactory.randomInt(255, RandomAlgorithm.SECURE_RANDOM,
+		return (byte)RandomIntFactory.randomInt(256, RandomAlgorithm.SECURE_RANDOM,
 			Objects.requireNonNull(secureRandom));
 	}
 
@@ -76,7 +101,15 @@ public final class RandomByteFactory
 	 */
 	public static byte[] randomByteArray(final int length)
 	{
-		return randomByteArray(length, DefaultSecureRandom.get());
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return randomByteArray(length, DefaultSecureRandom.get());
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomByteFactory#randomByteArray(int)", startNanos);
+		}
 	}
 
 	/**
@@ -92,20 +125,306 @@ public final class RandomByteFactory
 	{
 		Objects.requireNonNull(secureRandom);
 		final byte[] randomByteArray = new byte[length];
-		final byte[] randomByteBox = new byte[1];
-		for (int i = 0; i < length; i++)
+		secureRandom.nextBytes(randomByteArray);
+		return randomByteArray;
+	}
+
+	/**
+	 * The Method randomByte() selects a random byte.
+	 *
+	 * @param randomSource
+	 *            the random source for byte generation
+	 *
+	 * @return The random byte.
+	 */
+	public static byte randomByte(RandomSource randomSource)
+	{
+		return (byte)RandomIntFactory.randomInt(256, RandomAlgorithm.SECURE_RANDOM,
+			Objects.requireNonNull(randomSource));
+	}
+
+	/**
+	 * The Method randomByteArray(int) generates a random byte array.
+	 *
+	 * @param length
+	 *            the length
+	 * @param randomSource
+	 *            the random source for byte generation
+	 * @return the byte[]
+	 */
+	public static byte[] randomByteArray(final int length, RandomSource randomSource)
+	{
+		Objects.requireNonNull(randomSource);
+		final byte[] randomByteArray = new byte[length];
+		randomSource.nextBytes(randomByteArray);
+		return randomByteArray;
+	}
+
+	/**
+	 * Fills the given array with random bytes
+	 *
+	 * @param array
+	 *            the array to fill
+	 */
+	public static void fill(final byte[] array)
+	{
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			fill(array, DefaultSecureRandom.get());
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomByteFactory#fill(byte[])", startNanos);
+		}
+	}
+
+	/**
+	 * Fills the given array with random bytes
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param secureRandom
+	 *            the secure random for byte generation
+	 */
+	public static void fill(final byte[] array, SecureRandom secureRandom)
+	{
+		Objects.requireNonNull(array);
+		fill(array, 0, array.length, secureRandom);
+	}
+
+	/**
+	 * Fills the given array with random bytes
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param randomSource
+	 *            the random source for byte generation
+	 */
+	public static void fill(final byte[] array, RandomSource randomSource)
+	{
+		Objects.requireNonNull(array);
+		fill(array, 0, array.length, randomSource);
+	}
+
+	/**
+	 * Fills the given range of the given array with random bytes
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param offset
+	 *            the index of the first element to fill
+	 * @param length
+	 *            the number of elements to fill
+	 * @param secureRandom
+	 *            the secure random for byte generation
+	 */
+	public static void fill(final byte[] array, final int offset, final int length,
+		SecureRandom secureRandom)
+	{
+		Objects.requireNonNull(array);
+		Objects.requireNonNull(secureRandom);
+		Objects.checkFromIndexSize(offset, length, array.length);
+		nextBytes(array, offset, length, secureRandom);
+	}
+
+	/**
+	 * Fills the given range of the given array with random bytes
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param offset
+	 *            the index of the first element to fill
+	 * @param length
+	 *            the number of elements to fill
+	 * @param randomSource
+	 *            the random source for byte generation
+	 */
+	public static void fill(final byte[] array, final int offset, final int length,
+		RandomSource randomSource)
+	{
+		Objects.requireNonNull(array);
+		Objects.requireNonNull(randomSource);
+		Objects.checkFromIndexSize(offset, length, array.length);
+		nextBytes(array, offset, length, randomSource);
+	}
+
+	/**
+	 * Fills the remaining bytes of the given buffer with random bytes, after this call the
+	 * position of the buffer is equal to its limit
+	 *
+	 * @param buffer
+	 *            the buffer to fill
+	 */
+	public static void fill(final ByteBuffer buffer)
+	{
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			fill(buffer, DefaultSecureRandom.get());
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomByteFactory#fill(ByteBuffer)", startNanos);
+		}
+	}
+
+	/**
+	 * Fills the remaining bytes of the given buffer with random bytes, after this call the
+	 * position of the buffer is equal to its limit
+	 *
+	 * @param buffer
+	 *            the buffer to fill
+	 * @param secureRandom
+	 *            the secure random for byte generation
+	 */
+	public static void fill(final ByteBuffer buffer, SecureRandom secureRandom)
+	{
+		Objects.requireNonNull(buffer);
+		Objects.requireNonNull(secureRandom);
+		nextBytes(buffer, secureRandom);
+	}
+
+	/**
+	 * Fills the remaining bytes of the given buffer with random bytes, after this call the
+	 * position of the buffer is equal to its limit
+	 *
+	 * @param buffer
+	 *            the buffer to fill
+	 * @param randomSource
+	 *            the random source for byte generation
+	 */
+	public static void fill(final ByteBuffer buffer, RandomSource randomSource)
+	{
+		Objects.requireNonNull(buffer);
+		Objects.requireNonNull(randomSource);
+		nextBytes(buffer, randomSource);
+	}
+
+	/**
+	 * Fills the remaining bytes of the given buffer with random bytes in parallel. The buffer is
+	 * split in chunks that are filled on the threads of the common fork join pool, every thread
+	 * draws from its own instance of {@link DefaultSecureRandom}. After this call the position of
+	 * the buffer is equal to its limit
+	 *
+	 * @param buffer
+	 *            the buffer to fill
+	 */
+	public static void parallelFill(final ByteBuffer buffer)
+	{
+		final long startNanos = RandomMetrics.start();
+		try
 		{
-			if (RandomBooleanFactory.randomBoolean(secureRandom))
+			parallelFill(buffer, RandomAlgorithm.SECURE_RANDOM);
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomByteFactory#parallelFill(ByteBuffer)", startNanos);
+		}
+	}
+
+	/**
+	 * Fills the remaining bytes of the given buffer with random bytes in parallel. The buffer is
+	 * split in chunks that are filled on the threads of the common fork join pool, every thread
+	 * draws from its own engine of the given random algorithm. After this call the position of
+	 * the buffer is equal to its limit
+	 *
+	 * @param buffer
+	 *            the buffer to fill
+	 * @param algorithm
+	 *            the random algorithm
+	 */
+	public static void parallelFill(final ByteBuffer buffer, final RandomAlgorithm algorithm)
+	{
+		Objects.requireNonNull(buffer);
+		Objects.requireNonNull(algorithm);
+		final ByteBuffer region = buffer.slice();
+		final int size = region.remaining();
+		final int chunkCount = (int)(((long)size + PARALLEL_CHUNK_SIZE - 1) / PARALLEL_CHUNK_SIZE);
+		IntStream.range(0, chunkCount).parallel().forEach(chunk -> {
+			final int offset = chunk * PARALLEL_CHUNK_SIZE;
+			final int length = Math.min(PARALLEL_CHUNK_SIZE, size - offset);
+			final RandomGenerator generator = algorithm == RandomAlgorithm.SECURE_RANDOM
+				? DefaultSecureRandom.get()
+				: algorithm.getRandomSource();
+			nextBytes(region.slice(offset, length), generator);
+		});
+		buffer.position(buffer.limit());
+	}
+
+	private static void nextBytes(final byte[] array, final int offset, final int length,
+		final RandomGenerator generator)
+	{
+		if (offset == 0 && length == array.length)
+		{
+			generator.nextBytes(array);
+			return;
+		}
+		final int end = offset + length;
+		int position = offset;
+		if (generator instanceof SecureRandom)
+		{
+			// a secure random can only fill whole arrays, so draw chunks and copy them
+			final byte[] chunk = new byte[Math.min(length, CHUNK_SIZE)];
+			while (position < end)
 			{
-				randomByteArray[i] = randomByte(secureRandom);
+				final int count = Math.min(chunk.length, end - position);
+				generator.nextBytes(chunk);
+				System.arraycopy(chunk, 0, array, position, count);
+				position += count;
 			}
-			else
+			return;
+		}
+		for (; position + Long.BYTES <= end; position += Long.BYTES)
+		{
+			LONG_VIEW.set(array, position, generator.nextLong());
+		}
+		if (position < end)
+		{
+			long word = generator.nextLong();
+			for (; position < end; position++)
 			{
-				secureRandom.nextBytes(randomByteBox);
-				randomByteArray[i] = randomByteBox[0];
+				array[position] = (byte)word;
+				word >>>= Byte.SIZE;
 			}
 		}
-		return randomByteArray;
+	}
+
+	private static void nextBytes(final ByteBuffer buffer, final RandomGenerator generator)
+	{
+		if (buffer.hasArray())
+		{
+			nextBytes(buffer.array(), buffer.arrayOffset() + buffer.position(),
+				buffer.remaining(), generator);
+			buffer.position(buffer.limit());
+			return;
+		}
+		if (generator instanceof SecureRandom)
+		{
+			final byte[] chunk = new byte[Math.min(buffer.remaining(), CHUNK_SIZE)];
+			while (buffer.hasRemaining())
+			{
+				generator.nextBytes(chunk);
+				buffer.put(chunk, 0, Math.min(chunk.length, buffer.remaining()));
+			}
+			return;
+		}
+		// write the long words in native order straight into the memory of the buffer
+		final ByteBuffer target = buffer.duplicate().order(ByteOrder.nativeOrder());
+		while (Long.BYTES <= target.remaining())
+		{
+			target.putLong(generator.nextLong());
+		}
+		if (target.hasRemaining())
+		{
+			long word = generator.nextLong();
+			while (target.hasRemaining())
+			{
+				target.put((byte)word);
+				word >>>= Byte.SIZE;
+			}
+		}
+		buffer.position(buffer.limit());
 	}
 
 }
@@ -28,6 +28,8 @@ import java.security.SecureRandom;
 import java.util.Objects;
 
 import io.github.astrapi69.random.DefaultSecureRandom;
+import io.github.astrapi69.random.metrics.RandomMetrics;
+import io.github.astrapi69.random.source.RandomSource;
 
 /**
  * Utility class for producing random primitive char types
@@ -38,6 +40,14 @@ import io.github.astrapi69.random.DefaultSecureRandom;
 public final class RandomCharFactory
 {
 
+	/**
+	 * The range of one draw, the lower half selects a character and the upper half a digit. Both
+	 * halves are a multiple of 26 and 10 so the selection stays uniform with a single draw
+	 */
+	private static final int CHAR_RANGE = 2 * 26 * 10;
+
+	private static final int HALF_CHAR_RANGE = CHAR_RANGE / 2;
+
 	private RandomCharFactory()
 	{
 	}
@@ -49,7 +59,15 @@ public final class RandomCharFactory
 	 */
 	public static char randomChar()
 	{
-		return randomChar(DefaultSecureRandom.get());
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return randomChar(DefaultSecureRandom.get());
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomCharFactory#randomChar()", startNanos);
+		}
 	}
 
 	/**
@@ -62,17 +80,15 @@ public final class RandomCharFactory
 	 */
 	public static char randomChar(SecureRandom secureRandom)
 	{
-		Objects.requireNonNull(secureRandom);
-		if (secureRandom.nextBoolean())
+		final int random = RandomIntFactory.randomInt(CHAR_RANGE,
+			Objects.requireNonNull(secureRandom));
+		if (random < HALF_CHAR_RANGE)
 		{
 			// random character
-			return (char)(secureRandom.nextInt(26) + 65);
-		}
-		else
-		{
-			// random digit
-			return (char)secureRandom.nextInt(10);
+			return (char)(random % 26 + 65);
 		}
+		// random digit
+		return (char)(random % 10);
 	}
 
 	/**
@@ -83,9 +99,53 @@ public final class RandomCharFactory
 	 * @return The selected char.
 	 */
 	public static char randomChar(final String string)
+	{
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			Objects.requireNonNull(string);
+			return string.charAt(RandomIntFactory.randomInt(string.length()));
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomCharFactory#randomChar(String)", startNanos);
+		}
+	}
+
+	/**
+	 * Returns a random char.
+	 *
+	 * @param randomSource
+	 *            the random source for char generation
+	 *
+	 * @return The generated random char.
+	 */
+	public static char randomChar(RandomSource randomSource)
+	{
+		final int random = RandomIntFactory.randomInt(CHAR_RANGE,
+			Objects.requireNonNull(randomSource));
+		if (random < HALF_CHAR_RANGE)
+		{
+			// random character
+			return (char)(random % 26 + 65);
+		}
+		// random digit
+		return (char)(random % 10);
+	}
+
+	/**
+	 * The Method randomChar(String, RandomSource) selects a random char from the given String.
+	 *
+	 * @param string
+	 *            The String from who to select the char.
+	 * @param randomSource
+	 *            the random source for char generation
+	 * @return The selected char.
+	 */
+	public static char randomChar(final String string, RandomSource randomSource)
 	{
 		Objects.requireNonNull(string);
-		return string.charAt(RandomIntFactory.randomInt(string.length()));
+		return string.charAt(RandomIntFactory.randomInt(string.length(), randomSource));
 	}
 
 }
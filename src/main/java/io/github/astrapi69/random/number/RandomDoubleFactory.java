@@ -26,11 +26,16 @@ package io.github.astrapi69.random.number;
 
 import java.security.SecureRandom;
 import java.util.Objects;
-import java.util.Random;
+import java.util.random.RandomGenerator;
+import java.util.stream.DoubleStream;
 
-import io.github.astrapi69.math.MathExtensions;
 import io.github.astrapi69.random.DefaultSecureRandom;
+import io.github.astrapi69.random.Randomizer;
 import io.github.astrapi69.random.enumeration.RandomAlgorithm;
+import io.github.astrapi69.random.metrics.RandomMetrics;
+import io.github.astrapi69.random.source.ParallelRandomFill;
+import io.github.astrapi69.random.source.RandomSource;
+import io.github.astrapi69.random.source.RandomSourceFactory;
 
 /**
  * Utility class for producing random primitive double types
@@ -58,7 +63,7 @@ public final class RandomDoubleFactory
 	 */
 	public static double randomDouble(final double range, final RandomAlgorithm algorithm)
 	{
-		return randomDouble(range, Objects.requireNonNull(algorithm), DefaultSecureRandom.get());
+		return nextDouble(range, Objects.requireNonNull(algorithm), algorithm.getRandomSource());
 	}
 
 	/**
@@ -79,18 +84,39 @@ public final class RandomDoubleFactory
 	{
 		Objects.requireNonNull(algorithm);
 		Objects.requireNonNull(secureRandom);
+		return nextDouble(range, algorithm, secureRandom);
+	}
+
+	/**
+	 * Gets an random double to the given range with the given random algorithm <br>
+	 * <br>
+	 * For example: if you put range to 10 the random float is between 0.0-9.9
+	 *
+	 * @param range
+	 *            the range
+	 * @param algorithm
+	 *            the random algorithm
+	 * @param randomSource
+	 *            the random source for double generation
+	 * @return an random double not greater then the range
+	 */
+	public static double randomDouble(final double range, final RandomAlgorithm algorithm,
+		RandomSource randomSource)
+	{
+		Objects.requireNonNull(algorithm);
+		Objects.requireNonNull(randomSource);
+		return nextDouble(range, algorithm, randomSource);
+	}
+
+	private static double nextDouble(final double range, final RandomAlgorithm algorithm,
+		RandomGenerator generator)
+	{
 		switch (algorithm)
 		{
 			case MATH_ABS :
-				return Math.abs(secureRandom.nextDouble()) % range;
-			case MATH_RANDOM :
-				return Math.random() * range;
-			case RANDOM :
-				double random = new Random(System.currentTimeMillis()).nextDouble() % range;
-				return MathExtensions.isPositive(random) ? random : random * -1;
-			case SECURE_RANDOM :
+				return Math.abs(generator.nextDouble()) % range;
 			default :
-				return secureRandom.nextDouble() * range;
+				return generator.nextDouble() * range;
 		}
 	}
 
@@ -110,6 +136,34 @@ public final class RandomDoubleFactory
 		return randomDouble(range, RandomAlgorithm.SECURE_RANDOM, secureRandom);
 	}
 
+	/**
+	 * Gets an random double to the given range with the given random algorithm <br>
+	 * <br>
+	 * For example: if you put range to 10 the random float is between 0.0-9.9
+	 *
+	 * @param range
+	 *            the range
+	 * @param randomSource
+	 *            the random source for double generation
+	 * @return an random double not greater then the range
+	 */
+	public static double randomDouble(final double range, RandomSource randomSource)
+	{
+		return randomDouble(range, RandomAlgorithm.SECURE_RANDOM, randomSource);
+	}
+
+	/**
+	 * Gets a random double
+	 *
+	 * @param randomSource
+	 *            the random source for double generation
+	 * @return the random double
+	 */
+	public static double randomDouble(RandomSource randomSource)
+	{
+		return Objects.requireNonNull(randomSource).nextDouble();
+	}
+
 	/**
 	 * Gets an random double to the given range with the given random algorithm <br>
 	 * <br>
@@ -134,7 +188,15 @@ public final class RandomDoubleFactory
 	 */
 	public static double randomDouble(final double range)
 	{
-		return randomDouble(range, DefaultSecureRandom.get());
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return randomDouble(range, DefaultSecureRandom.get());
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomDoubleFactory#randomDouble(double)", startNanos);
+		}
 	}
 
 	/**
@@ -144,7 +206,15 @@ public final class RandomDoubleFactory
 	 */
 	public static double randomDouble()
 	{
-		return randomDouble(Double.MAX_VALUE);
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return randomDouble(Double.MAX_VALUE);
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomDoubleFactory#randomDouble()", startNanos);
+		}
 	}
 
 	/**
@@ -176,7 +246,498 @@ public final class RandomDoubleFactory
 	 */
 	public static double randomDoubleBetween(final double start, final double end)
 	{
-		return randomDoubleBetween(start, end, DefaultSecureRandom.get());
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return Randomizer.getDefault().randomDoubleBetween(start, end);
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomDoubleFactory#randomDoubleBetween(double, double)",
+				startNanos);
+		}
+	}
+
+	/**
+	 * Gets the random double between the range from start and end.
+	 *
+	 * @param start
+	 *            the start
+	 * @param end
+	 *            the end
+	 * @param randomSource
+	 *            the random source for double generation
+	 * @return the random double between
+	 */
+	public static double randomDoubleBetween(final double start, final double end,
+		RandomSource randomSource)
+	{
+		return start + randomDouble(end - start, RandomAlgorithm.SECURE_RANDOM,
+			Objects.requireNonNull(randomSource));
+	}
+
+	/**
+	 * Fills the given array with random double values
+	 *
+	 * @param array
+	 *            the array to fill
+	 */
+	public static void fill(final double[] array)
+	{
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			fill(array, DefaultSecureRandom.get());
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomDoubleFactory#fill(double[])", startNanos);
+		}
+	}
+
+	/**
+	 * Fills the given array with random double values
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param secureRandom
+	 *            the secure random for double generation
+	 */
+	public static void fill(final double[] array, SecureRandom secureRandom)
+	{
+		Objects.requireNonNull(array);
+		fill(array, 0, array.length, secureRandom);
+	}
+
+	/**
+	 * Fills the given array with random double values
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param randomSource
+	 *            the random source for double generation
+	 */
+	public static void fill(final double[] array, RandomSource randomSource)
+	{
+		Objects.requireNonNull(array);
+		fill(array, 0, array.length, randomSource);
+	}
+
+	/**
+	 * Fills the given range of the given array with random double values
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param offset
+	 *            the index of the first element to fill
+	 * @param length
+	 *            the number of elements to fill
+	 * @param secureRandom
+	 *            the secure random for double generation
+	 */
+	public static void fill(final double[] array, final int offset, final int length,
+		SecureRandom secureRandom)
+	{
+		Objects.requireNonNull(array);
+		Objects.requireNonNull(secureRandom);
+		Objects.checkFromIndexSize(offset, length, array.length);
+		nextValues(array, offset, length,
+			BulkRandomGenerators.of(secureRandom, (long)length * Double.BYTES));
+	}
+
+	/**
+	 * Fills the given range of the given array with random double values
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param offset
+	 *            the index of the first element to fill
+	 * @param length
+	 *            the number of elements to fill
+	 * @param randomSource
+	 *            the random source for double generation
+	 */
+	public static void fill(final double[] array, final int offset, final int length,
+		RandomSource randomSource)
+	{
+		Objects.requireNonNull(array);
+		Objects.requireNonNull(randomSource);
+		Objects.checkFromIndexSize(offset, length, array.length);
+		nextValues(array, offset, length,
+			BulkRandomGenerators.of(randomSource, (long)length * Double.BYTES));
+	}
+
+	/**
+	 * Fills the given array with random double values between the range from start inclusive and
+	 * end exclusive
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param start
+	 *            the double from where the range starts
+	 * @param end
+	 *            the double from where the range ends
+	 */
+	public static void fillBetween(final double[] array, final double start, final double end)
+	{
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			fillBetween(array, start, end, DefaultSecureRandom.get());
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomDoubleFactory#fillBetween(double[], double, double)",
+				startNanos);
+		}
+	}
+
+	/**
+	 * Fills the given array with random double values between the range from start inclusive and
+	 * end exclusive
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param start
+	 *            the double from where the range starts
+	 * @param end
+	 *            the double from where the range ends
+	 * @param secureRandom
+	 *            the secure random for double generation
+	 */
+	public static void fillBetween(final double[] array, final double start, final double end,
+		SecureRandom secureRandom)
+	{
+		Objects.requireNonNull(array);
+		fillBetween(array, 0, array.length, start, end, secureRandom);
+	}
+
+	/**
+	 * Fills the given array with random double values between the range from start inclusive and
+	 * end exclusive
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param start
+	 *            the double from where the range starts
+	 * @param end
+	 *            the double from where the range ends
+	 * @param randomSource
+	 *            the random source for double generation
+	 */
+	public static void fillBetween(final double[] array, final double start, final double end,
+		RandomSource randomSource)
+	{
+		Objects.requireNonNull(array);
+		fillBetween(array, 0, array.length, start, end, randomSource);
+	}
+
+	/**
+	 * Fills the given range of the given array with random double values between the range from
+	 * start inclusive and end exclusive
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param offset
+	 *            the index of the first element to fill
+	 * @param length
+	 *            the number of elements to fill
+	 * @param start
+	 *            the double from where the range starts
+	 * @param end
+	 *            the double from where the range ends
+	 * @param secureRandom
+	 *            the secure random for double generation
+	 */
+	public static void fillBetween(final double[] array, final int offset, final int length,
+		final double start, final double end, SecureRandom secureRandom)
+	{
+		Objects.requireNonNull(array);
+		Objects.requireNonNull(secureRandom);
+		Objects.checkFromIndexSize(offset, length, array.length);
+		nextBetween(array, offset, length, start, end,
+			BulkRandomGenerators.of(secureRandom, (long)length * Double.BYTES));
+	}
+
+	/**
+	 * Fills the given range of the given array with random double values between the range from
+	 * start inclusive and end exclusive
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param offset
+	 *            the index of the first element to fill
+	 * @param length
+	 *            the number of elements to fill
+	 * @param start
+	 *            the double from where the range starts
+	 * @param end
+	 *            the double from where the range ends
+	 * @param randomSource
+	 *            the random source for double generation
+	 */
+	public static void fillBetween(final double[] array, final int offset, final int length,
+		final double start, final double end, RandomSource randomSource)
+	{
+		Objects.requireNonNull(array);
+		Objects.requireNonNull(randomSource);
+		Objects.checkFromIndexSize(offset, length, array.length);
+		nextBetween(array, offset, length, start, end,
+			BulkRandomGenerators.of(randomSource, (long)length * Double.BYTES));
+	}
+
+	/**
+	 * Fills the given array in parallel with random double values. The array is split into chunks
+	 * that are filled by fork join tasks, every task with its own engine that is derived from a
+	 * seed of the {@link DefaultSecureRandom}.<br>
+	 * <br>
+	 * Note: the engines of the tasks are fast non cryptographic engines
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @see ParallelRandomFill
+	 */
+	public static void parallelFill(final double[] array)
+	{
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			parallelFill(array, DefaultSecureRandom.get().nextLong());
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomDoubleFactory#parallelFill(double[])", startNanos);
+		}
+	}
+
+	/**
+	 * Fills the given array in parallel with random double values. The array is split into chunks
+	 * that are filled by fork join tasks, every task with its own engine that is derived from the
+	 * given seed, so the result for a given seed is always the same whatever the number of threads
+	 * is.<br>
+	 * <br>
+	 * Note: the engines of the tasks are fast non cryptographic engines
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param seed
+	 *            the seed
+	 * @see ParallelRandomFill
+	 */
+	public static void parallelFill(final double[] array, final long seed)
+	{
+		Objects.requireNonNull(array);
+		ParallelRandomFill.fill(array.length, ParallelRandomFill.DEFAULT_CHUNK_SIZE,
+			RandomSourceFactory.newReproducibleRandomSource(seed),
+			(from, to, randomSource) -> nextValues(array, from, to - from, randomSource));
+	}
+
+	/**
+	 * Fills the given array in parallel with random double values between the range from start
+	 * inclusive and end exclusive. The array is split into chunks that are filled by fork join
+	 * tasks, every task with its own engine that is derived from a seed of the
+	 * {@link DefaultSecureRandom}.<br>
+	 * <br>
+	 * Note: the engines of the tasks are fast non cryptographic engines
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param start
+	 *            the double from where the range starts
+	 * @param end
+	 *            the double from where the range ends
+	 * @see ParallelRandomFill
+	 */
+	public static void parallelFillBetween(final double[] array, final double start,
+		final double end)
+	{
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			parallelFillBetween(array, start, end, DefaultSecureRandom.get().nextLong());
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomDoubleFactory#parallelFillBetween(double[], double, double)",
+				startNanos);
+		}
+	}
+
+	/**
+	 * Fills the given array in parallel with random double values between the range from start
+	 * inclusive and end exclusive. The array is split into chunks that are filled by fork join
+	 * tasks, every task with its own engine that is derived from the given seed, so the result for
+	 * a given seed is always the same whatever the number of threads is.<br>
+	 * <br>
+	 * Note: the engines of the tasks are fast non cryptographic engines
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param start
+	 *            the double from where the range starts
+	 * @param end
+	 *            the double from where the range ends
+	 * @param seed
+	 *            the seed
+	 * @see ParallelRandomFill
+	 */
+	public static void parallelFillBetween(final double[] array, final double start,
+		final double end, final long seed)
+	{
+		Objects.requireNonNull(array);
+		ParallelRandomFill.fill(array.length, ParallelRandomFill.DEFAULT_CHUNK_SIZE,
+			RandomSourceFactory.newReproducibleRandomSource(seed),
+			(from, to, randomSource) -> nextBetween(array, from, to - from, start, end,
+				randomSource));
+	}
+
+	/**
+	 * Factory method for create a new unlimited {@link DoubleStream} with random double values
+	 * between 0.0 inclusive and 1.0 exclusive. The stream is lazy and can be split for parallel
+	 * processing, every split gets its own engine. The
+	 * stream starts from a new secure random, so it never shares the pooled secure random
+	 *
+	 * @return the new {@link DoubleStream}
+	 */
+	public static DoubleStream doubles()
+	{
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return doubles(Long.MAX_VALUE);
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomDoubleFactory#doubles()", startNanos);
+		}
+	}
+
+	/**
+	 * Factory method for create a new {@link DoubleStream} with the given number of random double
+	 * values between 0.0 inclusive and 1.0 exclusive. The stream is lazy and can be split for
+	 * parallel processing, every split gets its own engine. The
+	 * stream starts from a new secure random, so it never shares the pooled secure random
+	 *
+	 * @param streamSize
+	 *            the number of values
+	 * @return the new {@link DoubleStream}
+	 */
+	public static DoubleStream doubles(final long streamSize)
+	{
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return doubles(streamSize,
+				RandomSourceFactory.newSecureRandomSource());
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomDoubleFactory#doubles(long)", startNanos);
+		}
+	}
+
+	/**
+	 * Factory method for create a new {@link DoubleStream} with the given number of random double
+	 * values between 0.0 inclusive and 1.0 exclusive from the given random source. The stream is
+	 * lazy and can be split for parallel processing, every split gets its own engine from
+	 * {@link RandomSourceFactory#split(RandomSource)}
+	 *
+	 * @param streamSize
+	 *            the number of values
+	 * @param randomSource
+	 *            the random source of the stream
+	 * @return the new {@link DoubleStream}
+	 */
+	public static DoubleStream doubles(final long streamSize, RandomSource randomSource)
+	{
+		return RandomSpliterators.doubles(streamSize, 0d, 1d, randomSource);
+	}
+
+	/**
+	 * Factory method for create a new unlimited {@link DoubleStream} with random double values
+	 * between the range from start inclusive and end exclusive. The stream is lazy and can be split
+	 * for parallel processing, every split gets its own engine. The
+	 * stream starts from a new secure random, so it never shares the pooled secure random
+	 *
+	 * @param start
+	 *            the double from where the range starts
+	 * @param end
+	 *            the double from where the range ends
+	 * @return the new {@link DoubleStream}
+	 */
+	public static DoubleStream doubles(final double start, final double end)
+	{
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return doubles(Long.MAX_VALUE, start, end);
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomDoubleFactory#doubles(double, double)", startNanos);
+		}
+	}
+
+	/**
+	 * Factory method for create a new {@link DoubleStream} with the given number of random double
+	 * values between the range from start inclusive and end exclusive. The stream is lazy and can
+	 * be split for parallel processing, every split gets its own engine. The
+	 * stream starts from a new secure random, so it never shares the pooled secure random
+	 *
+	 * @param streamSize
+	 *            the number of values
+	 * @param start
+	 *            the double from where the range starts
+	 * @param end
+	 *            the double from where the range ends
+	 * @return the new {@link DoubleStream}
+	 */
+	public static DoubleStream doubles(final long streamSize, final double start, final double end)
+	{
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return doubles(streamSize, start, end,
+				RandomSourceFactory.newSecureRandomSource());
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomDoubleFactory#doubles(long, double, double)", startNanos);
+		}
+	}
+
+	/**
+	 * Factory method for create a new {@link DoubleStream} with the given number of random double
+	 * values between the range from start inclusive and end exclusive from the given random
+	 * source. The stream is lazy and can be split for parallel processing, every split gets its
+	 * own engine from {@link RandomSourceFactory#split(RandomSource)}
+	 *
+	 * @param streamSize
+	 *            the number of values
+	 * @param start
+	 *            the double from where the range starts
+	 * @param end
+	 *            the double from where the range ends
+	 * @param randomSource
+	 *            the random source of the stream
+	 * @return the new {@link DoubleStream}
+	 */
+	public static DoubleStream doubles(final long streamSize, final double start, final double end,
+		RandomSource randomSource)
+	{
+		return RandomSpliterators.doubles(streamSize, start, end, randomSource);
+	}
+
+	private static void nextValues(final double[] array, final int offset, final int length,
+		final RandomGenerator generator)
+	{
+		UniformConverters.fill(array, offset, length, 0d, 1d, generator);
+	}
+
+	private static void nextBetween(final double[] array, final int offset, final int length,
+		final double start, final double end, final RandomGenerator generator)
+	{
+		UniformConverters.fill(array, offset, length, start, end - start, generator);
 	}
 
 }
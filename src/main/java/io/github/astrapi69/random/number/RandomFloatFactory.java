@@ -26,12 +26,12 @@ package io.github.astrapi69.random.number;
 
 import java.security.SecureRandom;
 import java.util.Objects;
-import java.util.Random;
+import java.util.random.RandomGenerator;
 
-import io.github.astrapi69.math.MathExtensions;
 import io.github.astrapi69.random.DefaultSecureRandom;
-import io.github.astrapi69.random.SecureRandomFactory;
 import io.github.astrapi69.random.enumeration.RandomAlgorithm;
+import io.github.astrapi69.random.metrics.RandomMetrics;
+import io.github.astrapi69.random.source.RandomSource;
 
 /**
  * Utility class for producing random primitive float types
@@ -64,18 +64,39 @@ public final class RandomFloatFactory
 	{
 		Objects.requireNonNull(algorithm);
 		Objects.requireNonNull(secureRandom);
+		return nextFloat(range, algorithm, secureRandom);
+	}
+
+	/**
+	 * Gets an random float to the given range with the given random algorithm <br>
+	 * <br>
+	 * For example: if you put range to 10 the random float is between 0.0-9.9
+	 *
+	 * @param range
+	 *            the range
+	 * @param algorithm
+	 *            the random algorithm
+	 * @param randomSource
+	 *            the random source for float generation
+	 * @return an random float not greater then the range
+	 */
+	public static float randomFloat(final float range, final RandomAlgorithm algorithm,
+		RandomSource randomSource)
+	{
+		Objects.requireNonNull(algorithm);
+		Objects.requireNonNull(randomSource);
+		return nextFloat(range, algorithm, randomSource);
+	}
+
+	private static float nextFloat(final float range, final RandomAlgorithm algorithm,
+		RandomGenerator generator)
+	{
 		switch (algorithm)
 		{
 			case MATH_ABS :
-				return (float)(Math.abs(secureRandom.nextDouble()) % range);
-			case MATH_RANDOM :
-				return (float)(Math.random() * range);
-			case RANDOM :
-				float random = (float)new Random(System.currentTimeMillis()).nextDouble() % range;
-				return MathExtensions.isPositive(random) ? random : random * -1;
-			case SECURE_RANDOM :
+				return (float)(Math.abs(generator.nextDouble()) % range);
 			default :
-				return (float)(secureRandom.nextDouble() * range);
+				return (float)(generator.nextDouble() * range);
 		}
 	}
 
@@ -95,6 +116,34 @@ public final class RandomFloatFactory
 		return randomFloat(range, RandomAlgorithm.SECURE_RANDOM, secureRandom);
 	}
 
+	/**
+	 * Gets an random float to the given range with the given random algorithm <br>
+	 * <br>
+	 * For example: if you put range to 10 the random float is between 0.0-9.9
+	 *
+	 * @param range
+	 *            the range
+	 * @param randomSource
+	 *            the random source for float generation
+	 * @return an random float not greater then the range
+	 */
+	public static float randomFloat(final float range, RandomSource randomSource)
+	{
+		return randomFloat(range, RandomAlgorithm.SECURE_RANDOM, randomSource);
+	}
+
+	/**
+	 * Gets a random float
+	 *
+	 * @param randomSource
+	 *            the random source for float generation
+	 * @return the random float
+	 */
+	public static float randomFloat(RandomSource randomSource)
+	{
+		return Objects.requireNonNull(randomSource).nextFloat();
+	}
+
 	/**
 	 * Generates a random float between the range 0.0-9.9.
 	 *
@@ -115,7 +164,15 @@ public final class RandomFloatFactory
 	 */
 	public static float randomFloat()
 	{
-		return randomFloat(DefaultSecureRandom.get());
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return randomFloat(DefaultSecureRandom.get());
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomFloatFactory#randomFloat()", startNanos);
+		}
 	}
 
 	/**
@@ -128,7 +185,15 @@ public final class RandomFloatFactory
 	 */
 	public static float randomFloat(final float range)
 	{
-		return randomFloat(range, RandomAlgorithm.SECURE_RANDOM);
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return randomFloat(range, RandomAlgorithm.SECURE_RANDOM);
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomFloatFactory#randomFloat(float)", startNanos);
+		}
 	}
 
 	/**
@@ -144,7 +209,7 @@ public final class RandomFloatFactory
 	 */
 	public static float randomFloat(final float range, final RandomAlgorithm algorithm)
 	{
-		return randomFloat(range, Objects.requireNonNull(algorithm), DefaultSecureRandom.get());
+		return nextFloat(range, Objects.requireNonNull(algorithm), algorithm.getRandomSource());
 	}
 
 	/**
@@ -158,8 +223,16 @@ public final class RandomFloatFactory
 	 */
 	public static float randomFloat(final int afterComma, final int beforeComma)
 	{
-		return Float
-			.parseFloat(RandomNumberExtensions.getRandomNumberString(afterComma, beforeComma));
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return Float
+				.parseFloat(RandomNumberExtensions.getRandomNumberString(afterComma, beforeComma));
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomFloatFactory#randomFloat(int, int)", startNanos);
+		}
 	}
 
 	/**
@@ -173,7 +246,15 @@ public final class RandomFloatFactory
 	 */
 	public static float randomFloatBetween(final float start, final float end)
 	{
-		return randomFloatBetween(start, end, SecureRandomFactory.newSecureRandom());
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return randomFloatBetween(start, end, DefaultSecureRandom.get());
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomFloatFactory#randomFloatBetween(float, float)", startNanos);
+		}
 	}
 
 	/**
@@ -194,4 +275,243 @@ public final class RandomFloatFactory
 			Objects.requireNonNull(secureRandom));
 	}
 
+	/**
+	 * Gets the random float between the range from start and end.
+	 *
+	 * @param start
+	 *            the start
+	 * @param end
+	 *            the end
+	 * @param randomSource
+	 *            the random source for float generation
+	 * @return the random float between
+	 */
+	public static float randomFloatBetween(final float start, final float end,
+		RandomSource randomSource)
+	{
+		return start + randomFloat(end - start, RandomAlgorithm.SECURE_RANDOM,
+			Objects.requireNonNull(randomSource));
+	}
+
+	/**
+	 * Fills the given array with random float values
+	 *
+	 * @param array
+	 *            the array to fill
+	 */
+	public static void fill(final float[] array)
+	{
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			fill(array, DefaultSecureRandom.get());
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomFloatFactory#fill(float[])", startNanos);
+		}
+	}
+
+	/**
+	 * Fills the given array with random float values
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param secureRandom
+	 *            the secure random for float generation
+	 */
+	public static void fill(final float[] array, SecureRandom secureRandom)
+	{
+		Objects.requireNonNull(array);
+		fill(array, 0, array.length, secureRandom);
+	}
+
+	/**
+	 * Fills the given array with random float values
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param randomSource
+	 *            the random source for float generation
+	 */
+	public static void fill(final float[] array, RandomSource randomSource)
+	{
+		Objects.requireNonNull(array);
+		fill(array, 0, array.length, randomSource);
+	}
+
+	/**
+	 * Fills the given range of the given array with random float values
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param offset
+	 *            the index of the first element to fill
+	 * @param length
+	 *            the number of elements to fill
+	 * @param secureRandom
+	 *            the secure random for float generation
+	 */
+	public static void fill(final float[] array, final int offset, final int length,
+		SecureRandom secureRandom)
+	{
+		Objects.requireNonNull(array);
+		Objects.requireNonNull(secureRandom);
+		Objects.checkFromIndexSize(offset, length, array.length);
+		nextValues(array, offset, length,
+			BulkRandomGenerators.of(secureRandom, (long)length * Float.BYTES));
+	}
+
+	/**
+	 * Fills the given range of the given array with random float values
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param offset
+	 *            the index of the first element to fill
+	 * @param length
+	 *            the number of elements to fill
+	 * @param randomSource
+	 *            the random source for float generation
+	 */
+	public static void fill(final float[] array, final int offset, final int length,
+		RandomSource randomSource)
+	{
+		Objects.requireNonNull(array);
+		Objects.requireNonNull(randomSource);
+		Objects.checkFromIndexSize(offset, length, array.length);
+		nextValues(array, offset, length,
+			BulkRandomGenerators.of(randomSource, (long)length * Float.BYTES));
+	}
+
+	/**
+	 * Fills the given array with random float values between the range from start inclusive and end
+	 * exclusive
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param start
+	 *            the float from where the range starts
+	 * @param end
+	 *            the float from where the range ends
+	 */
+	public static void fillBetween(final float[] array, final float start, final float end)
+	{
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			fillBetween(array, start, end, DefaultSecureRandom.get());
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomFloatFactory#fillBetween(float[], float, float)", startNanos);
+		}
+	}
+
+	/**
+	 * Fills the given array with random float values between the range from start inclusive and end
+	 * exclusive
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param start
+	 *            the float from where the range starts
+	 * @param end
+	 *            the float from where the range ends
+	 * @param secureRandom
+	 *            the secure random for float generation
+	 */
+	public static void fillBetween(final float[] array, final float start, final float end,
+		SecureRandom secureRandom)
+	{
+		Objects.requireNonNull(array);
+		fillBetween(array, 0, array.length, start, end, secureRandom);
+	}
+
+	/**
+	 * Fills the given array with random float values between the range from start inclusive and end
+	 * exclusive
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param start
+	 *            the float from where the range starts
+	 * @param end
+	 *            the float from where the range ends
+	 * @param randomSource
+	 *            the random source for float generation
+	 */
+	public static void fillBetween(final float[] array, final float start, final float end,
+		RandomSource randomSource)
+	{
+		Objects.requireNonNull(array);
+		fillBetween(array, 0, array.length, start, end, randomSource);
+	}
+
+	/**
+	 * Fills the given range of the given array with random float values between the range from
+	 * start inclusive and end exclusive
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param offset
+	 *            the index of the first element to fill
+	 * @param length
+	 *            the number of elements to fill
+	 * @param start
+	 *            the float from where the range starts
+	 * @param end
+	 *            the float from where the range ends
+	 * @param secureRandom
+	 *            the secure random for float generation
+	 */
+	public static void fillBetween(final float[] array, final int offset, final int length,
+		final float start, final float end, SecureRandom secureRandom)
+	{
+		Objects.requireNonNull(array);
+		Objects.requireNonNull(secureRandom);
+		Objects.checkFromIndexSize(offset, length, array.length);
+		nextBetween(array, offset, length, start, end,
+			BulkRandomGenerators.of(secureRandom, (long)length * Float.BYTES));
+	}
+
+	/**
+	 * Fills the given range of the given array with random float values between the range from
+	 * start inclusive and end exclusive
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param offset
+	 *            the index of the first element to fill
+	 * @param length
+	 *            the number of elements to fill
+	 * @param start
+	 *            the float from where the range starts
+	 * @param end
+	 *            the float from where the range ends
+	 * @param randomSource
+	 *            the random source for float generation
+	 */
+	public static void fillBetween(final float[] array, final int offset, final int length,
+		final float start, final float end, RandomSource randomSource)
+	{
+		Objects.requireNonNull(array);
+		Objects.requireNonNull(randomSource);
+		Objects.checkFromIndexSize(offset, length, array.length);
+		nextBetween(array, offset, length, start, end,
+			BulkRandomGenerators.of(randomSource, (long)length * Float.BYTES));
+	}
+
+	private static void nextValues(final float[] array, final int offset, final int length,
+		final RandomGenerator generator)
+	{
+		UniformConverters.fill(array, offset, length, 0f, 1f, generator);
+	}
+
+	private static void nextBetween(final float[] array, final int offset, final int length,
+		final float start, final float end, final RandomGenerator generator)
+	{
+		UniformConverters.fill(array, offset, length, start, end - start, generator);
+	}
+
 }
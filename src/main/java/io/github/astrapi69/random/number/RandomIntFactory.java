@@ -26,11 +26,15 @@ package io.github.astrapi69.random.number;
 
 import java.security.SecureRandom;
 import java.util.Objects;
-import java.util.Random;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
 
-import io.github.astrapi69.math.MathExtensions;
 import io.github.astrapi69.random.DefaultSecureRandom;
+import io.github.astrapi69.random.Randomizer;
 import io.github.astrapi69.random.enumeration.RandomAlgorithm;
+import io.github.astrapi69.random.metrics.RandomMetrics;
+import io.github.astrapi69.random.source.RandomSource;
+import io.github.astrapi69.random.source.RandomSourceFactory;
 
 /**
  * Utility class for producing random primitive int types
@@ -57,8 +61,7 @@ public final class RandomIntFactory
 	 */
 	public static int randomInt(final int range, final RandomAlgorithm algorithm)
 	{
-		return RandomIntFactory.randomInt(range, Objects.requireNonNull(algorithm),
-			DefaultSecureRandom.get());
+		return (int)nextBounded(range, Objects.requireNonNull(algorithm).getRandomSource());
 	}
 
 	/**
@@ -78,19 +81,66 @@ public final class RandomIntFactory
 	{
 		Objects.requireNonNull(algorithm);
 		Objects.requireNonNull(secureRandom);
-		switch (algorithm)
+		return (int)nextBounded(range, secureRandom);
+	}
+
+	/**
+	 * The Method randomInt(int) gets an int to the spezified range. For example: if you put range
+	 * to 10 the random int is between 0-9.
+	 *
+	 * @param range
+	 *            The range
+	 * @param algorithm
+	 *            the random algorithm
+	 * @param randomSource
+	 *            the random source for int generation
+	 * @return an int not greater then the range
+	 */
+	public static int randomInt(final int range, final RandomAlgorithm algorithm,
+		RandomSource randomSource)
+	{
+		Objects.requireNonNull(algorithm);
+		Objects.requireNonNull(randomSource);
+		return (int)nextBounded(range, randomSource);
+	}
+
+	/**
+	 * Draws an exactly uniform value between zero inclusive and the given range exclusive with
+	 * Lemire's multiply-shift method. One 32-bit draw is multiplied with the range and the high
+	 * word is the result, the low word decides if the draw falls into the biased part of the
+	 * 32-bit space and has to be rejected, so the modulo is only computed in the rare case where a
+	 * rejection is possible. The absolute value of the range can be up to 2<sup>32</sup>, a range
+	 * of zero returns zero and a negative range returns a value between the range exclusive and
+	 * zero inclusive.
+	 *
+	 * @param range
+	 *            the range
+	 * @param generator
+	 *            the generator for the 32-bit draws
+	 * @return the bounded value
+	 */
+	static long nextBounded(final long range, final RandomGenerator generator)
+	{
+		if (range < 0)
+		{
+			return -nextBounded(-range, generator);
+		}
+		if (range == 0)
+		{
+			return 0;
+		}
+		long product = (generator.nextInt() & 0xFFFFFFFFL) * range;
+		long low = product & 0xFFFFFFFFL;
+		if (low < range)
 		{
-			case MATH_ABS :
-				return Math.abs(secureRandom.nextInt()) % range;
-			case MATH_RANDOM :
-				return (int)(Math.random() * range);
-			case RANDOM :
-				int random = new Random(System.currentTimeMillis()).nextInt() % range;
-				return MathExtensions.isPositive(random) ? random : random * -1;
-			case SECURE_RANDOM :
-			default :
-				return (int)(secureRandom.nextDouble() * range);
+			final long threshold = (0x100000000L - range) % range;
+			while (low < threshold)
+			{
+				product = (generator.nextInt() & 0xFFFFFFFFL) * range;
+				low = product & 0xFFFFFFFFL;
+			}
 		}
+		return product >>> 32;
 	}
 
 	/**
@@ -108,6 +158,34 @@ public final class RandomIntFactory
 		return randomInt(range, RandomAlgorithm.SECURE_RANDOM, secureRandom);
 	}
 
+	/**
+	 * The Method randomInt(int) gets an int to the spezified range. For example: if you put range
+	 * to 10 the random int is between 0-9.
+	 *
+	 * @param range
+	 *            The Range
+	 * @param randomSource
+	 *            the random source for int generation
+	 * @return an int not greater then the range.
+	 */
+	public static int randomInt(final int range, RandomSource randomSource)
+	{
+		return randomInt(range, RandomAlgorithm.SECURE_RANDOM, randomSource);
+	}
+
+	/**
+	 * The Method randomInt() gets an int between the range 0-9.
+	 *
+	 * @param randomSource
+	 *            the random source for int generation
+	 *
+	 * @return an int between the range 0-9.
+	 */
+	public static int randomInt(RandomSource randomSource)
+	{
+		return Objects.requireNonNull(randomSource).nextInt();
+	}
+
 	/**
 	 * The Method randomInt() gets an int between the range 0-9.
 	 *
@@ -128,7 +206,15 @@ public final class RandomIntFactory
 	 */
 	public static int randomInt()
 	{
-		return RandomIntFactory.randomInt(DefaultSecureRandom.get());
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return Randomizer.getDefault().randomInt();
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomIntFactory#randomInt()", startNanos);
+		}
 	}
 
 	/**
@@ -141,7 +227,15 @@ public final class RandomIntFactory
 	 */
 	public static int randomInt(final int range)
 	{
-		return randomInt(range, DefaultSecureRandom.get());
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return Randomizer.getDefault().randomInt(range);
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomIntFactory#randomInt(int)", startNanos);
+		}
 	}
 
 	/**
@@ -158,8 +252,25 @@ public final class RandomIntFactory
 	 */
 	public static int randomIntBetween(int minVolume, int maxVolume, SecureRandom secureRandom)
 	{
-		return minVolume + randomInt(maxVolume - minVolume, RandomAlgorithm.SECURE_RANDOM,
-			Objects.requireNonNull(secureRandom));
+		return minVolume
+			+ (int)nextBounded((long)maxVolume - minVolume, Objects.requireNonNull(secureRandom));
+	}
+
+	/**
+	 * Returns a random int between the range from minVolume and maxVolume.
+	 *
+	 * @param minVolume
+	 *            the min volume
+	 * @param maxVolume
+	 *            the max volume
+	 * @param randomSource
+	 *            the random source for number generation
+	 * @return A random int between the range from minVolume and maxVolume
+	 */
+	public static int randomIntBetween(int minVolume, int maxVolume, RandomSource randomSource)
+	{
+		return minVolume
+			+ (int)nextBounded((long)maxVolume - minVolume, Objects.requireNonNull(randomSource));
 	}
 
 	/**
@@ -180,21 +291,38 @@ public final class RandomIntFactory
 	public static int randomIntBetween(final int start, final int end, final boolean includeMin,
 		final boolean includeMax, SecureRandom secureRandom)
 	{
-		int randomIntBetween = start + RandomIntFactory.randomInt(end - (start - 1), secureRandom);
-		if (includeMin && !includeMax)
-		{
-			randomIntBetween = start + RandomIntFactory.randomInt(end - start, secureRandom);
-		}
-		if (!includeMin && includeMax && randomIntBetween == start)
-		{
-			randomIntBetween++;
-		}
-		if (!includeMin && !includeMax)
-		{
-			randomIntBetween = (start + 1)
-				+ RandomIntFactory.randomInt(end - (start + 1), secureRandom);
-		}
-		return randomIntBetween;
+		return nextIntBetween(start, end, includeMin, includeMax,
+			Objects.requireNonNull(secureRandom));
+	}
+
+	/**
+	 * Returns a random int between the range from start and end.
+	 *
+	 * @param start
+	 *            The int from where the range starts.
+	 * @param end
+	 *            The int from where the range ends.
+	 * @param includeMin
+	 *            if true than min value is included
+	 * @param includeMax
+	 *            if true than max value is included
+	 * @param randomSource
+	 *            the random source for generation
+	 * @return A random int between the range from start and end.
+	 */
+	public static int randomIntBetween(final int start, final int end, final boolean includeMin,
+		final boolean includeMax, RandomSource randomSource)
+	{
+		return nextIntBetween(start, end, includeMin, includeMax,
+			Objects.requireNonNull(randomSource));
+	}
+
+	private static int nextIntBetween(final int start, final int end, final boolean includeMin,
+		final boolean includeMax, RandomGenerator generator)
+	{
+		final long low = includeMin ? start : (long)start + 1;
+		final long high = includeMax ? end : (long)end - 1;
+		return (int)(low + nextBounded(high - low + 1, generator));
 	}
 
 	/**
@@ -208,7 +336,15 @@ public final class RandomIntFactory
 	 */
 	public static int randomIntBetween(final int start, final int end)
 	{
-		return RandomIntFactory.randomIntBetween(start, end, true, false);
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return Randomizer.getDefault().randomIntBetween(start, end);
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomIntFactory#randomIntBetween(int, int)", startNanos);
+		}
 	}
 
 	/**
@@ -227,8 +363,380 @@ public final class RandomIntFactory
 	public static int randomIntBetween(final int start, final int end, final boolean includeMin,
 		final boolean includeMax)
 	{
-		return RandomIntFactory.randomIntBetween(start, end, includeMin, includeMax,
-			DefaultSecureRandom.get());
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return RandomIntFactory.randomIntBetween(start, end, includeMin, includeMax,
+				DefaultSecureRandom.get());
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomIntFactory#randomIntBetween(int, int, boolean, boolean)",
+				startNanos);
+		}
+	}
+
+	/**
+	 * Fills the given array with random int values
+	 *
+	 * @param array
+	 *            the array to fill
+	 */
+	public static void fill(final int[] array)
+	{
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			fill(array, DefaultSecureRandom.get());
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomIntFactory#fill(int[])", startNanos);
+		}
+	}
+
+	/**
+	 * Fills the given array with random int values
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param secureRandom
+	 *            the secure random for int generation
+	 */
+	public static void fill(final int[] array, SecureRandom secureRandom)
+	{
+		Objects.requireNonNull(array);
+		fill(array, 0, array.length, secureRandom);
+	}
+
+	/**
+	 * Fills the given array with random int values
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param randomSource
+	 *            the random source for int generation
+	 */
+	public static void fill(final int[] array, RandomSource randomSource)
+	{
+		Objects.requireNonNull(array);
+		fill(array, 0, array.length, randomSource);
+	}
+
+	/**
+	 * Fills the given range of the given array with random int values
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param offset
+	 *            the index of the first element to fill
+	 * @param length
+	 *            the number of elements to fill
+	 * @param secureRandom
+	 *            the secure random for int generation
+	 */
+	public static void fill(final int[] array, final int offset, final int length,
+		SecureRandom secureRandom)
+	{
+		Objects.requireNonNull(array);
+		Objects.requireNonNull(secureRandom);
+		Objects.checkFromIndexSize(offset, length, array.length);
+		nextValues(array, offset, length,
+			BulkRandomGenerators.of(secureRandom, (long)length * Integer.BYTES));
+	}
+
+	/**
+	 * Fills the given range of the given array with random int values
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param offset
+	 *            the index of the first element to fill
+	 * @param length
+	 *            the number of elements to fill
+	 * @param randomSource
+	 *            the random source for int generation
+	 */
+	public static void fill(final int[] array, final int offset, final int length,
+		RandomSource randomSource)
+	{
+		Objects.requireNonNull(array);
+		Objects.requireNonNull(randomSource);
+		Objects.checkFromIndexSize(offset, length, array.length);
+		nextValues(array, offset, length,
+			BulkRandomGenerators.of(randomSource, (long)length * Integer.BYTES));
+	}
+
+	/**
+	 * Fills the given array with random int values between the range from start inclusive and end
+	 * exclusive
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param start
+	 *            the int from where the range starts
+	 * @param end
+	 *            the int from where the range ends
+	 */
+	public static void fillBetween(final int[] array, final int start, final int end)
+	{
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			Randomizer.getDefault().fillBetween(array, start, end);
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomIntFactory#fillBetween(int[], int, int)", startNanos);
+		}
+	}
+
+	/**
+	 * Fills the given array with random int values between the range from start inclusive and end
+	 * exclusive
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param start
+	 *            the int from where the range starts
+	 * @param end
+	 *            the int from where the range ends
+	 * @param secureRandom
+	 *            the secure random for int generation
+	 */
+	public static void fillBetween(final int[] array, final int start, final int end,
+		SecureRandom secureRandom)
+	{
+		Objects.requireNonNull(array);
+		fillBetween(array, 0, array.length, start, end, secureRandom);
+	}
+
+	/**
+	 * Fills the given array with random int values between the range from start inclusive and end
+	 * exclusive
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param start
+	 *            the int from where the range starts
+	 * @param end
+	 *            the int from where the range ends
+	 * @param randomSource
+	 *            the random source for int generation
+	 */
+	public static void fillBetween(final int[] array, final int start, final int end,
+		RandomSource randomSource)
+	{
+		Objects.requireNonNull(array);
+		fillBetween(array, 0, array.length, start, end, randomSource);
+	}
+
+	/**
+	 * Fills the given range of the given array with random int values between the range from start
+	 * inclusive and end exclusive
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param offset
+	 *            the index of the first element to fill
+	 * @param length
+	 *            the number of elements to fill
+	 * @param start
+	 *            the int from where the range starts
+	 * @param end
+	 *            the int from where the range ends
+	 * @param secureRandom
+	 *            the secure random for int generation
+	 */
+	public static void fillBetween(final int[] array, final int offset, final int length,
+		final int start, final int end, SecureRandom secureRandom)
+	{
+		Objects.requireNonNull(array);
+		Objects.requireNonNull(secureRandom);
+		Objects.checkFromIndexSize(offset, length, array.length);
+		nextBetween(array, offset, length, start, end,
+			BulkRandomGenerators.of(secureRandom, (long)length * Integer.BYTES));
+	}
+
+	/**
+	 * Fills the given range of the given array with random int values between the range from start
+	 * inclusive and end exclusive
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param offset
+	 *            the index of the first element to fill
+	 * @param length
+	 *            the number of elements to fill
+	 * @param start
+	 *            the int from where the range starts
+	 * @param end
+	 *            the int from where the range ends
+	 * @param randomSource
+	 *            the random source for int generation
+	 */
+	public static void fillBetween(final int[] array, final int offset, final int length,
+		final int start, final int end, RandomSource randomSource)
+	{
+		Objects.requireNonNull(array);
+		Objects.requireNonNull(randomSource);
+		Objects.checkFromIndexSize(offset, length, array.length);
+		nextBetween(array, offset, length, start, end,
+			BulkRandomGenerators.of(randomSource, (long)length * Integer.BYTES));
+	}
+
+	/**
+	 * Factory method for create a new unlimited {@link IntStream} with random int values. The
+	 * stream is lazy and can be split for parallel processing, every split gets its own engine. The
+	 * stream starts from a new secure random, so it never shares the pooled secure random
+	 *
+	 * @return the new {@link IntStream}
+	 */
+	public static IntStream ints()
+	{
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return ints(Long.MAX_VALUE);
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomIntFactory#ints()", startNanos);
+		}
+	}
+
+	/**
+	 * Factory method for create a new {@link IntStream} with the given number of random int
+	 * values. The stream is lazy and can be split for parallel processing, every split
+	 * gets its own engine. The
+	 * stream starts from a new secure random, so it never shares the pooled secure random
+	 *
+	 * @param streamSize
+	 *            the number of values
+	 * @return the new {@link IntStream}
+	 */
+	public static IntStream ints(final long streamSize)
+	{
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return ints(streamSize, RandomSourceFactory.newSecureRandomSource());
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomIntFactory#ints(long)", startNanos);
+		}
+	}
+
+	/**
+	 * Factory method for create a new {@link IntStream} with the given number of random int
+	 * values from the given random source. The stream is lazy and can be split for parallel
+	 * processing, every split gets its own engine from
+	 * {@link RandomSourceFactory#split(RandomSource)}
+	 *
+	 * @param streamSize
+	 *            the number of values
+	 * @param randomSource
+	 *            the random source of the stream
+	 * @return the new {@link IntStream}
+	 */
+	public static IntStream ints(final long streamSize, RandomSource randomSource)
+	{
+		return RandomSpliterators.ints(streamSize, randomSource);
+	}
+
+	/**
+	 * Factory method for create a new unlimited {@link IntStream} with random int values between
+	 * the range from start inclusive and end exclusive. The stream is lazy and can be split for
+	 * parallel processing, every split gets its own engine. The
+	 * stream starts from a new secure random, so it never shares the pooled secure random
+	 *
+	 * @param start
+	 *            the int from where the range starts
+	 * @param end
+	 *            the int from where the range ends
+	 * @return the new {@link IntStream}
+	 */
+	public static IntStream ints(final int start, final int end)
+	{
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return ints(Long.MAX_VALUE, start, end);
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomIntFactory#ints(int, int)", startNanos);
+		}
+	}
+
+	/**
+	 * Factory method for create a new {@link IntStream} with the given number of random int
+	 * values between the range from start inclusive and end exclusive. The stream is lazy and can
+	 * be split for parallel processing, every split gets its own engine. The
+	 * stream starts from a new secure random, so it never shares the pooled secure random
+	 *
+	 * @param streamSize
+	 *            the number of values
+	 * @param start
+	 *            the int from where the range starts
+	 * @param end
+	 *            the int from where the range ends
+	 * @return the new {@link IntStream}
+	 */
+	public static IntStream ints(final long streamSize, final int start, final int end)
+	{
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return ints(streamSize, start, end,
+				RandomSourceFactory.newSecureRandomSource());
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomIntFactory#ints(long, int, int)", startNanos);
+		}
+	}
+
+	/**
+	 * Factory method for create a new {@link IntStream} with the given number of random int
+	 * values between the range from start inclusive and end exclusive from the given random
+	 * source. The stream is lazy and can be split for parallel processing, every split gets its
+	 * own engine from {@link RandomSourceFactory#split(RandomSource)}
+	 *
+	 * @param streamSize
+	 *            the number of values
+	 * @param start
+	 *            the int from where the range starts
+	 * @param end
+	 *            the int from where the range ends
+	 * @param randomSource
+	 *            the random source of the stream
+	 * @return the new {@link IntStream}
+	 */
+	public static IntStream ints(final long streamSize, final int start, final int end,
+		RandomSource randomSource)
+	{
+		return RandomSpliterators.ints(streamSize, start, end, randomSource);
+	}
+
+	private static void nextValues(final int[] array, final int offset, final int length,
+		final RandomGenerator generator)
+	{
+		for (int i = offset, to = offset + length; i < to; i++)
+		{
+			array[i] = generator.nextInt();
+		}
+	}
+
+	private static void nextBetween(final int[] array, final int offset, final int length,
+		final int start, final int end, final RandomGenerator generator)
+	{
+		final long range = (long)end - start;
+		for (int i = offset, to = offset + length; i < to; i++)
+		{
+			array[i] = (int)(start + nextBounded(range, generator));
+		}
 	}
 
 }
@@ -24,14 +24,19 @@
  */
 package io.github.astrapi69.random.number;
 
+import java.nio.LongBuffer;
 import java.security.SecureRandom;
 import java.util.Objects;
-import java.util.Random;
+import java.util.random.RandomGenerator;
+import java.util.stream.LongStream;
 
-import io.github.astrapi69.math.MathExtensions;
 import io.github.astrapi69.random.DefaultSecureRandom;
-import io.github.astrapi69.random.SecureRandomFactory;
+import io.github.astrapi69.random.Randomizer;
 import io.github.astrapi69.random.enumeration.RandomAlgorithm;
+import io.github.astrapi69.random.metrics.RandomMetrics;
+import io.github.astrapi69.random.source.ParallelRandomFill;
+import io.github.astrapi69.random.source.RandomSource;
+import io.github.astrapi69.random.source.RandomSourceFactory;
 
 /**
  * Utility class for producing random primitive long types
@@ -53,7 +58,15 @@ public final class RandomLongFactory
 	 */
 	public static long randomLong()
 	{
-		return randomLong(DefaultSecureRandom.get());
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return Randomizer.getDefault().randomLong();
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomLongFactory#randomLong()", startNanos);
+		}
 	}
 
 	/**
@@ -66,7 +79,15 @@ public final class RandomLongFactory
 	 */
 	public static long randomLong(final long range)
 	{
-		return randomLong(range, RandomAlgorithm.SECURE_RANDOM);
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return randomLong(range, RandomAlgorithm.SECURE_RANDOM);
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomLongFactory#randomLong(long)", startNanos);
+		}
 	}
 
 	/**
@@ -82,7 +103,7 @@ public final class RandomLongFactory
 	 */
 	public static long randomLong(final long range, final RandomAlgorithm algorithm)
 	{
-		return randomLong(range, Objects.requireNonNull(algorithm), DefaultSecureRandom.get());
+		return nextLong(range, Objects.requireNonNull(algorithm), algorithm.getRandomSource());
 	}
 
 	/**
@@ -96,7 +117,15 @@ public final class RandomLongFactory
 	 */
 	public static long randomLongBetween(final long start, final long end)
 	{
-		return randomLongBetween(start, end, SecureRandomFactory.newSecureRandom());
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return Randomizer.getDefault().randomLongBetween(start, end);
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomLongFactory#randomLongBetween(long, long)", startNanos);
+		}
 	}
 
 	/**
@@ -117,18 +146,39 @@ public final class RandomLongFactory
 	{
 		Objects.requireNonNull(algorithm);
 		Objects.requireNonNull(secureRandom);
+		return nextLong(range, algorithm, secureRandom);
+	}
+
+	/**
+	 * Gets an random long to the given range with the given random algorithm <br>
+	 * <br>
+	 * For example: if you put range to 10 the random int is between 0-9
+	 *
+	 * @param range
+	 *            the range
+	 * @param algorithm
+	 *            the random algorithm
+	 * @param randomSource
+	 *            the random source for long generation
+	 * @return an random long not greater then the range
+	 */
+	public static long randomLong(final long range, final RandomAlgorithm algorithm,
+		RandomSource randomSource)
+	{
+		Objects.requireNonNull(algorithm);
+		Objects.requireNonNull(randomSource);
+		return nextLong(range, algorithm, randomSource);
+	}
+
+	private static long nextLong(final long range, final RandomAlgorithm algorithm,
+		RandomGenerator generator)
+	{
 		switch (algorithm)
 		{
 			case MATH_ABS :
-				return (long)(Math.abs(secureRandom.nextDouble()) % range);
-			case MATH_RANDOM :
-				return (long)(Math.random() * range);
-			case RANDOM :
-				long random = (long)new Random(System.currentTimeMillis()).nextDouble() % range;
-				return MathExtensions.isPositive(random) ? random : random * -1;
-			case SECURE_RANDOM :
+				return (long)(Math.abs(generator.nextDouble()) % range);
 			default :
-				return (long)(secureRandom.nextDouble() * range);
+				return (long)(generator.nextDouble() * range);
 		}
 	}
 
@@ -148,6 +198,35 @@ public final class RandomLongFactory
 		return randomLong(range, RandomAlgorithm.SECURE_RANDOM, secureRandom);
 	}
 
+	/**
+	 * Gets an random long to the given range with the given random algorithm <br>
+	 * <br>
+	 * For example: if you put range to 10 the random int is between 0-9
+	 *
+	 * @param range
+	 *            the range
+	 * @param randomSource
+	 *            the random source for long generation
+	 * @return an random long not greater then the range
+	 */
+	public static long randomLong(final long range, RandomSource randomSource)
+	{
+		return randomLong(range, RandomAlgorithm.SECURE_RANDOM, randomSource);
+	}
+
+	/**
+	 * Gets a random long
+	 *
+	 * @param randomSource
+	 *            the random source for long generation
+	 *
+	 * @return a random long
+	 */
+	public static long randomLong(RandomSource randomSource)
+	{
+		return Objects.requireNonNull(randomSource).nextLong();
+	}
+
 	/**
 	 * Gets a random long
 	 *
@@ -179,4 +258,607 @@ public final class RandomLongFactory
 			Objects.requireNonNull(secureRandom));
 	}
 
+	/**
+	 * Returns a random long between the range from start and end.
+	 *
+	 * @param start
+	 *            The long from where the range starts.
+	 * @param end
+	 *            The long from where the range ends.
+	 * @param randomSource
+	 *            the random source for long generation
+	 * @return A random long between the range from start and end.
+	 */
+	public static long randomLongBetween(final long start, final long end,
+		RandomSource randomSource)
+	{
+		return start + randomLong(end - start, RandomAlgorithm.SECURE_RANDOM,
+			Objects.requireNonNull(randomSource));
+	}
+
+	/**
+	 * Fills the given array with random long values
+	 *
+	 * @param array
+	 *            the array to fill
+	 */
+	public static void fill(final long[] array)
+	{
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			fill(array, DefaultSecureRandom.get());
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomLongFactory#fill(long[])", startNanos);
+		}
+	}
+
+	/**
+	 * Fills the given array with random long values
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param secureRandom
+	 *            the secure random for long generation
+	 */
+	public static void fill(final long[] array, SecureRandom secureRandom)
+	{
+		Objects.requireNonNull(array);
+		fill(array, 0, array.length, secureRandom);
+	}
+
+	/**
+	 * Fills the given array with random long values
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param randomSource
+	 *            the random source for long generation
+	 */
+	public static void fill(final long[] array, RandomSource randomSource)
+	{
+		Objects.requireNonNull(array);
+		fill(array, 0, array.length, randomSource);
+	}
+
+	/**
+	 * Fills the given range of the given array with random long values
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param offset
+	 *            the index of the first element to fill
+	 * @param length
+	 *            the number of elements to fill
+	 * @param secureRandom
+	 *            the secure random for long generation
+	 */
+	public static void fill(final long[] array, final int offset, final int length,
+		SecureRandom secureRandom)
+	{
+		Objects.requireNonNull(array);
+		Objects.requireNonNull(secureRandom);
+		Objects.checkFromIndexSize(offset, length, array.length);
+		nextValues(array, offset, length,
+			BulkRandomGenerators.of(secureRandom, (long)length * Long.BYTES));
+	}
+
+	/**
+	 * Fills the given range of the given array with random long values
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param offset
+	 *            the index of the first element to fill
+	 * @param length
+	 *            the number of elements to fill
+	 * @param randomSource
+	 *            the random source for long generation
+	 */
+	public static void fill(final long[] array, final int offset, final int length,
+		RandomSource randomSource)
+	{
+		Objects.requireNonNull(array);
+		Objects.requireNonNull(randomSource);
+		Objects.checkFromIndexSize(offset, length, array.length);
+		nextValues(array, offset, length,
+			BulkRandomGenerators.of(randomSource, (long)length * Long.BYTES));
+	}
+
+	/**
+	 * Fills the given array with random long values between the range from start inclusive and end
+	 * exclusive
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param start
+	 *            the long from where the range starts
+	 * @param end
+	 *            the long from where the range ends
+	 */
+	public static void fillBetween(final long[] array, final long start, final long end)
+	{
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			fillBetween(array, start, end, DefaultSecureRandom.get());
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomLongFactory#fillBetween(long[], long, long)", startNanos);
+		}
+	}
+
+	/**
+	 * Fills the given array with random long values between the range from start inclusive and end
+	 * exclusive
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param start
+	 *            the long from where the range starts
+	 * @param end
+	 *            the long from where the range ends
+	 * @param secureRandom
+	 *            the secure random for long generation
+	 */
+	public static void fillBetween(final long[] array, final long start, final long end,
+		SecureRandom secureRandom)
+	{
+		Objects.requireNonNull(array);
+		fillBetween(array, 0, array.length, start, end, secureRandom);
+	}
+
+	/**
+	 * Fills the given array with random long values between the range from start inclusive and end
+	 * exclusive
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param start
+	 *            the long from where the range starts
+	 * @param end
+	 *            the long from where the range ends
+	 * @param randomSource
+	 *            the random source for long generation
+	 */
+	public static void fillBetween(final long[] array, final long start, final long end,
+		RandomSource randomSource)
+	{
+		Objects.requireNonNull(array);
+		fillBetween(array, 0, array.length, start, end, randomSource);
+	}
+
+	/**
+	 * Fills the given range of the given array with random long values between the range from start
+	 * inclusive and end exclusive
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param offset
+	 *            the index of the first element to fill
+	 * @param length
+	 *            the number of elements to fill
+	 * @param start
+	 *            the long from where the range starts
+	 * @param end
+	 *            the long from where the range ends
+	 * @param secureRandom
+	 *            the secure random for long generation
+	 */
+	public static void fillBetween(final long[] array, final int offset, final int length,
+		final long start, final long end, SecureRandom secureRandom)
+	{
+		Objects.requireNonNull(array);
+		Objects.requireNonNull(secureRandom);
+		Objects.checkFromIndexSize(offset, length, array.length);
+		nextBetween(array, offset, length, start, end,
+			BulkRandomGenerators.of(secureRandom, (long)length * Long.BYTES));
+	}
+
+	/**
+	 * Fills the given range of the given array with random long values between the range from start
+	 * inclusive and end exclusive
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param offset
+	 *            the index of the first element to fill
+	 * @param length
+	 *            the number of elements to fill
+	 * @param start
+	 *            the long from where the range starts
+	 * @param end
+	 *            the long from where the range ends
+	 * @param randomSource
+	 *            the random source for long generation
+	 */
+	public static void fillBetween(final long[] array, final int offset, final int length,
+		final long start, final long end, RandomSource randomSource)
+	{
+		Objects.requireNonNull(array);
+		Objects.requireNonNull(randomSource);
+		Objects.checkFromIndexSize(offset, length, array.length);
+		nextBetween(array, offset, length, start, end,
+			BulkRandomGenerators.of(randomSource, (long)length * Long.BYTES));
+	}
+
+	/**
+	 * Fills the remaining elements of the given buffer with random long values, after this call
+	 * the position of the buffer is equal to its limit. A view of a direct byte buffer is filled
+	 * in place without staging the values on the heap
+	 *
+	 * @param buffer
+	 *            the buffer to fill
+	 */
+	public static void fill(final LongBuffer buffer)
+	{
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			fill(buffer, DefaultSecureRandom.get());
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomLongFactory#fill(LongBuffer)", startNanos);
+		}
+	}
+
+	/**
+	 * Fills the remaining elements of the given buffer with random long values, after this call
+	 * the position of the buffer is equal to its limit. A view of a direct byte buffer is filled
+	 * in place without staging the values on the heap
+	 *
+	 * @param buffer
+	 *            the buffer to fill
+	 * @param secureRandom
+	 *            the secure random for long generation
+	 */
+	public static void fill(final LongBuffer buffer, SecureRandom secureRandom)
+	{
+		Objects.requireNonNull(buffer);
+		Objects.requireNonNull(secureRandom);
+		nextValues(buffer,
+			BulkRandomGenerators.of(secureRandom, (long)buffer.remaining() * Long.BYTES));
+	}
+
+	/**
+	 * Fills the remaining elements of the given buffer with random long values, after this call
+	 * the position of the buffer is equal to its limit. A view of a direct byte buffer is filled
+	 * in place without staging the values on the heap
+	 *
+	 * @param buffer
+	 *            the buffer to fill
+	 * @param randomSource
+	 *            the random source for long generation
+	 */
+	public static void fill(final LongBuffer buffer, RandomSource randomSource)
+	{
+		Objects.requireNonNull(buffer);
+		Objects.requireNonNull(randomSource);
+		nextValues(buffer, randomSource);
+	}
+
+	/**
+	 * Fills the given array in parallel with random long values. The array is split into chunks
+	 * that are filled by fork join tasks, every task with its own engine that is derived from a
+	 * seed of the {@link DefaultSecureRandom}.<br>
+	 * <br>
+	 * Note: the engines of the tasks are fast non cryptographic engines
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @see ParallelRandomFill
+	 */
+	public static void parallelFill(final long[] array)
+	{
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			parallelFill(array, DefaultSecureRandom.get().nextLong());
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomLongFactory#parallelFill(long[])", startNanos);
+		}
+	}
+
+	/**
+	 * Fills the given array in parallel with random long values. The array is split into chunks
+	 * that are filled by fork join tasks, every task with its own engine that is derived from the
+	 * given seed, so the result for a given seed is always the same whatever the number of threads
+	 * is.<br>
+	 * <br>
+	 * Note: the engines of the tasks are fast non cryptographic engines
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param seed
+	 *            the seed
+	 * @see ParallelRandomFill
+	 */
+	public static void parallelFill(final long[] array, final long seed)
+	{
+		Objects.requireNonNull(array);
+		ParallelRandomFill.fill(array.length, ParallelRandomFill.DEFAULT_CHUNK_SIZE,
+			RandomSourceFactory.newReproducibleRandomSource(seed),
+			(from, to, randomSource) -> nextValues(array, from, to - from, randomSource));
+	}
+
+	/**
+	 * Fills the given array in parallel with random long values between the range from start
+	 * inclusive and end exclusive. The array is split into chunks that are filled by fork join
+	 * tasks, every task with its own engine that is derived from a seed of the
+	 * {@link DefaultSecureRandom}.<br>
+	 * <br>
+	 * Note: the engines of the tasks are fast non cryptographic engines
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param start
+	 *            the long from where the range starts
+	 * @param end
+	 *            the long from where the range ends
+	 * @see ParallelRandomFill
+	 */
+	public static void parallelFillBetween(final long[] array, final long start, final long end)
+	{
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			parallelFillBetween(array, start, end, DefaultSecureRandom.get().nextLong());
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomLongFactory#parallelFillBetween(long[], long, long)",
+				startNanos);
+		}
+	}
+
+	/**
+	 * Fills the given array in parallel with random long values between the range from start
+	 * inclusive and end exclusive. The array is split into chunks that are filled by fork join
+	 * tasks, every task with its own engine that is derived from the given seed, so the result for
+	 * a given seed is always the same whatever the number of threads is.<br>
+	 * <br>
+	 * Note: the engines of the tasks are fast non cryptographic engines
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param start
+	 *            the long from where the range starts
+	 * @param end
+	 *            the long from where the range ends
+	 * @param seed
+	 *            the seed
+	 * @see ParallelRandomFill
+	 */
+	public static void parallelFillBetween(final long[] array, final long start, final long end,
+		final long seed)
+	{
+		Objects.requireNonNull(array);
+		ParallelRandomFill.fill(array.length, ParallelRandomFill.DEFAULT_CHUNK_SIZE,
+			RandomSourceFactory.newReproducibleRandomSource(seed),
+			(from, to, randomSource) -> nextBetween(array, from, to - from, start, end,
+				randomSource));
+	}
+
+	/**
+	 * Factory method for create a new unlimited {@link LongStream} with random long values. The
+	 * stream is lazy and can be split for parallel processing, every split gets its own engine. The
+	 * stream starts from a new secure random, so it never shares the pooled secure random
+	 *
+	 * @return the new {@link LongStream}
+	 */
+	public static LongStream longs()
+	{
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return longs(Long.MAX_VALUE);
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomLongFactory#longs()", startNanos);
+		}
+	}
+
+	/**
+	 * Factory method for create a new {@link LongStream} with the given number of random long
+	 * values. The stream is lazy and can be split for parallel processing, every split
+	 * gets its own engine. The
+	 * stream starts from a new secure random, so it never shares the pooled secure random
+	 *
+	 * @param streamSize
+	 *            the number of values
+	 * @return the new {@link LongStream}
+	 */
+	public static LongStream longs(final long streamSize)
+	{
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return longs(streamSize,
+				RandomSourceFactory.newSecureRandomSource());
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomLongFactory#longs(long)", startNanos);
+		}
+	}
+
+	/**
+	 * Factory method for create a new {@link LongStream} with the given number of random long
+	 * values from the given random source. The stream is lazy and can be split for parallel
+	 * processing, every split gets its own engine from
+	 * {@link RandomSourceFactory#split(RandomSource)}
+	 *
+	 * @param streamSize
+	 *            the number of values
+	 * @param randomSource
+	 *            the random source of the stream
+	 * @return the new {@link LongStream}
+	 */
+	public static LongStream longs(final long streamSize, RandomSource randomSource)
+	{
+		return RandomSpliterators.longs(streamSize, randomSource);
+	}
+
+	/**
+	 * Factory method for create a new unlimited {@link LongStream} with random long values between
+	 * the range from start inclusive and end exclusive. The stream is lazy and can be split for
+	 * parallel processing, every split gets its own engine. The
+	 * stream starts from a new secure random, so it never shares the pooled secure random
+	 *
+	 * @param start
+	 *            the long from where the range starts
+	 * @param end
+	 *            the long from where the range ends
+	 * @return the new {@link LongStream}
+	 */
+	public static LongStream longs(final long start, final long end)
+	{
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return longs(Long.MAX_VALUE, start, end);
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomLongFactory#longs(long, long)", startNanos);
+		}
+	}
+
+	/**
+	 * Factory method for create a new {@link LongStream} with the given number of random long
+	 * values between the range from start inclusive and end exclusive. The stream is lazy and can
+	 * be split for parallel processing, every split gets its own engine. The
+	 * stream starts from a new secure random, so it never shares the pooled secure random
+	 *
+	 * @param streamSize
+	 *            the number of values
+	 * @param start
+	 *            the long from where the range starts
+	 * @param end
+	 *            the long from where the range ends
+	 * @return the new {@link LongStream}
+	 */
+	public static LongStream longs(final long streamSize, final long start, final long end)
+	{
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return longs(streamSize, start, end,
+				RandomSourceFactory.newSecureRandomSource());
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomLongFactory#longs(long, long, long)", startNanos);
+		}
+	}
+
+	/**
+	 * Factory method for create a new {@link LongStream} with the given number of random long
+	 * values between the range from start inclusive and end exclusive from the given random
+	 * source. The stream is lazy and can be split for parallel processing, every split gets its
+	 * own engine from {@link RandomSourceFactory#split(RandomSource)}
+	 *
+	 * @param streamSize
+	 *            the number of values
+	 * @param start
+	 *            the long from where the range starts
+	 * @param end
+	 *            the long from where the range ends
+	 * @param randomSource
+	 *            the random source of the stream
+	 * @return the new {@link LongStream}
+	 */
+	public static LongStream longs(final long streamSize, final long start, final long end,
+		RandomSource randomSource)
+	{
+		return RandomSpliterators.longs(streamSize, start, end, randomSource);
+	}
+
+	private static void nextValues(final LongBuffer buffer, final RandomGenerator generator)
+	{
+		while (buffer.hasRemaining())
+		{
+			buffer.put(generator.nextLong());
+		}
+	}
+
+	private static void nextValues(final long[] array, final int offset, final int length,
+		final RandomGenerator generator)
+	{
+		for (int i = offset, to = offset + length; i < to; i++)
+		{
+			array[i] = generator.nextLong();
+		}
+	}
+
+	private static void nextBetween(final long[] array, final int offset, final int length,
+		final long start, final long end, final RandomGenerator generator)
+	{
+		for (int i = offset, to = offset + length; i < to; i++)
+		{
+			array[i] = nextLongBetween(start, end, generator);
+		}
+	}
+
+	private static long nextLongBetween(final long start, final long end,
+		final RandomGenerator generator)
+	{
+		final long range = end - start;
+		if (((end ^ start) & (end ^ range)) < 0 || range == Long.MIN_VALUE)
+		{
+			// the range does not fit in a long so draw until the value is inside the range
+			final long min = Math.min(start, end);
+			final long max = Math.max(start, end);
+			long random = generator.nextLong();
+			while (random < min || max < random || random == end)
+			{
+				random = generator.nextLong();
+			}
+			return random;
+		}
+		return start + nextBounded(range, generator);
+	}
+
+	/**
+	 * Draws an exactly uniform value between zero inclusive and the given range exclusive with
+	 * Lemire's multiply-shift method on 64-bit draws. A range of zero returns zero and a negative
+	 * range returns a value between the range exclusive and zero inclusive.
+	 *
+	 * @param range
+	 *            the range, must be greater than {@link Long#MIN_VALUE}
+	 * @param generator
+	 *            the generator for the 64-bit draws
+	 * @return the bounded value
+	 */
+	static long nextBounded(final long range, final RandomGenerator generator)
+	{
+		if (range < 0)
+		{
+			return -nextBounded(-range, generator);
+		}
+		if (range == 0)
+		{
+			return 0;
+		}
+		long random = generator.nextLong();
+		long low = random * range;
+		if (Long.compareUnsigned(low, range) < 0)
+		{
+			final long threshold = Long.remainderUnsigned(-range, range);
+			while (Long.compareUnsigned(low, threshold) < 0)
+			{
+				random = generator.nextLong();
+				low = random * range;
+			}
+		}
+		return Math.multiplyHigh(random, range) + ((random >> 63) & range);
+	}
+
 }
@@ -28,6 +28,8 @@ import java.security.SecureRandom;
 import java.util.Objects;
 
 import io.github.astrapi69.random.DefaultSecureRandom;
+import io.github.astrapi69.random.metrics.RandomMetrics;
+import io.github.astrapi69.random.source.RandomSource;
 
 /**
  * Utility class for producing random primitive short types
@@ -38,6 +40,9 @@ import io.github.astrapi69.random.DefaultSecureRandom;
 public final class RandomShortFactory
 {
 
+	/** The number of distinct short values */
+	private static final int SHORT_RANGE = 1 << Short.SIZE;
+
 	private RandomShortFactory()
 	{
 	}
@@ -52,25 +57,40 @@ public final class RandomShortFactory
 	 */
 	public static short randomShort(SecureRandom secureRandom)
 	{
-		Objects.requireNonNull(secureRandom);
-		if (secureRandom.nextBoolean())
+		return (short)(RandomIntFactory.randomInt(SHORT_RANGE, Objects.requireNonNull(secureRandom))
+			+ Short.MIN_VALUE);
+	}
+
+	/**
+	 * Returns a random short
+	 *
+	 * @return The generated random short
+	 */
+	public static short randomShort()
+	{
+		final long startNanos = RandomMetrics.start();
+		try
 		{
-			return (short)(secureRandom.nextInt(65536) - 32768);
+			return randomShort(DefaultSecureRandom.get());
 		}
-		else
+		finally
 		{
-			return (short)secureRandom.nextInt(Short.MAX_VALUE + 1);
+			RandomMetrics.stop("RandomShortFactory#randomShort()", startNanos);
 		}
 	}
 
 	/**
 	 * Returns a random short
 	 *
+	 * @param randomSource
+	 *            the random source for short generation
+	 *
 	 * @return The generated random short
 	 */
-	public static short randomShort()
+	public static short randomShort(RandomSource randomSource)
 	{
-		return randomShort(DefaultSecureRandom.get());
+		return (short)(RandomIntFactory.randomInt(SHORT_RANGE, Objects.requireNonNull(randomSource))
+			+ Short.MIN_VALUE);
 	}
 
 }
@@ -0,0 +1,457 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.number;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.random.RandomGenerator;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+
+import io.github.astrapi69.random.source.RandomSource;
+import io.github.astrapi69.random.source.RandomSourceFactory;
+
+/**
+ * Utility class for the random number streams of the number factories. The streams are backed by
+ * {@link Spliterator} objects that are {@link Spliterator#SIZED} and {@link Spliterator#SUBSIZED},
+ * on every split the new spliterator gets its own engine from
+ * {@link RandomSourceFactory#split(RandomSource)}, so the tasks of a parallel stream never share
+ * one engine
+ */
+final class RandomSpliterators
+{
+
+	/** The characteristics of all random spliterators */
+	static final int CHARACTERISTICS = Spliterator.SIZED | Spliterator.SUBSIZED
+		| Spliterator.NONNULL | Spliterator.IMMUTABLE;
+
+	private RandomSpliterators()
+	{
+	}
+
+	/**
+	 * Factory method for create a new {@link IntStream} with the given number of random int values
+	 *
+	 * @param streamSize
+	 *            the number of values
+	 * @param randomSource
+	 *            the random source of the stream
+	 * @return the new {@link IntStream}
+	 */
+	static IntStream ints(final long streamSize, final RandomSource randomSource)
+	{
+		checkStreamSize(streamSize);
+		return StreamSupport.intStream(
+			new RandomIntsSpliterator(Objects.requireNonNull(randomSource), 0L, streamSize, 0, 0),
+			false);
+	}
+
+	/**
+	 * Factory method for create a new {@link IntStream} with the given number of random int values
+	 * between the range from start inclusive and end exclusive
+	 *
+	 * @param streamSize
+	 *            the number of values
+	 * @param start
+	 *            the int from where the range starts
+	 * @param end
+	 *            the int from where the range ends
+	 * @param randomSource
+	 *            the random source of the stream
+	 * @return the new {@link IntStream}
+	 */
+	static IntStream ints(final long streamSize, final int start, final int end,
+		final RandomSource randomSource)
+	{
+		checkStreamSize(streamSize);
+		checkRange(start < end);
+		return StreamSupport.intStream(
+			new RandomIntsSpliterator(Objects.requireNonNull(randomSource), 0L, streamSize, start,
+				end),
+			false);
+	}
+
+	/**
+	 * Factory method for create a new {@link LongStream} with the given number of random long
+	 * values
+	 *
+	 * @param streamSize
+	 *            the number of values
+	 * @param randomSource
+	 *            the random source of the stream
+	 * @return the new {@link LongStream}
+	 */
+	static LongStream longs(final long streamSize, final RandomSource randomSource)
+	{
+		checkStreamSize(streamSize);
+		return StreamSupport.longStream(
+			new RandomLongsSpliterator(Objects.requireNonNull(randomSource), 0L, streamSize, 0L,
+				0L),
+			false);
+	}
+
+	/**
+	 * Factory method for create a new {@link LongStream} with the given number of random long
+	 * values between the range from start inclusive and end exclusive
+	 *
+	 * @param streamSize
+	 *            the number of values
+	 * @param start
+	 *            the long from where the range starts
+	 * @param end
+	 *            the long from where the range ends
+	 * @param randomSource
+	 *            the random source of the stream
+	 * @return the new {@link LongStream}
+	 */
+	static LongStream longs(final long streamSize, final long start, final long end,
+		final RandomSource randomSource)
+	{
+		checkStreamSize(streamSize);
+		checkRange(start < end);
+		return StreamSupport.longStream(
+			new RandomLongsSpliterator(Objects.requireNonNull(randomSource), 0L, streamSize, start,
+				end),
+			false);
+	}
+
+	/**
+	 * Factory method for create a new {@link DoubleStream} with the given number of random double
+	 * values between the range from start inclusive and end exclusive
+	 *
+	 * @param streamSize
+	 *            the number of values
+	 * @param start
+	 *            the double from where the range starts
+	 * @param end
+	 *            the double from where the range ends
+	 * @param randomSource
+	 *            the random source of the stream
+	 * @return the new {@link DoubleStream}
+	 */
+	static DoubleStream doubles(final long streamSize, final double start, final double end,
+		final RandomSource randomSource)
+	{
+		checkStreamSize(streamSize);
+		checkRange(start < end && Double.isFinite(end - start));
+		return StreamSupport.doubleStream(
+			new RandomDoublesSpliterator(Objects.requireNonNull(randomSource), 0L, streamSize,
+				start, end),
+			false);
+	}
+
+	private static void checkStreamSize(final long streamSize)
+	{
+		if (streamSize < 0L)
+		{
+			throw new IllegalArgumentException("streamSize must be non-negative: " + streamSize);
+		}
+	}
+
+	private static void checkRange(final boolean valid)
+	{
+		if (!valid)
+		{
+			throw new IllegalArgumentException("start must be less than end");
+		}
+	}
+
+	/**
+	 * The class {@link AbstractRandomSpliterator} holds the range of the indexes and the engine of
+	 * a random spliterator. The engine for the values is created on the first value, so a
+	 * spliterator that is only split never draws from its random source
+	 */
+	private abstract static class AbstractRandomSpliterator
+	{
+
+		/** The random source from that is split */
+		final RandomSource randomSource;
+
+		/** The index of the next value */
+		long index;
+
+		/** The index after the last value */
+		final long fence;
+
+		/** The bytes that one value consumes */
+		private final int valueBytes;
+
+		/** The engine for the values */
+		private RandomGenerator generator;
+
+		AbstractRandomSpliterator(final RandomSource randomSource, final long index,
+			final long fence, final int valueBytes)
+		{
+			this.randomSource = randomSource;
+			this.index = index;
+			this.fence = fence;
+			this.valueBytes = valueBytes;
+		}
+
+		/**
+		 * Gets the engine for the values. A {@link java.security.SecureRandom} is buffered for the
+		 * remaining values, this is safe because a spliterator is used by one thread at a time
+		 *
+		 * @return the engine for the values
+		 */
+		final RandomGenerator generator()
+		{
+			if (generator == null)
+			{
+				// saturated, the byte count of an unlimited stream overflows a long
+				generator = BulkRandomGenerators.of(randomSource,
+					Math.min(fence - index, Long.MAX_VALUE / valueBytes) * valueBytes);
+			}
+			return generator;
+		}
+
+		/**
+		 * Splits the index range in halves and returns the index where the upper half starts, or
+		 * -1 if the range can not be split
+		 *
+		 * @return the index where the upper half starts or -1
+		 */
+		final long splitIndex()
+		{
+			final long middle = (index + fence) >>> 1;
+			return index < middle ? middle : -1L;
+		}
+
+		public final long estimateSize()
+		{
+			return fence - index;
+		}
+
+		public final int characteristics()
+		{
+			return CHARACTERISTICS;
+		}
+	}
+
+	/**
+	 * The spliterator {@link RandomIntsSpliterator} for random int values
+	 */
+	private static final class RandomIntsSpliterator extends AbstractRandomSpliterator
+		implements
+			Spliterator.OfInt
+	{
+		private final int start;
+
+		private final int end;
+
+		RandomIntsSpliterator(final RandomSource randomSource, final long index, final long fence,
+			final int start, final int end)
+		{
+			super(randomSource, index, fence, Integer.BYTES);
+			this.start = start;
+			this.end = end;
+		}
+
+		private int nextInt(final RandomGenerator randomGenerator)
+		{
+			return start < end ? randomGenerator.nextInt(start, end) : randomGenerator.nextInt();
+		}
+
+		@Override
+		public RandomIntsSpliterator trySplit()
+		{
+			final long middle = splitIndex();
+			if (middle < 0L)
+			{
+				return null;
+			}
+			final long lower = index;
+			index = middle;
+			return new RandomIntsSpliterator(RandomSourceFactory.split(randomSource), lower,
+				middle, start, end);
+		}
+
+		@Override
+		public boolean tryAdvance(final IntConsumer consumer)
+		{
+			Objects.requireNonNull(consumer);
+			if (index < fence)
+			{
+				consumer.accept(nextInt(generator()));
+				index++;
+				return true;
+			}
+			return false;
+		}
+
+		@Override
+		public void forEachRemaining(final IntConsumer consumer)
+		{
+			Objects.requireNonNull(consumer);
+			if (index < fence)
+			{
+				final RandomGenerator randomGenerator = generator();
+				final long from = index;
+				index = fence;
+				for (long i = from; i < fence; i++)
+				{
+					consumer.accept(nextInt(randomGenerator));
+				}
+			}
+		}
+	}
+
+	/**
+	 * The spliterator {@link RandomLongsSpliterator} for random long values
+	 */
+	private static final class RandomLongsSpliterator extends AbstractRandomSpliterator
+		implements
+			Spliterator.OfLong
+	{
+		private final long start;
+
+		private final long end;
+
+		RandomLongsSpliterator(final RandomSource randomSource, final long index, final long fence,
+			final long start, final long end)
+		{
+			super(randomSource, index, fence, Long.BYTES);
+			this.start = start;
+			this.end = end;
+		}
+
+		private long nextLong(final RandomGenerator randomGenerator)
+		{
+			return start < end ? randomGenerator.nextLong(start, end) : randomGenerator.nextLong();
+		}
+
+		@Override
+		public RandomLongsSpliterator trySplit()
+		{
+			final long middle = splitIndex();
+			if (middle < 0L)
+			{
+				return null;
+			}
+			final long lower = index;
+			index = middle;
+			return new RandomLongsSpliterator(RandomSourceFactory.split(randomSource), lower,
+				middle, start, end);
+		}
+
+		@Override
+		public boolean tryAdvance(final LongConsumer consumer)
+		{
+			Objects.requireNonNull(consumer);
+			if (index < fence)
+			{
+				consumer.accept(nextLong(generator()));
+				index++;
+				return true;
+			}
+			return false;
+		}
+
+		@Override
+		public void forEachRemaining(final LongConsumer consumer)
+		{
+			Objects.requireNonNull(consumer);
+			if (index < fence)
+			{
+				final RandomGenerator randomGenerator = generator();
+				final long from = index;
+				index = fence;
+				for (long i = from; i < fence; i++)
+				{
+					consumer.accept(nextLong(randomGenerator));
+				}
+			}
+		}
+	}
+
+	/**
+	 * The spliterator {@link RandomDoublesSpliterator} for random double values
+	 */
+	private static final class RandomDoublesSpliterator extends AbstractRandomSpliterator
+		implements
+			Spliterator.OfDouble
+	{
+		private final double start;
+
+		private final double end;
+
+		RandomDoublesSpliterator(final RandomSource randomSource, final long index,
+			final long fence, final double start, final double end)
+		{
+			super(randomSource, index, fence, Double.BYTES);
+			this.start = start;
+			this.end = end;
+		}
+
+		@Override
+		public RandomDoublesSpliterator trySplit()
+		{
+			final long middle = splitIndex();
+			if (middle < 0L)
+			{
+				return null;
+			}
+			final long lower = index;
+			index = middle;
+			return new RandomDoublesSpliterator(RandomSourceFactory.split(randomSource), lower,
+				middle, start, end);
+		}
+
+		@Override
+		public boolean tryAdvance(final DoubleConsumer consumer)
+		{
+			Objects.requireNonNull(consumer);
+			if (index < fence)
+			{
+				consumer.accept(generator().nextDouble(start, end));
+				index++;
+				return true;
+			}
+			return false;
+		}
+
+		@Override
+		public void forEachRemaining(final DoubleConsumer consumer)
+		{
+			Objects.requireNonNull(consumer);
+			if (index < fence)
+			{
+				final RandomGenerator randomGenerator = generator();
+				final long from = index;
+				index = fence;
+				for (long i = from; i < fence; i++)
+				{
+					consumer.accept(randomGenerator.nextDouble(start, end));
+				}
+			}
+		}
+	}
+
+}
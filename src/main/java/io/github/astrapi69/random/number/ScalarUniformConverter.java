@@ -0,0 +1,62 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.number;
+
+import io.github.astrapi69.random.number.spi.UniformConverter;
+
+/**
+ * The class {@link ScalarUniformConverter} is the scalar {@link UniformConverter} that converts
+ * one word after the other
+ */
+final class ScalarUniformConverter implements UniformConverter
+{
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void toDoubles(final long[] words, final int count, final double start,
+		final double range, final double[] target, final int offset)
+	{
+		for (int i = 0; i < count; i++)
+		{
+			target[offset + i] = start + (words[i] >>> 11) * DOUBLE_UNIT * range;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void toFloats(final int[] words, final int count, final float start,
+		final float range, final float[] target, final int offset)
+	{
+		for (int i = 0; i < count; i++)
+		{
+			target[offset + i] = start + (words[i] >>> 8) * FLOAT_UNIT * range;
+		}
+	}
+
+}
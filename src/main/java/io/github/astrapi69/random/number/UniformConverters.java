@@ -0,0 +1,191 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.number;
+
+import java.util.Iterator;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.random.RandomGenerator;
+
+import io.github.astrapi69.random.number.spi.UniformConverter;
+
+/**
+ * Utility class that provides the {@link UniformConverter} for the bulk generation of floating
+ * point values. The vectorized converter is shipped in the optional artifact with the classifier
+ * <code>vector</code>, that is the module <code>randomizer.vector</code> and provides the service
+ * {@link UniformConverter} for the {@link ServiceLoader}. If that artifact is on the module path
+ * or on the class path, the incubator module <code>jdk.incubator.vector</code> is in the runtime,
+ * on the class path for instance with the jvm option
+ * <code>--add-modules jdk.incubator.vector</code>, and the platform has vector registers with at
+ * least two long lanes, the words are converted in parallel lanes. Otherwise or if the system
+ * property {@value #VECTOR_PROPERTY} is set to false the scalar converter is used
+ *
+ * @version 1.0
+ * @author Asterios Raptis
+ */
+final class UniformConverters
+{
+
+	/** The name of the system property that disables the vectorized converter */
+	static final String VECTOR_PROPERTY = "randomizer.vector";
+
+	/** The number of words that are drawn from the engine for one conversion */
+	static final int BLOCK_SIZE = 1024;
+
+	/** The name of the incubator module of the vector api */
+	private static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+	/** The scalar converter */
+	private static final UniformConverter SCALAR = new ScalarUniformConverter();
+
+	/** The converter that is used for the bulk generation */
+	private static final UniformConverter CONVERTER = newConverter();
+
+	private UniformConverters()
+	{
+	}
+
+	/**
+	 * Gets the converter for the bulk generation
+	 *
+	 * @return the converter
+	 */
+	static UniformConverter get()
+	{
+		return CONVERTER;
+	}
+
+	/**
+	 * Gets the scalar converter
+	 *
+	 * @return the scalar converter
+	 */
+	static UniformConverter scalar()
+	{
+		return SCALAR;
+	}
+
+	/**
+	 * Gets the vectorized converter if it is available
+	 *
+	 * @return the vectorized converter or null if it is not available
+	 */
+	static UniformConverter vector()
+	{
+		if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty())
+		{
+			return null;
+		}
+		try
+		{
+			// the constructor of the provider throws an exception if the platform has no vector
+			// registers
+			final Iterator<UniformConverter> converters = ServiceLoader
+				.load(UniformConverter.class).iterator();
+			return converters.hasNext() ? converters.next() : null;
+		}
+		catch (final ServiceConfigurationError | LinkageError e)
+		{
+			return null;
+		}
+	}
+
+	private static UniformConverter newConverter()
+	{
+		if (!Boolean.parseBoolean(System.getProperty(VECTOR_PROPERTY, "true")))
+		{
+			return SCALAR;
+		}
+		final UniformConverter vector = vector();
+		return vector != null ? vector : SCALAR;
+	}
+
+	/**
+	 * Fills the given range of the given array with random doubles between the given start and
+	 * start plus range
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param offset
+	 *            the index of the first element to fill
+	 * @param length
+	 *            the number of elements to fill
+	 * @param start
+	 *            the start of the range
+	 * @param range
+	 *            the size of the range
+	 * @param generator
+	 *            the generator
+	 */
+	static void fill(final double[] array, final int offset, final int length, final double start,
+		final double range, final RandomGenerator generator)
+	{
+		final long[] words = new long[Math.min(length, BLOCK_SIZE)];
+		for (int position = offset, to = offset + length; position < to;)
+		{
+			final int count = Math.min(words.length, to - position);
+			for (int i = 0; i < count; i++)
+			{
+				words[i] = generator.nextLong();
+			}
+			CONVERTER.toDoubles(words, count, start, range, array, position);
+			position += count;
+		}
+	}
+
+	/**
+	 * Fills the given range of the given array with random floats between the given start and
+	 * start plus range
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param offset
+	 *            the index of the first element to fill
+	 * @param length
+	 *            the number of elements to fill
+	 * @param start
+	 *            the start of the range
+	 * @param range
+	 *            the size of the range
+	 * @param generator
+	 *            the generator
+	 */
+	static void fill(final float[] array, final int offset, final int length, final float start,
+		final float range, final RandomGenerator generator)
+	{
+		final int[] words = new int[Math.min(length, BLOCK_SIZE)];
+		for (int position = offset, to = offset + length; position < to;)
+		{
+			final int count = Math.min(words.length, to - position);
+			for (int i = 0; i < count; i++)
+			{
+				words[i] = generator.nextInt();
+			}
+			CONVERTER.toFloats(words, count, start, range, array, position);
+			position += count;
+		}
+	}
+
+}
@@ -0,0 +1,85 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.number.spi;
+
+/**
+ * The interface {@link UniformConverter} converts blocks of raw engine output into uniformly
+ * distributed floating point values of a range. A double is computed from the upper 53 bits of a
+ * long word and a float from the upper 24 bits of an int word, exactly like the default methods
+ * {@link java.util.random.RandomGenerator#nextDouble()} and
+ * {@link java.util.random.RandomGenerator#nextFloat()}.<br>
+ * <br>
+ * This interface is the service that an optional artifact provides for the bulk methods of the
+ * number factories, the provider is loaded with the {@link java.util.ServiceLoader}. The
+ * constructor of a provider can throw an exception if the converter is not supported on the
+ * current platform, then the scalar converter is used
+ */
+public interface UniformConverter
+{
+
+	/** The factor that converts 53 random bits to a double between 0.0 inclusive and 1.0 */
+	double DOUBLE_UNIT = 0x1.0p-53;
+
+	/** The factor that converts 24 random bits to a float between 0.0 inclusive and 1.0 */
+	float FLOAT_UNIT = 0x1.0p-24f;
+
+	/**
+	 * Converts the given long words to doubles between the given start and start plus range
+	 *
+	 * @param words
+	 *            the long words
+	 * @param count
+	 *            the number of words to convert
+	 * @param start
+	 *            the start of the range
+	 * @param range
+	 *            the size of the range
+	 * @param target
+	 *            the target array
+	 * @param offset
+	 *            the index of the first element in the target array
+	 */
+	void toDoubles(long[] words, int count, double start, double range, double[] target,
+		int offset);
+
+	/**
+	 * Converts the given int words to floats between the given start and start plus range
+	 *
+	 * @param words
+	 *            the int words
+	 * @param count
+	 *            the number of words to convert
+	 * @param start
+	 *            the start of the range
+	 * @param range
+	 *            the size of the range
+	 * @param target
+	 *            the target array
+	 * @param offset
+	 *            the index of the first element in the target array
+	 */
+	void toFloats(int[] words, int count, float start, float range, float[] target, int offset);
+
+}
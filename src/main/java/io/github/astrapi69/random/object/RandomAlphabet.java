@@ -0,0 +1,405 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.object;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.random.RandomGenerator;
+
+import io.github.astrapi69.random.RandomCharacters;
+import io.github.astrapi69.random.source.RandomSource;
+import io.github.astrapi69.random.source.RandomSourceFactory;
+
+/**
+ * The class {@link RandomAlphabet} is the lookup table of an alphabet for the bulk generation of
+ * random strings. The table repeats the chars of the alphabet as often as they fit into a power
+ * of two, so an index of the table is taken with a bit mask from a random long value and only
+ * the few indexes behind the last full repetition are rejected. That keeps every char of the
+ * alphabet equally likely while every random long value yields several chars. Alphabets that
+ * contain only Latin-1 chars fill a byte array, that is copied into the compact representation of
+ * the {@link String}. The random bytes of a {@link SecureRandom} are drawn in one block for the
+ * whole string.<br>
+ * <br>
+ * The alphabets of all {@link RandomCharacters} constants are created on class loading, other
+ * alphabets are cached up to a limit. Alphabets beyond that limit are created without repetitions,
+ * so the table is not larger than the alphabet itself and more indexes are rejected instead
+ */
+final class RandomAlphabet
+{
+
+	/** The maximum number of the cached alphabets */
+	private static final int MAX_CACHED_ALPHABETS = 64;
+
+	/** The number of additional index bits for alphabets whose size is no power of two */
+	private static final int REPETITION_BITS = 5;
+
+	/** The maximum number of index bits of the lookup table */
+	private static final int MAX_TABLE_BITS = 16;
+
+	/** The maximum size of the block of random bytes of a secure random */
+	private static final int MAX_BLOCK_SIZE = 64 * 1024;
+
+	/** The view for read long values from a block */
+	private static final VarHandle LONG_VIEW = MethodHandles
+		.byteArrayViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+	/** The cached alphabets */
+	private static final Map<String, RandomAlphabet> ALPHABETS = new ConcurrentHashMap<>();
+
+	static
+	{
+		for (final RandomCharacters randomCharacters : RandomCharacters.values())
+		{
+			ALPHABETS.put(randomCharacters.getCharacters(),
+				new RandomAlphabet(randomCharacters.getCharacters()));
+		}
+	}
+
+	/** The chars of the alphabet */
+	private final String chars;
+
+	/** The number of chars of the alphabet */
+	private final int size;
+
+	/** The lookup table of the chars, null if the alphabet is Latin-1 */
+	private final char[] charTable;
+
+	/** The lookup table of the chars as Latin-1 bytes, null if the alphabet is not Latin-1 */
+	private final byte[] latin1Table;
+
+	/** The number of the valid indexes of the lookup table */
+	private final int limit;
+
+	/** The number of bits of an index */
+	private final int indexBits;
+
+	/** The mask of an index */
+	private final long indexMask;
+
+	/** The number of indexes that are taken from one long value */
+	private final int indexesPerWord;
+
+	private RandomAlphabet(final String chars)
+	{
+		this(chars, REPETITION_BITS);
+	}
+
+	private RandomAlphabet(final String chars, final int repetitionBits)
+	{
+		if (chars.isEmpty())
+		{
+			throw new IllegalArgumentException("chars must not be empty");
+		}
+		this.chars = chars;
+		this.size = chars.length();
+		final int sizeBits = Integer.SIZE - Integer.numberOfLeadingZeros(size - 1);
+		this.indexBits = Integer.bitCount(size) == 1
+			? sizeBits
+			: Math.max(sizeBits, Math.min(sizeBits + repetitionBits, MAX_TABLE_BITS));
+		this.indexMask = (1L << indexBits) - 1;
+		this.indexesPerWord = indexBits == 0 ? 0 : Long.SIZE / indexBits;
+		this.limit = (1 << indexBits) / size * size;
+		final char[] table = new char[limit];
+		for (int i = 0; i < limit; i++)
+		{
+			table[i] = chars.charAt(i % size);
+		}
+		if (chars.chars().allMatch(c -> c <= 0xFF))
+		{
+			this.latin1Table = new String(table).getBytes(StandardCharsets.ISO_8859_1);
+			this.charTable = null;
+		}
+		else
+		{
+			this.latin1Table = null;
+			this.charTable = table;
+		}
+	}
+
+	/**
+	 * Gets the alphabet of the given chars
+	 *
+	 * @param chars
+	 *            the chars of the alphabet
+	 * @return the alphabet
+	 */
+	static RandomAlphabet of(final String chars)
+	{
+		Objects.requireNonNull(chars);
+		final RandomAlphabet alphabet = ALPHABETS.get(chars);
+		if (alphabet != null)
+		{
+			return alphabet;
+		}
+		if (ALPHABETS.size() < MAX_CACHED_ALPHABETS + RandomCharacters.values().length)
+		{
+			return ALPHABETS.computeIfAbsent(chars, RandomAlphabet::new);
+		}
+		return new RandomAlphabet(chars, 0);
+	}
+
+	/**
+	 * Gets the size of this alphabet
+	 *
+	 * @return the size of this alphabet
+	 */
+	int size()
+	{
+		return size;
+	}
+
+	/**
+	 * Checks if this alphabet contains only Latin-1 chars
+	 *
+	 * @return true if this alphabet contains only Latin-1 chars
+	 */
+	boolean isLatin1()
+	{
+		return latin1Table != null;
+	}
+
+	/**
+	 * Checks if the given charset encodes every char of this alphabet as its Latin-1 byte, in
+	 * that case the Latin-1 bytes can be written without an encoder
+	 *
+	 * @param charset
+	 *            the charset
+	 * @return true if the Latin-1 bytes of this alphabet are valid bytes of the given charset
+	 */
+	boolean isEncodedAsLatin1(final Charset charset)
+	{
+		return latin1Table != null && charset.canEncode() && Arrays
+			.equals(chars.getBytes(charset), chars.getBytes(StandardCharsets.ISO_8859_1));
+	}
+
+	/**
+	 * Generates a random string of the given length with the chars of this alphabet
+	 *
+	 * @param length
+	 *            the length of the string
+	 * @param generator
+	 *            the generator
+	 * @return the random string
+	 */
+	String newString(final int length, final RandomGenerator generator)
+	{
+		Objects.requireNonNull(generator);
+		if (length <= 0)
+		{
+			return "";
+		}
+		if (latin1Table != null)
+		{
+			final byte[] bytes = new byte[length];
+			fill(bytes, length, words(generator, length));
+			return new String(bytes, StandardCharsets.ISO_8859_1);
+		}
+		final char[] result = new char[length];
+		fill(result, 0, length, words(generator, length));
+		return new String(result);
+	}
+
+	/**
+	 * Creates the source of the random long values for the generation of the given number of
+	 * chars at once
+	 *
+	 * @param generator
+	 *            the generator
+	 * @param length
+	 *            the number of chars that are generated at once
+	 * @return the source of the random long values
+	 */
+	Words words(final RandomGenerator generator, final int length)
+	{
+		return new Words(Objects.requireNonNull(generator), length);
+	}
+
+	/**
+	 * Fills the first chars of the given byte array with random Latin-1 chars of this alphabet
+	 *
+	 * @param bytes
+	 *            the byte array
+	 * @param length
+	 *            the number of chars to fill
+	 * @param words
+	 *            the source of the random long values
+	 * @throws IllegalStateException
+	 *             if this alphabet is not Latin-1
+	 */
+	void fill(final byte[] bytes, final int length, final Words words)
+	{
+		if (latin1Table == null)
+		{
+			throw new IllegalStateException("the alphabet is not Latin-1");
+		}
+		if (indexBits == 0)
+		{
+			Arrays.fill(bytes, 0, length, latin1Table[0]);
+			return;
+		}
+		int i = 0;
+		while (i < length)
+		{
+			long word = words.next();
+			for (int k = indexesPerWord; 0 < k && i < length; k--)
+			{
+				final int index = (int)(word & indexMask);
+				word >>>= indexBits;
+				if (index < limit)
+				{
+					bytes[i++] = latin1Table[index];
+				}
+			}
+		}
+	}
+
+	/**
+	 * Fills a range of the given char array with random chars of this alphabet
+	 *
+	 * @param result
+	 *            the char array
+	 * @param offset
+	 *            the index of the first char to fill
+	 * @param length
+	 *            the number of chars to fill
+	 * @param words
+	 *            the source of the random long values
+	 */
+	void fill(final char[] result, final int offset, final int length, final Words words)
+	{
+		if (latin1Table != null)
+		{
+			fillLatin1(result, offset, length, words);
+			return;
+		}
+		final int end = offset + length;
+		if (indexBits == 0)
+		{
+			Arrays.fill(result, offset, end, charTable[0]);
+			return;
+		}
+		int i = offset;
+		while (i < end)
+		{
+			long word = words.next();
+			for (int k = indexesPerWord; 0 < k && i < end; k--)
+			{
+				final int index = (int)(word & indexMask);
+				word >>>= indexBits;
+				if (index < limit)
+				{
+					result[i++] = charTable[index];
+				}
+			}
+		}
+	}
+
+	private void fillLatin1(final char[] result, final int offset, final int length,
+		final Words words)
+	{
+		final int end = offset + length;
+		if (indexBits == 0)
+		{
+			Arrays.fill(result, offset, end, (char)(latin1Table[0] & 0xFF));
+			return;
+		}
+		int i = offset;
+		while (i < end)
+		{
+			long word = words.next();
+			for (int k = indexesPerWord; 0 < k && i < end; k--)
+			{
+				final int index = (int)(word & indexMask);
+				word >>>= indexBits;
+				if (index < limit)
+				{
+					result[i++] = (char)(latin1Table[index] & 0xFF);
+				}
+			}
+		}
+	}
+
+	private static boolean isSecure(final RandomGenerator generator)
+	{
+		return generator instanceof SecureRandom || generator instanceof RandomSource
+			&& RandomSourceFactory.SECURE_RANDOM.equals(((RandomSource)generator).getAlgorithm());
+	}
+
+	/**
+	 * The class {@link Words} serves the random long values of the generator, the values of a
+	 * secure random are read from a block of random bytes
+	 */
+	final class Words
+	{
+
+		private final RandomGenerator generator;
+
+		/** The block of random bytes of a secure random, null for other generators */
+		private final byte[] block;
+
+		private int position;
+
+		private Words(final RandomGenerator generator, final int length)
+		{
+			this.generator = generator;
+			if (isSecure(generator))
+			{
+				final long words = length / Math.max(1, indexesPerWord) + length / 16 + 2;
+				block = new byte[(int)Math.min(MAX_BLOCK_SIZE, words * Long.BYTES)];
+				position = block.length;
+			}
+			else
+			{
+				block = null;
+			}
+		}
+
+		private long next()
+		{
+			if (block == null)
+			{
+				return generator.nextLong();
+			}
+			if (position == block.length)
+			{
+				generator.nextBytes(block);
+				position = 0;
+			}
+			final long result = (long)LONG_VIEW.get(block, position);
+			position += Long.BYTES;
+			return result;
+		}
+
+	}
+
+}
@@ -36,10 +36,10 @@ import java.time.LocalTime;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Set;
 import java.util.UUID;
 
 import io.github.astrapi69.collection.list.ListFactory;
@@ -47,8 +47,10 @@ import io.github.astrapi69.copy.object.CopyObjectExtensions;
 import io.github.astrapi69.lang.ClassExtensions;
 import io.github.astrapi69.random.DefaultSecureRandom;
 import io.github.astrapi69.random.RandomCharacters;
+import io.github.astrapi69.random.Randomizer;
 import io.github.astrapi69.random.date.RandomDateFactory;
 import io.github.astrapi69.random.enumeration.RandomAlgorithm;
+import io.github.astrapi69.random.metrics.RandomMetrics;
 import io.github.astrapi69.random.number.RandomBigDecimalFactory;
 import io.github.astrapi69.random.number.RandomBigIntegerFactory;
 import io.github.astrapi69.random.number.RandomBooleanFactory;
@@ -59,6 +61,7 @@ import io.github.astrapi69.random.number.RandomFloatFactory;
 import io.github.astrapi69.random.number.RandomIntFactory;
 import io.github.astrapi69.random.number.RandomLongFactory;
 import io.github.astrapi69.random.number.RandomShortFactory;
+import io.github.astrapi69.random.source.RandomSource;
 import io.github.astrapi69.reflection.InstanceFactory;
 import io.github.astrapi69.reflection.ReflectionExtensions;
 
@@ -78,7 +81,15 @@ public final class RandomObjectFactory
 	 */
 	public static RandomAlgorithm newRandomAlgorithm()
 	{
-		return randomEnumFromEnumValues(RandomAlgorithm.values());
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return randomEnumFromEnumValues(RandomAlgorithm.values());
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomObjectFactory#newRandomAlgorithm()", startNanos);
+		}
 	}
 
 	/**
@@ -90,13 +101,21 @@ public final class RandomObjectFactory
 	 */
 	public static Byte[] newRandomByteObjects(final int length)
 	{
-		final Byte[] randomByteObjects = new Byte[length];
-		byte[] randomBytes = RandomByteFactory.randomByteArray(length);
-		for (int i = 0; i < length; i++)
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			final Byte[] randomByteObjects = new Byte[length];
+			byte[] randomBytes = RandomByteFactory.randomByteArray(length);
+			for (int i = 0; i < length; i++)
+			{
+				randomByteObjects[i] = randomBytes[i];
+			}
+			return randomByteObjects;
+		}
+		finally
 		{
-			randomByteObjects[i] = randomBytes[i];
+			RandomMetrics.stop("RandomObjectFactory#newRandomByteObjects(int)", startNanos);
 		}
-		return randomByteObjects;
 	}
 
 	/**
@@ -110,7 +129,15 @@ public final class RandomObjectFactory
 	 */
 	public static Float newRandomFloat(final int afterComma, final int beforeComma)
 	{
-		return RandomFloatFactory.randomFloat(afterComma, beforeComma);
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return RandomFloatFactory.randomFloat(afterComma, beforeComma);
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomObjectFactory#newRandomFloat(int, int)", startNanos);
+		}
 	}
 
 	/**
@@ -134,10 +161,47 @@ public final class RandomObjectFactory
 	 */
 	public static <T> T newRandomObject(final Class<T> cls, String... ignoreFieldNames)
 		throws IllegalAccessException, InstantiationException, NoSuchFieldException
+	{
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return Randomizer.getDefault().newRandomObject(cls, ignoreFieldNames);
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomObjectFactory#newRandomObject(Class, String[])", startNanos);
+		}
+	}
+
+	/**
+	 * Factory method for create a new random object of the given {@link Class} with the given
+	 * {@link RandomSource}
+	 *
+	 * @param <T>
+	 *            the generic type
+	 * @param cls
+	 *            the class
+	 * @param randomSource
+	 *            the random source for the generation of the field values
+	 * @param ignoreFieldNames
+	 *            an optional array with the field names that shell be ignored
+	 * @return the new random object
+	 * @throws IllegalAccessException
+	 *             is thrown if the class or its default constructor is not accessible.
+	 * @throws InstantiationException
+	 *             is thrown if this {@code Class} represents an abstract class, an interface, an
+	 *             array class, a primitive type, or void; or if the class has no default
+	 *             constructor; or if the instantiation fails for some other reason.
+	 * @throws NoSuchFieldException
+	 *             is thrown if no such field exists
+	 */
+	public static <T> T newRandomObject(final Class<T> cls, RandomSource randomSource,
+		String... ignoreFieldNames)
+		throws IllegalAccessException, InstantiationException, NoSuchFieldException
 	{
 		Objects.requireNonNull(cls);
 		T instance = InstanceFactory.newInstance(cls);
-		return setRandomValues(cls, instance, ignoreFieldNames);
+		return setRandomValues(cls, instance, randomSource, ignoreFieldNames);
 	}
 
 	/**
@@ -163,10 +227,18 @@ public final class RandomObjectFactory
 	public static <T> T newRandomObject(final T obj, String... ignoreFieldNames)
 		throws IllegalAccessException, InstantiationException, NoSuchFieldException
 	{
-		Objects.requireNonNull(obj);
-		Class<T> cls = (Class<T>)obj.getClass();
-		T copy = CopyObjectExtensions.copyObject(obj, ignoreFieldNames);
-		return setRandomValues(cls, copy, ignoreFieldNames);
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			Objects.requireNonNull(obj);
+			Class<T> cls = (Class<T>)obj.getClass();
+			T copy = CopyObjectExtensions.copyObject(obj, ignoreFieldNames);
+			return setRandomValues(cls, copy, ignoreFieldNames);
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomObjectFactory#newRandomObject(T, String[])", startNanos);
+		}
 	}
 
 	/**
@@ -187,12 +259,46 @@ public final class RandomObjectFactory
 	public static Object newRandomValue(Field field)
 		throws IllegalAccessException, InstantiationException, NoSuchFieldException
 	{
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return newRandomValue(field, Randomizer.getDefault().getRandomSource());
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomObjectFactory#newRandomValue(Field)", startNanos);
+		}
+	}
+
+	/**
+	 * Factory method for create a new random value for the given {@link Field field} with the given
+	 * {@link RandomSource}
+	 *
+	 * @param field
+	 *            the field
+	 * @param randomSource
+	 *            the random source for the generation of the value
+	 * @return the new random value
+	 * @throws IllegalAccessException
+	 *             is thrown if the class or its default constructor is not accessible.
+	 * @throws InstantiationException
+	 *             is thrown if this {@code Class} represents an abstract class, an interface, an
+	 *             array class, a primitive type, or void; or if the class has no default
+	 *             constructor; or if the instantiation fails for some other reason.
+	 * @throws NoSuchFieldException
+	 *             is thrown if no such field exists
+	 */
+	@SuppressWarnings("unchecked")
+	public static Object newRandomValue(Field field, RandomSource randomSource)
+		throws IllegalAccessException, InstantiationException, NoSuchFieldException
+	{
+		Objects.requireNonNull(randomSource);
 		Class<?> fieldType = field.getType();
 
 		if (fieldType.isEnum())
 		{
-			Enum<?> randomEnum = randomEnumFromClassname(fieldType.getCanonicalName());
-			return randomEnum;
+			Class<? extends Enum<?>> enumClass = (Class<? extends Enum<?>>)fieldType;
+			return randomEnumFromEnumValues(enumClass.getEnumConstants(), randomSource);
 		}
 		else if (fieldType.equals(Void.TYPE) || fieldType.equals(Void.class))
 		{
@@ -200,65 +306,65 @@ public final class RandomObjectFactory
 		}
 		else if (fieldType.equals(Byte.TYPE) || fieldType.equals(Byte.class))
 		{
-			return Byte.valueOf(RandomByteFactory.randomByte());
+			return Byte.valueOf(RandomByteFactory.randomByte(randomSource));
 		}
 		else if (fieldType.equals(Character.TYPE) || fieldType.equals(Character.class))
 		{
-			return Character.valueOf(RandomCharFactory.randomChar());
+			return Character.valueOf(RandomCharFactory.randomChar(randomSource));
 		}
 		else if (fieldType.equals(Short.TYPE) || fieldType.equals(Short.class))
 		{
-			return Short.valueOf(RandomShortFactory.randomShort());
+			return Short.valueOf(RandomShortFactory.randomShort(randomSource));
 		}
 		else if (fieldType.equals(Boolean.TYPE) || fieldType.equals(Boolean.class))
 		{
-			return Boolean.valueOf(RandomBooleanFactory.randomBoolean());
+			return Boolean.valueOf(RandomBooleanFactory.randomBoolean(randomSource));
 		}
 		else if (fieldType.equals(Integer.TYPE) || fieldType.equals(Integer.class))
 		{
-			return Integer.valueOf(RandomIntFactory.randomInt());
+			return Integer.valueOf(RandomIntFactory.randomInt(randomSource));
 		}
 		else if (fieldType.equals(Long.TYPE) || fieldType.equals(Long.class))
 		{
-			return Long.valueOf(RandomLongFactory.randomLong());
+			return Long.valueOf(RandomLongFactory.randomLong(randomSource));
 		}
 		else if (fieldType.equals(Double.TYPE) || fieldType.equals(Double.class))
 		{
-			return Double.valueOf(RandomDoubleFactory.randomDouble());
+			return Double.valueOf(RandomDoubleFactory.randomDouble(Double.MAX_VALUE, randomSource));
 		}
 		else if (fieldType.equals(Float.TYPE) || fieldType.equals(Float.class))
 		{
-			return Float.valueOf(RandomFloatFactory.randomFloat());
+			return Float.valueOf(RandomFloatFactory.randomFloat(randomSource));
 		}
 		else if (fieldType.equals(String.class))
 		{
-			return RandomStringFactory.newRandomString();
+			return RandomStringFactory.newRandomString(randomSource);
 		}
 		else if (fieldType.equals(BigInteger.class))
 		{
-			return RandomBigIntegerFactory.randomBigInteger();
+			return RandomBigIntegerFactory.randomBigInteger(randomSource);
 		}
 		else if (fieldType.equals(BigDecimal.class))
 		{
-			return RandomBigDecimalFactory.randomBigDecimal();
+			return RandomBigDecimalFactory.randomBigDecimal(randomSource);
 		}
 		else if (fieldType.equals(Date.class))
 		{
-			return RandomDateFactory.randomDate();
+			return RandomDateFactory.randomDate(randomSource);
 		}
 		else if (fieldType.equals(LocalDateTime.class))
 		{
-			return RandomDateFactory.randomLocalDateTime();
+			return RandomDateFactory.randomLocalDateTime(randomSource);
 		}
 		else if (fieldType.equals(LocalDate.class))
 		{
-			return RandomDateFactory.randomLocalDate();
+			return RandomDateFactory.randomLocalDate(randomSource);
 		}
 		else if (fieldType.equals(LocalTime.class))
 		{
-			return RandomDateFactory.randomLocalTime();
+			return RandomDateFactory.randomLocalTime(randomSource);
 		}
-		return newRandomObject(fieldType);
+		return newRandomObject(fieldType, randomSource);
 	}
 
 	/**
@@ -285,9 +391,51 @@ public final class RandomObjectFactory
 	public static <T> T setRandomValues(final Class<T> cls, final T instance,
 		String... ignoreFieldNames)
 		throws IllegalAccessException, InstantiationException, NoSuchFieldException
+	{
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return setRandomValues(cls, instance, Randomizer.getDefault().getRandomSource(),
+				ignoreFieldNames);
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomObjectFactory#setRandomValues(Class, T, String[])",
+				startNanos);
+		}
+	}
+
+	/**
+	 * Sets the random values to the fields of the given instance with the given
+	 * {@link RandomSource}
+	 *
+	 * @param <T>
+	 *            the generic type
+	 * @param cls
+	 *            the cls
+	 * @param instance
+	 *            the instance to set random values
+	 * @param randomSource
+	 *            the random source for the generation of the field values
+	 * @param ignoreFieldNames
+	 *            the field names to ignore
+	 * @return the new random object
+	 * @throws IllegalAccessException
+	 *             is thrown if the class or its default constructor is not accessible.
+	 * @throws InstantiationException
+	 *             is thrown if this {@code Class} represents an abstract class, an interface, an
+	 *             array class, a primitive type, or void; or if the class has no default
+	 *             constructor; or if the instantiation fails for some other reason.
+	 * @throws NoSuchFieldException
+	 *             is thrown if no such field exists
+	 */
+	public static <T> T setRandomValues(final Class<T> cls, final T instance,
+		RandomSource randomSource, String... ignoreFieldNames)
+		throws IllegalAccessException, InstantiationException, NoSuchFieldException
 	{
 		Objects.requireNonNull(cls);
 		Objects.requireNonNull(instance);
+		Objects.requireNonNull(randomSource);
 		Field[] allDeclaredFields = ReflectionExtensions.getAllDeclaredFields(cls,
 			ignoreFieldNames);
 		List<String> toIgnoreFields = Arrays.asList(ignoreFieldNames);
@@ -297,7 +445,7 @@ public final class RandomObjectFactory
 			{
 				continue;
 			}
-			Object value = newRandomValue(field);
+			Object value = newRandomValue(field, randomSource);
 			ReflectionExtensions.setFieldValue(instance, field, value);
 		}
 		return instance;
@@ -314,7 +462,31 @@ public final class RandomObjectFactory
 	 */
 	public static <T> T randomListEntry(final List<T> list)
 	{
-		return list.get(randomIndex(list));
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return Randomizer.getDefault().randomListEntry(list);
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomObjectFactory#randomListEntry(List)", startNanos);
+		}
+	}
+
+	/**
+	 * Returns a random entry from the given List.
+	 *
+	 * @param <T>
+	 *            the generic type
+	 * @param list
+	 *            The List.
+	 * @param randomSource
+	 *            the random source for the selection
+	 * @return Return's a random entry from the List.
+	 */
+	public static <T> T randomListEntry(final List<T> list, RandomSource randomSource)
+	{
+		return list.get(randomIndex(list, randomSource));
 	}
 
 	/**
@@ -330,8 +502,33 @@ public final class RandomObjectFactory
 	 */
 	public static <K, V> Object randomMapEntry(final Map<K, V> map)
 	{
-		final Object[] entries = map.values().toArray();
-		return entries[RandomIntFactory.randomInt(entries.length)];
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return Randomizer.getDefault().randomMapEntry(map);
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomObjectFactory#randomMapEntry(Map)", startNanos);
+		}
+	}
+
+	/**
+	 * Returns a random entry from the given map.
+	 *
+	 * @param <K>
+	 *            the key type
+	 * @param <V>
+	 *            the value type
+	 * @param map
+	 *            The map.
+	 * @param randomSource
+	 *            the random source for the selection
+	 * @return Return's a random entry from the map.
+	 */
+	public static <K, V> Object randomMapEntry(final Map<K, V> map, RandomSource randomSource)
+	{
+		return elementAt(map.values(), RandomIntFactory.randomInt(map.size(), randomSource));
 	}
 
 	/**
@@ -345,7 +542,15 @@ public final class RandomObjectFactory
 	 */
 	public static <T extends Enum<?>> T randomEnumFromClass(final Class<T> clazz)
 	{
-		return randomEnumFromEnumValues(clazz.getEnumConstants());
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return randomEnumFromEnumValues(clazz.getEnumConstants());
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomObjectFactory#randomEnumFromClass(Class)", startNanos);
+		}
 	}
 
 	/**
@@ -360,20 +565,28 @@ public final class RandomObjectFactory
 	@SuppressWarnings("unchecked")
 	public static <T extends Enum<?>> T randomEnumFromClassname(final String classname)
 	{
-		if (classname != null && !classname.isEmpty())
+		final long startNanos = RandomMetrics.start();
+		try
 		{
-			Class<T> enumClass;
-			try
-			{
-				enumClass = (Class<T>)ClassExtensions.forName(classname);
-				return randomEnumFromClass(enumClass);
-			}
-			catch (final ClassNotFoundException e)
+			if (classname != null && !classname.isEmpty())
 			{
-				return null;
+				Class<T> enumClass;
+				try
+				{
+					enumClass = (Class<T>)ClassExtensions.forName(classname);
+					return randomEnumFromClass(enumClass);
+				}
+				catch (final ClassNotFoundException e)
+				{
+					return null;
+				}
 			}
+			return null;
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomObjectFactory#randomEnumFromClassname(String)", startNanos);
 		}
-		return null;
 	}
 
 	/**
@@ -387,7 +600,32 @@ public final class RandomObjectFactory
 	 */
 	public static <T extends Enum<?>> T randomEnumFromEnumValues(final T[] values)
 	{
-		return values[RandomIntFactory.randomInt(values.length)];
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return Randomizer.getDefault().randomEnumFromEnumValues(values);
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomObjectFactory#randomEnumFromEnumValues(T[])", startNanos);
+		}
+	}
+
+	/**
+	 * Gets the random enum.
+	 *
+	 * @param <T>
+	 *            the generic type
+	 * @param values
+	 *            the values
+	 * @param randomSource
+	 *            the random source for the selection
+	 * @return the random enum
+	 */
+	public static <T extends Enum<?>> T randomEnumFromEnumValues(final T[] values,
+		RandomSource randomSource)
+	{
+		return values[RandomIntFactory.randomInt(values.length, randomSource)];
 	}
 
 	/**
@@ -402,12 +640,20 @@ public final class RandomObjectFactory
 	@SuppressWarnings("unchecked")
 	public static <T extends Enum<?>> T randomEnumFromObject(final T obj)
 	{
-		if (obj != null)
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			if (obj != null)
+			{
+				final Class<T> clazz = (Class<T>)obj.getClass();
+				return randomEnumFromClass(clazz);
+			}
+			return null;
+		}
+		finally
 		{
-			final Class<T> clazz = (Class<T>)obj.getClass();
-			return randomEnumFromClass(clazz);
+			RandomMetrics.stop("RandomObjectFactory#randomEnumFromObject(T)", startNanos);
 		}
-		return null;
 	}
 
 	/**
@@ -421,7 +667,31 @@ public final class RandomObjectFactory
 	 */
 	public static <T> int randomIndex(final Collection<T> list)
 	{
-		return RandomIntFactory.randomInt(list.size());
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return Randomizer.getDefault().randomIndex(list);
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomObjectFactory#randomIndex(Collection)", startNanos);
+		}
+	}
+
+	/**
+	 * Returns a random index from the given List.
+	 *
+	 * @param <T>
+	 *            the generic type
+	 * @param list
+	 *            The List.
+	 * @param randomSource
+	 *            the random source for the selection
+	 * @return Return's a random index from the List.
+	 */
+	public static <T> int randomIndex(final Collection<T> list, RandomSource randomSource)
+	{
+		return RandomIntFactory.randomInt(list.size(), randomSource);
 	}
 
 	/**
@@ -437,9 +707,55 @@ public final class RandomObjectFactory
 	 */
 	public static <K, V> Object randomKey(final Map<K, V> map)
 	{
-		final Set<K> keySet = map.keySet();
-		final Object[] keys = keySet.toArray();
-		return keys[RandomIntFactory.randomInt(keys.length)];
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return Randomizer.getDefault().randomKey(map);
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomObjectFactory#randomKey(Map)", startNanos);
+		}
+	}
+
+	/**
+	 * Returns a random key from the given map.
+	 *
+	 * @param <K>
+	 *            the key type
+	 * @param <V>
+	 *            the value type
+	 * @param map
+	 *            The map.
+	 * @param randomSource
+	 *            the random source for the selection
+	 * @return Return's a random key from the map.
+	 */
+	public static <K, V> Object randomKey(final Map<K, V> map, RandomSource randomSource)
+	{
+		return elementAt(map.keySet(), RandomIntFactory.randomInt(map.size(), randomSource));
+	}
+
+	/**
+	 * Gets the element at the given index of the iteration order of the given collection without
+	 * copying the collection to an array
+	 *
+	 * @param <E>
+	 *            the type of the elements
+	 * @param collection
+	 *            the collection
+	 * @param index
+	 *            the index of the element
+	 * @return the element at the given index
+	 */
+	private static <E> E elementAt(final Collection<E> collection, final int index)
+	{
+		final Iterator<E> iterator = collection.iterator();
+		for (int i = 0; i < index; i++)
+		{
+			iterator.next();
+		}
+		return iterator.next();
 	}
 
 	/**
@@ -453,10 +769,18 @@ public final class RandomObjectFactory
 	 */
 	public static byte[] randomSalt(final int length, final Charset charset)
 	{
-		return RandomStringFactory
-			.newRandomString(RandomCharacters.lowcaseWithUppercaseAndNumbers.getCharacters(),
-				length)
-			.getBytes(charset);
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return RandomStringFactory
+				.newRandomString(RandomCharacters.lowcaseWithUppercaseAndNumbers.getCharacters(),
+					length)
+				.getBytes(charset);
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomObjectFactory#randomSalt(int, Charset)", startNanos);
+		}
 	}
 
 	/**
@@ -466,8 +790,16 @@ public final class RandomObjectFactory
 	 */
 	public static int randomPixel()
 	{
-		return randomPixel(RandomIntFactory.randomInt(256), RandomIntFactory.randomInt(256),
-			RandomIntFactory.randomInt(256), RandomIntFactory.randomInt(256));
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return randomPixel(RandomIntFactory.randomInt(256), RandomIntFactory.randomInt(256),
+				RandomIntFactory.randomInt(256), RandomIntFactory.randomInt(256));
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomObjectFactory#randomPixel()", startNanos);
+		}
 	}
 
 	/**
@@ -496,7 +828,15 @@ public final class RandomObjectFactory
 	 */
 	public static byte[] newSalt()
 	{
-		return RandomByteFactory.randomByteArray(16);
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return RandomByteFactory.randomByteArray(16);
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomObjectFactory#newSalt()", startNanos);
+		}
 	}
 
 	/**
@@ -508,7 +848,15 @@ public final class RandomObjectFactory
 	 */
 	public static Point randomNeighborPoint(final Point fromPoint)
 	{
-		return randomNeighborPoint(fromPoint, false);
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return randomNeighborPoint(fromPoint, false);
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomObjectFactory#randomNeighborPoint(Point)", startNanos);
+		}
 	}
 
 	/**
@@ -522,31 +870,40 @@ public final class RandomObjectFactory
 	 */
 	public static Point randomNeighborPoint(final Point fromPoint, boolean withNegativeValues)
 	{
-		int yMinusOne;
-		int xMinusOne;
-		if (withNegativeValues)
+		final long startNanos = RandomMetrics.start();
+		try
 		{
-			yMinusOne = fromPoint.y - 1;
-			xMinusOne = fromPoint.x - 1;
+			int yMinusOne;
+			int xMinusOne;
+			if (withNegativeValues)
+			{
+				yMinusOne = fromPoint.y - 1;
+				xMinusOne = fromPoint.x - 1;
+			}
+			else
+			{
+				yMinusOne = 0 < fromPoint.y ? fromPoint.y - 1 : fromPoint.y;
+				xMinusOne = 0 < fromPoint.x ? fromPoint.x - 1 : fromPoint.x;
+			}
+			int yPlusOne = fromPoint.y + 1;
+			int xPlusOne = fromPoint.x + 1;
+			Point top = new Point(fromPoint.x, yMinusOne);
+			Point bottom = new Point(fromPoint.x, yPlusOne);
+			Point right = new Point(xPlusOne, fromPoint.y);
+			Point left = new Point(xMinusOne, fromPoint.y);
+			Point topLeft = new Point(xMinusOne, yMinusOne);
+			Point topRight = new Point(xPlusOne, yMinusOne);
+			Point bottomRight = new Point(xPlusOne, yPlusOne);
+			Point bottomLeft = new Point(xMinusOne, yPlusOne);
+			List<Point> pointList = ListFactory.newArrayList(top, bottom, right, left, topLeft,
+				topRight, bottomRight, bottomLeft);
+			return randomListEntry(pointList);
 		}
-		else
+		finally
 		{
-			yMinusOne = 0 < fromPoint.y ? fromPoint.y - 1 : fromPoint.y;
-			xMinusOne = 0 < fromPoint.x ? fromPoint.x - 1 : fromPoint.x;
+			RandomMetrics.stop("RandomObjectFactory#randomNeighborPoint(Point, boolean)",
+				startNanos);
 		}
-		int yPlusOne = fromPoint.y + 1;
-		int xPlusOne = fromPoint.x + 1;
-		Point top = new Point(fromPoint.x, yMinusOne);
-		Point bottom = new Point(fromPoint.x, yPlusOne);
-		Point right = new Point(xPlusOne, fromPoint.y);
-		Point left = new Point(xMinusOne, fromPoint.y);
-		Point topLeft = new Point(xMinusOne, yMinusOne);
-		Point topRight = new Point(xPlusOne, yMinusOne);
-		Point bottomRight = new Point(xPlusOne, yPlusOne);
-		Point bottomLeft = new Point(xMinusOne, yPlusOne);
-		List<Point> pointList = ListFactory.newArrayList(top, bottom, right, left, topLeft,
-			topRight, bottomRight, bottomLeft);
-		return randomListEntry(pointList);
 	}
 
 	/**
@@ -556,9 +913,17 @@ public final class RandomObjectFactory
 	 */
 	public static String randomToken()
 	{
-		final BigInteger token = new BigInteger(130, DefaultSecureRandom.get());
-		final String randomToken = token.toString(32);
-		return randomToken;
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			final BigInteger token = new BigInteger(130, DefaultSecureRandom.get());
+			final String randomToken = token.toString(32);
+			return randomToken;
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomObjectFactory#randomToken()", startNanos);
+		}
 	}
 
 	/**
@@ -24,15 +24,35 @@
  */
 package io.github.astrapi69.random.object;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import io.github.astrapi69.random.DefaultSecureRandom;
 import io.github.astrapi69.random.RandomCharacters;
+import io.github.astrapi69.random.Randomizer;
+import io.github.astrapi69.random.metrics.RandomMetrics;
 import io.github.astrapi69.random.number.RandomCharFactory;
 import io.github.astrapi69.random.number.RandomIntFactory;
+import io.github.astrapi69.random.source.ParallelRandomFill;
+import io.github.astrapi69.random.source.RandomSource;
+import io.github.astrapi69.random.source.RandomSourceFactory;
 
 /**
  * A factory for creating random {@link String} objects
  */
 public final class RandomStringFactory
 {
+
+	/** The number of strings of one chunk for the parallel generation */
+	private static final int PARALLEL_CHUNK_SIZE = 4096;
+
 	private RandomStringFactory()
 	{
 	}
@@ -44,8 +64,15 @@ public final class RandomStringFactory
 	 */
 	public static String newRandomString()
 	{
-		return newRandomString(RandomCharacters.lowcaseWithUppercaseAndNumbers.getCharacters(),
-			RandomIntFactory.randomIntBetween(3, 25));
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return Randomizer.getDefault().newRandomString();
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomStringFactory#newRandomString()", startNanos);
+		}
 	}
 
 	/**
@@ -57,13 +84,15 @@ public final class RandomStringFactory
 	 */
 	public static String newRandomString(final int length)
 	{
-		final int maxLength = Math.min(length, 1024);
-		final StringBuilder sb = new StringBuilder(maxLength);
-		for (int i = 0; i < maxLength; i++)
+		final long startNanos = RandomMetrics.start();
+		try
 		{
-			sb.append(RandomCharFactory.randomChar());
+			return Randomizer.getDefault().newRandomString(length);
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomStringFactory#newRandomString(int)", startNanos);
 		}
-		return sb.toString();
 	}
 
 	/**
@@ -75,9 +104,17 @@ public final class RandomStringFactory
 	 */
 	public static String newRandomLongString(final long length)
 	{
-		String allRandomCharacters = RandomCharacters.lowcaseWithUppercaseAndNumbersAndSpecial
-			.getCharacters() + RandomCharacters.escapeSequencesWithWhitespace.getCharacters();
-		return newRandomLongString(allRandomCharacters, length);
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			String allRandomCharacters = RandomCharacters.lowcaseWithUppercaseAndNumbersAndSpecial
+				.getCharacters() + RandomCharacters.escapeSequencesWithWhitespace.getCharacters();
+			return newRandomLongString(allRandomCharacters, length);
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomStringFactory#newRandomLongString(long)", startNanos);
+		}
 	}
 
 	/**
@@ -91,7 +128,15 @@ public final class RandomStringFactory
 	 */
 	public static String newRandomString(final int start, int end)
 	{
-		return newRandomString(RandomIntFactory.randomIntBetween(start, end));
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return newRandomString(RandomIntFactory.randomIntBetween(start, end));
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomStringFactory#newRandomString(int, int)", startNanos);
+		}
 	}
 
 	/**
@@ -106,7 +151,15 @@ public final class RandomStringFactory
 	 */
 	public static String newRandomString(final String chars, final int length)
 	{
-		return newRandomLongString(chars, length);
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return Randomizer.getDefault().newRandomString(chars, length);
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomStringFactory#newRandomString(String, int)", startNanos);
+		}
 	}
 
 	/**
@@ -121,12 +174,21 @@ public final class RandomStringFactory
 	 */
 	public static String newRandomLongString(final String chars, final long length)
 	{
-		final StringBuilder sb = new StringBuilder();
-		for (long i = 0; i < length; i++)
+		final long startNanos = RandomMetrics.start();
+		try
 		{
-			sb.append(RandomCharFactory.randomChar(chars));
+			Objects.requireNonNull(chars);
+			if (length <= 0)
+			{
+				return "";
+			}
+			return RandomAlphabet.of(chars).newString(Math.toIntExact(length),
+				DefaultSecureRandom.get());
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomStringFactory#newRandomLongString(String, long)", startNanos);
 		}
-		return sb.toString();
 	}
 
 	/**
@@ -141,7 +203,15 @@ public final class RandomStringFactory
 	 */
 	public static String newRandomString(final String[] array)
 	{
-		return array[RandomIntFactory.randomInt(array.length)];
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return Randomizer.getDefault().newRandomString(array);
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomStringFactory#newRandomString(String[])", startNanos);
+		}
 	}
 
 
@@ -154,11 +224,593 @@ public final class RandomStringFactory
 	 */
 	public static String randomHexString(int numberOfCharacters)
 	{
-		StringBuilder sb = new StringBuilder();
-		while (sb.length() < numberOfCharacters)
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			StringBuilder sb = new StringBuilder();
+			while (sb.length() < numberOfCharacters)
+			{
+				sb.append(Integer.toHexString(RandomIntFactory.randomInt()));
+			}
+			return sb.substring(0, numberOfCharacters);
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomStringFactory#randomHexString(int)", startNanos);
+		}
+	}
+
+
+	/**
+	 * Generates a random string with a length between 3 and 25
+	 *
+	 * @param randomSource
+	 *            the random source for string generation
+	 * @return The produced random String.
+	 */
+	public static String newRandomString(RandomSource randomSource)
+	{
+		return newRandomString(RandomCharacters.lowcaseWithUppercaseAndNumbers.getCharacters(),
+			RandomIntFactory.randomIntBetween(3, 25, randomSource), randomSource);
+	}
+
+	/**
+	 * Generates a random string.
+	 *
+	 * @param length
+	 *            the specified length.
+	 * @param randomSource
+	 *            the random source for string generation
+	 * @return the generated random string.
+	 */
+	public static String newRandomString(final int length, RandomSource randomSource)
+	{
+		Objects.requireNonNull(randomSource);
+		final int maxLength = Math.min(length, 1024);
+		final StringBuilder sb = new StringBuilder(maxLength);
+		for (int i = 0; i < maxLength; i++)
+		{
+			sb.append(RandomCharFactory.randomChar(randomSource));
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * The Method randomString(String, int, RandomSource) makes an random String from the given
+	 * String and to the specified length. This can be used to produce passwords.
+	 *
+	 * @param chars
+	 *            The String to get the random chars.
+	 * @param length
+	 *            The length from the random String.
+	 * @param randomSource
+	 *            the random source for string generation
+	 * @return The produced random String.
+	 */
+	public static String newRandomString(final String chars, final int length,
+		RandomSource randomSource)
+	{
+		return newRandomLongString(chars, length, randomSource);
+	}
+
+	/**
+	 * The Method randomString(String, long, RandomSource) makes an random String from the given
+	 * String and to the specified length. This can be used to produce passwords.
+	 *
+	 * @param chars
+	 *            The String to get the random chars.
+	 * @param length
+	 *            The length from the random String.
+	 * @param randomSource
+	 *            the random source for string generation
+	 * @return The produced random String.
+	 */
+	public static String newRandomLongString(final String chars, final long length,
+		RandomSource randomSource)
+	{
+		Objects.requireNonNull(chars);
+		Objects.requireNonNull(randomSource);
+		if (length <= 0)
+		{
+			return "";
+		}
+		return RandomAlphabet.of(chars).newString(Math.toIntExact(length), randomSource);
+	}
+
+	/**
+	 * Appends random text of the given length from the given chars to the given appendable. The
+	 * text is generated into one reusable buffer, so the length is not limited by the memory and
+	 * can exceed the maximum length of a {@link String}. A {@link Writer} gets the chars of the
+	 * buffer in one call of {@link Writer#write(char[], int, int)}
+	 *
+	 * @param out
+	 *            the appendable, for instance a {@link Writer}
+	 * @param chars
+	 *            The String to get the random chars, for instance the chars of a
+	 *            {@link RandomCharacters} constant.
+	 * @param length
+	 *            The length from the random text.
+	 * @throws IOException
+	 *             if an I/O error occurs
+	 */
+	public static void writeRandomLongString(final Appendable out, final String chars,
+		final long length) throws IOException
+	{
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			RandomTextWriter.write(out, RandomAlphabet.of(chars), length,
+				DefaultSecureRandom.get());
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomStringFactory#writeRandomLongString"
+				+ "(Appendable, String, long)", startNanos);
+		}
+	}
+
+	/**
+	 * Appends random text of the given length from the given chars to the given appendable. The
+	 * text is generated into one reusable buffer, so the length is not limited by the memory and
+	 * can exceed the maximum length of a {@link String}. A {@link Writer} gets the chars of the
+	 * buffer in one call of {@link Writer#write(char[], int, int)}
+	 *
+	 * @param out
+	 *            the appendable, for instance a {@link Writer}
+	 * @param chars
+	 *            The String to get the random chars, for instance the chars of a
+	 *            {@link RandomCharacters} constant.
+	 * @param length
+	 *            The length from the random text.
+	 * @param randomSource
+	 *            the random source for text generation
+	 * @throws IOException
+	 *             if an I/O error occurs
+	 */
+	public static void writeRandomLongString(final Appendable out, final String chars,
+		final long length, final RandomSource randomSource) throws IOException
+	{
+		RandomTextWriter.write(out, RandomAlphabet.of(chars), length, randomSource);
+	}
+
+	/**
+	 * Writes random text of the given length from the given chars in the given charset to the
+	 * given output stream. The text is generated into one reusable buffer, so the length is not
+	 * limited by the memory. If the charset encodes every char as its Latin-1 byte, for instance
+	 * UTF-8 for ASCII chars, the bytes are written without an encoder
+	 *
+	 * @param out
+	 *            the output stream
+	 * @param chars
+	 *            The String to get the random chars, for instance the chars of a
+	 *            {@link RandomCharacters} constant.
+	 * @param length
+	 *            The length from the random text in chars.
+	 * @param charset
+	 *            the charset for encode the text
+	 * @throws IOException
+	 *             if an I/O error occurs or a char can not be encoded in the given charset
+	 */
+	public static void writeRandomLongString(final OutputStream out, final String chars,
+		final long length, final Charset charset) throws IOException
+	{
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			RandomTextWriter.write(newByteSink(out), RandomAlphabet.of(chars), length, charset,
+				DefaultSecureRandom.get());
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomStringFactory#writeRandomLongString"
+				+ "(OutputStream, String, long, Charset)", startNanos);
+		}
+	}
+
+	/**
+	 * Writes random text of the given length from the given chars in the given charset to the
+	 * given output stream. The text is generated into one reusable buffer, so the length is not
+	 * limited by the memory. If the charset encodes every char as its Latin-1 byte, for instance
+	 * UTF-8 for ASCII chars, the bytes are written without an encoder
+	 *
+	 * @param out
+	 *            the output stream
+	 * @param chars
+	 *            The String to get the random chars, for instance the chars of a
+	 *            {@link RandomCharacters} constant.
+	 * @param length
+	 *            The length from the random text in chars.
+	 * @param charset
+	 *            the charset for encode the text
+	 * @param randomSource
+	 *            the random source for text generation
+	 * @throws IOException
+	 *             if an I/O error occurs or a char can not be encoded in the given charset
+	 */
+	public static void writeRandomLongString(final OutputStream out, final String chars,
+		final long length, final Charset charset, final RandomSource randomSource)
+		throws IOException
+	{
+		RandomTextWriter.write(newByteSink(out), RandomAlphabet.of(chars), length, charset,
+			randomSource);
+	}
+
+	/**
+	 * Writes random text of the given length from the given chars in the given charset to the
+	 * given channel, for instance a {@link java.nio.channels.FileChannel}. The text is generated
+	 * into one reusable buffer, so the length is not limited by the memory. If the charset encodes
+	 * every char as its Latin-1 byte, for instance UTF-8 for ASCII chars, the bytes are written
+	 * without an encoder. The channel must be in blocking mode
+	 *
+	 * @param channel
+	 *            the channel
+	 * @param chars
+	 *            The String to get the random chars, for instance the chars of a
+	 *            {@link RandomCharacters} constant.
+	 * @param length
+	 *            The length from the random text in chars.
+	 * @param charset
+	 *            the charset for encode the text
+	 * @throws IOException
+	 *             if an I/O error occurs or a char can not be encoded in the given charset
+	 */
+	public static void writeRandomLongString(final WritableByteChannel channel,
+		final String chars, final long length, final Charset charset) throws IOException
+	{
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			RandomTextWriter.write(newByteSink(channel), RandomAlphabet.of(chars), length, charset,
+				DefaultSecureRandom.get());
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomStringFactory#writeRandomLongString"
+				+ "(WritableByteChannel, String, long, Charset)", startNanos);
+		}
+	}
+
+	/**
+	 * Writes random text of the given length from the given chars in the given charset to the
+	 * given channel, for instance a {@link java.nio.channels.FileChannel}. The text is generated
+	 * into one reusable buffer, so the length is not limited by the memory. If the charset encodes
+	 * every char as its Latin-1 byte, for instance UTF-8 for ASCII chars, the bytes are written
+	 * without an encoder. The channel must be in blocking mode
+	 *
+	 * @param channel
+	 *            the channel
+	 * @param chars
+	 *            The String to get the random chars, for instance the chars of a
+	 *            {@link RandomCharacters} constant.
+	 * @param length
+	 *            The length from the random text in chars.
+	 * @param charset
+	 *            the charset for encode the text
+	 * @param randomSource
+	 *            the random source for text generation
+	 * @throws IOException
+	 *             if an I/O error occurs or a char can not be encoded in the given charset
+	 */
+	public static void writeRandomLongString(final WritableByteChannel channel,
+		final String chars, final long length, final Charset charset,
+		final RandomSource randomSource) throws IOException
+	{
+		RandomTextWriter.write(newByteSink(channel), RandomAlphabet.of(chars), length, charset,
+			randomSource);
+	}
+
+	/**
+	 * Appends random text of the given length from the chars of the given random characters to the
+	 * given appendable. The text is generated like in
+	 * {@link #writeRandomLongString(Appendable, String, long)}
+	 *
+	 * @param out
+	 *            the appendable, for instance a {@link Writer}
+	 * @param randomCharacters
+	 *            the random characters to get the random chars
+	 * @param length
+	 *            The length from the random text.
+	 * @throws IOException
+	 *             if an I/O error occurs
+	 */
+	public static void writeRandomLongString(final Appendable out,
+		final RandomCharacters randomCharacters, final long length) throws IOException
+	{
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			writeRandomLongString(out, randomCharacters.getCharacters(), length);
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomStringFactory#writeRandomLongString"
+				+ "(Appendable, RandomCharacters, long)", startNanos);
+		}
+	}
+
+	/**
+	 * Appends random text of the given length from the chars of the given random characters to the
+	 * given appendable. The text is generated like in
+	 * {@link #writeRandomLongString(Appendable, String, long, RandomSource)}
+	 *
+	 * @param out
+	 *            the appendable, for instance a {@link Writer}
+	 * @param randomCharacters
+	 *            the random characters to get the random chars
+	 * @param length
+	 *            The length from the random text.
+	 * @param randomSource
+	 *            the random source for text generation
+	 * @throws IOException
+	 *             if an I/O error occurs
+	 */
+	public static void writeRandomLongString(final Appendable out,
+		final RandomCharacters randomCharacters, final long length,
+		final RandomSource randomSource) throws IOException
+	{
+		writeRandomLongString(out, randomCharacters.getCharacters(), length, randomSource);
+	}
+
+	/**
+	 * Writes random text of the given length from the chars of the given random characters in the
+	 * given charset to the given output stream. The text is generated like in
+	 * {@link #writeRandomLongString(OutputStream, String, long, Charset)}
+	 *
+	 * @param out
+	 *            the output stream
+	 * @param randomCharacters
+	 *            the random characters to get the random chars
+	 * @param length
+	 *            The length from the random text in chars.
+	 * @param charset
+	 *            the charset for encode the text
+	 * @throws IOException
+	 *             if an I/O error occurs or a char can not be encoded in the given charset
+	 */
+	public static void writeRandomLongString(final OutputStream out,
+		final RandomCharacters randomCharacters, final long length, final Charset charset)
+		throws IOException
+	{
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			writeRandomLongString(out, randomCharacters.getCharacters(), length, charset);
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomStringFactory#writeRandomLongString"
+				+ "(OutputStream, RandomCharacters, long, Charset)", startNanos);
+		}
+	}
+
+	/**
+	 * Writes random text of the given length from the chars of the given random characters in the
+	 * given charset to the given output stream. The text is generated like in
+	 * {@link #writeRandomLongString(OutputStream, String, long, Charset, RandomSource)}
+	 *
+	 * @param out
+	 *            the output stream
+	 * @param randomCharacters
+	 *            the random characters to get the random chars
+	 * @param length
+	 *            The length from the random text in chars.
+	 * @param charset
+	 *            the charset for encode the text
+	 * @param randomSource
+	 *            the random source for text generation
+	 * @throws IOException
+	 *             if an I/O error occurs or a char can not be encoded in the given charset
+	 */
+	public static void writeRandomLongString(final OutputStream out,
+		final RandomCharacters randomCharacters, final long length, final Charset charset,
+		final RandomSource randomSource) throws IOException
+	{
+		writeRandomLongString(out, randomCharacters.getCharacters(), length, charset,
+			randomSource);
+	}
+
+	/**
+	 * Writes random text of the given length from the chars of the given random characters in the
+	 * given charset to the given channel. The text is generated like in
+	 * {@link #writeRandomLongString(WritableByteChannel, String, long, Charset)}
+	 *
+	 * @param channel
+	 *            the channel
+	 * @param randomCharacters
+	 *            the random characters to get the random chars
+	 * @param length
+	 *            The length from the random text in chars.
+	 * @param charset
+	 *            the charset for encode the text
+	 * @throws IOException
+	 *             if an I/O error occurs or a char can not be encoded in the given charset
+	 */
+	public static void writeRandomLongString(final WritableByteChannel channel,
+		final RandomCharacters randomCharacters, final long length, final Charset charset)
+		throws IOException
+	{
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			writeRandomLongString(channel, randomCharacters.getCharacters(), length, charset);
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomStringFactory#writeRandomLongString"
+				+ "(WritableByteChannel, RandomCharacters, long, Charset)", startNanos);
+		}
+	}
+
+	/**
+	 * Writes random text of the given length from the chars of the given random characters in the
+	 * given charset to the given channel. The text is generated like in
+	 * {@link #writeRandomLongString(WritableByteChannel, String, long, Charset, RandomSource)}
+	 *
+	 * @param channel
+	 *            the channel
+	 * @param randomCharacters
+	 *            the random characters to get the random chars
+	 * @param length
+	 *            The length from the random text in chars.
+	 * @param charset
+	 *            the charset for encode the text
+	 * @param randomSource
+	 *            the random source for text generation
+	 * @throws IOException
+	 *             if an I/O error occurs or a char can not be encoded in the given charset
+	 */
+	public static void writeRandomLongString(final WritableByteChannel channel,
+		final RandomCharacters randomCharacters, final long length, final Charset charset,
+		final RandomSource randomSource) throws IOException
+	{
+		writeRandomLongString(channel, randomCharacters.getCharacters(), length, charset,
+			randomSource);
+	}
+
+	private static RandomTextWriter.ByteSink newByteSink(final OutputStream out)
+	{
+		Objects.requireNonNull(out);
+		return (bytes, count) -> out.write(bytes, 0, count);
+	}
+
+	private static RandomTextWriter.ByteSink newByteSink(final WritableByteChannel channel)
+	{
+		Objects.requireNonNull(channel);
+		return (bytes, count) -> {
+			final ByteBuffer buffer = ByteBuffer.wrap(bytes, 0, count);
+			while (buffer.hasRemaining())
+			{
+				channel.write(buffer);
+			}
+		};
+	}
+
+	/**
+	 * Selects a random String from the given array
+	 *
+	 * @param array
+	 *            The array with the String to be selected.
+	 * @param randomSource
+	 *            the random source for the selection
+	 * @return The selected String from the array.
+	 */
+	public static String newRandomString(final String[] array, RandomSource randomSource)
+	{
+		return array[RandomIntFactory.randomInt(array.length, randomSource)];
+	}
+
+	/**
+	 * Fills the given array in parallel with random strings of the given length from the given
+	 * chars. The array is split into chunks that are filled by fork join tasks, every task with
+	 * its own engine that is derived from a seed of the {@link DefaultSecureRandom}.<br>
+	 * <br>
+	 * Note: the engines of the tasks are fast non cryptographic engines, so the strings should not
+	 * be used as passwords
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param chars
+	 *            The String to get the random chars.
+	 * @param length
+	 *            The length from the random Strings.
+	 * @see ParallelRandomFill
+	 */
+	public static void parallelFill(final String[] array, final String chars, final int length)
+	{
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			parallelFill(array, chars, length, DefaultSecureRandom.get().nextLong());
+		}
+		finally
 		{
-			sb.append(Integer.toHexString(RandomIntFactory.randomInt()));
+			RandomMetrics.stop("RandomStringFactory#parallelFill(String[], String, int)",
+				startNanos);
 		}
-		return sb.substring(0, numberOfCharacters);
+	}
+
+	/**
+	 * Fills the given array in parallel with random strings of the given length from the given
+	 * chars. The array is split into chunks that are filled by fork join tasks, every task with
+	 * its own engine that is derived from the given seed, so the result for a given seed is always
+	 * the same whatever the number of threads is.<br>
+	 * <br>
+	 * Note: the engines of the tasks are fast non cryptographic engines, so the strings should not
+	 * be used as passwords
+	 *
+	 * @param array
+	 *            the array to fill
+	 * @param chars
+	 *            The String to get the random chars.
+	 * @param length
+	 *            The length from the random Strings.
+	 * @param seed
+	 *            the seed
+	 * @see ParallelRandomFill
+	 */
+	public static void parallelFill(final String[] array, final String chars, final int length,
+		final long seed)
+	{
+		Objects.requireNonNull(array);
+		final RandomAlphabet alphabet = RandomAlphabet.of(chars);
+		ParallelRandomFill.fill(array.length, PARALLEL_CHUNK_SIZE,
+			RandomSourceFactory.newReproducibleRandomSource(seed), (from, to, randomSource) -> {
+				for (int i = from; i < to; i++)
+				{
+					array[i] = alphabet.newString(length, randomSource);
+				}
+			});
+	}
+
+	/**
+	 * Generates in parallel a list with the given number of random strings of the given length
+	 * from the given chars
+	 *
+	 * @param count
+	 *            the number of the strings
+	 * @param chars
+	 *            The String to get the random chars.
+	 * @param length
+	 *            The length from the random Strings.
+	 * @return the list with the generated random strings
+	 * @see #parallelFill(String[], String, int)
+	 */
+	public static List<String> newRandomStrings(final int count, final String chars,
+		final int length)
+	{
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return newRandomStrings(count, chars, length, DefaultSecureRandom.get().nextLong());
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomStringFactory#newRandomStrings(int, String, int)",
+				startNanos);
+		}
+	}
+
+	/**
+	 * Generates in parallel a list with the given number of random strings of the given length
+	 * from the given chars. The result for a given seed is always the same whatever the number of
+	 * threads is
+	 *
+	 * @param count
+	 *            the number of the strings
+	 * @param chars
+	 *            The String to get the random chars.
+	 * @param length
+	 *            The length from the random Strings.
+	 * @param seed
+	 *            the seed
+	 * @return the list with the generated random strings
+	 * @see #parallelFill(String[], String, int, long)
+	 */
+	public static List<String> newRandomStrings(final int count, final String chars,
+		final int length, final long seed)
+	{
+		final String[] array = new String[count];
+		parallelFill(array, chars, length, seed);
+		return Arrays.asList(array);
 	}
 }
@@ -0,0 +1,220 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.object;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+/**
+ * Utility class for write random text of any length with the chars of a {@link RandomAlphabet}
+ * in constant memory. The text is generated into one reusable buffer of
+ * {@value #BUFFER_SIZE} chars that is written and refilled until the length is reached. If the
+ * charset encodes the alphabet byte by byte as Latin-1, the bytes are generated directly,
+ * otherwise the chars are encoded with a reusable {@link CharsetEncoder}
+ */
+final class RandomTextWriter
+{
+
+	/** The number of chars of the buffer */
+	static final int BUFFER_SIZE = 8192;
+
+	private RandomTextWriter()
+	{
+	}
+
+	/**
+	 * The interface {@link ByteSink} writes the first bytes of a byte array
+	 */
+	@FunctionalInterface
+	interface ByteSink
+	{
+
+		/**
+		 * Writes the first bytes of the given byte array
+		 *
+		 * @param bytes
+		 *            the byte array
+		 * @param length
+		 *            the number of bytes to write
+		 * @throws IOException
+		 *             if an I/O error occurs
+		 */
+		void write(byte[] bytes, int length) throws IOException;
+
+	}
+
+	/**
+	 * Appends random text of the given length to the given appendable
+	 *
+	 * @param out
+	 *            the appendable
+	 * @param alphabet
+	 *            the alphabet
+	 * @param length
+	 *            the number of chars
+	 * @param generator
+	 *            the generator
+	 * @throws IOException
+	 *             if an I/O error occurs
+	 */
+	static void write(final Appendable out, final RandomAlphabet alphabet, final long length,
+		final RandomGenerator generator) throws IOException
+	{
+		Objects.requireNonNull(out);
+		checkLength(length);
+		final char[] buffer = new char[(int)Math.min(BUFFER_SIZE, length)];
+		final CharBuffer view = CharBuffer.wrap(buffer);
+		final RandomAlphabet.Words words = alphabet.words(generator, buffer.length);
+		for (long remaining = length; 0 < remaining; remaining -= buffer.length)
+		{
+			final int count = (int)Math.min(buffer.length, remaining);
+			alphabet.fill(buffer, 0, count, words);
+			if (out instanceof Writer)
+			{
+				((Writer)out).write(buffer, 0, count);
+			}
+			else
+			{
+				out.append(view, 0, count);
+			}
+		}
+	}
+
+	/**
+	 * Writes random text of the given length in the given charset to the given sink
+	 *
+	 * @param sink
+	 *            the sink of the encoded bytes
+	 * @param alphabet
+	 *            the alphabet
+	 * @param length
+	 *            the number of chars
+	 * @param charset
+	 *            the charset
+	 * @param generator
+	 *            the generator
+	 * @throws IOException
+	 *             if an I/O error occurs or a char of the alphabet can not be encoded
+	 */
+	static void write(final ByteSink sink, final RandomAlphabet alphabet, final long length,
+		final Charset charset, final RandomGenerator generator) throws IOException
+	{
+		Objects.requireNonNull(sink);
+		Objects.requireNonNull(charset);
+		checkLength(length);
+		if (length == 0)
+		{
+			return;
+		}
+		final int bufferSize = (int)Math.min(BUFFER_SIZE, length);
+		final RandomAlphabet.Words words = alphabet.words(generator, bufferSize);
+		if (alphabet.isEncodedAsLatin1(charset))
+		{
+			final byte[] buffer = new byte[bufferSize];
+			for (long remaining = length; 0 < remaining; remaining -= buffer.length)
+			{
+				final int count = (int)Math.min(buffer.length, remaining);
+				alphabet.fill(buffer, count, words);
+				sink.write(buffer, count);
+			}
+			return;
+		}
+		final CharsetEncoder encoder = charset.newEncoder()
+			.onMalformedInput(CodingErrorAction.REPORT)
+			.onUnmappableCharacter(CodingErrorAction.REPORT);
+		final char[] chars = new char[bufferSize];
+		final CharBuffer input = CharBuffer.wrap(chars);
+		final ByteBuffer output = ByteBuffer
+			.allocate((int)Math.ceil(bufferSize * (double)encoder.maxBytesPerChar()) + 16);
+		int carried = 0;
+		for (long remaining = length; 0 < remaining;)
+		{
+			final int count = (int)Math.min(chars.length - carried, remaining);
+			alphabet.fill(chars, carried, count, words);
+			remaining -= count;
+			input.position(0).limit(carried + count);
+			encode(encoder, input, output, remaining == 0, sink);
+			// a high surrogate at the end of the chunk is left unconsumed by the encoder and is
+			// moved to the start of the next chunk
+			carried = input.remaining();
+			input.compact();
+		}
+		flush(encoder, output, sink);
+	}
+
+	private static void encode(final CharsetEncoder encoder, final CharBuffer input,
+		final ByteBuffer output, final boolean endOfInput, final ByteSink sink) throws IOException
+	{
+		while (true)
+		{
+			final CoderResult result = encoder.encode(input, output, endOfInput);
+			if (result.isError())
+			{
+				result.throwException();
+			}
+			drain(output, sink);
+			if (result.isUnderflow())
+			{
+				return;
+			}
+		}
+	}
+
+	private static void flush(final CharsetEncoder encoder, final ByteBuffer output,
+		final ByteSink sink) throws IOException
+	{
+		while (encoder.flush(output).isOverflow())
+		{
+			drain(output, sink);
+		}
+		drain(output, sink);
+	}
+
+	private static void drain(final ByteBuffer output, final ByteSink sink) throws IOException
+	{
+		if (0 < output.position())
+		{
+			sink.write(output.array(), output.position());
+			output.clear();
+		}
+	}
+
+	private static void checkLength(final long length)
+	{
+		if (length < 0)
+		{
+			throw new IllegalArgumentException("length must not be negative: " + length);
+		}
+	}
+
+}
@@ -24,13 +24,15 @@
  */
 package io.github.astrapi69.random.object;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 import io.github.astrapi69.random.RandomCharacters;
+import io.github.astrapi69.random.Randomizer;
+import io.github.astrapi69.random.metrics.RandomMetrics;
 import io.github.astrapi69.random.number.RandomIntFactory;
-import io.github.astrapi69.random.number.RandomNumberExtensions;
+import io.github.astrapi69.random.permutation.RandomShuffleExtensions;
+import io.github.astrapi69.random.source.RandomSource;
 
 /**
  * The class {@link RandomWebObjectFactory} is a utility class to create random web objects
@@ -83,14 +85,36 @@ public final class RandomWebObjectFactory
 	 */
 	public static String randomEmail()
 	{
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return Randomizer.getDefault().randomEmail();
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomWebObjectFactory#randomEmail()", startNanos);
+		}
+	}
+
+	/**
+	 * Generates a random email-address
+	 *
+	 * @param randomSource
+	 *            the random source for the generation
+	 * @return The random email-address.
+	 */
+	public static String randomEmail(final RandomSource randomSource)
+	{
+		Objects.requireNonNull(randomSource);
 		final StringBuilder email = new StringBuilder();
 		final String emailprefix = RandomStringFactory.newRandomString(
 			RandomCharacters.lowcaseWithNumbers.getCharacters(),
-			RandomIntFactory.randomInt(20) + 1);
+			RandomIntFactory.randomInt(20, randomSource) + 1, randomSource);
 		final String domain = RandomStringFactory.newRandomString(
-			RandomCharacters.lowcase.getCharacters(), RandomIntFactory.randomInt(12) + 1);
+			RandomCharacters.lowcase.getCharacters(),
+			RandomIntFactory.randomInt(12, randomSource) + 1, randomSource);
 		final String topDomain = RandomStringFactory
-			.newRandomString(RandomCharacters.lowcase.getCharacters(), 2);
+			.newRandomString(RandomCharacters.lowcase.getCharacters(), 2, randomSource);
 		email.append(emailprefix);
 		email.append("@");
 		email.append(domain);
@@ -126,12 +150,27 @@ public final class RandomWebObjectFactory
 	 */
 	public static String randomMobilnumber()
 	{
-		final StringBuilder randomPhonenumber = new StringBuilder();
-		randomPhonenumber.append("0");
-		randomPhonenumber.append(RandomNumberExtensions.getRandomNumericString(3));
-		randomPhonenumber.append("/");
-		randomPhonenumber.append(RandomNumberExtensions.getRandomNumericString(7));
-		return randomPhonenumber.toString();
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return Randomizer.getDefault().randomMobilnumber();
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomWebObjectFactory#randomMobilnumber()", startNanos);
+		}
+	}
+
+	/**
+	 * Generates a random mobil number from a mobilphone.
+	 *
+	 * @param randomSource
+	 *            the random source for the generation
+	 * @return Return's a random mobil number from a mobilphone.
+	 */
+	public static String randomMobilnumber(final RandomSource randomSource)
+	{
+		return randomPhonenumber(3, randomSource);
 	}
 
 	/**
@@ -143,9 +182,31 @@ public final class RandomWebObjectFactory
 	 */
 	public static String randomPassword(final int length)
 	{
-		final String password = RandomStringFactory.newRandomString(
-			RandomCharacters.lowcaseWithUppercaseAndNumbers.getCharacters(), length);
-		return password;
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return Randomizer.getDefault().randomPassword(length);
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomWebObjectFactory#randomPassword(int)", startNanos);
+		}
+	}
+
+	/**
+	 * Generates a random password.
+	 *
+	 * @param length
+	 *            The length from the password.
+	 * @param randomSource
+	 *            the random source for the generation
+	 * @return The password.
+	 */
+	public static String randomPassword(final int length, final RandomSource randomSource)
+	{
+		return RandomStringFactory.newRandomString(
+			RandomCharacters.lowcaseWithUppercaseAndNumbers.getCharacters(), length,
+			Objects.requireNonNull(randomSource));
 	}
 
 	/**
@@ -157,14 +218,15 @@ public final class RandomWebObjectFactory
 	 */
 	public static String randomPassword(final Optional<Integer> length)
 	{
-		if (length.isPresent())
+		final long startNanos = RandomMetrics.start();
+		try
 		{
-			final String password = RandomStringFactory.newRandomString(
-				RandomCharacters.lowcaseWithUppercaseAndNumbers.getCharacters(), length.get());
-			return password;
+			return randomPassword(length.orElse(8));
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomWebObjectFactory#randomPassword(Optional)", startNanos);
 		}
-		return RandomStringFactory
-			.newRandomString(RandomCharacters.lowcaseWithUppercaseAndNumbers.getCharacters(), 8);
 	}
 
 	/**
@@ -174,11 +236,40 @@ public final class RandomWebObjectFactory
 	 */
 	public static String randomPhonenumber()
 	{
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return Randomizer.getDefault().randomPhonenumber();
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomWebObjectFactory#randomPhonenumber()", startNanos);
+		}
+	}
+
+	/**
+	 * Generates a random phonenumber.
+	 *
+	 * @param randomSource
+	 *            the random source for the generation
+	 * @return Return's a random phonenumber.
+	 */
+	public static String randomPhonenumber(final RandomSource randomSource)
+	{
+		return randomPhonenumber(4, randomSource);
+	}
+
+	private static String randomPhonenumber(final int prefixLength,
+		final RandomSource randomSource)
+	{
+		Objects.requireNonNull(randomSource);
 		final StringBuilder randomPhonenumber = new StringBuilder();
 		randomPhonenumber.append("0");
-		randomPhonenumber.append(RandomNumberExtensions.getRandomNumericString(4));
+		randomPhonenumber.append(RandomStringFactory
+			.newRandomString(RandomCharacters.numbers.getCharacters(), prefixLength, randomSource));
 		randomPhonenumber.append("/");
-		randomPhonenumber.append(RandomNumberExtensions.getRandomNumericString(7));
+		randomPhonenumber.append(RandomStringFactory
+			.newRandomString(RandomCharacters.numbers.getCharacters(), 7, randomSource));
 		return randomPhonenumber.toString();
 	}
 
@@ -189,12 +280,34 @@ public final class RandomWebObjectFactory
 	 */
 	public static String randomWebsite()
 	{
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return Randomizer.getDefault().randomWebsite();
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomWebObjectFactory#randomWebsite()", startNanos);
+		}
+	}
+
+	/**
+	 * Generates a random name for a website.
+	 *
+	 * @param randomSource
+	 *            the random source for the generation
+	 * @return Returns a random name for a website.
+	 */
+	public static String randomWebsite(final RandomSource randomSource)
+	{
+		Objects.requireNonNull(randomSource);
 		final StringBuilder website = new StringBuilder();
 		final String websitePrefix = "http://www";
 		final String domain = RandomStringFactory.newRandomString(
-			RandomCharacters.lowcase.getCharacters(), RandomIntFactory.randomInt(12) + 1);
+			RandomCharacters.lowcase.getCharacters(),
+			RandomIntFactory.randomInt(12, randomSource) + 1, randomSource);
 		final String topDomain = RandomStringFactory
-			.newRandomString(RandomCharacters.lowcase.getCharacters(), 2);
+			.newRandomString(RandomCharacters.lowcase.getCharacters(), 2, randomSource);
 		website.append(websitePrefix);
 		website.append(".");
 		website.append(domain);
@@ -210,20 +323,38 @@ public final class RandomWebObjectFactory
 	 */
 	public static String randomId()
 	{
+		final long startNanos = RandomMetrics.start();
+		try
+		{
+			return Randomizer.getDefault().randomId();
+		}
+		finally
+		{
+			RandomMetrics.stop("RandomWebObjectFactory#randomId()", startNanos);
+		}
+	}
+
+	/**
+	 * Factory method for create a new random id and returns it
+	 *
+	 * @param randomSource
+	 *            the random source for the generation
+	 * @return the created random id.
+	 */
+	public static String randomId(final RandomSource randomSource)
+	{
+		Objects.requireNonNull(randomSource);
+		final String characters = RandomCharacters.lowcaseWithUppercaseAndNumbers.getCharacters();
 		final StringBuilder sb = new StringBuilder();
-		sb.append(RandomStringFactory
-			.newRandomString(RandomCharacters.lowcaseWithUppercaseAndNumbers.getCharacters(), 2));
+		sb.append(RandomStringFactory.newRandomString(characters, 2, randomSource));
 		sb.append(".");
-		sb.append(RandomStringFactory
-			.newRandomString(RandomCharacters.lowcaseWithUppercaseAndNumbers.getCharacters(), 4));
+		sb.append(RandomStringFactory.newRandomString(characters, 4, randomSource));
 		sb.append(".");
-		sb.append(RandomStringFactory
-			.newRandomString(RandomCharacters.lowcaseWithUppercaseAndNumbers.getCharacters(), 2));
+		sb.append(RandomStringFactory.newRandomString(characters, 2, randomSource));
 		sb.append(".");
 		sb.append(System.currentTimeMillis());
 		sb.append(".");
-		sb.append(RandomStringFactory
-			.newRandomString(RandomCharacters.lowcaseWithUppercaseAndNumbers.getCharacters(), 2));
+		sb.append(RandomStringFactory.newRandomString(characters, 2, randomSource));
 		return sb.toString();
 	}
 
@@ -236,25 +367,32 @@ public final class RandomWebObjectFactory
 	 */
 	public static String randomName(final char[] donatedChars)
 	{
-		final StringBuilder sb = new StringBuilder(donatedChars.length);
-		final List<Character> dc = new ArrayList<>(donatedChars.length);
-		for (final char donatedChar : donatedChars)
+		final long startNanos = RandomMetrics.start();
+		try
 		{
-			dc.add(donatedChar);
+			return Randomizer.getDefault().randomName(donatedChars);
 		}
-		boolean fullList = true;
-		while (fullList)
+		finally
 		{
-			final int randomIndex = RandomIntFactory.randomInt(dc.size());
-			final Character c = dc.get(randomIndex);
-			sb.append(c);
-			dc.remove(randomIndex);
-			if (dc.isEmpty())
-			{
-				fullList = false;
-			}
+			RandomMetrics.stop("RandomWebObjectFactory#randomName(char[])", startNanos);
 		}
-		return sb.toString();
+	}
+
+	/**
+	 * Factory method for create a new random name from the donated char array
+	 *
+	 * @param donatedChars
+	 *            The Characters for the name
+	 * @param randomSource
+	 *            the random source for the generation
+	 * @return A random Name.
+	 */
+	public static String randomName(final char[] donatedChars, final RandomSource randomSource)
+	{
+		Objects.requireNonNull(randomSource);
+		final char[] chars = donatedChars.clone();
+		RandomShuffleExtensions.shuffle(chars, randomSource);
+		return new String(chars);
 	}
 
 }
@@ -0,0 +1,275 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.permutation;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.PrimitiveIterator;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import java.util.stream.LongStream;
+
+import io.github.astrapi69.random.DefaultSecureRandom;
+import io.github.astrapi69.random.SecureRandomBean;
+import io.github.astrapi69.random.SecureRandomFactory;
+
+/**
+ * The class {@link RandomPermutation} is a random bijection of the index range [0, size) onto
+ * itself that needs constant memory, so index spaces with billions of entries can be visited in
+ * random order without repeats and without materialize an index array.<br>
+ * <br>
+ * The permutation is a balanced Feistel network with {@value #ROUNDS} keyed rounds over the
+ * smallest domain of an even number of bits that covers the size. Values of the domain that are
+ * outside of the range are encrypted again until they fall into the range (cycle walking), since
+ * the domain is at most four times the size this takes at most four round trips in the
+ * mean. Every index can be mapped with {@link #permute(long)} and mapped back with
+ * {@link #inverse(long)} in random access, the iteration over all values needs no state beside
+ * the current index.<br>
+ * <br>
+ * Note: the permutation is meant for random visiting orders and test data and is no
+ * cryptographic cipher
+ */
+public final class RandomPermutation implements Iterable<Long>
+{
+
+	/** The number of rounds of the Feistel network */
+	public static final int ROUNDS = 6;
+
+	/** The size of the permuted range */
+	private final long size;
+
+	/** The number of bits of one half of the domain */
+	private final int halfBits;
+
+	/** The mask of one half of the domain */
+	private final long halfMask;
+
+	/** The round keys */
+	private final long[] keys;
+
+	private RandomPermutation(final long size, final RandomGenerator generator)
+	{
+		if (size < 0)
+		{
+			throw new IllegalArgumentException("size must not be negative: " + size);
+		}
+		Objects.requireNonNull(generator);
+		this.size = size;
+		final int bits = Long.SIZE - Long.numberOfLeadingZeros(Math.max(size - 1, 0));
+		this.halfBits = Math.max(1, (bits + 1) / 2);
+		this.halfMask = -1L >>> (Long.SIZE - halfBits);
+		this.keys = new long[ROUNDS];
+		for (int i = 0; i < ROUNDS; i++)
+		{
+			keys[i] = generator.nextLong();
+		}
+	}
+
+	/**
+	 * Factory method for create a new {@link RandomPermutation} object with round keys from the
+	 * {@link DefaultSecureRandom}
+	 *
+	 * @param size
+	 *            the size of the permuted range
+	 * @return the new {@link RandomPermutation} object
+	 */
+	public static RandomPermutation of(final long size)
+	{
+		return of(size, DefaultSecureRandom.get());
+	}
+
+	/**
+	 * Factory method for create a new {@link RandomPermutation} object from the given seed, the
+	 * same seed results always in the same permutation
+	 *
+	 * @param size
+	 *            the size of the permuted range
+	 * @param seed
+	 *            the seed
+	 * @return the new {@link RandomPermutation} object
+	 */
+	public static RandomPermutation of(final long size, final long seed)
+	{
+		return of(size, new SplittableRandom(seed));
+	}
+
+	/**
+	 * Factory method for create a new {@link RandomPermutation} object with round keys from a
+	 * {@link java.security.SecureRandom} of the {@link SecureRandomFactory} for the given
+	 * {@link SecureRandomBean}
+	 *
+	 * @param size
+	 *            the size of the permuted range
+	 * @param secureRandomBean
+	 *            the secure random bean
+	 * @return the new {@link RandomPermutation} object
+	 */
+	public static RandomPermutation of(final long size, final SecureRandomBean secureRandomBean)
+	{
+		return of(size, SecureRandomFactory.newSecureRandom(secureRandomBean));
+	}
+
+	/**
+	 * Factory method for create a new {@link RandomPermutation} object with round keys from the
+	 * given generator
+	 *
+	 * @param size
+	 *            the size of the permuted range
+	 * @param generator
+	 *            the generator for the round keys
+	 * @return the new {@link RandomPermutation} object
+	 */
+	public static RandomPermutation of(final long size, final RandomGenerator generator)
+	{
+		return new RandomPermutation(size, generator);
+	}
+
+	/**
+	 * Gets the size of the permuted range
+	 *
+	 * @return the size of the permuted range
+	 */
+	public long size()
+	{
+		return size;
+	}
+
+	/**
+	 * Maps the given index to its position in this permutation
+	 *
+	 * @param index
+	 *            the index, must be between 0 inclusive and the size exclusive
+	 * @return the permuted value between 0 inclusive and the size exclusive
+	 * @throws IndexOutOfBoundsException
+	 *             if the index is out of the range
+	 */
+	public long permute(final long index)
+	{
+		Objects.checkIndex(index, size);
+		long value = encrypt(index);
+		while (Long.compareUnsigned(value, size) >= 0)
+		{
+			value = encrypt(value);
+		}
+		return value;
+	}
+
+	/**
+	 * Maps the given value back to the index that is permuted to the given value, so
+	 * <code>inverse(permute(index)) == index</code>
+	 *
+	 * @param value
+	 *            the permuted value, must be between 0 inclusive and the size exclusive
+	 * @return the index between 0 inclusive and the size exclusive
+	 * @throws IndexOutOfBoundsException
+	 *             if the value is out of the range
+	 */
+	public long inverse(final long value)
+	{
+		Objects.checkIndex(value, size);
+		long index = decrypt(value);
+		while (Long.compareUnsigned(index, size) >= 0)
+		{
+			index = decrypt(index);
+		}
+		return index;
+	}
+
+	/**
+	 * Iterates over all permuted values in the order of the indexes
+	 *
+	 * @return the iterator over all permuted values
+	 */
+	@Override
+	public PrimitiveIterator.OfLong iterator()
+	{
+		return new PrimitiveIterator.OfLong()
+		{
+			private long index;
+
+			@Override
+			public boolean hasNext()
+			{
+				return index < size;
+			}
+
+			@Override
+			public long nextLong()
+			{
+				if (size <= index)
+				{
+					throw new NoSuchElementException();
+				}
+				return permute(index++);
+			}
+		};
+	}
+
+	/**
+	 * Creates a stream of all permuted values in the order of the indexes, the stream can be
+	 * processed in parallel
+	 *
+	 * @return the stream of all permuted values
+	 */
+	public LongStream stream()
+	{
+		return LongStream.range(0, size).map(this::permute);
+	}
+
+	private long encrypt(final long value)
+	{
+		long left = value >>> halfBits;
+		long right = value & halfMask;
+		for (final long key : keys)
+		{
+			final long next = left ^ round(right, key);
+			left = right;
+			right = next;
+		}
+		return left << halfBits | right;
+	}
+
+	private long decrypt(final long value)
+	{
+		long left = value >>> halfBits;
+		long right = value & halfMask;
+		for (int i = keys.length - 1; 0 <= i; i--)
+		{
+			final long previous = right ^ round(left, keys[i]);
+			right = left;
+			left = previous;
+		}
+		return left << halfBits | right;
+	}
+
+	private long round(final long half, final long key)
+	{
+		long z = half + key;
+		z = (z ^ z >>> 30) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ z >>> 27) * 0x94d049bb133111ebL;
+		return (z ^ z >>> 31) & halfMask;
+	}
+
+}
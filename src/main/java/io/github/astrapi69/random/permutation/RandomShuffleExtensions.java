@@ -0,0 +1,429 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.permutation;
+
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.random.RandomGenerator;
+
+import io.github.astrapi69.random.DefaultSecureRandom;
+
+/**
+ * Utility class for the in place shuffle of arrays and lists with the algorithm of Fisher and
+ * Yates. All methods accept any {@link RandomGenerator}, so every
+ * {@link java.security.SecureRandom} and every
+ * {@link io.github.astrapi69.random.source.RandomSource} can drive the shuffle. The partial
+ * shuffles stop after the first k elements, that is enough for draw k distinct elements
+ */
+public final class RandomShuffleExtensions
+{
+
+	private RandomShuffleExtensions()
+	{
+	}
+
+	/**
+	 * Shuffles the given array in place with the {@link DefaultSecureRandom}
+	 *
+	 * @param array
+	 *            the array to shuffle
+	 */
+	public static void shuffle(final int[] array)
+	{
+		shuffle(array, DefaultSecureRandom.get());
+	}
+
+	/**
+	 * Shuffles the given array in place with the given generator, every permutation is equally
+	 * likely
+	 *
+	 * @param array
+	 *            the array to shuffle
+	 * @param generator
+	 *            the generator
+	 */
+	public static void shuffle(final int[] array, final RandomGenerator generator)
+	{
+		Objects.requireNonNull(array);
+		partialShuffle(array, array.length, generator);
+	}
+
+	/**
+	 * Shuffles the first k elements of the given array in place with the
+	 * {@link DefaultSecureRandom}
+	 *
+	 * @param array
+	 *            the array to shuffle
+	 * @param k
+	 *            the number of the elements to shuffle
+	 * @see #partialShuffle(int[], int, RandomGenerator)
+	 */
+	public static void partialShuffle(final int[] array, final int k)
+	{
+		partialShuffle(array, k, DefaultSecureRandom.get());
+	}
+
+	/**
+	 * Shuffles the first k elements of the given array in place with the given generator. After
+	 * this call the first k elements are a uniform random sample of all elements in a random
+	 * order, this needs only k random values
+	 *
+	 * @param array
+	 *            the array to shuffle
+	 * @param k
+	 *            the number of the elements to shuffle
+	 * @param generator
+	 *            the generator
+	 */
+	public static void partialShuffle(final int[] array, final int k,
+		final RandomGenerator generator)
+	{
+		Objects.requireNonNull(array);
+		Objects.requireNonNull(generator);
+		final int last = checkSampleSize(k, array.length);
+		for (int i = 0; i < last; i++)
+		{
+			final int j = i + generator.nextInt(array.length - i);
+			final int element = array[i];
+			array[i] = array[j];
+			array[j] = element;
+		}
+	}
+
+	/**
+	 * Shuffles the given array in place with the {@link DefaultSecureRandom}
+	 *
+	 * @param array
+	 *            the array to shuffle
+	 */
+	public static void shuffle(final long[] array)
+	{
+		shuffle(array, DefaultSecureRandom.get());
+	}
+
+	/**
+	 * Shuffles the given array in place with the given generator, every permutation is equally
+	 * likely
+	 *
+	 * @param array
+	 *            the array to shuffle
+	 * @param generator
+	 *            the generator
+	 */
+	public static void shuffle(final long[] array, final RandomGenerator generator)
+	{
+		Objects.requireNonNull(array);
+		partialShuffle(array, array.length, generator);
+	}
+
+	/**
+	 * Shuffles the first k elements of the given array in place with the
+	 * {@link DefaultSecureRandom}
+	 *
+	 * @param array
+	 *            the array to shuffle
+	 * @param k
+	 *            the number of the elements to shuffle
+	 * @see #partialShuffle(long[], int, RandomGenerator)
+	 */
+	public static void partialShuffle(final long[] array, final int k)
+	{
+		partialShuffle(array, k, DefaultSecureRandom.get());
+	}
+
+	/**
+	 * Shuffles the first k elements of the given array in place with the given generator. After
+	 * this call the first k elements are a uniform random sample of all elements in a random
+	 * order, this needs only k random values
+	 *
+	 * @param array
+	 *            the array to shuffle
+	 * @param k
+	 *            the number of the elements to shuffle
+	 * @param generator
+	 *            the generator
+	 */
+	public static void partialShuffle(final long[] array, final int k,
+		final RandomGenerator generator)
+	{
+		Objects.requireNonNull(array);
+		Objects.requireNonNull(generator);
+		final int last = checkSampleSize(k, array.length);
+		for (int i = 0; i < last; i++)
+		{
+			final int j = i + generator.nextInt(array.length - i);
+			final long element = array[i];
+			array[i] = array[j];
+			array[j] = element;
+		}
+	}
+
+	/**
+	 * Shuffles the given array in place with the {@link DefaultSecureRandom}
+	 *
+	 * @param array
+	 *            the array to shuffle
+	 */
+	public static void shuffle(final char[] array)
+	{
+		shuffle(array, DefaultSecureRandom.get());
+	}
+
+	/**
+	 * Shuffles the given array in place with the given generator, every permutation is equally
+	 * likely
+	 *
+	 * @param array
+	 *            the array to shuffle
+	 * @param generator
+	 *            the generator
+	 */
+	public static void shuffle(final char[] array, final RandomGenerator generator)
+	{
+		Objects.requireNonNull(array);
+		partialShuffle(array, array.length, generator);
+	}
+
+	/**
+	 * Shuffles the first k elements of the given array in place with the
+	 * {@link DefaultSecureRandom}
+	 *
+	 * @param array
+	 *            the array to shuffle
+	 * @param k
+	 *            the number of the elements to shuffle
+	 * @see #partialShuffle(char[], int, RandomGenerator)
+	 */
+	public static void partialShuffle(final char[] array, final int k)
+	{
+		partialShuffle(array, k, DefaultSecureRandom.get());
+	}
+
+	/**
+	 * Shuffles the first k elements of the given array in place with the given generator. After
+	 * this call the first k elements are a uniform random sample of all elements in a random
+	 * order, this needs only k random values
+	 *
+	 * @param array
+	 *            the array to shuffle
+	 * @param k
+	 *            the number of the elements to shuffle
+	 * @param generator
+	 *            the generator
+	 */
+	public static void partialShuffle(final char[] array, final int k,
+		final RandomGenerator generator)
+	{
+		Objects.requireNonNull(array);
+		Objects.requireNonNull(generator);
+		final int last = checkSampleSize(k, array.length);
+		for (int i = 0; i < last; i++)
+		{
+			final int j = i + generator.nextInt(array.length - i);
+			final char element = array[i];
+			array[i] = array[j];
+			array[j] = element;
+		}
+	}
+
+	/**
+	 * Shuffles the given array in place with the {@link DefaultSecureRandom}
+	 *
+	 * @param <T>
+	 *            the type of the elements
+	 * @param array
+	 *            the array to shuffle
+	 */
+	public static <T> void shuffle(final T[] array)
+	{
+		shuffle(array, DefaultSecureRandom.get());
+	}
+
+	/**
+	 * Shuffles the given array in place with the given generator, every permutation is equally
+	 * likely
+	 *
+	 * @param <T>
+	 *            the type of the elements
+	 * @param array
+	 *            the array to shuffle
+	 * @param generator
+	 *            the generator
+	 */
+	public static <T> void shuffle(final T[] array, final RandomGenerator generator)
+	{
+		Objects.requireNonNull(array);
+		partialShuffle(array, array.length, generator);
+	}
+
+	/**
+	 * Shuffles the first k elements of the given array in place with the
+	 * {@link DefaultSecureRandom}
+	 *
+	 * @param <T>
+	 *            the type of the elements
+	 * @param array
+	 *            the array to shuffle
+	 * @param k
+	 *            the number of the elements to shuffle
+	 * @see #partialShuffle(Object[], int, RandomGenerator)
+	 */
+	public static <T> void partialShuffle(final T[] array, final int k)
+	{
+		partialShuffle(array, k, DefaultSecureRandom.get());
+	}
+
+	/**
+	 * Shuffles the first k elements of the given array in place with the given generator. After
+	 * this call the first k elements are a uniform random sample of all elements in a random
+	 * order, this needs only k random values
+	 *
+	 * @param <T>
+	 *            the type of the elements
+	 * @param array
+	 *            the array to shuffle
+	 * @param k
+	 *            the number of the elements to shuffle
+	 * @param generator
+	 *            the generator
+	 */
+	public static <T> void partialShuffle(final T[] array, final int k,
+		final RandomGenerator generator)
+	{
+		Objects.requireNonNull(array);
+		Objects.requireNonNull(generator);
+		final int last = checkSampleSize(k, array.length);
+		for (int i = 0; i < last; i++)
+		{
+			final int j = i + generator.nextInt(array.length - i);
+			final T element = array[i];
+			array[i] = array[j];
+			array[j] = element;
+		}
+	}
+
+	/**
+	 * Shuffles the given list in place with the {@link DefaultSecureRandom}
+	 *
+	 * @param list
+	 *            the list to shuffle
+	 */
+	public static void shuffle(final List<?> list)
+	{
+		shuffle(list, DefaultSecureRandom.get());
+	}
+
+	/**
+	 * Shuffles the given list in place with the given generator, every permutation is equally
+	 * likely
+	 *
+	 * @param list
+	 *            the list to shuffle
+	 * @param generator
+	 *            the generator
+	 */
+	public static void shuffle(final List<?> list, final RandomGenerator generator)
+	{
+		Objects.requireNonNull(list);
+		partialShuffle(list, list.size(), generator);
+	}
+
+	/**
+	 * Shuffles the first k elements of the given list in place with the
+	 * {@link DefaultSecureRandom}
+	 *
+	 * @param list
+	 *            the list to shuffle
+	 * @param k
+	 *            the number of the elements to shuffle
+	 * @see #partialShuffle(List, int, RandomGenerator)
+	 */
+	public static void partialShuffle(final List<?> list, final int k)
+	{
+		partialShuffle(list, k, DefaultSecureRandom.get());
+	}
+
+	/**
+	 * Shuffles the first k elements of the given list in place with the given generator. After
+	 * this call the first k elements are a uniform random sample of all elements in a random
+	 * order. A list without {@link RandomAccess} is copied to an array, shuffled and written
+	 * back with its list iterator
+	 *
+	 * @param list
+	 *            the list to shuffle
+	 * @param k
+	 *            the number of the elements to shuffle
+	 * @param generator
+	 *            the generator
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public static void partialShuffle(final List<?> list, final int k,
+		final RandomGenerator generator)
+	{
+		Objects.requireNonNull(list);
+		Objects.requireNonNull(generator);
+		final int size = list.size();
+		final int last = checkSampleSize(k, size);
+		if (list instanceof RandomAccess)
+		{
+			final List rawList = list;
+			for (int i = 0; i < last; i++)
+			{
+				rawList.set(i, rawList.set(i + generator.nextInt(size - i), rawList.get(i)));
+			}
+			return;
+		}
+		final Object[] array = list.toArray();
+		partialShuffle(array, k, generator);
+		final ListIterator iterator = list.listIterator();
+		for (final Object element : array)
+		{
+			iterator.next();
+			iterator.set(element);
+		}
+	}
+
+	/**
+	 * Checks the given sample size and gets the number of swaps, the last element of a full
+	 * shuffle needs no swap
+	 *
+	 * @param k
+	 *            the number of the elements to shuffle
+	 * @param length
+	 *            the number of all elements
+	 * @return the number of swaps
+	 */
+	private static int checkSampleSize(final int k, final int length)
+	{
+		if (k < 0 || length < k)
+		{
+			throw new IllegalArgumentException("k must be between 0 and " + length + ": " + k);
+		}
+		return Math.min(k, length - 1);
+	}
+
+}
@@ -0,0 +1,261 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.source;
+
+import java.security.SecureRandom;
+import java.security.SecureRandomSpi;
+import java.util.Objects;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+
+/**
+ * The class {@link AsyncSeededSecureRandom} is a {@link SecureRandom} that creates and seeds the
+ * decorated {@link SecureRandom} on a background thread. Until the decorated {@link SecureRandom}
+ * is ready the values are served from the {@link ThreadLocalRandom}, so the first value is
+ * available without waiting for the provider lookup and the seeding.<br>
+ * <br>
+ * Note: the values that are served before the decorated {@link SecureRandom} is ready are not
+ * cryptographically strong. Use {@link #awaitSecureRandom()} before values are drawn for
+ * security sensitive purposes. If the creation of the decorated {@link SecureRandom} fails, every
+ * further value request throws an {@link IllegalStateException} instead of falling back to the
+ * {@link ThreadLocalRandom} for ever
+ */
+public final class AsyncSeededSecureRandom extends SecureRandom implements RandomSource
+{
+
+	private static final long serialVersionUID = 1L;
+
+	/** The decorated secure random that is created on a background thread */
+	private final transient CompletableFuture<SecureRandom> secureRandom;
+
+	/**
+	 * Instantiates a new {@link AsyncSeededSecureRandom} object that creates the decorated
+	 * {@link SecureRandom} from the given factory on a background thread
+	 *
+	 * @param factory
+	 *            the factory for the decorated secure random
+	 */
+	public AsyncSeededSecureRandom(final Supplier<? extends SecureRandom> factory)
+	{
+		this(CompletableFuture.supplyAsync(Objects.requireNonNull(factory)::get,
+			SeedExecutorHolder.EXECUTOR));
+	}
+
+	private AsyncSeededSecureRandom(final CompletableFuture<SecureRandom> secureRandom)
+	{
+		super(new DelegatingSecureRandomSpi(secureRandom), null);
+		this.secureRandom = secureRandom;
+	}
+
+	private static RandomGenerator current(final CompletableFuture<SecureRandom> secureRandom)
+	{
+		if (secureRandom.isCompletedExceptionally())
+		{
+			throw seedingFailed(secureRandom);
+		}
+		return secureRandom.isDone() ? await(secureRandom) : ThreadLocalRandom.current();
+	}
+
+	private static SecureRandom await(final CompletableFuture<SecureRandom> secureRandom)
+	{
+		try
+		{
+			return secureRandom.join();
+		}
+		catch (final CompletionException | CancellationException exception)
+		{
+			throw seedingFailed(secureRandom);
+		}
+	}
+
+	private static IllegalStateException seedingFailed(
+		final CompletableFuture<SecureRandom> secureRandom)
+	{
+		Throwable cause = secureRandom.handle((ready, throwable) -> throwable).join();
+		if (cause instanceof CompletionException && cause.getCause() != null)
+		{
+			cause = cause.getCause();
+		}
+		return new IllegalStateException("The decorated secure random could not be created",
+			cause);
+	}
+
+	private RandomGenerator current()
+	{
+		return current(secureRandom);
+	}
+
+	/**
+	 * Checks if the decorated {@link SecureRandom} is created and seeded
+	 *
+	 * @return true if the values are served from the decorated secure random
+	 */
+	public boolean isSeeded()
+	{
+		return secureRandom.isDone() && !secureRandom.isCompletedExceptionally();
+	}
+
+	/**
+	 * Waits until the decorated {@link SecureRandom} is created and seeded
+	 *
+	 * @return the decorated secure random
+	 * @throws IllegalStateException
+	 *             if the creation of the decorated secure random failed
+	 */
+	public SecureRandom awaitSecureRandom()
+	{
+		return await(secureRandom);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String getAlgorithm()
+	{
+		return isSeeded() ? secureRandom.join().getAlgorithm() : "unknown";
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean nextBoolean()
+	{
+		return current().nextBoolean();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void nextBytes(final byte[] bytes)
+	{
+		current().nextBytes(bytes);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public double nextDouble()
+	{
+		return current().nextDouble();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public float nextFloat()
+	{
+		return current().nextFloat();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int nextInt()
+	{
+		return current().nextInt();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int nextInt(final int bound)
+	{
+		return current().nextInt(bound);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long nextLong()
+	{
+		return current().nextLong();
+	}
+
+	/**
+	 * The class {@link DelegatingSecureRandomSpi} delegates the seed handling to the decorated
+	 * secure random, the seed generation waits until the decorated secure random is ready
+	 */
+	private static final class DelegatingSecureRandomSpi extends SecureRandomSpi
+	{
+		private static final long serialVersionUID = 1L;
+
+		private final transient CompletableFuture<SecureRandom> secureRandom;
+
+		DelegatingSecureRandomSpi(final CompletableFuture<SecureRandom> secureRandom)
+		{
+			this.secureRandom = secureRandom;
+		}
+
+		@Override
+		protected byte[] engineGenerateSeed(final int numBytes)
+		{
+			return await(secureRandom).generateSeed(numBytes);
+		}
+
+		@Override
+		protected void engineNextBytes(final byte[] bytes)
+		{
+			current(secureRandom).nextBytes(bytes);
+		}
+
+		@Override
+		protected void engineSetSeed(final byte[] seed)
+		{
+			final byte[] copy = seed.clone();
+			secureRandom.thenAccept(ready -> ready.setSeed(copy));
+		}
+	}
+
+	/**
+	 * Holder of the executor for the background seeding, the executor will be created on first
+	 * use
+	 */
+	private static final class SeedExecutorHolder
+	{
+		private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+		private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+			final Thread thread = new Thread(runnable,
+				"randomizer-seed-" + THREAD_COUNT.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+}
@@ -0,0 +1,368 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.source;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.security.SecureRandom;
+import java.security.SecureRandomSpi;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The class {@link BufferedSecureRandom} is a {@link SecureRandom} that draws the random bytes of
+ * the decorated {@link SecureRandom} in large blocks with one single call of
+ * {@link SecureRandom#nextBytes(byte[])} and serves the primitive values from that block. If the
+ * prefetch flag is set, the next block is filled on a background thread while the current block
+ * is consumed.<br>
+ * <br>
+ * Note: for avoid synchronization on every value instances of this class are not thread safe and
+ * should be confined to one thread, for instance with a {@link ThreadLocal}
+ */
+public final class BufferedSecureRandom extends SecureRandom implements RandomSource
+{
+
+	/** The default size of a block in bytes */
+	public static final int DEFAULT_BLOCK_SIZE = 64 * 1024;
+
+	/** The view for read long values from the block */
+	private static final VarHandle LONG_VIEW = MethodHandles
+		.byteArrayViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+	/** The view for read int values from the block */
+	private static final VarHandle INT_VIEW = MethodHandles
+		.byteArrayViewVarHandle(int[].class, ByteOrder.nativeOrder());
+
+	private static final long serialVersionUID = 1L;
+
+	/** The decorated secure random */
+	private final SecureRandom secureRandom;
+
+	/** The flag if the next block is filled on a background thread */
+	private final boolean prefetch;
+
+	/** The current block */
+	private transient byte[] block;
+
+	/** The position of the next unread byte in the current block */
+	private transient int position;
+
+	/** The next block that is filled in the background */
+	private transient CompletableFuture<byte[]> nextBlock;
+
+	/** The cached bits for boolean generation */
+	private transient long bits;
+
+	/** The number of the remaining cached bits */
+	private transient int bitCount;
+
+	/**
+	 * Instantiates a new {@link BufferedSecureRandom} object with the default block size and
+	 * background prefetch
+	 *
+	 * @param secureRandom
+	 *            the secure random to decorate
+	 */
+	public BufferedSecureRandom(final SecureRandom secureRandom)
+	{
+		this(secureRandom, DEFAULT_BLOCK_SIZE, true);
+	}
+
+	/**
+	 * Instantiates a new {@link BufferedSecureRandom} object
+	 *
+	 * @param secureRandom
+	 *            the secure random to decorate
+	 * @param blockSize
+	 *            the size of a block in bytes, must be at least 8
+	 * @param prefetch
+	 *            the flag if the next block is filled on a background thread
+	 */
+	public BufferedSecureRandom(final SecureRandom secureRandom, final int blockSize,
+		final boolean prefetch)
+	{
+		super(new DelegatingSecureRandomSpi(secureRandom), secureRandom.getProvider());
+		if (blockSize < Long.BYTES)
+		{
+			throw new IllegalArgumentException("blockSize must be at least 8: " + blockSize);
+		}
+		this.secureRandom = secureRandom;
+		this.prefetch = prefetch;
+		this.block = new byte[blockSize];
+		secureRandom.nextBytes(block);
+		if (prefetch)
+		{
+			nextBlock = fillAsync(new byte[blockSize]);
+		}
+	}
+
+	private CompletableFuture<byte[]> fillAsync(final byte[] bytes)
+	{
+		return CompletableFuture.supplyAsync(() -> {
+			secureRandom.nextBytes(bytes);
+			return bytes;
+		}, RefillExecutorHolder.EXECUTOR);
+	}
+
+	private void refill()
+	{
+		if (prefetch)
+		{
+			final byte[] exhausted = block;
+			block = nextBlock.join();
+			nextBlock = fillAsync(exhausted);
+		}
+		else
+		{
+			secureRandom.nextBytes(block);
+		}
+		position = 0;
+	}
+
+	/**
+	 * Gets the size of a block in bytes
+	 *
+	 * @return the size of a block in bytes
+	 */
+	public int getBlockSize()
+	{
+		return block.length;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String getAlgorithm()
+	{
+		return secureRandom.getAlgorithm();
+	}
+
+	/**
+	 * Reseeds the decorated secure random and discards all bytes that are drawn before the reseed.
+	 * A running background refill is awaited so it can no longer consume the decorated secure
+	 * random, the current block and the prefetched block are dropped and the block is filled again
+	 * from the reseeded secure random
+	 *
+	 * @param seed
+	 *            the seed
+	 */
+	@Override
+	public void setSeed(final byte[] seed)
+	{
+		if (block == null)
+		{
+			// called from the constructor of the super class
+			super.setSeed(seed);
+			return;
+		}
+		byte[] prefetched = null;
+		if (nextBlock != null)
+		{
+			prefetched = nextBlock.join();
+			nextBlock = null;
+		}
+		super.setSeed(seed);
+		secureRandom.nextBytes(block);
+		position = 0;
+		bits = 0L;
+		bitCount = 0;
+		if (prefetch)
+		{
+			nextBlock = fillAsync(prefetched != null ? prefetched : new byte[block.length]);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean nextBoolean()
+	{
+		if (bitCount == 0)
+		{
+			bits = nextLong();
+			bitCount = Long.SIZE;
+		}
+		final boolean result = (bits & 1L) != 0;
+		bits >>>= 1;
+		bitCount--;
+		return result;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void nextBytes(final byte[] bytes)
+	{
+		int offset = 0;
+		int remaining = bytes.length;
+		if (block.length < remaining)
+		{
+			secureRandom.nextBytes(bytes);
+			return;
+		}
+		while (0 < remaining)
+		{
+			if (position == block.length)
+			{
+				refill();
+			}
+			final int length = Math.min(remaining, block.length - position);
+			System.arraycopy(block, position, bytes, offset, length);
+			position += length;
+			offset += length;
+			remaining -= length;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public double nextDouble()
+	{
+		return (nextLong() >>> 11) * 0x1.0p-53;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public float nextFloat()
+	{
+		return (nextInt() >>> 8) * 0x1.0p-24f;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int nextInt()
+	{
+		if (block.length - position < Integer.BYTES)
+		{
+			refill();
+		}
+		final int result = (int)INT_VIEW.get(block, position);
+		position += Integer.BYTES;
+		return result;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int nextInt(final int bound)
+	{
+		if (bound <= 0)
+		{
+			throw new IllegalArgumentException("bound must be positive: " + bound);
+		}
+		final int mask = bound - 1;
+		int random = nextInt() >>> 1;
+		if ((bound & mask) == 0)
+		{
+			return random & mask;
+		}
+		int result = random % bound;
+		while (random - result + mask < 0)
+		{
+			random = nextInt() >>> 1;
+			result = random % bound;
+		}
+		return result;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long nextLong()
+	{
+		if (block.length - position < Long.BYTES)
+		{
+			refill();
+		}
+		final long result = (long)LONG_VIEW.get(block, position);
+		position += Long.BYTES;
+		return result;
+	}
+
+	/**
+	 * The class {@link DelegatingSecureRandomSpi} delegates the seed handling to the decorated
+	 * secure random
+	 */
+	private static final class DelegatingSecureRandomSpi extends SecureRandomSpi
+	{
+		private static final long serialVersionUID = 1L;
+
+		private final SecureRandom secureRandom;
+
+		DelegatingSecureRandomSpi(final SecureRandom secureRandom)
+		{
+			this.secureRandom = Objects.requireNonNull(secureRandom);
+		}
+
+		@Override
+		protected byte[] engineGenerateSeed(final int numBytes)
+		{
+			return secureRandom.generateSeed(numBytes);
+		}
+
+		@Override
+		protected void engineNextBytes(final byte[] bytes)
+		{
+			secureRandom.nextBytes(bytes);
+		}
+
+		@Override
+		protected void engineSetSeed(final byte[] seed)
+		{
+			secureRandom.setSeed(seed);
+		}
+	}
+
+	/**
+	 * Holder of the executor for the background refills, the executor will be created on first
+	 * use
+	 */
+	private static final class RefillExecutorHolder
+	{
+		private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+		private static final ExecutorService EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+			final Thread thread = new Thread(runnable,
+				"randomizer-refill-" + THREAD_COUNT.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+	}
+}
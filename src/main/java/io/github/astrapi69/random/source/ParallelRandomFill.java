@@ -0,0 +1,152 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.source;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * The class {@link ParallelRandomFill} fills large targets in parallel with fork join tasks. The
+ * target is split into chunks of a fixed size and the chunk with the index <code>i</code> is
+ * filled with the child source {@link ReproducibleRandomSource#forTask(long)} of the given root
+ * source. Because the chunk boundaries and the sources of the chunks depend only on the length of
+ * the target, the chunk size and the seed of the root, the output for a given seed is bit for bit
+ * the same whatever the number of threads or the order of execution is.<br>
+ * <br>
+ * The tasks run in the {@link ForkJoinPool} of the calling thread, or in the common pool if the
+ * calling thread is not a fork join worker
+ */
+public final class ParallelRandomFill
+{
+
+	/** The default number of elements of one chunk */
+	public static final int DEFAULT_CHUNK_SIZE = 1 << 16;
+
+	private ParallelRandomFill()
+	{
+	}
+
+	/**
+	 * Fills the range from zero to the given length in chunks of the given size in parallel
+	 *
+	 * @param length
+	 *            the number of elements to fill
+	 * @param chunkSize
+	 *            the number of elements of one chunk
+	 * @param root
+	 *            the root source from that the sources of the chunks are derived
+	 * @param filler
+	 *            the filler that fills one chunk
+	 */
+	public static void fill(final int length, final int chunkSize,
+		final ReproducibleRandomSource root, final ChunkFiller filler)
+	{
+		Objects.requireNonNull(root);
+		Objects.requireNonNull(filler);
+		if (length < 0)
+		{
+			throw new IllegalArgumentException("length must not be negative: " + length);
+		}
+		if (chunkSize <= 0)
+		{
+			throw new IllegalArgumentException("chunkSize must be positive: " + chunkSize);
+		}
+		final int chunkCount = (int)(((long)length + chunkSize - 1) / chunkSize);
+		if (chunkCount == 0)
+		{
+			return;
+		}
+		new ChunkTask(length, chunkSize, root, filler, 0, chunkCount).invoke();
+	}
+
+	/**
+	 * The functional interface {@link ChunkFiller} fills one chunk of a target
+	 */
+	@FunctionalInterface
+	public interface ChunkFiller
+	{
+
+		/**
+		 * Fills the elements from the given index inclusive to the given index exclusive with
+		 * values of the given random source. The random source is confined to the calling task
+		 *
+		 * @param from
+		 *            the index of the first element to fill
+		 * @param to
+		 *            the index after the last element to fill
+		 * @param randomSource
+		 *            the random source of the chunk
+		 */
+		void fill(int from, int to, RandomSource randomSource);
+	}
+
+	/**
+	 * The task {@link ChunkTask} splits a range of chunks in halves until one chunk is left
+	 */
+	private static final class ChunkTask extends RecursiveAction
+	{
+		private static final long serialVersionUID = 1L;
+
+		private final int length;
+
+		private final int chunkSize;
+
+		private final ReproducibleRandomSource root;
+
+		private final ChunkFiller filler;
+
+		private final int fromChunk;
+
+		private final int toChunk;
+
+		ChunkTask(final int length, final int chunkSize, final ReproducibleRandomSource root,
+			final ChunkFiller filler, final int fromChunk, final int toChunk)
+		{
+			this.length = length;
+			this.chunkSize = chunkSize;
+			this.root = root;
+			this.filler = filler;
+			this.fromChunk = fromChunk;
+			this.toChunk = toChunk;
+		}
+
+		@Override
+		protected void compute()
+		{
+			if (toChunk - fromChunk == 1)
+			{
+				final int from = fromChunk * chunkSize;
+				final int to = (int)Math.min(length, (long)from + chunkSize);
+				filler.fill(from, to, root.forTask(fromChunk));
+				return;
+			}
+			final int middle = (fromChunk + toChunk) >>> 1;
+			invokeAll(new ChunkTask(length, chunkSize, root, filler, fromChunk, middle),
+				new ChunkTask(length, chunkSize, root, filler, middle, toChunk));
+		}
+	}
+
+}
@@ -0,0 +1,148 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.source;
+
+import java.util.Objects;
+import java.util.random.RandomGenerator;
+
+/**
+ * The class {@link RandomGeneratorSource} bridges a {@link RandomGenerator} into a
+ * {@link RandomSource}. All calls are delegated to the given generator, so the thread safety is
+ * the same as the one of the decorated generator
+ */
+public final class RandomGeneratorSource implements RandomSource
+{
+
+	/** The decorated generator */
+	private final RandomGenerator generator;
+
+	/** The name of the algorithm */
+	private final String algorithm;
+
+	/**
+	 * Instantiates a new {@link RandomGeneratorSource} object
+	 *
+	 * @param generator
+	 *            the generator to decorate
+	 * @param algorithm
+	 *            the name of the algorithm
+	 */
+	public RandomGeneratorSource(final RandomGenerator generator, final String algorithm)
+	{
+		this.generator = Objects.requireNonNull(generator);
+		this.algorithm = Objects.requireNonNull(algorithm);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String getAlgorithm()
+	{
+		return algorithm;
+	}
+
+	/**
+	 * Gets the decorated generator
+	 *
+	 * @return the decorated generator
+	 */
+	public RandomGenerator getGenerator()
+	{
+		return generator;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean nextBoolean()
+	{
+		return generator.nextBoolean();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void nextBytes(final byte[] bytes)
+	{
+		generator.nextBytes(bytes);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public double nextDouble()
+	{
+		return generator.nextDouble();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public float nextFloat()
+	{
+		return generator.nextFloat();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int nextInt()
+	{
+		return generator.nextInt();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int nextInt(final int bound)
+	{
+		return generator.nextInt(bound);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long nextLong()
+	{
+		return generator.nextLong();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString()
+	{
+		return "RandomGeneratorSource(algorithm=" + algorithm + ")";
+	}
+}
@@ -0,0 +1,339 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.source;
+
+import java.security.SecureRandom;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGenerator.SplittableGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+import io.github.astrapi69.random.DefaultSecureRandom;
+import io.github.astrapi69.random.SecureRandomBuilder;
+
+/**
+ * The factory class {@link RandomSourceFactory} creates {@link RandomSource} objects for the
+ * built-in engines. Beside the {@link SecureRandom} engine there are fast non cryptographic
+ * engines that can be used for bulk generation of test data
+ */
+public final class RandomSourceFactory
+{
+
+	/** The name of the {@link SecureRandom} algorithm */
+	public static final String SECURE_RANDOM = "SecureRandom";
+
+	/** The name of the {@link java.util.Random} algorithm */
+	public static final String RANDOM = "Random";
+
+	/** The name of the {@link SplittableRandom} algorithm */
+	public static final String SPLITTABLE_RANDOM = "SplittableRandom";
+
+	/** The name of the xoshiro256** algorithm */
+	public static final String XOSHIRO_256_STAR_STAR = Xoshiro256StarStarRandom.ALGORITHM;
+
+	/** The name of the L64X128MixRandom algorithm */
+	public static final String L64X128_MIX_RANDOM = "L64X128MixRandom";
+
+	private RandomSourceFactory()
+	{
+	}
+
+	/**
+	 * Factory method for create a new {@link RandomSource} object from the given
+	 * {@link RandomGenerator} object. If the given generator is already a {@link RandomSource} it
+	 * will be returned
+	 *
+	 * @param generator
+	 *            the generator
+	 * @return the new {@link RandomSource} object
+	 */
+	public static RandomSource newRandomSource(final RandomGenerator generator)
+	{
+		Objects.requireNonNull(generator);
+		if (generator instanceof RandomSource)
+		{
+			return (RandomSource)generator;
+		}
+		return new RandomGeneratorSource(generator, generator.getClass().getSimpleName());
+	}
+
+	/**
+	 * Checks if the given algorithm name is supported by {@link #newRandomSource(String)}. Only
+	 * the name is looked up, no engine is created
+	 *
+	 * @param algorithm
+	 *            the name of the algorithm
+	 * @return true if the given algorithm is supported otherwise false
+	 */
+	public static boolean isSupported(final String algorithm)
+	{
+		Objects.requireNonNull(algorithm);
+		switch (algorithm)
+		{
+			case SECURE_RANDOM :
+			case XOSHIRO_256_STAR_STAR :
+				return true;
+			default :
+				try
+				{
+					RandomGeneratorFactory.of(algorithm);
+					return true;
+				}
+				catch (final IllegalArgumentException e)
+				{
+					return false;
+				}
+		}
+	}
+
+	/**
+	 * Factory method for create a new {@link RandomSource} object from the given algorithm name.
+	 * Beside the names of this class all algorithms of the {@link RandomGeneratorFactory} are
+	 * supported
+	 *
+	 * @param algorithm
+	 *            the name of the algorithm
+	 * @return the new {@link RandomSource} object
+	 * @throws IllegalArgumentException
+	 *             if the given algorithm is not supported
+	 */
+	public static RandomSource newRandomSource(final String algorithm)
+	{
+		Objects.requireNonNull(algorithm);
+		switch (algorithm)
+		{
+			case SECURE_RANDOM :
+				return newSecureRandomSource();
+			case XOSHIRO_256_STAR_STAR :
+				return newXoshiro256StarStarSource();
+			default :
+				return new RandomGeneratorSource(RandomGeneratorFactory.of(algorithm).create(),
+					algorithm);
+		}
+	}
+
+	/**
+	 * Factory method for create a new {@link RandomSource} object from the given algorithm name
+	 * and the given seed. Beside the names of this class all algorithms of the
+	 * {@link RandomGeneratorFactory} are supported
+	 *
+	 * @param algorithm
+	 *            the name of the algorithm
+	 * @param seed
+	 *            the seed
+	 * @return the new {@link RandomSource} object
+	 * @throws IllegalArgumentException
+	 *             if the given algorithm is not supported
+	 */
+	public static RandomSource newRandomSource(final String algorithm, final long seed)
+	{
+		Objects.requireNonNull(algorithm);
+		switch (algorithm)
+		{
+			case SECURE_RANDOM :
+				return newSecureRandomSource(SecureRandomBuilder.getInstance().seed(seed).build());
+			case XOSHIRO_256_STAR_STAR :
+				return newXoshiro256StarStarSource(seed);
+			default :
+				return new RandomGeneratorSource(
+					RandomGeneratorFactory.of(algorithm).create(seed), algorithm);
+		}
+	}
+
+	/**
+	 * Factory method for create a new {@link RandomSource} object with a new {@link SecureRandom}
+	 * with the default algorithm. The new {@link SecureRandom} is created with
+	 * {@link DefaultSecureRandom#newSeededSecureRandom()}, so instances that are created at the
+	 * same time get different seeds of {@value DefaultSecureRandom#SEED_LENGTH} bytes
+	 *
+	 * @return the new {@link RandomSource} object
+	 */
+	public static RandomSource newSecureRandomSource()
+	{
+		return newSecureRandomSource(DefaultSecureRandom.newSeededSecureRandom());
+	}
+
+	/**
+	 * Factory method for create a new {@link RandomSource} object from the given
+	 * {@link SecureRandom} object
+	 *
+	 * @param secureRandom
+	 *            the secure random
+	 * @return the new {@link RandomSource} object
+	 */
+	public static RandomSource newSecureRandomSource(final SecureRandom secureRandom)
+	{
+		return new RandomGeneratorSource(Objects.requireNonNull(secureRandom), SECURE_RANDOM);
+	}
+
+	/**
+	 * Factory method for create a new {@link RandomSource} object that serves the values from
+	 * blocks of a new {@link SecureRandom} that are prefetched on a background thread. The new
+	 * {@link SecureRandom} is created with {@link DefaultSecureRandom#newSeededSecureRandom()}.
+	 * Note that the returned {@link RandomSource} is not thread safe
+	 *
+	 * @return the new {@link RandomSource} object
+	 * @see BufferedSecureRandom
+	 */
+	public static RandomSource newBufferedSecureRandomSource()
+	{
+		return new BufferedSecureRandom(DefaultSecureRandom.newSeededSecureRandom());
+	}
+
+	/**
+	 * Factory method for create a new {@link RandomSource} object with a {@link SplittableRandom}
+	 * engine
+	 *
+	 * @return the new {@link RandomSource} object
+	 */
+	public static RandomSource newSplittableRandomSource()
+	{
+		return new RandomGeneratorSource(new SplittableRandom(), SPLITTABLE_RANDOM);
+	}
+
+	/**
+	 * Factory method for create a new {@link RandomSource} object with a {@link SplittableRandom}
+	 * engine from the given seed
+	 *
+	 * @param seed
+	 *            the seed
+	 * @return the new {@link RandomSource} object
+	 */
+	public static RandomSource newSplittableRandomSource(final long seed)
+	{
+		return new RandomGeneratorSource(new SplittableRandom(seed), SPLITTABLE_RANDOM);
+	}
+
+	/**
+	 * Factory method for create a new {@link RandomSource} object with a xoshiro256** engine
+	 *
+	 * @return the new {@link RandomSource} object
+	 */
+	public static RandomSource newXoshiro256StarStarSource()
+	{
+		return newXoshiro256StarStarSource(new SplittableRandom().nextLong());
+	}
+
+	/**
+	 * Factory method for create a new {@link RandomSource} object with a xoshiro256** engine from
+	 * the given seed
+	 *
+	 * @param seed
+	 *            the seed
+	 * @return the new {@link RandomSource} object
+	 */
+	public static RandomSource newXoshiro256StarStarSource(final long seed)
+	{
+		return new Xoshiro256StarStarRandom(seed);
+	}
+
+	/**
+	 * Factory method for create a new {@link RandomSource} object with a L64X128MixRandom engine
+	 *
+	 * @return the new {@link RandomSource} object
+	 */
+	public static RandomSource newL64X128MixRandomSource()
+	{
+		return newRandomSource(L64X128_MIX_RANDOM);
+	}
+
+	/**
+	 * Factory method for create a new {@link RandomSource} object with a L64X128MixRandom engine
+	 * from the given seed
+	 *
+	 * @param seed
+	 *            the seed
+	 * @return the new {@link RandomSource} object
+	 */
+	public static RandomSource newL64X128MixRandomSource(final long seed)
+	{
+		return newRandomSource(L64X128_MIX_RANDOM, seed);
+	}
+
+	/**
+	 * Factory method for create a new {@link RandomSource} object that is split from the given
+	 * random source for the use on another thread. The new source never shares the engine of the
+	 * given one:
+	 * <ul>
+	 * <li>a {@link ReproducibleRandomSource} is split with {@link ReproducibleRandomSource#split()}
+	 * </li>
+	 * <li>a splittable engine of the jdk is split with
+	 * {@link SplittableGenerator#split()}</li>
+	 * <li>a {@link SecureRandom} based source gets a new {@link SecureRandom} with the default
+	 * algorithm that is seeded from the {@link DefaultSecureRandom}</li>
+	 * <li>all other sources get a new engine of the same algorithm that is seeded with the next
+	 * long value of the given source</li>
+	 * </ul>
+	 *
+	 * @param randomSource
+	 *            the random source to split
+	 * @return the new {@link RandomSource} object
+	 */
+	public static RandomSource split(final RandomSource randomSource)
+	{
+		Objects.requireNonNull(randomSource);
+		if (randomSource instanceof ReproducibleRandomSource)
+		{
+			return ((ReproducibleRandomSource)randomSource).split();
+		}
+		final RandomGenerator generator = randomSource instanceof RandomGeneratorSource
+			? ((RandomGeneratorSource)randomSource).getGenerator()
+			: randomSource;
+		if (generator instanceof SecureRandom
+			|| SECURE_RANDOM.equals(randomSource.getAlgorithm()))
+		{
+			return newSecureRandomSource();
+		}
+		if (generator instanceof SplittableGenerator)
+		{
+			return new RandomGeneratorSource(((SplittableGenerator)generator).split(),
+				randomSource.getAlgorithm());
+		}
+		final long seed = randomSource.nextLong();
+		try
+		{
+			return newRandomSource(randomSource.getAlgorithm(), seed);
+		}
+		catch (final IllegalArgumentException e)
+		{
+			return newSplittableRandomSource(seed);
+		}
+	}
+
+	/**
+	 * Factory method for create a new {@link ReproducibleRandomSource} object from the given seed
+	 * for reproducible parallel generation
+	 *
+	 * @param seed
+	 *            the seed
+	 * @return the new {@link ReproducibleRandomSource} object
+	 */
+	public static ReproducibleRandomSource newReproducibleRandomSource(final long seed)
+	{
+		return new ReproducibleRandomSource(seed);
+	}
+
+}
@@ -0,0 +1,188 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.source;
+
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+/**
+ * The class {@link ReproducibleRandomSource} is a seeded {@link RandomSource} for reproducible
+ * parallel generation. Every source can derive child sources for tasks with
+ * {@link #forTask(long)}, the seed of a child depends only on the seed of its parent and the task
+ * index, so a fork join job that gives every task its own child source produces bit for bit the
+ * same output for a given seed whatever the number of threads or the order of execution is. The
+ * seed of the task with the index <code>i</code> is the <code>i + 1</code>th output of a
+ * SplitMix64 generator that is seeded with the seed of the parent, the values are drawn from a
+ * L64X128MixRandom engine whose streams are statistically independent for different seeds.<br>
+ * <br>
+ * Note: instances of this class are not thread safe, every task has to use its own child source
+ */
+public final class ReproducibleRandomSource implements RandomSource
+{
+
+	/** The factory of the engine */
+	private static final RandomGeneratorFactory<RandomGenerator> ENGINE_FACTORY;
+
+	static
+	{
+		ENGINE_FACTORY = RandomGeneratorFactory.of(RandomSourceFactory.L64X128_MIX_RANDOM);
+	}
+
+	/** The seed of this source */
+	private final long seed;
+
+	/** The engine */
+	private final RandomGenerator generator;
+
+	/**
+	 * Instantiates a new {@link ReproducibleRandomSource} object from the given seed
+	 *
+	 * @param seed
+	 *            the seed
+	 */
+	public ReproducibleRandomSource(final long seed)
+	{
+		this.seed = seed;
+		this.generator = ENGINE_FACTORY.create(seed);
+	}
+
+	/**
+	 * Gets the seed of this source
+	 *
+	 * @return the seed of this source
+	 */
+	public long getSeed()
+	{
+		return seed;
+	}
+
+	/**
+	 * Derives the child source for the task with the given index. The child depends only on the
+	 * seed of this source and the given index, so it is always the same one no matter from which
+	 * thread and in which order it is derived. The state of this source is not changed
+	 *
+	 * @param taskIndex
+	 *            the index of the task
+	 * @return the child source for the task
+	 */
+	public ReproducibleRandomSource forTask(final long taskIndex)
+	{
+		return new ReproducibleRandomSource(Xoshiro256StarStarRandom
+			.mix64(seed + (taskIndex + 1) * Xoshiro256StarStarRandom.GOLDEN_GAMMA));
+	}
+
+	/**
+	 * Splits a new child source from this source. The seed of the child is drawn from this
+	 * source, so a sequence of splits is reproducible as long as it happens on one thread in a
+	 * fixed order
+	 *
+	 * @return the new child source
+	 */
+	public ReproducibleRandomSource split()
+	{
+		return new ReproducibleRandomSource(generator.nextLong());
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String getAlgorithm()
+	{
+		return RandomSourceFactory.L64X128_MIX_RANDOM;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public boolean nextBoolean()
+	{
+		return generator.nextBoolean();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void nextBytes(final byte[] bytes)
+	{
+		generator.nextBytes(bytes);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public double nextDouble()
+	{
+		return generator.nextDouble();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public float nextFloat()
+	{
+		return generator.nextFloat();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int nextInt()
+	{
+		return generator.nextInt();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int nextInt(final int bound)
+	{
+		return generator.nextInt(bound);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long nextLong()
+	{
+		return generator.nextLong();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String toString()
+	{
+		return "ReproducibleRandomSource(seed=" + seed + ")";
+	}
+}
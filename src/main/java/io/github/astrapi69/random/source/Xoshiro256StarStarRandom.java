@@ -0,0 +1,112 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.source;
+
+/**
+ * The class {@link Xoshiro256StarStarRandom} is an implementation of the xoshiro256** algorithm
+ * from David Blackman and Sebastiano Vigna. It is a fast non cryptographic engine with a period of
+ * 2<sup>256</sup>-1. The state is seeded from a single long seed with the SplitMix64 generator.<br>
+ * <br>
+ * Note: instances of this class are not thread safe
+ */
+public final class Xoshiro256StarStarRandom implements RandomSource
+{
+
+	/** The name of the algorithm */
+	public static final String ALGORITHM = "Xoshiro256StarStar";
+
+	/** The golden gamma of the SplitMix64 seed generator */
+	static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+	/** The state */
+	private long s0;
+	private long s1;
+	private long s2;
+	private long s3;
+
+	/**
+	 * Instantiates a new {@link Xoshiro256StarStarRandom} object from the given seed
+	 *
+	 * @param seed
+	 *            the seed
+	 */
+	public Xoshiro256StarStarRandom(final long seed)
+	{
+		long x = seed;
+		s0 = mix64(x += GOLDEN_GAMMA);
+		s1 = mix64(x += GOLDEN_GAMMA);
+		s2 = mix64(x += GOLDEN_GAMMA);
+		s3 = mix64(x + GOLDEN_GAMMA);
+	}
+
+	/**
+	 * Mixes the bits of the given value with the finalizer of the SplitMix64 generator
+	 *
+	 * @param z
+	 *            the value to mix
+	 * @return the mixed value
+	 */
+	static long mix64(long z)
+	{
+		z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+		return z ^ (z >>> 31);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public String getAlgorithm()
+	{
+		return ALGORITHM;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public long nextLong()
+	{
+		final long result = Long.rotateLeft(s1 * 5, 7) * 9;
+		final long t = s1 << 17;
+		s2 ^= s0;
+		s3 ^= s1;
+		s1 ^= s2;
+		s0 ^= s3;
+		s2 ^= t;
+		s3 = Long.rotateLeft(s3, 45);
+		return result;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int nextInt()
+	{
+		return (int)(nextLong() >>> 32);
+	}
+}
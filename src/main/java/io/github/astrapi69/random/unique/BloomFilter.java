@@ -0,0 +1,147 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.unique;
+
+import java.util.Arrays;
+
+/**
+ * The class {@link BloomFilter} is a Bloom filter over long fingerprints. A value that was added
+ * is always reported as contained, a value that was never added is reported as contained with
+ * the configured false positive probability as long as not more than the expected number of
+ * values are added
+ */
+final class BloomFilter
+{
+
+	/** The bits of the filter */
+	private final long[] bits;
+
+	/** The number of bits of the filter */
+	private final long bitCount;
+
+	/** The number of hash functions */
+	private final int hashCount;
+
+	/**
+	 * Instantiates a new {@link BloomFilter} object that is sized for the given number of values
+	 * and the given false positive probability
+	 *
+	 * @param expectedSize
+	 *            the expected number of values
+	 * @param falsePositiveProbability
+	 *            the false positive probability, must be between 0 and 1 exclusive
+	 */
+	BloomFilter(final long expectedSize, final double falsePositiveProbability)
+	{
+		if (expectedSize <= 0)
+		{
+			throw new IllegalArgumentException("expectedSize must be positive: " + expectedSize);
+		}
+		if (!(0.0 < falsePositiveProbability && falsePositiveProbability < 1.0))
+		{
+			throw new IllegalArgumentException(
+				"falsePositiveProbability must be between 0 and 1: " + falsePositiveProbability);
+		}
+		final double ln2 = Math.log(2.0);
+		final long optimalBits = (long)Math
+			.ceil(-expectedSize * Math.log(falsePositiveProbability) / (ln2 * ln2));
+		final long words = Math.max(1L, (optimalBits + Long.SIZE - 1) / Long.SIZE);
+		if (Integer.MAX_VALUE - 8 < words)
+		{
+			throw new IllegalArgumentException("the filter for " + expectedSize
+				+ " values and the probability " + falsePositiveProbability + " is too large");
+		}
+		this.bits = new long[(int)words];
+		this.bitCount = words * Long.SIZE;
+		this.hashCount = (int)Math.max(1L,
+			Math.min(16L, Math.round((double)bitCount / expectedSize * ln2)));
+	}
+
+	/**
+	 * Adds the given fingerprint to this filter
+	 *
+	 * @param fingerprint
+	 *            the fingerprint to add
+	 * @return true if the fingerprint was certainly not added before, false if it was possibly
+	 *         added before
+	 */
+	boolean add(final long fingerprint)
+	{
+		final long first = mix(fingerprint);
+		final long second = mix(first) | 1L;
+		boolean changed = false;
+		long hash = first;
+		for (int i = 0; i < hashCount; i++)
+		{
+			final long bit = Long.remainderUnsigned(hash, bitCount);
+			final int word = (int)(bit >>> 6);
+			final long mask = 1L << bit;
+			if ((bits[word] & mask) == 0L)
+			{
+				bits[word] |= mask;
+				changed = true;
+			}
+			hash += second;
+		}
+		return changed;
+	}
+
+	/**
+	 * Gets the number of hash functions
+	 *
+	 * @return the number of hash functions
+	 */
+	int getHashCount()
+	{
+		return hashCount;
+	}
+
+	/**
+	 * Gets the number of bits of this filter
+	 *
+	 * @return the number of bits
+	 */
+	long getBitCount()
+	{
+		return bitCount;
+	}
+
+	/**
+	 * Removes all fingerprints from this filter
+	 */
+	void clear()
+	{
+		Arrays.fill(bits, 0L);
+	}
+
+	private static long mix(final long value)
+	{
+		long z = value + 0x9e3779b97f4a7c15L;
+		z = (z ^ z >>> 30) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ z >>> 27) * 0x94d049bb133111ebL;
+		return z ^ z >>> 31;
+	}
+
+}
@@ -0,0 +1,195 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.unique;
+
+import java.util.Arrays;
+
+/**
+ * The class {@link LongFingerprintSet} is a set of primitive long values with open addressing
+ * and linear probing. Each value needs eight bytes of the table and the table is at most three
+ * quarters full, so there are no boxed values and no entry objects as in a
+ * {@link java.util.HashSet}
+ */
+final class LongFingerprintSet
+{
+
+	/** The minimum capacity of the table */
+	private static final int MIN_CAPACITY = 16;
+
+	/** The maximum capacity of the table */
+	private static final int MAX_CAPACITY = 1 << 30;
+
+	/** The table, the value zero marks an empty slot */
+	private long[] table;
+
+	/** The number of bits of the table index */
+	private int indexBits;
+
+	/** The flag if the value zero is contained */
+	private boolean containsZero;
+
+	/** The number of values in the table */
+	private int size;
+
+	/**
+	 * Instantiates a new {@link LongFingerprintSet} object with a table that holds the given
+	 * number of values without a resize
+	 *
+	 * @param expectedSize
+	 *            the expected number of values
+	 */
+	LongFingerprintSet(final int expectedSize)
+	{
+		if (expectedSize < 0)
+		{
+			throw new IllegalArgumentException(
+				"expectedSize must not be negative: " + expectedSize);
+		}
+		final long capacity = Math.max(MIN_CAPACITY, expectedSize + expectedSize / 3L + 1);
+		allocate((int)Math.min(MAX_CAPACITY, Long.highestOneBit(capacity - 1) << 1));
+	}
+
+	private void allocate(final int capacity)
+	{
+		table = new long[capacity];
+		indexBits = Integer.numberOfTrailingZeros(capacity);
+	}
+
+	private int index(final long value)
+	{
+		return (int)(value * 0x9e3779b97f4a7c15L >>> (Long.SIZE - indexBits));
+	}
+
+	/**
+	 * Adds the given value to this set
+	 *
+	 * @param value
+	 *            the value to add
+	 * @return true if the value was not contained before
+	 * @throws IllegalStateException
+	 *             if the table reached its maximum capacity
+	 */
+	boolean add(final long value)
+	{
+		if (value == 0L)
+		{
+			if (containsZero)
+			{
+				return false;
+			}
+			containsZero = true;
+			return true;
+		}
+		final int mask = table.length - 1;
+		int index = index(value);
+		long current;
+		while ((current = table[index]) != 0L)
+		{
+			if (current == value)
+			{
+				return false;
+			}
+			index = index + 1 & mask;
+		}
+		table[index] = value;
+		if (++size > table.length - (table.length >>> 2))
+		{
+			resize();
+		}
+		return true;
+	}
+
+	/**
+	 * Checks if the given value is contained in this set
+	 *
+	 * @param value
+	 *            the value to check
+	 * @return true if the value is contained
+	 */
+	boolean contains(final long value)
+	{
+		if (value == 0L)
+		{
+			return containsZero;
+		}
+		final int mask = table.length - 1;
+		int index = index(value);
+		long current;
+		while ((current = table[index]) != 0L)
+		{
+			if (current == value)
+			{
+				return true;
+			}
+			index = index + 1 & mask;
+		}
+		return false;
+	}
+
+	/**
+	 * Gets the number of values in this set
+	 *
+	 * @return the number of values
+	 */
+	long size()
+	{
+		return containsZero ? size + 1L : size;
+	}
+
+	/**
+	 * Removes all values from this set, the table keeps its capacity
+	 */
+	void clear()
+	{
+		Arrays.fill(table, 0L);
+		size = 0;
+		containsZero = false;
+	}
+
+	private void resize()
+	{
+		if (table.length == MAX_CAPACITY)
+		{
+			throw new IllegalStateException(
+				"the set reached the maximum capacity of " + MAX_CAPACITY + " slots");
+		}
+		final long[] old = table;
+		allocate(old.length << 1);
+		final int mask = table.length - 1;
+		for (final long value : old)
+		{
+			if (value != 0L)
+			{
+				int index = index(value);
+				while (table[index] != 0L)
+				{
+					index = index + 1 & mask;
+				}
+				table[index] = value;
+			}
+		}
+	}
+
+}
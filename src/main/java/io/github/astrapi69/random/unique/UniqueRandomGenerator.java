@@ -0,0 +1,517 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.unique;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+import io.github.astrapi69.random.DefaultSecureRandom;
+import io.github.astrapi69.random.number.RandomLongFactory;
+import io.github.astrapi69.random.object.RandomStringFactory;
+import io.github.astrapi69.random.object.RandomWebObjectFactory;
+import io.github.astrapi69.random.source.RandomSource;
+import io.github.astrapi69.random.source.RandomSourceFactory;
+
+/**
+ * The class {@link UniqueRandomGenerator} generates random values that never repeat. Instead of
+ * the values only a 64 bit fingerprint of every returned value is kept in a primitive set with
+ * open addressing, that needs less than sixteen bytes for every value. Optional the fingerprints
+ * can be kept in a Bloom filter, that needs about ten bits for every value with a false positive
+ * probability of one percent.<br>
+ * <br>
+ * In both modes no value is returned twice, a fingerprint collision or a false positive of the
+ * Bloom filter only rejects a new value and a next value is generated. If the value space is
+ * known, for instance the size of the alphabet power the length of a string, the generator
+ * throws an {@link IllegalStateException} when the value space is exhausted, instead of looping
+ * forever.<br>
+ * <br>
+ * Note: instances of this class are not thread safe
+ *
+ * @param <T>
+ *            the type of the generated values
+ */
+public final class UniqueRandomGenerator<T>
+{
+
+	/** The value space for generators without a known bound */
+	public static final long UNBOUNDED = Long.MAX_VALUE;
+
+	/** The default number of attempts for every expected attempt of a new value */
+	public static final int DEFAULT_MAX_ATTEMPTS = 100;
+
+	/** The function that generates the candidate values */
+	private final Function<RandomSource, T> valueFunction;
+
+	/** The function that computes the fingerprint of a value */
+	private final ToLongFunction<? super T> fingerprintFunction;
+
+	/** The random source */
+	private final RandomSource randomSource;
+
+	/** The number of the possible distinct values */
+	private final long valueSpace;
+
+	/** The number of attempts for every expected attempt of a new value */
+	private final int maxAttempts;
+
+	/** The set of the fingerprints, null if the Bloom filter is used */
+	private final LongFingerprintSet fingerprints;
+
+	/** The Bloom filter of the fingerprints, null if the set is used */
+	private final BloomFilter bloomFilter;
+
+	/** The number of returned values */
+	private long count;
+
+	private UniqueRandomGenerator(final UniqueRandomGeneratorBuilder<T> builder)
+	{
+		this.valueFunction = builder.valueFunction;
+		this.fingerprintFunction = builder.fingerprintFunction;
+		this.randomSource = builder.randomSource != null
+			? builder.randomSource
+			: RandomSourceFactory.newRandomSource(DefaultSecureRandom.get());
+		this.valueSpace = builder.valueSpace;
+		this.maxAttempts = builder.maxAttempts;
+		if (0 < builder.bloomFilterSize)
+		{
+			this.fingerprints = null;
+			this.bloomFilter = new BloomFilter(builder.bloomFilterSize,
+				builder.falsePositiveProbability);
+		}
+		else
+		{
+			this.fingerprints = new LongFingerprintSet(builder.expectedSize);
+			this.bloomFilter = null;
+		}
+	}
+
+	/**
+	 * Factory method for create a new builder for a {@link UniqueRandomGenerator} object that
+	 * generates the candidate values with the given function
+	 *
+	 * @param <T>
+	 *            the type of the generated values
+	 * @param valueFunction
+	 *            the function that generates a candidate value from a random source
+	 * @return the new {@link UniqueRandomGeneratorBuilder} object
+	 */
+	public static <T> UniqueRandomGeneratorBuilder<T> builder(
+		final Function<RandomSource, T> valueFunction)
+	{
+		return new UniqueRandomGeneratorBuilder<>(valueFunction);
+	}
+
+	/**
+	 * Factory method for create a new builder for a {@link UniqueRandomGenerator} object that
+	 * generates strings of the given length from the given chars. The value space is the number
+	 * of the distinct chars power the length
+	 *
+	 * @param chars
+	 *            the chars for the strings
+	 * @param length
+	 *            the length of the strings
+	 * @return the new {@link UniqueRandomGeneratorBuilder} object
+	 */
+	public static UniqueRandomGeneratorBuilder<String> stringBuilder(final String chars,
+		final int length)
+	{
+		Objects.requireNonNull(chars);
+		if (chars.isEmpty())
+		{
+			throw new IllegalArgumentException("chars must not be empty");
+		}
+		if (length < 0)
+		{
+			throw new IllegalArgumentException("length must not be negative: " + length);
+		}
+		final long alphabetSize = chars.chars().distinct().count();
+		long valueSpace = 1;
+		for (int i = 0; i < length && valueSpace != UNBOUNDED; i++)
+		{
+			valueSpace = valueSpace <= UNBOUNDED / alphabetSize
+				? valueSpace * alphabetSize
+				: UNBOUNDED;
+		}
+		return UniqueRandomGenerator
+			.<String> builder(
+				randomSource -> RandomStringFactory.newRandomString(chars, length, randomSource))
+			.valueSpace(valueSpace);
+	}
+
+	/**
+	 * Factory method for create a new builder for a {@link UniqueRandomGenerator} object that
+	 * generates email addresses with {@link RandomWebObjectFactory#randomEmail(RandomSource)}
+	 *
+	 * @return the new {@link UniqueRandomGeneratorBuilder} object
+	 */
+	public static UniqueRandomGeneratorBuilder<String> emailBuilder()
+	{
+		return builder(RandomWebObjectFactory::randomEmail);
+	}
+
+	/**
+	 * Factory method for create a new builder for a {@link UniqueRandomGenerator} object that
+	 * generates long values. The fingerprint of a long value is the value itself, so no value is
+	 * rejected because of a collision
+	 *
+	 * @return the new {@link UniqueRandomGeneratorBuilder} object
+	 */
+	public static UniqueRandomGeneratorBuilder<Long> longBuilder()
+	{
+		return UniqueRandomGenerator.<Long> builder(RandomSource::nextLong)
+			.fingerprint(Long::longValue);
+	}
+
+	/**
+	 * Factory method for create a new builder for a {@link UniqueRandomGenerator} object that
+	 * generates long values between the given start inclusive and the given end exclusive. The
+	 * value space is the size of the range
+	 *
+	 * @param start
+	 *            the start of the range inclusive
+	 * @param end
+	 *            the end of the range exclusive
+	 * @return the new {@link UniqueRandomGeneratorBuilder} object
+	 */
+	public static UniqueRandomGeneratorBuilder<Long> longBuilder(final long start, final long end)
+	{
+		if (end <= start || end - start <= 0)
+		{
+			throw new IllegalArgumentException(
+				"the range from " + start + " to " + end + " is empty or too large");
+		}
+		return UniqueRandomGenerator
+			.<Long> builder(
+				randomSource -> RandomLongFactory.randomLongBetween(start, end, randomSource))
+			.fingerprint(Long::longValue).valueSpace(end - start);
+	}
+
+	/**
+	 * Computes a 64 bit fingerprint of the given char sequence
+	 *
+	 * @param value
+	 *            the char sequence
+	 * @return the fingerprint
+	 */
+	public static long fingerprint(final CharSequence value)
+	{
+		final int length = value.length();
+		long hash = length;
+		for (int i = 0; i < length; i++)
+		{
+			hash = (Long.rotateLeft(hash, 7) ^ value.charAt(i)) * 0x9e3779b97f4a7c15L;
+		}
+		return mix(hash);
+	}
+
+	private static long defaultFingerprint(final Object value)
+	{
+		if (value instanceof CharSequence)
+		{
+			return fingerprint((CharSequence)value);
+		}
+		return mix(Objects.hashCode(value));
+	}
+
+	private static long mix(final long value)
+	{
+		long z = value;
+		z = (z ^ z >>> 30) * 0xbf58476d1ce4e5b9L;
+		z = (z ^ z >>> 27) * 0x94d049bb133111ebL;
+		return z ^ z >>> 31;
+	}
+
+	/**
+	 * Generates the next value that was not returned before
+	 *
+	 * @return the next unique value
+	 * @throws IllegalStateException
+	 *             if the value space is exhausted or no new value was found after the maximum
+	 *             number of attempts
+	 */
+	public T next()
+	{
+		if (valueSpace <= count)
+		{
+			throw new IllegalStateException(
+				"the value space of " + valueSpace + " values is exhausted");
+		}
+		final long remaining = valueSpace - count;
+		final long expectedAttempts = valueSpace / remaining
+			+ (valueSpace % remaining == 0 ? 0 : 1);
+		final long attempts = expectedAttempts <= Long.MAX_VALUE / maxAttempts
+			? expectedAttempts * maxAttempts
+			: Long.MAX_VALUE;
+		for (long attempt = 0; attempt < attempts; attempt++)
+		{
+			final T value = valueFunction.apply(randomSource);
+			final long fingerprint = fingerprintFunction.applyAsLong(value);
+			if (fingerprints != null ? fingerprints.add(fingerprint) : bloomFilter.add(fingerprint))
+			{
+				count++;
+				return value;
+			}
+		}
+		throw new IllegalStateException("no new unique value found after " + attempts
+			+ " attempts, the value space seems to be exhausted after " + count + " values");
+	}
+
+	/**
+	 * Generates the given number of values that were not returned before
+	 *
+	 * @param size
+	 *            the number of values
+	 * @return the list with the unique values
+	 * @throws IllegalStateException
+	 *             if the value space is too small for the given number of values
+	 */
+	public List<T> next(final int size)
+	{
+		if (size < 0)
+		{
+			throw new IllegalArgumentException("size must not be negative: " + size);
+		}
+		if (valueSpace - count < size)
+		{
+			throw new IllegalStateException("the value space of " + valueSpace + " values has only "
+				+ (valueSpace - count) + " values left but " + size + " values are requested");
+		}
+		final List<T> values = new ArrayList<>(size);
+		for (int i = 0; i < size; i++)
+		{
+			values.add(next());
+		}
+		return values;
+	}
+
+	/**
+	 * Creates an infinite sequential stream of unique values, the stream throws an
+	 * {@link IllegalStateException} if the value space is exhausted
+	 *
+	 * @return the stream of unique values
+	 */
+	public Stream<T> stream()
+	{
+		return Stream.generate(this::next);
+	}
+
+	/**
+	 * Gets the number of the returned values
+	 *
+	 * @return the number of the returned values
+	 */
+	public long getCount()
+	{
+		return count;
+	}
+
+	/**
+	 * Gets the number of the possible distinct values or {@link #UNBOUNDED} if the value space is
+	 * not known
+	 *
+	 * @return the value space
+	 */
+	public long getValueSpace()
+	{
+		return valueSpace;
+	}
+
+	/**
+	 * Forgets all returned values, so the values can be returned again
+	 */
+	public void reset()
+	{
+		if (fingerprints != null)
+		{
+			fingerprints.clear();
+		}
+		else
+		{
+			bloomFilter.clear();
+		}
+		count = 0;
+	}
+
+	/**
+	 * The builder class for {@link UniqueRandomGenerator} objects
+	 *
+	 * @param <T>
+	 *            the type of the generated values
+	 */
+	public static final class UniqueRandomGeneratorBuilder<T>
+	{
+
+		private final Function<RandomSource, T> valueFunction;
+
+		private ToLongFunction<? super T> fingerprintFunction =
+			UniqueRandomGenerator::defaultFingerprint;
+
+		private RandomSource randomSource;
+
+		private long valueSpace = UNBOUNDED;
+
+		private int maxAttempts = DEFAULT_MAX_ATTEMPTS;
+
+		private int expectedSize;
+
+		private long bloomFilterSize;
+
+		private double falsePositiveProbability;
+
+		private UniqueRandomGeneratorBuilder(final Function<RandomSource, T> valueFunction)
+		{
+			this.valueFunction = Objects.requireNonNull(valueFunction);
+		}
+
+		/**
+		 * Sets the function that computes the fingerprint of a value. The default fingerprint of
+		 * a char sequence is {@link UniqueRandomGenerator#fingerprint(CharSequence)} and of all
+		 * other values the mixed hash code, that is only 32 bit wide
+		 *
+		 * @param fingerprintFunction
+		 *            the fingerprint function
+		 * @return this {@link UniqueRandomGeneratorBuilder} object. For chaining.
+		 */
+		public UniqueRandomGeneratorBuilder<T> fingerprint(
+			final ToLongFunction<? super T> fingerprintFunction)
+		{
+			this.fingerprintFunction = Objects.requireNonNull(fingerprintFunction);
+			return this;
+		}
+
+		/**
+		 * Sets the random source, the default is the {@link DefaultSecureRandom}
+		 *
+		 * @param randomSource
+		 *            the random source
+		 * @return this {@link UniqueRandomGeneratorBuilder} object. For chaining.
+		 */
+		public UniqueRandomGeneratorBuilder<T> randomSource(final RandomSource randomSource)
+		{
+			this.randomSource = Objects.requireNonNull(randomSource);
+			return this;
+		}
+
+		/**
+		 * Sets the number of the possible distinct values
+		 *
+		 * @param valueSpace
+		 *            the value space
+		 * @return this {@link UniqueRandomGeneratorBuilder} object. For chaining.
+		 */
+		public UniqueRandomGeneratorBuilder<T> valueSpace(final long valueSpace)
+		{
+			if (valueSpace <= 0)
+			{
+				throw new IllegalArgumentException("valueSpace must be positive: " + valueSpace);
+			}
+			this.valueSpace = valueSpace;
+			return this;
+		}
+
+		/**
+		 * Sets the number of attempts for every expected attempt of a new value, before the value
+		 * space is treated as exhausted
+		 *
+		 * @param maxAttempts
+		 *            the maximum number of attempts
+		 * @return this {@link UniqueRandomGeneratorBuilder} object. For chaining.
+		 */
+		public UniqueRandomGeneratorBuilder<T> maxAttempts(final int maxAttempts)
+		{
+			if (maxAttempts <= 0)
+			{
+				throw new IllegalArgumentException("maxAttempts must be positive: " + maxAttempts);
+			}
+			this.maxAttempts = maxAttempts;
+			return this;
+		}
+
+		/**
+		 * Sets the expected number of values, so the set of the fingerprints is created with
+		 * enough capacity
+		 *
+		 * @param expectedSize
+		 *            the expected number of values
+		 * @return this {@link UniqueRandomGeneratorBuilder} object. For chaining.
+		 */
+		public UniqueRandomGeneratorBuilder<T> expectedSize(final int expectedSize)
+		{
+			if (expectedSize < 0)
+			{
+				throw new IllegalArgumentException(
+					"expectedSize must not be negative: " + expectedSize);
+			}
+			this.expectedSize = expectedSize;
+			return this;
+		}
+
+		/**
+		 * Keeps the fingerprints in a Bloom filter instead of a set. The filter is sized for the
+		 * given number of values and the given false positive probability, that is the
+		 * probability that a new value is rejected
+		 *
+		 * @param expectedSize
+		 *            the expected number of values
+		 * @param falsePositiveProbability
+		 *            the false positive probability, must be between 0 and 1 exclusive
+		 * @return this {@link UniqueRandomGeneratorBuilder} object. For chaining.
+		 */
+		public UniqueRandomGeneratorBuilder<T> bloomFilter(final long expectedSize,
+			final double falsePositiveProbability)
+		{
+			if (expectedSize <= 0)
+			{
+				throw new IllegalArgumentException(
+					"expectedSize must be positive: " + expectedSize);
+			}
+			if (!(0.0 < falsePositiveProbability && falsePositiveProbability < 1.0))
+			{
+				throw new IllegalArgumentException(
+					"falsePositiveProbability must be between 0 and 1: "
+						+ falsePositiveProbability);
+			}
+			this.bloomFilterSize = expectedSize;
+			this.falsePositiveProbability = falsePositiveProbability;
+			return this;
+		}
+
+		/**
+		 * Builds the {@link UniqueRandomGenerator} object
+		 *
+		 * @return the new {@link UniqueRandomGenerator} object
+		 */
+		public UniqueRandomGenerator<T> build()
+		{
+			return new UniqueRandomGenerator<>(this);
+		}
+
+	}
+
+}
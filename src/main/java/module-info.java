@@ -27,12 +27,21 @@ module randomizer.main
 	requires jobj.copy.main;
 	requires silly.math;
 	requires vintage.time.main;
+	requires java.management;
 
 	exports io.github.astrapi69.random;
 	exports io.github.astrapi69.random.address;
 	exports io.github.astrapi69.random.date;
+	exports io.github.astrapi69.random.distribution;
 	exports io.github.astrapi69.random.enumeration;
+	exports io.github.astrapi69.random.metrics;
 	exports io.github.astrapi69.random.number;
+	exports io.github.astrapi69.random.number.spi;
 	exports io.github.astrapi69.random.object;
+	exports io.github.astrapi69.random.permutation;
+	exports io.github.astrapi69.random.source;
+	exports io.github.astrapi69.random.unique;
 	exports io.github.astrapi69.random.util;
+
+	uses io.github.astrapi69.random.number.spi.UniformConverter;
 }
\ No newline at end of file
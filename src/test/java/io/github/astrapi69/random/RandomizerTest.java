@@ -0,0 +1,169 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertNotNull;
+import static org.testng.AssertJUnit.assertNotSame;
+import static org.testng.AssertJUnit.assertSame;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import org.testng.annotations.Test;
+
+import io.github.astrapi69.random.enumeration.RandomAlgorithm;
+import io.github.astrapi69.random.source.RandomSource;
+import io.github.astrapi69.random.source.RandomSourceFactory;
+
+/**
+ * The unit test class for the class {@link Randomizer}
+ */
+public class RandomizerTest
+{
+
+	/**
+	 * Test method for {@link Randomizer#getDefault()}
+	 */
+	@Test
+	public void testGetDefault()
+	{
+		final Randomizer randomizer = Randomizer.getDefault();
+		assertSame(randomizer, Randomizer.getDefault());
+		assertEquals(Randomizer.DEFAULT_MIN_STRING_LENGTH, randomizer.getMinStringLength());
+		assertEquals(Randomizer.DEFAULT_MAX_STRING_LENGTH, randomizer.getMaxStringLength());
+		assertEquals(Randomizer.DEFAULT_DATE_RANGE, randomizer.getDateRange());
+		assertEquals(RandomSourceFactory.SECURE_RANDOM,
+			randomizer.getRandomSource().getAlgorithm());
+		assertSame(randomizer.getRandomSource(), randomizer.getRandomSource());
+		assertNotNull(randomizer.randomEmail());
+	}
+
+	/**
+	 * Test method for {@link Randomizer#builder()} with a seeded engine
+	 */
+	@Test
+	public void testBuilderWithSeededRandomSource()
+	{
+		final Randomizer first = Randomizer.builder()
+			.randomSource(() -> RandomSourceFactory.newXoshiro256StarStarSource(42L)).build();
+		final Randomizer second = Randomizer.builder()
+			.randomSource(() -> RandomSourceFactory.newXoshiro256StarStarSource(42L)).build();
+		for (int i = 0; i < 100; i++)
+		{
+			assertEquals(first.randomLong(), second.randomLong());
+		}
+		assertEquals(first.newRandomString(), second.newRandomString());
+		assertEquals(first.randomEmail(), second.randomEmail());
+	}
+
+	/**
+	 * Test method for {@link Randomizer#getRandomSource()} with different threads
+	 *
+	 * @throws InterruptedException
+	 *             is thrown if the thread is interrupted
+	 */
+	@Test
+	public void testGetRandomSourcePerThread() throws InterruptedException
+	{
+		final Randomizer randomizer = Randomizer.builder()
+			.algorithm(RandomSourceFactory.SPLITTABLE_RANDOM).build();
+		final RandomSource mainRandomSource = randomizer.getRandomSource();
+		assertSame(mainRandomSource, randomizer.getRandomSource());
+		final RandomSource[] otherRandomSource = new RandomSource[1];
+		final Thread thread = new Thread(() -> otherRandomSource[0] = randomizer.getRandomSource());
+		thread.start();
+		thread.join();
+		assertNotNull(otherRandomSource[0]);
+		assertNotSame(mainRandomSource, otherRandomSource[0]);
+		final ConcurrentHashMap<Integer, Boolean> values = new ConcurrentHashMap<>();
+		IntStream.range(0, 1000).parallel()
+			.forEach(i -> values.put(randomizer.randomIntBetween(0, 10), Boolean.TRUE));
+		assertTrue(values.keySet().stream().allMatch(value -> 0 <= value && value < 10));
+	}
+
+	/**
+	 * Test method for {@link Randomizer#newRandomString()} and
+	 * {@link Randomizer#randomDateAfter(Date)} with configured limits
+	 */
+	@Test
+	public void testConfiguredLimits()
+	{
+		final Randomizer randomizer = Randomizer.builder().stringLength(5, 6).dateRange(2).build();
+		final Date now = new Date();
+		for (int i = 0; i < 100; i++)
+		{
+			final int length = randomizer.newRandomString().length();
+			assertTrue(length == 5 || length == 6);
+			final Date after = randomizer.randomDateAfter(now);
+			assertTrue(!after.before(now));
+			assertTrue(after.getTime() - now.getTime() <= 2L * 24 * 60 * 60 * 1000);
+		}
+	}
+
+	/**
+	 * Test method for {@link Randomizer.RandomizerBuilder} with invalid arguments
+	 */
+	@Test
+	public void testBuilderInvalidArguments()
+	{
+		final Randomizer.RandomizerBuilder builder = Randomizer.builder();
+		assertThrows(() -> builder.stringLength(4, 3));
+		assertThrows(() -> builder.stringLength(-1, 3));
+		assertThrows(() -> builder.dateRange(0));
+		assertThrows(() -> builder.algorithm("NoSuchAlgorithm"));
+	}
+
+	/**
+	 * Test method for {@link Randomizer.RandomizerBuilder#algorithm(RandomAlgorithm)}
+	 */
+	@Test
+	public void testBuilderWithRandomAlgorithm()
+	{
+		for (RandomAlgorithm algorithm : RandomAlgorithm.values())
+		{
+			final Randomizer randomizer = Randomizer.builder().algorithm(algorithm).build();
+			assertEquals(algorithm.getEngine(), randomizer.getRandomSource().getAlgorithm());
+			final int value = randomizer.randomInt(10);
+			assertTrue(0 <= value && value < 10);
+		}
+	}
+
+	private static void assertThrows(final Runnable runnable)
+	{
+		try
+		{
+			runnable.run();
+		}
+		catch (final IllegalArgumentException e)
+		{
+			return;
+		}
+		throw new AssertionError("IllegalArgumentException expected");
+	}
+
+}
@@ -24,11 +24,14 @@
  */
 package io.github.astrapi69.random;
 
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
 
 import org.meanbean.test.BeanTester;
 import org.testng.annotations.Test;
 
+import io.github.astrapi69.random.enumeration.SeedPolicy;
+
 import nl.jqno.equalsverifier.EqualsVerifier;
 
 /**
@@ -58,6 +61,9 @@ public class SecureRandomBeanTest
 		assertNotNull(model);
 		model = SecureRandomBean.builder().build();
 		assertNotNull(model);
+		assertEquals(SeedPolicy.EXPLICIT, model.getSeedPolicy());
+		model = new SecureRandomBean("SHA1PRNG", "SUN");
+		assertEquals(SeedPolicy.SELF_SEEDED, model.getSeedPolicy());
 	}
 
 	/**
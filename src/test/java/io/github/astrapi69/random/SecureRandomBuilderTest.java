@@ -24,6 +24,7 @@
  */
 package io.github.astrapi69.random;
 
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
 
 import java.security.SecureRandom;
@@ -101,4 +102,18 @@ public class SecureRandomBuilderTest
 		assertNotNull(secureRandom);
 	}
 
+	/**
+	 * Test method for {@link SecureRandomBuilder#getInstance(SecureRandomBean)}.
+	 */
+	@Test
+	public void testGetInstanceSecureRandomBean()
+	{
+		SecureRandomBuilder instance = SecureRandomBuilder.getInstance(
+			new SecureRandomBean(SecureRandomBean.DEFAULT_ALGORITHM, null, 42L));
+		assertNotNull(instance);
+		SecureRandom secureRandom = instance.build();
+		assertNotNull(secureRandom);
+		assertEquals(SecureRandomBean.DEFAULT_ALGORITHM, secureRandom.getAlgorithm());
+	}
+
 }
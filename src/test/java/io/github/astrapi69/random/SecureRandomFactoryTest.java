@@ -24,7 +24,10 @@
  */
 package io.github.astrapi69.random;
 
+import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotNull;
+import static org.testng.Assert.assertNotSame;
+import static org.testng.Assert.assertSame;
 
 import java.lang.reflect.InvocationTargetException;
 import java.security.SecureRandom;
@@ -60,6 +63,8 @@ public class SecureRandomFactoryTest
 		SecureRandom secureRandom = SecureRandomFactory
 			.newSecureRandom(SecureRandomBean.DEFAULT_ALGORITHM);
 		assertNotNull(secureRandom);
+		assertSame(secureRandom,
+			SecureRandomFactory.newSecureRandom(SecureRandomBean.DEFAULT_ALGORITHM));
 	}
 
 	/**
@@ -84,6 +89,10 @@ public class SecureRandomFactoryTest
 		SecureRandom secureRandom = SecureRandomFactory.newSecureRandom(
 			SecureRandomBean.DEFAULT_ALGORITHM, SecureRandomBean.DEFAULT_PROVIDER, localDateLong);
 		assertNotNull(secureRandom);
+		SecureRandom other = SecureRandomFactory.newSecureRandom(
+			SecureRandomBean.DEFAULT_ALGORITHM, SecureRandomBean.DEFAULT_PROVIDER, localDateLong);
+		assertNotSame(secureRandom, other);
+		assertEquals(secureRandom.nextLong(), other.nextLong());
 	}
 
 	/**
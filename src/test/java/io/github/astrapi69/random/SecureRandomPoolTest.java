@@ -0,0 +1,190 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertNotNull;
+import static org.testng.AssertJUnit.assertNotSame;
+import static org.testng.AssertJUnit.assertSame;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.annotations.Test;
+
+import io.github.astrapi69.random.enumeration.SecureRandomInitMode;
+import io.github.astrapi69.random.enumeration.SecureRandomPoolStrategy;
+
+/**
+ * The unit test class for the class {@link SecureRandomPool}
+ */
+public class SecureRandomPoolTest
+{
+
+	private static Set<SecureRandom> collectFromThreads(final SecureRandomPool pool,
+		final int threads) throws InterruptedException
+	{
+		final Set<SecureRandom> instances = ConcurrentHashMap.newKeySet();
+		final ExecutorService executorService = Executors.newFixedThreadPool(threads);
+		for (int i = 0; i < threads * 4; i++)
+		{
+			executorService.execute(() -> {
+				SecureRandom secureRandom = pool.get();
+				assertSame(secureRandom, pool.get());
+				secureRandom.nextInt();
+				instances.add(secureRandom);
+			});
+		}
+		executorService.shutdown();
+		assertTrue(executorService.awaitTermination(30, TimeUnit.SECONDS));
+		return instances;
+	}
+
+	/**
+	 * Test method for {@link SecureRandomPool#get()} with the strategy
+	 * {@link SecureRandomPoolStrategy#SINGLE}
+	 *
+	 * @throws InterruptedException
+	 *             if the current thread was interrupted while waiting
+	 */
+	@Test
+	public void testGetSingle() throws InterruptedException
+	{
+		SecureRandomPool pool = new SecureRandomPool(SecureRandomPoolStrategy.SINGLE,
+			SecureRandomFactory::newSecureRandom);
+		assertEquals(SecureRandomPoolStrategy.SINGLE, pool.getStrategy());
+		assertEquals(1, collectFromThreads(pool, 4).size());
+	}
+
+	/**
+	 * Test method for {@link SecureRandomPool#get()} with the strategy
+	 * {@link SecureRandomPoolStrategy#THREAD_LOCAL}
+	 *
+	 * @throws InterruptedException
+	 *             if the current thread was interrupted while waiting
+	 */
+	@Test
+	public void testGetThreadLocal() throws InterruptedException
+	{
+		SecureRandomPool pool = new SecureRandomPool(SecureRandomPoolStrategy.THREAD_LOCAL,
+			SecureRandomFactory::newSecureRandom);
+		assertEquals(4, collectFromThreads(pool, 4).size());
+	}
+
+	/**
+	 * Test method for {@link SecureRandomPool#get()} with the strategy
+	 * {@link SecureRandomPoolStrategy#STRIPED}
+	 *
+	 * @throws InterruptedException
+	 *             if the current thread was interrupted while waiting
+	 */
+	@Test
+	public void testGetStriped() throws InterruptedException
+	{
+		SecureRandomPool pool = new SecureRandomPool(SecureRandomPoolStrategy.STRIPED,
+			SecureRandomFactory::newSecureRandom, 3);
+		Set<SecureRandom> instances = collectFromThreads(pool, 8);
+		assertTrue(0 < instances.size() && instances.size() <= 4);
+	}
+
+	/**
+	 * Test method for {@link SecureRandomPool} with an invalid stripe count
+	 */
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testNewWithInvalidStripeCount()
+	{
+		new SecureRandomPool(SecureRandomPoolStrategy.STRIPED,
+			SecureRandomFactory::newSecureRandom, 0);
+	}
+
+	/**
+	 * Test method for {@link DefaultSecureRandom#setPoolStrategy(SecureRandomPoolStrategy)}
+	 *
+	 * @throws InterruptedException
+	 *             if the current thread was interrupted while waiting
+	 */
+	@Test
+	public void testDefaultSecureRandomPoolStrategy() throws InterruptedException
+	{
+		SecureRandomPoolStrategy previous = DefaultSecureRandom.getPoolStrategy();
+		try
+		{
+			DefaultSecureRandom.setPoolStrategy(SecureRandomPoolStrategy.SINGLE);
+			SecureRandom single = DefaultSecureRandom.get();
+			assertNotNull(single);
+			DefaultSecureRandom.setPoolStrategy(SecureRandomPoolStrategy.THREAD_LOCAL);
+			assertEquals(SecureRandomPoolStrategy.THREAD_LOCAL,
+				DefaultSecureRandom.getPoolStrategy());
+			SecureRandom[] other = new SecureRandom[1];
+			Thread thread = new Thread(() -> other[0] = DefaultSecureRandom.get());
+			thread.start();
+			thread.join();
+			assertNotSame(DefaultSecureRandom.get(), other[0]);
+			DefaultSecureRandom.setPoolStrategy(SecureRandomPoolStrategy.SINGLE);
+			assertSame(single, DefaultSecureRandom.get());
+		}
+		finally
+		{
+			DefaultSecureRandom.setPoolStrategy(previous);
+		}
+	}
+
+	/**
+	 * Test method for {@link DefaultSecureRandom#getInitMode()}
+	 */
+	@Test
+	public void testDefaultSecureRandomInitMode()
+	{
+		assertEquals(SecureRandomInitMode.valueOf(System.getProperty(
+			DefaultSecureRandom.INIT_MODE_PROPERTY, SecureRandomInitMode.LAZY.name())),
+			DefaultSecureRandom.getInitMode());
+		assertNotNull(DefaultSecureRandom.get());
+	}
+
+	/**
+	 * Test method for {@link DefaultSecureRandom#newSeededSecureRandom()}
+	 */
+	@Test
+	public void testDefaultSecureRandomNewSeededSecureRandom()
+	{
+		final SecureRandom first = DefaultSecureRandom.newSeededSecureRandom();
+		final SecureRandom second = DefaultSecureRandom.newSeededSecureRandom();
+		assertNotSame(first, second);
+		assertEquals(SecureRandomBuilder.DEFAULT_ALGORITHM, first.getAlgorithm());
+		final byte[] firstBytes = new byte[DefaultSecureRandom.SEED_LENGTH];
+		final byte[] secondBytes = new byte[DefaultSecureRandom.SEED_LENGTH];
+		first.nextBytes(firstBytes);
+		second.nextBytes(secondBytes);
+		assertFalse(Arrays.equals(firstBytes, secondBytes));
+	}
+
+}
@@ -0,0 +1,143 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertNotNull;
+import static org.testng.AssertJUnit.assertNotSame;
+import static org.testng.AssertJUnit.assertSame;
+
+import java.security.SecureRandom;
+
+import org.testng.annotations.Test;
+
+import io.github.astrapi69.random.enumeration.SeedPolicy;
+
+/**
+ * The unit test class for the class {@link SecureRandomRegistry}
+ */
+public class SecureRandomRegistryTest
+{
+
+	/**
+	 * Test method for {@link SecureRandomRegistry#get(String, String)}
+	 */
+	@Test
+	public void testGet()
+	{
+		final SecureRandomRegistry registry = new SecureRandomRegistry(4);
+		final SecureRandom secureRandom = registry.get(SecureRandomBean.DEFAULT_ALGORITHM,
+			SecureRandomBean.DEFAULT_PROVIDER);
+		assertNotNull(secureRandom);
+		assertEquals(SecureRandomBean.DEFAULT_ALGORITHM, secureRandom.getAlgorithm());
+		assertSame(secureRandom, registry.get(SecureRandomBean.DEFAULT_ALGORITHM,
+			SecureRandomBean.DEFAULT_PROVIDER));
+		assertNotSame(secureRandom, registry.get(SecureRandomBean.DEFAULT_ALGORITHM, null));
+		assertEquals(2, registry.size());
+	}
+
+	/**
+	 * Test method for {@link SecureRandomRegistry#get(SecureRandomBean)} that seeded beans are
+	 * not shared and reproduce the sequence of their seed
+	 */
+	@Test
+	public void testGetSecureRandomBean()
+	{
+		final SecureRandomRegistry registry = new SecureRandomRegistry(4);
+		final SecureRandomBean bean = new SecureRandomBean(SecureRandomBean.DEFAULT_ALGORITHM,
+			SecureRandomBean.DEFAULT_PROVIDER, 1L);
+		final SecureRandom first = registry.get(bean);
+		final long firstValue = first.nextLong();
+		final SecureRandom second = registry.get(bean.toBuilder().build());
+		assertNotSame(first, second);
+		assertEquals(firstValue, second.nextLong());
+		assertEquals(0, registry.size());
+	}
+
+	/**
+	 * Test method for {@link SecureRandomRegistry#get(SecureRandomBean)} that self seeded beans
+	 * are cached independent of their seed
+	 */
+	@Test
+	public void testGetSelfSeededSecureRandomBean()
+	{
+		final SecureRandomRegistry registry = new SecureRandomRegistry(4);
+		final SecureRandomBean bean = SecureRandomBean.builder()
+			.algorithm(SecureRandomBean.DEFAULT_ALGORITHM)
+			.provider(SecureRandomBean.DEFAULT_PROVIDER).seed(1L)
+			.seedPolicy(SeedPolicy.SELF_SEEDED).build();
+		final SecureRandom secureRandom = registry.get(bean);
+		assertSame(secureRandom, registry.get(bean.toBuilder().seed(2L).build()));
+		assertSame(secureRandom, registry.get(SecureRandomBean.DEFAULT_ALGORITHM,
+			SecureRandomBean.DEFAULT_PROVIDER));
+		assertNotSame(secureRandom, registry.get(bean.toBuilder()
+			.seedPolicy(SeedPolicy.EXPLICIT).build()));
+		assertEquals(1, registry.size());
+	}
+
+	/**
+	 * Test method for {@link SecureRandomRegistry#get(String, String)} with the eviction of the
+	 * least recently used instance
+	 */
+	@Test
+	public void testEviction()
+	{
+		final SecureRandomRegistry registry = new SecureRandomRegistry(2);
+		final SecureRandom first = registry.get(SecureRandomBean.DEFAULT_ALGORITHM, null);
+		final SecureRandom second = registry.get(SecureRandomBean.DEFAULT_ALGORITHM,
+			SecureRandomBean.DEFAULT_PROVIDER);
+		registry.get(SecureRandomBean.DEFAULT_ALGORITHM, null);
+		registry.get("DRBG", null);
+		assertEquals(2, registry.size());
+		assertSame(first, registry.get(SecureRandomBean.DEFAULT_ALGORITHM, null));
+		assertNotSame(second, registry.get(SecureRandomBean.DEFAULT_ALGORITHM,
+			SecureRandomBean.DEFAULT_PROVIDER));
+		registry.clear();
+		assertEquals(0, registry.size());
+	}
+
+	/**
+	 * Test method for {@link SecureRandomRegistry#getDefault()}
+	 */
+	@Test
+	public void testGetDefault()
+	{
+		final SecureRandomRegistry registry = SecureRandomRegistry.getInstance();
+		assertSame(registry, SecureRandomRegistry.getInstance());
+		assertSame(DefaultSecureRandom.get(), registry.getDefault());
+		assertEquals(SecureRandomRegistry.DEFAULT_MAXIMUM_SIZE, registry.getMaximumSize());
+	}
+
+	/**
+	 * Test method for {@link SecureRandomRegistry#SecureRandomRegistry(int)} with an invalid
+	 * maximum size
+	 */
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testInvalidMaximumSize()
+	{
+		new SecureRandomRegistry(0);
+	}
+
+}
@@ -0,0 +1,93 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.distribution;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import org.testng.annotations.Test;
+
+/**
+ * The unit test class for the class {@link BetaSampler}
+ */
+public class BetaSamplerTest
+{
+
+	/**
+	 * Test method for {@link BetaSampler#fill(double[], java.util.random.RandomGenerator)}
+	 */
+	@Test
+	public void testFill()
+	{
+		final BetaSampler sampler = new BetaSampler(2.0, 5.0);
+		final double[] values = new double[200_000];
+		sampler.fill(values, new SplittableRandom(7L));
+		assertTrue(Arrays.stream(values).allMatch(value -> 0.0 <= value && value <= 1.0));
+		final double mean = Arrays.stream(values).average().getAsDouble();
+		final double variance = Arrays.stream(values).map(value -> (value - mean) * (value - mean))
+			.average().getAsDouble();
+		// mean a / (a + b) and variance a b / ((a + b)^2 (a + b + 1))
+		assertEquals(2.0 / 7.0, mean, 0.003);
+		assertEquals(10.0 / (49.0 * 8.0), variance, 0.0008);
+		assertEquals(2.0, sampler.getAlpha());
+		assertEquals(5.0, sampler.getBeta());
+	}
+
+	/**
+	 * Test method for {@link BetaSampler#sample(java.util.random.RandomGenerator)} with small
+	 * shapes whose gamma values underflow to zero
+	 */
+	@Test
+	public void testSampleSmallShapes()
+	{
+		final BetaSampler sampler = new BetaSampler(0.001, 0.003);
+		final SplittableRandom random = new SplittableRandom(11L);
+		int ones = 0;
+		for (int i = 0; i < 100_000; i++)
+		{
+			final double value = sampler.sample(random);
+			assertTrue(0.0 <= value && value <= 1.0);
+			if (0.5 < value)
+			{
+				ones++;
+			}
+		}
+		// the values concentrate at 0 and 1, the mean a / (a + b) is the share of the ones
+		assertEquals(0.25, ones / 100_000.0, 0.01);
+	}
+
+	/**
+	 * Test method for {@link BetaSampler#BetaSampler(double, double)} with an invalid shape
+	 */
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testInvalidShape()
+	{
+		new BetaSampler(1.0, -2.0);
+	}
+
+}
@@ -0,0 +1,76 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.distribution;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import org.testng.annotations.Test;
+
+/**
+ * The unit test class for the class {@link GammaSampler}
+ */
+public class GammaSamplerTest
+{
+
+	/**
+	 * Test method for {@link GammaSampler#fill(double[], java.util.random.RandomGenerator)} with
+	 * shapes less than, equal to and greater than one
+	 */
+	@Test
+	public void testFill()
+	{
+		final double[][] parameters = { { 0.5, 2.0 }, { 1.0, 1.0 }, { 3.5, 0.5 }, { 20.0, 3.0 } };
+		for (final double[] parameter : parameters)
+		{
+			final double shape = parameter[0];
+			final double scale = parameter[1];
+			final GammaSampler sampler = new GammaSampler(shape, scale);
+			final double[] values = new double[200_000];
+			sampler.fill(values, new SplittableRandom(6L));
+			assertTrue(Arrays.stream(values).allMatch(value -> 0.0 <= value));
+			final double mean = Arrays.stream(values).average().getAsDouble();
+			final double variance = Arrays.stream(values)
+				.map(value -> (value - mean) * (value - mean)).average().getAsDouble();
+			final double expectedMean = shape * scale;
+			final double expectedVariance = shape * scale * scale;
+			assertEquals(expectedMean, mean, expectedMean * 0.02);
+			assertEquals(expectedVariance, variance, expectedVariance * 0.05);
+		}
+	}
+
+	/**
+	 * Test method for {@link GammaSampler#GammaSampler(double, double)} with an invalid shape
+	 */
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testInvalidShape()
+	{
+		new GammaSampler(0.0, 1.0);
+	}
+
+}
@@ -0,0 +1,78 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.distribution;
+
+import static org.testng.AssertJUnit.assertEquals;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import org.testng.annotations.Test;
+
+/**
+ * The unit test class for the class {@link GaussianSampler}
+ */
+public class GaussianSamplerTest
+{
+
+	/**
+	 * Test method for {@link GaussianSampler#fill(double[], java.util.random.RandomGenerator)}
+	 */
+	@Test
+	public void testFill()
+	{
+		final GaussianSampler sampler = new GaussianSampler(5.0, 2.0);
+		final double[] values = new double[200_000];
+		sampler.fill(values, new SplittableRandom(3L));
+		final double mean = Arrays.stream(values).average().getAsDouble();
+		final double variance = Arrays.stream(values).map(value -> (value - mean) * (value - mean))
+			.average().getAsDouble();
+		assertEquals(5.0, mean, 0.03);
+		assertEquals(4.0, variance, 0.08);
+	}
+
+	/**
+	 * Test method for {@link GaussianSampler#sample()}
+	 */
+	@Test
+	public void testSample()
+	{
+		final double value = GaussianSampler.STANDARD.sample();
+		assertEquals(true, Double.isFinite(value));
+		assertEquals(0.0, GaussianSampler.STANDARD.getMean());
+		assertEquals(1.0, GaussianSampler.STANDARD.getStandardDeviation());
+	}
+
+	/**
+	 * Test method for {@link GaussianSampler#GaussianSampler(double, double)} with an invalid
+	 * standard deviation
+	 */
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testInvalidStandardDeviation()
+	{
+		new GaussianSampler(0.0, 0.0);
+	}
+
+}
@@ -0,0 +1,66 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.distribution;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import org.testng.annotations.Test;
+
+/**
+ * The unit test class for the class {@link LogNormalSampler}
+ */
+public class LogNormalSamplerTest
+{
+
+	/**
+	 * Test method for {@link LogNormalSampler#fill(double[], java.util.random.RandomGenerator)}
+	 */
+	@Test
+	public void testFill()
+	{
+		final LogNormalSampler sampler = new LogNormalSampler(1.0, 0.5);
+		final double[] values = new double[200_000];
+		sampler.fill(values, new SplittableRandom(5L));
+		assertTrue(Arrays.stream(values).allMatch(value -> 0.0 < value));
+		// the mean of the log-normal distribution is exp(mu + sigma^2 / 2)
+		assertEquals(Math.exp(1.125), Arrays.stream(values).average().getAsDouble(), 0.02);
+		assertEquals(1.0, Arrays.stream(values).map(Math::log).average().getAsDouble(), 0.005);
+	}
+
+	/**
+	 * Test method for {@link LogNormalSampler#LogNormalSampler(double, double)} with an invalid
+	 * sigma
+	 */
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testInvalidSigma()
+	{
+		new LogNormalSampler(0.0, Double.NaN);
+	}
+
+}
@@ -0,0 +1,152 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.distribution;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.testng.annotations.Test;
+
+/**
+ * The unit test class for the class {@link ReservoirSampler}
+ */
+public class ReservoirSamplerTest
+{
+
+	/**
+	 * Test method for {@link ReservoirSampler#sample(java.util.stream.Stream, int,
+	 * java.util.random.RandomGenerator)}
+	 */
+	@Test
+	public void testSampleStream()
+	{
+		final SplittableRandom random = new SplittableRandom(1L);
+		final int trials = 20_000;
+		final int[] histogram = new int[100];
+		for (int trial = 0; trial < trials; trial++)
+		{
+			final List<Integer> sample = ReservoirSampler.sample(IntStream.range(0, 100).boxed(),
+				10, random);
+			assertEquals(10, sample.size());
+			assertEquals(10, new HashSet<>(sample).size());
+			for (final Integer item : sample)
+			{
+				histogram[item]++;
+			}
+		}
+		for (final int count : histogram)
+		{
+			assertEquals(0.1, (double)count / trials, 0.012);
+		}
+	}
+
+	/**
+	 * Test method for {@link ReservoirSampler#sample(Iterable, int)} with less items than the
+	 * sample size
+	 */
+	@Test
+	public void testSampleSmallIterable()
+	{
+		final List<String> items = Arrays.asList("a", "b", "c");
+		assertEquals(items, ReservoirSampler.sample(items, 5));
+		assertTrue(ReservoirSampler.sample(items, 0).isEmpty());
+	}
+
+	/**
+	 * Test method for {@link ReservoirSampler#sampleWeighted(Iterable,
+	 * java.util.function.ToDoubleFunction, int, java.util.random.RandomGenerator)}
+	 */
+	@Test
+	public void testSampleWeighted()
+	{
+		final SplittableRandom random = new SplittableRandom(2L);
+		final List<Integer> items = Arrays.asList(0, 1, 2, 3, 4);
+		final int trials = 100_000;
+		final int[] histogram = new int[items.size()];
+		for (int trial = 0; trial < trials; trial++)
+		{
+			histogram[ReservoirSampler.sampleWeighted(items, item -> item, 1, random).get(0)]++;
+		}
+		assertEquals(0, histogram[0]);
+		for (int item = 1; item < items.size(); item++)
+		{
+			assertEquals(item / 10.0, (double)histogram[item] / trials, 0.005);
+		}
+		final List<Integer> sample = ReservoirSampler.sampleWeighted(items, item -> item, 4,
+			random);
+		assertEquals(new HashSet<>(Arrays.asList(1, 2, 3, 4)), new HashSet<>(sample));
+	}
+
+	/**
+	 * Test method for {@link ReservoirSampler#sampleLines(Path, java.nio.charset.Charset, int,
+	 * java.util.random.RandomGenerator)}
+	 *
+	 * @throws IOException
+	 *             is thrown if the temporary file can not be written
+	 */
+	@Test
+	public void testSampleLines() throws IOException
+	{
+		final Path path = Files.createTempFile("reservoir", ".log");
+		try
+		{
+			Files.write(path, IntStream.range(0, 10_000).mapToObj(i -> "line " + i)
+				.collect(Collectors.toList()), StandardCharsets.UTF_8);
+			final List<String> lines = ReservoirSampler.sampleLines(path, StandardCharsets.UTF_8,
+				5, new SplittableRandom(3L));
+			assertEquals(5, lines.size());
+			assertEquals(5, new HashSet<>(lines).size());
+			assertTrue(lines.stream().allMatch(line -> line.startsWith("line ")));
+			assertFalse(lines.equals(Arrays.asList("line 0", "line 1", "line 2", "line 3",
+				"line 4")));
+		}
+		finally
+		{
+			Files.delete(path);
+		}
+	}
+
+	/**
+	 * Test method for {@link ReservoirSampler#sample(Iterable, int)} with a negative sample size
+	 */
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testNegativeSampleSize()
+	{
+		ReservoirSampler.sample(Arrays.asList("a"), -1);
+	}
+
+}
@@ -0,0 +1,157 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.distribution;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.testng.annotations.Test;
+
+import io.github.astrapi69.random.enumeration.SecureRandomInitMode;
+
+/**
+ * The unit test class for the class {@link WeightedSampler}
+ */
+public class WeightedSamplerTest
+{
+
+	private static final int COUNT = 400_000;
+
+	private static int[] histogram(final WeightedSampler<?> sampler, final long seed)
+	{
+		final SplittableRandom random = new SplittableRandom(seed);
+		final int[] histogram = new int[sampler.size()];
+		for (int i = 0; i < COUNT; i++)
+		{
+			histogram[sampler.sampleIndex(random)]++;
+		}
+		return histogram;
+	}
+
+	private static void assertFrequencies(final WeightedSampler<?> sampler, final long seed)
+	{
+		final int[] histogram = histogram(sampler, seed);
+		for (int i = 0; i < histogram.length; i++)
+		{
+			assertEquals(sampler.getProbability(i), (double)histogram[i] / COUNT, 0.005);
+		}
+	}
+
+	/**
+	 * Test method for {@link WeightedSampler#of(List, double[])}
+	 */
+	@Test
+	public void testOfList()
+	{
+		final WeightedSampler<String> sampler = WeightedSampler
+			.of(Arrays.asList("200", "404", "500", "301"), new double[] { 90.0, 6.0, 0.0, 4.0 });
+		assertEquals(4, sampler.size());
+		assertEquals(100.0, sampler.getTotalWeight());
+		assertFrequencies(sampler, 1L);
+		assertEquals(0, histogram(sampler, 2L)[2]);
+	}
+
+	/**
+	 * Test method for {@link WeightedSampler#of(Map)}
+	 */
+	@Test
+	public void testOfMap()
+	{
+		final Map<SecureRandomInitMode, Integer> weights = new EnumMap<>(
+			SecureRandomInitMode.class);
+		weights.put(SecureRandomInitMode.EAGER, 1);
+		weights.put(SecureRandomInitMode.LAZY, 2);
+		weights.put(SecureRandomInitMode.ASYNC, 7);
+		final WeightedSampler<SecureRandomInitMode> sampler = WeightedSampler.of(weights);
+		assertFrequencies(sampler, 3L);
+		assertTrue(weights.containsKey(sampler.sample()));
+	}
+
+	/**
+	 * Test method for {@link WeightedSampler#of(Class, java.util.function.ToDoubleFunction)}
+	 */
+	@Test
+	public void testOfEnum()
+	{
+		final WeightedSampler<SecureRandomInitMode> sampler = WeightedSampler
+			.of(SecureRandomInitMode.class, mode -> mode.ordinal() + 1);
+		assertEquals(Arrays.asList(SecureRandomInitMode.values()), sampler.getItems());
+		assertFrequencies(sampler, 4L);
+	}
+
+	/**
+	 * Test method for {@link WeightedSampler#toBuilder()} with a large weight set
+	 */
+	@Test
+	public void testToBuilder()
+	{
+		final WeightedSampler.WeightedSamplerBuilder<Integer> builder = WeightedSampler.builder();
+		for (int i = 0; i < 1_000_000; i++)
+		{
+			builder.add(i, 1.0);
+		}
+		final WeightedSampler<Integer> sampler = builder.build();
+		assertEquals(1_000_000, sampler.size());
+		final WeightedSampler<Integer> rebuilt = sampler.toBuilder().weight(42, 1_000_000.0)
+			.build();
+		assertEquals(0.5, rebuilt.getProbability(42), 1e-6);
+		final SplittableRandom random = new SplittableRandom(5L);
+		int hits = 0;
+		for (int i = 0; i < 100_000; i++)
+		{
+			if (rebuilt.sample(random) == 42)
+			{
+				hits++;
+			}
+		}
+		assertEquals(0.5, hits / 100_000.0, 0.01);
+		assertEquals(1.0, sampler.getWeight(42));
+	}
+
+	/**
+	 * Test method for {@link WeightedSampler#of(List, double[])} with a negative weight
+	 */
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testNegativeWeight()
+	{
+		WeightedSampler.of(Arrays.asList("a", "b"), new double[] { 1.0, -1.0 });
+	}
+
+	/**
+	 * Test method for {@link WeightedSampler#of(List, double[])} with only zero weights
+	 */
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testZeroTotalWeight()
+	{
+		WeightedSampler.of(Arrays.asList("a", "b"), new double[] { 0.0, 0.0 });
+	}
+
+}
@@ -0,0 +1,96 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.distribution;
+
+import static org.testng.AssertJUnit.assertEquals;
+
+import java.util.SplittableRandom;
+
+import org.testng.annotations.Test;
+
+/**
+ * The unit test class for the class {@link Ziggurat}
+ */
+public class ZigguratTest
+{
+
+	private static final int COUNT = 1_000_000;
+
+	/**
+	 * Test method for {@link Ziggurat#nextNormal(java.util.random.RandomGenerator)}
+	 */
+	@Test
+	public void testNextNormal()
+	{
+		final SplittableRandom random = new SplittableRandom(1L);
+		double sum = 0.0;
+		double squares = 0.0;
+		double fourth = 0.0;
+		int beyondTwo = 0;
+		for (int i = 0; i < COUNT; i++)
+		{
+			final double value = Ziggurat.nextNormal(random);
+			sum += value;
+			squares += value * value;
+			fourth += value * value * value * value;
+			if (2.0 < Math.abs(value))
+			{
+				beyondTwo++;
+			}
+		}
+		assertEquals(0.0, sum / COUNT, 0.01);
+		assertEquals(1.0, squares / COUNT, 0.01);
+		assertEquals(3.0, fourth / COUNT, 0.05);
+		// P(|X| > 2) of the standard normal distribution
+		assertEquals(0.0455, (double)beyondTwo / COUNT, 0.002);
+	}
+
+	/**
+	 * Test method for {@link Ziggurat#nextExponential(java.util.random.RandomGenerator)}
+	 */
+	@Test
+	public void testNextExponential()
+	{
+		final SplittableRandom random = new SplittableRandom(2L);
+		double sum = 0.0;
+		double squares = 0.0;
+		int beyondThree = 0;
+		for (int i = 0; i < COUNT; i++)
+		{
+			final double value = Ziggurat.nextExponential(random);
+			assertEquals(true, 0.0 <= value);
+			sum += value;
+			squares += value * value;
+			if (3.0 < value)
+			{
+				beyondThree++;
+			}
+		}
+		assertEquals(1.0, sum / COUNT, 0.01);
+		assertEquals(2.0, squares / COUNT, 0.03);
+		assertEquals(Math.exp(-3.0), (double)beyondThree / COUNT, 0.002);
+	}
+
+}
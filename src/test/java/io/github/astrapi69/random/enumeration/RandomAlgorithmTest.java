@@ -0,0 +1,90 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.enumeration;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertNotNull;
+import static org.testng.AssertJUnit.assertNotSame;
+import static org.testng.AssertJUnit.assertSame;
+import static org.testng.AssertJUnit.assertTrue;
+
+import org.testng.annotations.Test;
+
+import io.github.astrapi69.random.number.RandomDoubleFactory;
+import io.github.astrapi69.random.number.RandomIntFactory;
+import io.github.astrapi69.random.number.RandomLongFactory;
+import io.github.astrapi69.random.source.RandomSource;
+
+/**
+ * The unit test class for the enum {@link RandomAlgorithm}
+ */
+public class RandomAlgorithmTest
+{
+
+	/**
+	 * Test method for {@link RandomAlgorithm#getRandomSource()}
+	 *
+	 * @throws InterruptedException
+	 *             if the current thread was interrupted while waiting
+	 */
+	@Test
+	public void testGetRandomSource() throws InterruptedException
+	{
+		for (RandomAlgorithm algorithm : RandomAlgorithm.values())
+		{
+			RandomSource randomSource = algorithm.getRandomSource();
+			assertNotNull(randomSource);
+			assertEquals(algorithm.getEngine(), randomSource.getAlgorithm());
+			assertSame(randomSource, algorithm.getRandomSource());
+			RandomSource[] other = new RandomSource[1];
+			Thread thread = new Thread(() -> other[0] = algorithm.getRandomSource());
+			thread.start();
+			thread.join();
+			assertNotSame(randomSource, other[0]);
+		}
+	}
+
+	/**
+	 * Test method for the random factories with all values of {@link RandomAlgorithm}
+	 */
+	@Test
+	public void testRandomFactoriesWithAllAlgorithms()
+	{
+		for (RandomAlgorithm algorithm : RandomAlgorithm.values())
+		{
+			for (int i = 0; i < 100; i++)
+			{
+				int randomInt = RandomIntFactory.randomInt(5, algorithm);
+				assertTrue(algorithm + ": " + randomInt, 0 <= randomInt && randomInt < 5);
+				long randomLong = RandomLongFactory.randomLong(5L, algorithm);
+				assertTrue(algorithm + ": " + randomLong, 0L <= randomLong && randomLong < 5L);
+				double randomDouble = RandomDoubleFactory.randomDouble(5.0d, algorithm);
+				assertTrue(algorithm + ": " + randomDouble,
+					0.0d <= randomDouble && randomDouble < 5.0d);
+			}
+		}
+	}
+
+}
@@ -0,0 +1,206 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.metrics;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertSame;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.security.SecureRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.testng.annotations.Test;
+
+import io.github.astrapi69.random.SecureRandomBuilder;
+import io.github.astrapi69.random.number.RandomDoubleFactory;
+import io.github.astrapi69.random.number.RandomLongFactory;
+import io.github.astrapi69.random.source.RandomSource;
+import io.github.astrapi69.random.source.RandomSourceFactory;
+
+/**
+ * The unit test class for the class {@link RandomMetrics}
+ */
+public class RandomMetricsTest
+{
+
+	/**
+	 * Test method for {@link RandomMetrics#ENABLED} with the default system properties
+	 */
+	@Test
+	public void testDisabled()
+	{
+		if (RandomMetrics.ENABLED)
+		{
+			return;
+		}
+		assertEquals(0L, RandomMetrics.start());
+		final SecureRandom secureRandom = SecureRandomBuilder.getInstance().build();
+		assertSame(secureRandom, RandomMetrics.meterSecureRandom(secureRandom));
+		final RandomSource randomSource = RandomSourceFactory.newSplittableRandomSource(1L);
+		assertSame(randomSource, RandomMetrics.meterRandomSource(randomSource));
+	}
+
+	/**
+	 * Test method for {@link CallMetrics}
+	 */
+	@Test
+	public void testCallMetrics()
+	{
+		final CallMetrics callMetrics = new CallMetrics();
+		assertEquals(0L, callMetrics.getPercentileNanos(50d));
+		for (int i = 0; i < 99; i++)
+		{
+			callMetrics.record(100L);
+		}
+		callMetrics.record(5000L);
+		assertEquals(100L, callMetrics.getCount());
+		assertEquals(99L * 100L + 5000L, callMetrics.getTotalNanos());
+		assertEquals(149d, callMetrics.getMeanNanos(), 0d);
+		assertEquals(128L, callMetrics.getPercentileNanos(50d));
+		assertEquals(128L, callMetrics.getPercentileNanos(99d));
+		assertEquals(8192L, callMetrics.getPercentileNanos(100d));
+		assertEquals(99L, callMetrics.getHistogram()[7]);
+		callMetrics.reset();
+		assertEquals(0L, callMetrics.getCount());
+		assertEquals(0d, callMetrics.getMeanNanos(), 0d);
+	}
+
+	/**
+	 * Test method for {@link CallMetrics#getPercentileNanos(double)} with an invalid percentile
+	 */
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testCallMetricsInvalidPercentile()
+	{
+		new CallMetrics().getPercentileNanos(0d);
+	}
+
+	/**
+	 * Test method for {@link MeteredRandomSource} and {@link MeteredSecureRandom}
+	 */
+	@Test
+	public void testMeteredEngines()
+	{
+		final LongAdder randomSourceBytes = new LongAdder();
+		final RandomSource randomSource = new MeteredRandomSource(
+			RandomSourceFactory.newSplittableRandomSource(1L), randomSourceBytes);
+		randomSource.nextInt();
+		randomSource.nextLong();
+		randomSource.nextBytes(new byte[10]);
+		randomSource.nextDouble();
+		randomSource.nextBoolean();
+		assertEquals(4L + 8L + 16L + 8L + 4L, randomSourceBytes.sum());
+		randomSourceBytes.reset();
+		for (int i = 0; i < 100; i++)
+		{
+			randomSource.nextInt(Integer.MAX_VALUE / 2 + 2);
+		}
+		assertTrue(400L < randomSourceBytes.sum());
+		assertEquals(0L, randomSourceBytes.sum() % 4L);
+		assertEquals(RandomSourceFactory.SPLITTABLE_RANDOM, randomSource.getAlgorithm());
+
+		final LongAdder secureRandomBytes = new LongAdder();
+		final SecureRandom secureRandom = new MeteredSecureRandom(
+			SecureRandomBuilder.getInstance().seed(1L).build(), secureRandomBytes);
+		secureRandom.nextBoolean();
+		secureRandom.nextBytes(new byte[32]);
+		secureRandom.nextFloat();
+		secureRandom.nextDouble();
+		assertEquals(1L + 32L + 3L + 8L, secureRandomBytes.sum());
+		secureRandomBytes.reset();
+		for (int i = 0; i < 100; i++)
+		{
+			secureRandom.nextInt(Integer.MAX_VALUE / 2 + 2);
+		}
+		assertTrue(400L < secureRandomBytes.sum());
+		assertEquals(SecureRandomBuilder.DEFAULT_ALGORITHM, secureRandom.getAlgorithm());
+	}
+
+	/**
+	 * Test method for {@link RandomMetrics#start()} and {@link RandomMetrics#stop(String, long)}
+	 * with nested factory calls
+	 */
+	@Test
+	public void testNestedCalls()
+	{
+		if (!RandomMetrics.ENABLED)
+		{
+			return;
+		}
+		final CallMetrics outer = RandomMetrics
+			.getCallMetrics("RandomDoubleFactory#randomDouble()");
+		final CallMetrics inner = RandomMetrics
+			.getCallMetrics("RandomDoubleFactory#randomDouble(double)");
+		final long outerCount = outer.getCount();
+		final long innerCount = inner.getCount();
+		RandomDoubleFactory.randomDouble();
+		assertEquals(outerCount + 1L, outer.getCount());
+		assertEquals(innerCount, inner.getCount());
+		RandomDoubleFactory.randomDouble(10d);
+		assertEquals(innerCount + 1L, inner.getCount());
+	}
+
+	/**
+	 * Test method for {@link RandomMetrics#start()} and {@link RandomMetrics#stop(String, long)}
+	 * with a seeded overload that does not draw from the default engines
+	 */
+	@Test
+	public void testSeededCallsNotMetered()
+	{
+		if (!RandomMetrics.ENABLED)
+		{
+			return;
+		}
+		final CallMetrics unseeded = RandomMetrics
+			.getCallMetrics("RandomLongFactory#parallelFill(long[])");
+		final long unseededCount = unseeded.getCount();
+		RandomLongFactory.parallelFill(new long[16], 1L);
+		assertFalse(RandomMetrics.getCallMetrics()
+			.containsKey("RandomLongFactory#parallelFill(long[], long)"));
+		RandomLongFactory.parallelFill(new long[16]);
+		assertEquals(unseededCount + 1L, unseeded.getCount());
+	}
+
+	/**
+	 * Test method for {@link RandomMetricsBean}
+	 */
+	@Test
+	public void testRandomMetricsBean()
+	{
+		final String name = RandomMetricsTest.class.getSimpleName() + "#testRandomMetricsBean()";
+		RandomMetrics.getCallMetrics(name).record(1000L);
+		RandomMetrics.getBytesDrawnCounter(name).add(16L);
+		final RandomMetricsMXBean bean = new RandomMetricsBean();
+		assertEquals(Long.valueOf(1L), bean.getCallCounts().get(name));
+		assertEquals(Double.valueOf(1000d), bean.getMeanLatencyNanos().get(name));
+		assertEquals(Long.valueOf(1024L), bean.getP99LatencyNanos().get(name));
+		assertEquals(Long.valueOf(16L), bean.getBytesDrawn().get(name));
+		assertTrue(RandomMetrics.getCallMetrics().containsKey(name));
+		bean.reset();
+		assertEquals(Long.valueOf(0L), bean.getCallCounts().get(name));
+		assertEquals(Long.valueOf(0L), bean.getBytesDrawn().get(name));
+	}
+
+}
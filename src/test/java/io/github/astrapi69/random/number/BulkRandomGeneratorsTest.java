@@ -0,0 +1,63 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.number;
+
+import static org.testng.AssertJUnit.assertSame;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.security.SecureRandom;
+import java.util.random.RandomGenerator;
+
+import org.testng.annotations.Test;
+
+import io.github.astrapi69.random.source.BufferedSecureRandom;
+import io.github.astrapi69.random.source.RandomGeneratorSource;
+
+/**
+ * The unit test class for the class {@link BulkRandomGenerators}
+ */
+public class BulkRandomGeneratorsTest
+{
+
+	/**
+	 * Test method for {@link BulkRandomGenerators#of(RandomGenerator, long)}
+	 */
+	@Test
+	public void testOf()
+	{
+		SecureRandom secureRandom = new SecureRandom();
+		assertTrue(BulkRandomGenerators.of(secureRandom, 1024) instanceof BufferedSecureRandom);
+		assertSame(secureRandom, BulkRandomGenerators.of(secureRandom, 8));
+		RandomGeneratorSource randomSource = new RandomGeneratorSource(secureRandom, "SHA1PRNG");
+		assertTrue(BulkRandomGenerators.of(randomSource, 1024) instanceof BufferedSecureRandom);
+		assertSame(randomSource, BulkRandomGenerators.of(randomSource, 8));
+		RandomGenerator generator = RandomGenerator.of("Xoshiro256PlusPlus");
+		assertSame(generator, BulkRandomGenerators.of(generator, 1024));
+		RandomGeneratorSource generatorSource = new RandomGeneratorSource(generator,
+			"Xoshiro256PlusPlus");
+		assertSame(generatorSource, BulkRandomGenerators.of(generatorSource, 1024));
+	}
+
+}
@@ -24,8 +24,10 @@
  */
 package io.github.astrapi69.random.number;
 
+import static org.testng.AssertJUnit.assertEquals;
 import static org.testng.AssertJUnit.assertTrue;
 
+import java.nio.ByteBuffer;
 import java.security.SecureRandom;
 
 import org.meanbean.test.BeanTester;
@@ -33,6 +35,9 @@ import org.testng.annotations.Test;
 
 import io.github.astrapi69.math.MathExtensions;
 import io.github.astrapi69.random.DefaultSecureRandom;
+import io.github.astrapi69.random.enumeration.RandomAlgorithm;
+import io.github.astrapi69.random.source.RandomSource;
+import io.github.astrapi69.random.source.RandomSourceFactory;
 
 /**
  * The unit test class for the class {@link RandomByteFactory}
@@ -86,6 +91,101 @@ public class RandomByteFactoryTest
 		assertTrue(randomByteArray.length == 8);
 	}
 
+	/**
+	 * Test method for {@link RandomByteFactory#randomByteArray(int, SecureRandom)} that checks that
+	 * every byte value is generated
+	 */
+	@Test
+	public void testRandomByteArrayCoversAllValues()
+	{
+		final boolean[] found = new boolean[256];
+		for (final byte value : RandomByteFactory.randomByteArray(64 * 1024,
+			DefaultSecureRandom.get()))
+		{
+			found[value & 0xFF] = true;
+		}
+		for (int i = 0; i < found.length; i++)
+		{
+			assertTrue("byte value " + i + " was not generated", found[i]);
+		}
+	}
+
+	/**
+	 * Test method for {@link RandomByteFactory#fill(byte[], int, int, SecureRandom)} and
+	 * {@link RandomByteFactory#fill(byte[], int, int, RandomSource)}
+	 */
+	@Test
+	public void testFillSlice()
+	{
+		final RandomSource randomSource = RandomSourceFactory.newXoshiro256StarStarSource(5L);
+		for (int length = 0; length < 40; length++)
+		{
+			final byte[] secureArray = new byte[64];
+			final byte[] sourceArray = new byte[64];
+			RandomByteFactory.fill(secureArray, 3, length, DefaultSecureRandom.get());
+			RandomByteFactory.fill(sourceArray, 3, length, randomSource);
+			for (int i = 0; i < 64; i++)
+			{
+				if (i < 3 || 3 + length <= i)
+				{
+					assertEquals(0, secureArray[i]);
+					assertEquals(0, sourceArray[i]);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Test method for {@link RandomByteFactory#fill(ByteBuffer, SecureRandom)} and
+	 * {@link RandomByteFactory#fill(ByteBuffer, RandomSource)}
+	 */
+	@Test
+	public void testFillByteBuffer()
+	{
+		final RandomSource randomSource = RandomSourceFactory.newXoshiro256StarStarSource(5L);
+		for (final ByteBuffer buffer : new ByteBuffer[] { ByteBuffer.allocate(1027),
+				ByteBuffer.allocateDirect(1027) })
+		{
+			buffer.position(3).limit(1020);
+			RandomByteFactory.fill(buffer, DefaultSecureRandom.get());
+			assertEquals(1020, buffer.position());
+			buffer.position(3);
+			RandomByteFactory.fill(buffer, randomSource);
+			assertEquals(1020, buffer.position());
+			buffer.clear();
+			assertEquals(0, buffer.get(0));
+			assertEquals(0, buffer.get(1026));
+		}
+	}
+
+	/**
+	 * Test method for {@link RandomByteFactory#parallelFill(ByteBuffer, RandomAlgorithm)}
+	 */
+	@Test
+	public void testParallelFill()
+	{
+		for (final RandomAlgorithm algorithm : new RandomAlgorithm[] {
+				RandomAlgorithm.SECURE_RANDOM, RandomAlgorithm.XOSHIRO })
+		{
+			final ByteBuffer buffer = ByteBuffer.allocateDirect(3 * 1024 * 1024 + 13);
+			buffer.position(5).limit(buffer.capacity() - 5);
+			RandomByteFactory.parallelFill(buffer, algorithm);
+			assertEquals(buffer.limit(), buffer.position());
+			buffer.clear();
+			assertEquals(0, buffer.get(4));
+			assertEquals(0, buffer.get(buffer.capacity() - 5));
+			int zeroWords = 0;
+			for (int i = 8; i + Long.BYTES < buffer.capacity() - 5; i += Long.BYTES)
+			{
+				if (buffer.getLong(i) == 0L)
+				{
+					zeroWords++;
+				}
+			}
+			assertEquals(0, zeroWords);
+		}
+	}
+
 	/**
 	 * Test method for {@link RandomByteFactory} with {@link BeanTester}
 	 */
@@ -24,9 +24,12 @@
  */
 package io.github.astrapi69.random.number;
 
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
 import static org.testng.AssertJUnit.assertTrue;
 
 import java.security.SecureRandom;
+import java.util.Arrays;
 
 import org.meanbean.test.BeanTester;
 import org.testng.annotations.Test;
@@ -34,6 +37,8 @@ import org.testng.annotations.Test;
 import io.github.astrapi69.math.MathExtensions;
 import io.github.astrapi69.random.DefaultSecureRandom;
 import io.github.astrapi69.random.enumeration.RandomAlgorithm;
+import io.github.astrapi69.random.source.RandomSource;
+import io.github.astrapi69.random.source.RandomSourceFactory;
 
 /**
  * The unit test class for the class {@link RandomDoubleFactory}
@@ -75,6 +80,26 @@ public class RandomDoubleFactoryTest
 		assertTrue(MathExtensions.isBetween(Double.MIN_VALUE, Double.MAX_VALUE, random));
 	}
 
+	/**
+	 * Test method for {@link RandomDoubleFactory#randomDouble(double, RandomAlgorithm, RandomSource)}
+	 * with seeded random sources
+	 */
+	@Test
+	public void testRandomDoubleRandomAlgorithmSeededRandomSource()
+	{
+		for (RandomAlgorithm algorithm : RandomAlgorithm.values())
+		{
+			RandomSource first = RandomSourceFactory.newXoshiro256StarStarSource(42L);
+			RandomSource second = RandomSourceFactory.newXoshiro256StarStarSource(42L);
+			for (int i = 0; i < 10; i++)
+			{
+				final double expected = RandomDoubleFactory.randomDouble(100d, algorithm, first);
+				assertEquals(algorithm.name(), expected,
+					RandomDoubleFactory.randomDouble(100d, algorithm, second), 0d);
+			}
+		}
+	}
+
 	/**
 	 * Test method for {@link RandomDoubleFactory#randomDouble(double, RandomAlgorithm)}
 	 */
@@ -181,6 +206,87 @@ public class RandomDoubleFactoryTest
 		assertTrue(MathExtensions.isBetween(Double.MIN_VALUE, Double.MAX_VALUE, random));
 	}
 
+	/**
+	 * Test method for {@link RandomDoubleFactory#fillBetween(double[], int, int, double, double,
+	 * SecureRandom)}
+	 */
+	@Test
+	public void testFillBetweenSlice()
+	{
+		final double[] array = new double[1000];
+		Arrays.fill(array, -1.0);
+		RandomDoubleFactory.fillBetween(array, 10, 980, 1.0, 2.0, DefaultSecureRandom.get());
+		for (int i = 0; i < array.length; i++)
+		{
+			if (i < 10 || 990 <= i)
+			{
+				assertTrue(array[i] == -1.0);
+			}
+			else
+			{
+				assertTrue(1.0 <= array[i] && array[i] < 2.0);
+			}
+		}
+	}
+
+	/**
+	 * Test method for {@link RandomDoubleFactory#fillBetween(double[], double, double,
+	 * RandomSource)}
+	 */
+	@Test
+	public void testFillBetweenRandomSource()
+	{
+		final double[] array = new double[1000];
+		RandomDoubleFactory.fillBetween(array, 1.0, 2.0,
+			RandomSourceFactory.newXoshiro256StarStarSource(1L));
+		for (final double value : array)
+		{
+			assertTrue(1.0 <= value && value < 2.0);
+		}
+	}
+
+	/**
+	 * Test method for {@link RandomDoubleFactory#fill(double[], int, int, SecureRandom)}
+	 * with an invalid range
+	 */
+	@Test(expectedExceptions = IndexOutOfBoundsException.class)
+	public void testFillInvalidRange()
+	{
+		RandomDoubleFactory.fill(new double[10], 5, 6, DefaultSecureRandom.get());
+	}
+
+	/**
+	 * Test method for {@link RandomDoubleFactory#parallelFillBetween(double[], double, double,
+	 * long)}
+	 */
+	@Test
+	public void testParallelFillBetween()
+	{
+		final double[] array = new double[200_000];
+		final double[] other = new double[200_000];
+		RandomDoubleFactory.parallelFillBetween(array, 1.0, 2.0, 42L);
+		RandomDoubleFactory.parallelFillBetween(other, 1.0, 2.0, 42L);
+		assertTrue(Arrays.equals(array, other));
+		for (final double value : array)
+		{
+			assertTrue(1.0 <= value && value < 2.0);
+		}
+		RandomDoubleFactory.parallelFill(other);
+		assertFalse(Arrays.equals(array, other));
+	}
+
+	/**
+	 * Test method for {@link RandomDoubleFactory#doubles(long)}
+	 */
+	@Test
+	public void testDoubles()
+	{
+		assertTrue(RandomDoubleFactory.doubles(10_000L).parallel()
+			.allMatch(value -> 0d <= value && value < 1d));
+		assertTrue(RandomDoubleFactory.doubles(1000L, 2d, 3d)
+			.allMatch(value -> 2d <= value && value < 3d));
+	}
+
 	/**
 	 * Test method for {@link RandomDoubleFactory} with {@link BeanTester}
 	 */
@@ -24,9 +24,11 @@
  */
 package io.github.astrapi69.random.number;
 
+import static org.testng.AssertJUnit.assertEquals;
 import static org.testng.AssertJUnit.assertTrue;
 
 import java.security.SecureRandom;
+import java.util.Arrays;
 
 import org.meanbean.test.BeanTester;
 import org.testng.annotations.Test;
@@ -34,6 +36,8 @@ import org.testng.annotations.Test;
 import io.github.astrapi69.math.MathExtensions;
 import io.github.astrapi69.random.DefaultSecureRandom;
 import io.github.astrapi69.random.enumeration.RandomAlgorithm;
+import io.github.astrapi69.random.source.RandomSource;
+import io.github.astrapi69.random.source.RandomSourceFactory;
 
 /**
  * The unit test class for the class {@link RandomFloatFactory}
@@ -79,6 +83,26 @@ public class RandomFloatFactoryTest
 		}
 	}
 
+	/**
+	 * Test method for {@link RandomFloatFactory#randomFloat(float, RandomAlgorithm, RandomSource)}
+	 * with seeded random sources
+	 */
+	@Test
+	public void testRandomFloatRandomAlgorithmSeededRandomSource()
+	{
+		for (RandomAlgorithm algorithm : RandomAlgorithm.values())
+		{
+			RandomSource first = RandomSourceFactory.newXoshiro256StarStarSource(42L);
+			RandomSource second = RandomSourceFactory.newXoshiro256StarStarSource(42L);
+			for (int i = 0; i < 10; i++)
+			{
+				final float expected = RandomFloatFactory.randomFloat(100f, algorithm, first);
+				assertEquals(algorithm.name(), expected,
+					RandomFloatFactory.randomFloat(100f, algorithm, second), 0f);
+			}
+		}
+	}
+
 	/**
 	 * Test method for {@link RandomFloatFactory#randomFloat(float, RandomAlgorithm)}
 	 */
@@ -188,6 +212,54 @@ public class RandomFloatFactoryTest
 		assertTrue(MathExtensions.isBetween(Float.MIN_VALUE, Float.MAX_VALUE, random));
 	}
 
+	/**
+	 * Test method for {@link RandomFloatFactory#fillBetween(float[], int, int, float, float,
+	 * SecureRandom)}
+	 */
+	@Test
+	public void testFillBetweenSlice()
+	{
+		final float[] array = new float[1000];
+		Arrays.fill(array, -1.0f);
+		RandomFloatFactory.fillBetween(array, 10, 980, 1.0f, 2.0f, DefaultSecureRandom.get());
+		for (int i = 0; i < array.length; i++)
+		{
+			if (i < 10 || 990 <= i)
+			{
+				assertTrue(array[i] == -1.0f);
+			}
+			else
+			{
+				assertTrue(1.0f <= array[i] && array[i] < 2.0f);
+			}
+		}
+	}
+
+	/**
+	 * Test method for {@link RandomFloatFactory#fillBetween(float[], float, float, RandomSource)}
+	 */
+	@Test
+	public void testFillBetweenRandomSource()
+	{
+		final float[] array = new float[1000];
+		RandomFloatFactory.fillBetween(array, 1.0f, 2.0f,
+			RandomSourceFactory.newXoshiro256StarStarSource(1L));
+		for (final float value : array)
+		{
+			assertTrue(1.0f <= value && value < 2.0f);
+		}
+	}
+
+	/**
+	 * Test method for {@link RandomFloatFactory#fill(float[], int, int, SecureRandom)}
+	 * with an invalid range
+	 */
+	@Test(expectedExceptions = IndexOutOfBoundsException.class)
+	public void testFillInvalidRange()
+	{
+		RandomFloatFactory.fill(new float[10], 5, 6, DefaultSecureRandom.get());
+	}
+
 	/**
 	 * Test method for {@link RandomFloatFactory} with {@link BeanTester}
 	 */
@@ -24,9 +24,11 @@
  */
 package io.github.astrapi69.random.number;
 
+import static org.testng.AssertJUnit.assertEquals;
 import static org.testng.AssertJUnit.assertTrue;
 
 import java.security.SecureRandom;
+import java.util.Arrays;
 import java.util.Map;
 
 import org.meanbean.test.BeanTester;
@@ -36,6 +38,8 @@ import io.github.astrapi69.collection.map.MapFactory;
 import io.github.astrapi69.math.MathExtensions;
 import io.github.astrapi69.random.DefaultSecureRandom;
 import io.github.astrapi69.random.enumeration.RandomAlgorithm;
+import io.github.astrapi69.random.source.RandomSource;
+import io.github.astrapi69.random.source.RandomSourceFactory;
 
 /**
  * The unit test class for the class {@link RandomIntFactory}
@@ -125,6 +129,28 @@ public class RandomIntFactoryTest
 		}
 	}
 
+	/**
+	 * Test method for {@link RandomIntFactory#randomInt(int, RandomSource)}
+	 */
+	@Test
+	public void testRandomIntIntRandomSource()
+	{
+		int random;
+		RandomSource randomSource = RandomSourceFactory.newXoshiro256StarStarSource();
+		for (int i = 0; i < 10; i++)
+		{
+			random = RandomIntFactory.randomInt(5, randomSource);
+			assertTrue("random result is " + random + " but should be between 0-4.",
+				MathExtensions.isBetween(-1, 5, random));
+		}
+		for (int i = 0; i < 100; i++)
+		{
+			final int randomIntBetween = RandomIntFactory.randomIntBetween(0, 10, true, true,
+				randomSource);
+			assertTrue(MathExtensions.isBetween(0, 10, randomIntBetween, true, true));
+		}
+	}
+
 	/**
 	 * Test method for {@link RandomIntFactory#randomInt(SecureRandom)}
 	 */
@@ -208,6 +234,26 @@ public class RandomIntFactoryTest
 		}
 	}
 
+	/**
+	 * Test method for {@link RandomIntFactory#randomInt(int, RandomAlgorithm, RandomSource)}
+	 * with seeded random sources
+	 */
+	@Test
+	public void testRandomIntRandomAlgorithmSeededRandomSource()
+	{
+		for (RandomAlgorithm algorithm : RandomAlgorithm.values())
+		{
+			RandomSource first = RandomSourceFactory.newXoshiro256StarStarSource(42L);
+			RandomSource second = RandomSourceFactory.newXoshiro256StarStarSource(42L);
+			for (int i = 0; i < 10; i++)
+			{
+				final int expected = RandomIntFactory.randomInt(100, algorithm, first);
+				assertEquals(algorithm.name(), expected,
+					RandomIntFactory.randomInt(100, algorithm, second));
+			}
+		}
+	}
+
 	/**
 	 * Test method for {@link RandomIntFactory#randomInt(int, RandomAlgorithm)}
 	 */
@@ -243,6 +289,137 @@ public class RandomIntFactoryTest
 		}
 	}
 
+	/**
+	 * Test method for {@link RandomIntFactory#nextBounded(long, java.util.random.RandomGenerator)}
+	 * with the edge ranges
+	 */
+	@Test
+	public void testNextBoundedEdgeRanges()
+	{
+		RandomSource randomSource = RandomSourceFactory.newXoshiro256StarStarSource(42L);
+		assertEquals(0L, RandomIntFactory.nextBounded(0, randomSource));
+		assertEquals(0L, RandomIntFactory.nextBounded(1, randomSource));
+		assertEquals(0L, RandomIntFactory.nextBounded(-1, randomSource));
+		for (int i = 0; i < 1000; i++)
+		{
+			long random = RandomIntFactory.nextBounded(-5, randomSource);
+			assertTrue(-5 < random && random <= 0);
+			random = RandomIntFactory.nextBounded(Integer.MIN_VALUE, randomSource);
+			assertTrue(Integer.MIN_VALUE < random && random <= 0);
+			random = RandomIntFactory.nextBounded(0x100000000L, randomSource);
+			assertTrue(0 <= random && random < 0x100000000L);
+			int randomInt = RandomIntFactory.randomInt(Integer.MAX_VALUE, RandomAlgorithm.MATH_ABS,
+				randomSource);
+			assertTrue(0 <= randomInt);
+		}
+	}
+
+	/**
+	 * Test method for {@link RandomIntFactory#randomInt(int, RandomSource)} that checks that every
+	 * value of a range that is not a power of two is drawn with the same frequency
+	 */
+	@Test
+	public void testRandomIntIsUniform()
+	{
+		final int range = 7;
+		final int iterations = 700000;
+		final int[] counts = new int[range];
+		RandomSource randomSource = RandomSourceFactory.newXoshiro256StarStarSource(7L);
+		for (int i = 0; i < iterations; i++)
+		{
+			counts[RandomIntFactory.randomInt(range, randomSource)]++;
+		}
+		double expected = (double)iterations / range;
+		double chiSquare = 0;
+		for (int count : counts)
+		{
+			chiSquare += (count - expected) * (count - expected) / expected;
+		}
+		// 22.46 is the critical value for six degrees of freedom with p = 0.001
+		assertTrue("chi square is " + chiSquare, chiSquare < 22.46);
+	}
+
+	/**
+	 * Test method for {@link RandomIntFactory#randomIntBetween(int, int, boolean, boolean,
+	 * RandomSource)} with the full int range
+	 */
+	@Test
+	public void testRandomIntBetweenFullRange()
+	{
+		RandomSource randomSource = RandomSourceFactory.newXoshiro256StarStarSource(3L);
+		boolean negative = false;
+		boolean positive = false;
+		for (int i = 0; i < 100; i++)
+		{
+			int random = RandomIntFactory.randomIntBetween(Integer.MIN_VALUE, Integer.MAX_VALUE,
+				true, true, randomSource);
+			negative |= random < 0;
+			positive |= random > 0;
+		}
+		assertTrue(negative && positive);
+		assertEquals(5, RandomIntFactory.randomIntBetween(5, 5, true, false, randomSource));
+		assertEquals(6, RandomIntFactory.randomIntBetween(5, 6, false, true, randomSource));
+	}
+
+	/**
+	 * Test method for {@link RandomIntFactory#fillBetween(int[], int, int, int, int, SecureRandom)}
+	 */
+	@Test
+	public void testFillBetweenSlice()
+	{
+		final int[] array = new int[1000];
+		Arrays.fill(array, Integer.MAX_VALUE);
+		RandomIntFactory.fillBetween(array, 10, 980, -50, 50, DefaultSecureRandom.get());
+		for (int i = 0; i < array.length; i++)
+		{
+			if (i < 10 || 990 <= i)
+			{
+				assertTrue(array[i] == Integer.MAX_VALUE);
+			}
+			else
+			{
+				assertTrue(-50 <= array[i] && array[i] < 50);
+			}
+		}
+	}
+
+	/**
+	 * Test method for {@link RandomIntFactory#fillBetween(int[], int, int, RandomSource)}
+	 */
+	@Test
+	public void testFillBetweenRandomSource()
+	{
+		final int[] array = new int[1000];
+		RandomIntFactory.fillBetween(array, -50, 50,
+			RandomSourceFactory.newXoshiro256StarStarSource(1L));
+		for (final int value : array)
+		{
+			assertTrue(-50 <= value && value < 50);
+		}
+	}
+
+	/**
+	 * Test method for {@link RandomIntFactory#fill(int[], int, int, SecureRandom)}
+	 * with an invalid range
+	 */
+	@Test(expectedExceptions = IndexOutOfBoundsException.class)
+	public void testFillInvalidRange()
+	{
+		RandomIntFactory.fill(new int[10], 5, 6, DefaultSecureRandom.get());
+	}
+
+	/**
+	 * Test method for {@link RandomIntFactory#ints(long, int, int)}
+	 */
+	@Test
+	public void testInts()
+	{
+		assertEquals(10_000L,
+			RandomIntFactory.ints(10_000L, 5, 10).parallel().filter(i -> 5 <= i && i < 10).count());
+		assertEquals(100L, RandomIntFactory.ints(100L).count());
+		assertEquals(50L, RandomIntFactory.ints(-3, 3).limit(50L).count());
+	}
+
 	/**
 	 * Test method for {@link RandomIntFactory} with {@link BeanTester}
 	 */
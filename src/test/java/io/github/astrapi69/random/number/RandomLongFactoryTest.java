@@ -24,9 +24,14 @@
  */
 package io.github.astrapi69.random.number;
 
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
 import static org.testng.AssertJUnit.assertTrue;
 
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
 import java.security.SecureRandom;
+import java.util.Arrays;
 
 import org.meanbean.test.BeanTester;
 import org.testng.annotations.Test;
@@ -34,6 +39,8 @@ import org.testng.annotations.Test;
 import io.github.astrapi69.math.MathExtensions;
 import io.github.astrapi69.random.DefaultSecureRandom;
 import io.github.astrapi69.random.enumeration.RandomAlgorithm;
+import io.github.astrapi69.random.source.RandomSource;
+import io.github.astrapi69.random.source.RandomSourceFactory;
 
 /**
  * The unit test class for the class {@link RandomLongFactory}
@@ -142,6 +149,26 @@ public class RandomLongFactoryTest
 		}
 	}
 
+	/**
+	 * Test method for {@link RandomLongFactory#randomLong(long, RandomAlgorithm, RandomSource)}
+	 * with seeded random sources
+	 */
+	@Test
+	public void testRandomLongRandomAlgorithmSeededRandomSource()
+	{
+		for (RandomAlgorithm algorithm : RandomAlgorithm.values())
+		{
+			RandomSource first = RandomSourceFactory.newXoshiro256StarStarSource(42L);
+			RandomSource second = RandomSourceFactory.newXoshiro256StarStarSource(42L);
+			for (int i = 0; i < 10; i++)
+			{
+				final long expected = RandomLongFactory.randomLong(100L, algorithm, first);
+				assertEquals(algorithm.name(), expected,
+					RandomLongFactory.randomLong(100L, algorithm, second));
+			}
+		}
+	}
+
 	/**
 	 * Test method for {@link RandomLongFactory#randomLong(long, RandomAlgorithm)}
 	 */
@@ -176,6 +203,110 @@ public class RandomLongFactoryTest
 		}
 	}
 
+	/**
+	 * Test method for {@link RandomLongFactory#fillBetween(long[], int, int,
+	 * long, long, SecureRandom)}
+	 */
+	@Test
+	public void testFillBetweenSlice()
+	{
+		final long[] array = new long[1000];
+		Arrays.fill(array, Long.MIN_VALUE);
+		RandomLongFactory.fillBetween(array, 10, 980, -50L, Long.MAX_VALUE,
+			DefaultSecureRandom.get());
+		for (int i = 0; i < array.length; i++)
+		{
+			if (i < 10 || 990 <= i)
+			{
+				assertTrue(array[i] == Long.MIN_VALUE);
+			}
+			else
+			{
+				assertTrue(-50L <= array[i] && array[i] < Long.MAX_VALUE);
+			}
+		}
+	}
+
+	/**
+	 * Test method for {@link RandomLongFactory#fillBetween(long[], long, long, RandomSource)}
+	 */
+	@Test
+	public void testFillBetweenRandomSource()
+	{
+		final long[] array = new long[1000];
+		RandomLongFactory.fillBetween(array, -50L, Long.MAX_VALUE,
+			RandomSourceFactory.newXoshiro256StarStarSource(1L));
+		for (final long value : array)
+		{
+			assertTrue(-50L <= value && value < Long.MAX_VALUE);
+		}
+	}
+
+	/**
+	 * Test method for {@link RandomLongFactory#fill(long[], int, int, SecureRandom)}
+	 * with an invalid range
+	 */
+	@Test(expectedExceptions = IndexOutOfBoundsException.class)
+	public void testFillInvalidRange()
+	{
+		RandomLongFactory.fill(new long[10], 5, 6, DefaultSecureRandom.get());
+	}
+
+	/**
+	 * Test method for {@link RandomLongFactory#fill(LongBuffer, SecureRandom)} and
+	 * {@link RandomLongFactory#fill(LongBuffer, RandomSource)}
+	 */
+	@Test
+	public void testFillLongBuffer()
+	{
+		final LongBuffer secureBuffer = ByteBuffer.allocateDirect(8 * 100).asLongBuffer();
+		final LongBuffer sourceBuffer = LongBuffer.allocate(100);
+		secureBuffer.position(1);
+		sourceBuffer.position(1);
+		RandomLongFactory.fill(secureBuffer, DefaultSecureRandom.get());
+		RandomLongFactory.fill(sourceBuffer, RandomSourceFactory.newXoshiro256StarStarSource(9L));
+		assertEquals(100, secureBuffer.position());
+		assertEquals(100, sourceBuffer.position());
+		assertEquals(0L, secureBuffer.get(0));
+		assertEquals(0L, sourceBuffer.get(0));
+		assertTrue(secureBuffer.get(99) != 0L && sourceBuffer.get(99) != 0L);
+	}
+
+	/**
+	 * Test method for {@link RandomLongFactory#parallelFillBetween(long[], long, long, long)}
+	 */
+	@Test
+	public void testParallelFillBetween()
+	{
+		final long[] array = new long[200_000];
+		final long[] other = new long[200_000];
+		RandomLongFactory.parallelFillBetween(array, -5L, 5L, 42L);
+		RandomLongFactory.parallelFillBetween(other, -5L, 5L, 42L);
+		assertTrue(Arrays.equals(array, other));
+		for (final long value : array)
+		{
+			assertTrue(-5L <= value && value < 5L);
+		}
+		RandomLongFactory.parallelFill(array, 42L);
+		RandomLongFactory.parallelFill(other, 43L);
+		assertFalse(Arrays.equals(array, other));
+	}
+
+	/**
+	 * Test method for {@link RandomLongFactory#longs(long, long, long, RandomSource)}
+	 */
+	@Test
+	public void testLongs()
+	{
+		final long[] expected = RandomLongFactory
+			.longs(1000L, -5L, 5L, RandomSourceFactory.newXoshiro256StarStarSource(1L)).toArray();
+		final long[] actual = RandomLongFactory
+			.longs(1000L, -5L, 5L, RandomSourceFactory.newXoshiro256StarStarSource(1L)).toArray();
+		assertTrue(Arrays.equals(expected, actual));
+		assertTrue(Arrays.stream(actual).allMatch(value -> -5L <= value && value < 5L));
+		assertEquals(10_000L, RandomLongFactory.longs(10_000L).parallel().count());
+	}
+
 	/**
 	 * Test method for {@link RandomLongFactory} with {@link BeanTester}
 	 */
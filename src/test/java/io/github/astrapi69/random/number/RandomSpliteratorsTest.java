@@ -0,0 +1,139 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.number;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertNotNull;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Spliterator;
+
+import org.testng.annotations.Test;
+
+import io.github.astrapi69.random.source.RandomSourceFactory;
+
+/**
+ * The unit test class for the class {@link RandomSpliterators}
+ */
+public class RandomSpliteratorsTest
+{
+
+	/**
+	 * Test method for {@link RandomSpliterators#ints(long, int, int,
+	 * io.github.astrapi69.random.source.RandomSource)}
+	 */
+	@Test
+	public void testIntsCharacteristics()
+	{
+		final Spliterator.OfInt spliterator = RandomSpliterators
+			.ints(1000L, 0, 10, RandomSourceFactory.newXoshiro256StarStarSource(1L)).spliterator();
+		assertTrue(spliterator.hasCharacteristics(Spliterator.SIZED));
+		assertTrue(spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+		assertEquals(1000L, spliterator.getExactSizeIfKnown());
+		final Spliterator.OfInt prefix = spliterator.trySplit();
+		assertNotNull(prefix);
+		assertEquals(500L, prefix.estimateSize());
+		assertEquals(500L, spliterator.estimateSize());
+	}
+
+	/**
+	 * Test method for {@link RandomSpliterators#longs(long,
+	 * io.github.astrapi69.random.source.RandomSource)} with a parallel stream
+	 */
+	@Test
+	public void testLongsParallel()
+	{
+		assertEquals(100_000L, RandomSpliterators
+			.longs(100_000L, RandomSourceFactory.newSplittableRandomSource(3L)).parallel().count());
+		assertEquals(100_000L,
+			RandomSpliterators.longs(100_000L, 5L, 9L, RandomSourceFactory.newSecureRandomSource())
+				.parallel().filter(value -> 5L <= value && value < 9L).count());
+	}
+
+	/**
+	 * Test method for {@link RandomSpliterators#ints(long,
+	 * io.github.astrapi69.random.source.RandomSource)} with an unlimited stream, that the secure
+	 * random is read in blocks
+	 */
+	@Test
+	public void testIntsUnlimitedBuffered()
+	{
+		final int[] calls = new int[1];
+		final SecureRandom secureRandom = new SecureRandom()
+		{
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			public void nextBytes(final byte[] bytes)
+			{
+				calls[0]++;
+				super.nextBytes(bytes);
+			}
+		};
+		final int[] values = RandomSpliterators
+			.ints(Long.MAX_VALUE, RandomSourceFactory.newSecureRandomSource(secureRandom))
+			.limit(1000L).toArray();
+		assertEquals(1000, values.length);
+		assertTrue(calls[0] <= 2);
+	}
+
+	/**
+	 * Test method for {@link RandomSpliterators#doubles(long, double, double,
+	 * io.github.astrapi69.random.source.RandomSource)} with a seeded source
+	 */
+	@Test
+	public void testDoublesReproducible()
+	{
+		final double[] expected = RandomSpliterators
+			.doubles(1000L, -1d, 1d, RandomSourceFactory.newReproducibleRandomSource(7L)).toArray();
+		final double[] actual = RandomSpliterators
+			.doubles(1000L, -1d, 1d, RandomSourceFactory.newReproducibleRandomSource(7L)).toArray();
+		assertTrue(Arrays.equals(expected, actual));
+		assertTrue(Arrays.stream(actual).allMatch(value -> -1d <= value && value < 1d));
+	}
+
+	/**
+	 * Test method for {@link RandomSpliterators#ints(long, int, int,
+	 * io.github.astrapi69.random.source.RandomSource)} with a negative stream size
+	 */
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testIntsNegativeSize()
+	{
+		RandomSpliterators.ints(-1L, 0, 10, RandomSourceFactory.newSplittableRandomSource());
+	}
+
+	/**
+	 * Test method for {@link RandomSpliterators#doubles(long, double, double,
+	 * io.github.astrapi69.random.source.RandomSource)} with an invalid range
+	 */
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testDoublesInvalidRange()
+	{
+		RandomSpliterators.doubles(10L, 1d, 1d, RandomSourceFactory.newSplittableRandomSource());
+	}
+
+}
@@ -0,0 +1,120 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.number;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.Arrays;
+
+import org.testng.annotations.Test;
+
+import io.github.astrapi69.random.number.spi.UniformConverter;
+import io.github.astrapi69.random.source.RandomSource;
+import io.github.astrapi69.random.source.RandomSourceFactory;
+
+/**
+ * The unit test class for the class {@link UniformConverters}
+ */
+public class UniformConvertersTest
+{
+
+	/**
+	 * Test method for {@link UniformConverters#fill(double[], int, int, double, double,
+	 * java.util.random.RandomGenerator)} against the sequential scalar generation
+	 */
+	@Test
+	public void testFillDoubles()
+	{
+		final double[] actual = new double[2 * UniformConverters.BLOCK_SIZE + 3];
+		UniformConverters.fill(actual, 1, actual.length - 2, -5d, 10d,
+			RandomSourceFactory.newXoshiro256StarStarSource(7L));
+		final RandomSource randomSource = RandomSourceFactory.newXoshiro256StarStarSource(7L);
+		assertEquals(0d, actual[0], 0d);
+		for (int i = 1; i < actual.length - 1; i++)
+		{
+			assertEquals(-5d + randomSource.nextDouble() * 10d, actual[i], 0d);
+		}
+		assertEquals(0d, actual[actual.length - 1], 0d);
+	}
+
+	/**
+	 * Test method for {@link UniformConverters#fill(float[], int, int, float, float,
+	 * java.util.random.RandomGenerator)} against the sequential scalar generation
+	 */
+	@Test
+	public void testFillFloats()
+	{
+		final float[] actual = new float[UniformConverters.BLOCK_SIZE + 5];
+		UniformConverters.fill(actual, 0, actual.length, 2f, 3f,
+			RandomSourceFactory.newL64X128MixRandomSource(7L));
+		final RandomSource randomSource = RandomSourceFactory.newL64X128MixRandomSource(7L);
+		for (final float value : actual)
+		{
+			assertEquals(2f + randomSource.nextFloat() * 3f, value, 0f);
+		}
+	}
+
+	/**
+	 * Test method for the vectorized converter against the scalar converter, the test is skipped
+	 * if the vectorized converter is not available
+	 */
+	@Test
+	public void testVectorEqualsScalar()
+	{
+		final UniformConverter vector = UniformConverters.vector();
+		if (vector == null)
+		{
+			return;
+		}
+		final RandomSource randomSource = RandomSourceFactory.newSplittableRandomSource(3L);
+		for (final int count : new int[] { 0, 1, 7, 64, 1021 })
+		{
+			final long[] longWords = new long[count + 3];
+			final int[] intWords = new int[count + 3];
+			for (int i = 0; i < longWords.length; i++)
+			{
+				longWords[i] = randomSource.nextLong();
+				intWords[i] = (int)longWords[i];
+			}
+			if (0 < count)
+			{
+				longWords[0] = -1L;
+				intWords[0] = -1;
+			}
+			final double[] expectedDoubles = new double[count + 2];
+			final double[] actualDoubles = new double[count + 2];
+			UniformConverters.scalar().toDoubles(longWords, count, -1d, 2d, expectedDoubles, 1);
+			vector.toDoubles(longWords, count, -1d, 2d, actualDoubles, 1);
+			assertTrue(Arrays.equals(expectedDoubles, actualDoubles));
+			final float[] expectedFloats = new float[count + 2];
+			final float[] actualFloats = new float[count + 2];
+			UniformConverters.scalar().toFloats(intWords, count, 10f, 0.5f, expectedFloats, 1);
+			vector.toFloats(intWords, count, 10f, 0.5f, actualFloats, 1);
+			assertTrue(Arrays.equals(expectedFloats, actualFloats));
+		}
+	}
+
+}
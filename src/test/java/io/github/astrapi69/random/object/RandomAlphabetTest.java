@@ -0,0 +1,162 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.object;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertSame;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.security.SecureRandom;
+import java.util.SplittableRandom;
+
+import org.testng.annotations.Test;
+
+import io.github.astrapi69.random.RandomCharacters;
+import io.github.astrapi69.random.source.RandomSourceFactory;
+
+/**
+ * The unit test class for the class {@link RandomAlphabet}
+ */
+public class RandomAlphabetTest
+{
+
+	/**
+	 * Test method for {@link RandomAlphabet#of(String)}
+	 */
+	@Test
+	public void testOf()
+	{
+		for (final RandomCharacters randomCharacters : RandomCharacters.values())
+		{
+			assertSame(RandomAlphabet.of(randomCharacters.getCharacters()),
+				RandomAlphabet.of(new String(randomCharacters.getCharacters())));
+		}
+		assertTrue(RandomAlphabet.of("abc").isLatin1());
+		assertTrue(RandomAlphabet.of("°§µ²³ÿ").isLatin1());
+		assertFalse(RandomAlphabet.of(RandomCharacters.OTHER_SPECIALCHARS).isLatin1());
+		assertFalse(RandomAlphabet.of("ab€").isLatin1());
+		assertEquals(3, RandomAlphabet.of("ab€").size());
+	}
+
+	/**
+	 * Test method for {@link RandomAlphabet#newString(int, java.util.random.RandomGenerator)}
+	 * that every char is equally likely for alphabets of every size
+	 */
+	@Test
+	public void testNewStringIsUniform()
+	{
+		final SplittableRandom random = new SplittableRandom(1L);
+		final String latin1 = RandomCharacters.lowcaseWithUppercaseAndNumbersAndSpecial
+			.getCharacters();
+		for (final String chars : new String[] { "ab", "abc", latin1, "αβγδε", "a€" })
+		{
+			final int length = 20_000 * chars.length();
+			final String value = RandomAlphabet.of(chars).newString(length, random);
+			assertEquals(length, value.length());
+			final int[] histogram = new int[chars.length()];
+			for (int i = 0; i < length; i++)
+			{
+				final int index = chars.indexOf(value.charAt(i));
+				assertTrue(0 <= index);
+				histogram[index]++;
+			}
+			for (final int count : histogram)
+			{
+				assertEquals(20_000, count, 800);
+			}
+		}
+	}
+
+	/**
+	 * Test method for {@link RandomAlphabet#newString(int, java.util.random.RandomGenerator)}
+	 * with a {@link SecureRandom} that is read in blocks
+	 */
+	@Test
+	public void testNewStringSecureRandom()
+	{
+		final RandomAlphabet alphabet = RandomAlphabet
+			.of(RandomCharacters.lowcaseWithNumbers.getCharacters());
+		final String value = alphabet.newString(200_000, new SecureRandom());
+		assertEquals(200_000, value.length());
+		assertTrue(value.chars().allMatch(c -> Character.isLowerCase(c) || Character.isDigit(c)));
+		assertEquals(36, value.chars().distinct().count());
+		final String other = alphabet.newString(10,
+			RandomSourceFactory.newSecureRandomSource());
+		assertEquals(10, other.length());
+	}
+
+	/**
+	 * Test method for {@link RandomAlphabet#newString(int, java.util.random.RandomGenerator)}
+	 * with a seeded engine, an alphabet of one char and an empty length
+	 */
+	@Test
+	public void testNewStringEdgeCases()
+	{
+		assertEquals(RandomAlphabet.of("xyz").newString(50, new SplittableRandom(7L)),
+			RandomAlphabet.of("xyz").newString(50, new SplittableRandom(7L)));
+		assertEquals("aaaa", RandomAlphabet.of("a").newString(4, new SplittableRandom()));
+		assertEquals("€€", RandomAlphabet.of("€").newString(2, new SplittableRandom()));
+		assertEquals("", RandomAlphabet.of("ab").newString(0, new SplittableRandom()));
+	}
+
+	/**
+	 * Test method for {@link RandomAlphabet#of(String)} with more alphabets than are cached
+	 */
+	@Test
+	public void testOfUncached()
+	{
+		for (int i = 0; i < 100; i++)
+		{
+			RandomAlphabet.of("uncached" + i);
+		}
+		final String chars = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ!";
+		final RandomAlphabet alphabet = RandomAlphabet.of(chars);
+		assertFalse(alphabet == RandomAlphabet.of(chars));
+		final int length = 20_000 * chars.length();
+		final String value = alphabet.newString(length, new SplittableRandom(3L));
+		final int[] histogram = new int[chars.length()];
+		for (int i = 0; i < length; i++)
+		{
+			final int index = chars.indexOf(value.charAt(i));
+			assertTrue(0 <= index);
+			histogram[index]++;
+		}
+		for (final int count : histogram)
+		{
+			assertEquals(20_000, count, 800);
+		}
+	}
+
+	/**
+	 * Test method for {@link RandomAlphabet#of(String)} with empty chars
+	 */
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testOfEmpty()
+	{
+		RandomAlphabet.of("");
+	}
+
+}
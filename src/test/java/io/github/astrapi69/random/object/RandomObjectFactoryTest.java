@@ -47,6 +47,8 @@ import org.testng.annotations.Test;
 import io.github.astrapi69.collection.list.ListFactory;
 import io.github.astrapi69.math.MathExtensions;
 import io.github.astrapi69.random.enumeration.RandomAlgorithm;
+import io.github.astrapi69.random.source.RandomSource;
+import io.github.astrapi69.random.source.RandomSourceFactory;
 import io.github.astrapi69.test.object.Employee;
 import io.github.astrapi69.test.object.EmployeeList;
 import io.github.astrapi69.test.object.Person;
@@ -459,6 +461,32 @@ public class RandomObjectFactoryTest
 		assertNotNull(person);
 	}
 
+	/**
+	 * Test method for {@link RandomObjectFactory#newRandomObject(Class, RandomSource, String...)}
+	 *
+	 * @throws IllegalAccessException
+	 *             is thrown if the class or its default constructor is not accessible.
+	 * @throws InstantiationException
+	 *             is thrown if this {@code Class} represents an abstract class, an interface, an
+	 *             array class, a primitive type, or void; or if the class has no default
+	 *             constructor; or if the instantiation fails for some other reason.
+	 * @throws NoSuchFieldException
+	 *             is thrown if no such field exists
+	 */
+	@Test
+	public void testNewRandomObjectWithRandomSource()
+		throws IllegalAccessException, InstantiationException, NoSuchFieldException
+	{
+		RandomSource randomSource = RandomSourceFactory.newSplittableRandomSource();
+		Person person = RandomObjectFactory.newRandomObject(Person.class, randomSource,
+			"$jacocoData");
+		assertNotNull(person);
+		Person person2 = RandomObjectFactory.newRandomObject(Person.class, randomSource,
+			"$jacocoData");
+		assertNotNull(person2);
+		assertNotEquals(person, person2);
+	}
+
 	/**
 	 * Test method for {@link RandomObjectFactory} with {@link BeanTester}
 	 */
@@ -28,7 +28,19 @@ import static org.testng.AssertJUnit.assertEquals;
 import static org.testng.AssertJUnit.assertNotNull;
 import static org.testng.AssertJUnit.assertTrue;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
 import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
 import java.util.List;
 
@@ -37,6 +49,8 @@ import org.testng.annotations.Test;
 
 import io.github.astrapi69.math.MathExtensions;
 import io.github.astrapi69.random.RandomCharacters;
+import io.github.astrapi69.random.source.RandomSource;
+import io.github.astrapi69.random.source.RandomSourceFactory;
 
 public class RandomStringFactoryTest
 {
@@ -149,6 +163,127 @@ public class RandomStringFactoryTest
 		}
 	}
 
+	/**
+	 * Test method for {@link RandomStringFactory#newRandomStrings(int, String, int, long)}
+	 */
+	@Test
+	public void testNewRandomStrings()
+	{
+		final String chars = RandomCharacters.lowcase.getCharacters();
+		final List<String> strings = RandomStringFactory.newRandomStrings(10_000, chars, 8, 42L);
+		assertEquals(10_000, strings.size());
+		assertEquals(strings, RandomStringFactory.newRandomStrings(10_000, chars, 8, 42L));
+		for (final String string : strings)
+		{
+			assertEquals(8, string.length());
+			assertTrue(string.chars().allMatch(c -> chars.indexOf(c) != -1));
+		}
+		final String[] array = new String[10_000];
+		RandomStringFactory.parallelFill(array, chars, 8);
+		assertNotNull(array[9_999]);
+	}
+
+	/**
+	 * Test method for {@link RandomStringFactory#writeRandomLongString(Appendable, String, long,
+	 * RandomSource)}
+	 */
+	@Test
+	public void testWriteRandomLongStringToAppendable() throws IOException
+	{
+		final String chars = RandomCharacters.lowcaseWithUppercaseAndNumbers.getCharacters();
+		final StringWriter writer = new StringWriter();
+		RandomStringFactory.writeRandomLongString(writer, chars, 5000,
+			RandomSourceFactory.newXoshiro256StarStarSource(1L));
+		assertEquals(RandomStringFactory.newRandomLongString(chars, 5000,
+			RandomSourceFactory.newXoshiro256StarStarSource(1L)), writer.toString());
+		final StringBuilder sb = new StringBuilder();
+		RandomStringFactory.writeRandomLongString(sb, chars, 100_000);
+		assertEquals(100_000, sb.length());
+		assertTrue(sb.chars().allMatch(c -> chars.indexOf(c) != -1));
+	}
+
+	/**
+	 * Test method for {@link RandomStringFactory#writeRandomLongString(OutputStream, String, long,
+	 * Charset)}
+	 */
+	@Test
+	public void testWriteRandomLongStringToOutputStream() throws IOException
+	{
+		final ByteArrayOutputStream ascii = new ByteArrayOutputStream();
+		RandomStringFactory.writeRandomLongString(ascii, RandomCharacters.numbers.getCharacters(),
+			50_000, StandardCharsets.UTF_8);
+		assertEquals(50_000, ascii.size());
+		assertTrue(ascii.toString(StandardCharsets.UTF_8).chars().allMatch(Character::isDigit));
+		final String greek = "αβγδεζηθικλμνξοπρστυφχψω";
+		final ByteArrayOutputStream utf8 = new ByteArrayOutputStream();
+		RandomStringFactory.writeRandomLongString(utf8, greek, 50_000, StandardCharsets.UTF_8,
+			RandomSourceFactory.newSplittableRandomSource(2L));
+		assertEquals(100_000, utf8.size());
+		final String text = utf8.toString(StandardCharsets.UTF_8);
+		assertEquals(50_000, text.length());
+		assertTrue(text.chars().allMatch(c -> greek.indexOf(c) != -1));
+	}
+
+	/**
+	 * Test method for {@link RandomStringFactory#writeRandomLongString(Appendable,
+	 * RandomCharacters, long, RandomSource)} and
+	 * {@link RandomStringFactory#writeRandomLongString(OutputStream, RandomCharacters, long,
+	 * Charset)}
+	 */
+	@Test
+	public void testWriteRandomLongStringWithRandomCharacters() throws IOException
+	{
+		final RandomCharacters randomCharacters = RandomCharacters.lowcaseWithNumbers;
+		final StringBuilder sb = new StringBuilder();
+		RandomStringFactory.writeRandomLongString(sb, randomCharacters, 5000,
+			RandomSourceFactory.newXoshiro256StarStarSource(1L));
+		assertEquals(RandomStringFactory.newRandomLongString(randomCharacters.getCharacters(),
+			5000, RandomSourceFactory.newXoshiro256StarStarSource(1L)), sb.toString());
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		RandomStringFactory.writeRandomLongString(out, randomCharacters, 50_000,
+			StandardCharsets.UTF_8);
+		assertEquals(50_000, out.size());
+		assertTrue(out.toString(StandardCharsets.UTF_8).chars()
+			.allMatch(c -> randomCharacters.getCharacters().indexOf(c) != -1));
+	}
+
+	/**
+	 * Test method for {@link RandomStringFactory#writeRandomLongString(OutputStream, String, long,
+	 * Charset)} with chars that the charset can not encode
+	 */
+	@Test(expectedExceptions = CharacterCodingException.class)
+	public void testWriteRandomLongStringUnmappable() throws IOException
+	{
+		RandomStringFactory.writeRandomLongString(new ByteArrayOutputStream(), "a€", 100,
+			StandardCharsets.US_ASCII);
+	}
+
+	/**
+	 * Test method for {@link RandomStringFactory#writeRandomLongString(WritableByteChannel,
+	 * String, long, Charset)}
+	 */
+	@Test
+	public void testWriteRandomLongStringToChannel() throws IOException
+	{
+		final Path file = Files.createTempFile("random", ".txt");
+		try
+		{
+			try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE))
+			{
+				RandomStringFactory.writeRandomLongString(channel,
+					RandomCharacters.lowcase.getCharacters(), 3 * 8192 + 17,
+					StandardCharsets.ISO_8859_1);
+			}
+			final String text = Files.readString(file, StandardCharsets.ISO_8859_1);
+			assertEquals(3 * 8192 + 17, text.length());
+			assertTrue(text.chars().allMatch(Character::isLowerCase));
+		}
+		finally
+		{
+			Files.delete(file);
+		}
+	}
+
 	/**
 	 * Test method for {@link RandomStringFactory} with {@link BeanTester}
 	 */
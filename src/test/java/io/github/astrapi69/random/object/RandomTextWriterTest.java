@@ -0,0 +1,129 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.object;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+import org.testng.annotations.Test;
+
+/**
+ * The unit test class for the class {@link RandomTextWriter}
+ */
+public class RandomTextWriterTest
+{
+
+	/**
+	 * Test method for {@link RandomTextWriter#write(RandomTextWriter.ByteSink, RandomAlphabet,
+	 * long, java.nio.charset.Charset, java.util.random.RandomGenerator)} with a charset that
+	 * writes a byte order mark and several buffers
+	 */
+	@Test
+	public void testWriteWithEncoder() throws IOException
+	{
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		final int[] calls = new int[1];
+		final long length = 5L * RandomTextWriter.BUFFER_SIZE + 3;
+		RandomTextWriter.write((bytes, count) -> {
+			calls[0]++;
+			out.write(bytes, 0, count);
+		}, RandomAlphabet.of("abc€"), length, StandardCharsets.UTF_16, new SplittableRandom(3L));
+		assertEquals(2 + 2 * length, out.size());
+		final String text = out.toString(StandardCharsets.UTF_16);
+		assertEquals(length, text.length());
+		assertTrue(text.chars().allMatch(c -> "abc€".indexOf(c) != -1));
+		assertTrue(6 <= calls[0]);
+	}
+
+	/**
+	 * Test method for {@link RandomTextWriter#write(RandomTextWriter.ByteSink, RandomAlphabet,
+	 * long, java.nio.charset.Charset, java.util.random.RandomGenerator)} with surrogate pairs
+	 * that are split at the end of the buffer
+	 */
+	@Test
+	public void testWriteWithSplitSurrogatePairs() throws IOException
+	{
+		final String emoji = "\uD83D\uDE00";
+		// the indexes of 'a' followed by high and low surrogates, so the first buffer ends with a
+		// high surrogate whose low surrogate is the only char of the second buffer
+		final RandomGenerator generator = new RandomGenerator()
+		{
+			private long index;
+
+			@Override
+			public long nextLong()
+			{
+				long word = 0L;
+				for (int i = 0; i < Long.SIZE / 2; i++, index++)
+				{
+					final long value = index == 0 ? 0 : index % 2 == 1 ? 1 : 2;
+					word |= value << (2 * i);
+				}
+				return word;
+			}
+		};
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		final long length = RandomTextWriter.BUFFER_SIZE + 1;
+		RandomTextWriter.write((bytes, count) -> out.write(bytes, 0, count),
+			RandomAlphabet.of("a" + emoji + "x"), length, StandardCharsets.UTF_8, generator);
+		assertEquals("a" + emoji.repeat(RandomTextWriter.BUFFER_SIZE / 2),
+			out.toString(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Test method for {@link RandomTextWriter#write(Appendable, RandomAlphabet, long,
+	 * java.util.random.RandomGenerator)} with an alphabet of one char and an empty length
+	 */
+	@Test
+	public void testWriteEdgeCases() throws IOException
+	{
+		final StringBuilder sb = new StringBuilder();
+		RandomTextWriter.write(sb, RandomAlphabet.of("x"), 3, new SplittableRandom());
+		RandomTextWriter.write(sb, RandomAlphabet.of("y"), 0, new SplittableRandom());
+		assertEquals("xxx", sb.toString());
+		final ByteArrayOutputStream out = new ByteArrayOutputStream();
+		RandomTextWriter.write((bytes, count) -> out.write(bytes, 0, count),
+			RandomAlphabet.of("é"), 2, StandardCharsets.UTF_8, new SplittableRandom());
+		assertEquals("éé", out.toString(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Test method for {@link RandomTextWriter#write(Appendable, RandomAlphabet, long,
+	 * java.util.random.RandomGenerator)} with a negative length
+	 */
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testWriteNegativeLength() throws IOException
+	{
+		RandomTextWriter.write(new StringBuilder(), RandomAlphabet.of("ab"), -1,
+			new SplittableRandom());
+	}
+
+}
@@ -0,0 +1,159 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.permutation;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.BitSet;
+import java.util.PrimitiveIterator;
+
+import org.testng.annotations.Test;
+
+import io.github.astrapi69.random.SecureRandomBean;
+
+/**
+ * The unit test class for the class {@link RandomPermutation}
+ */
+public class RandomPermutationTest
+{
+
+	/**
+	 * Test method for {@link RandomPermutation#permute(long)} for many sizes
+	 */
+	@Test
+	public void testPermuteIsBijection()
+	{
+		for (int size = 1; size <= 300; size++)
+		{
+			final RandomPermutation permutation = RandomPermutation.of(size, size);
+			final BitSet seen = new BitSet(size);
+			for (int index = 0; index < size; index++)
+			{
+				final long value = permutation.permute(index);
+				assertTrue(0 <= value && value < size);
+				assertFalse(seen.get((int)value));
+				seen.set((int)value);
+				assertEquals(index, permutation.inverse(value));
+			}
+		}
+	}
+
+	/**
+	 * Test method for {@link RandomPermutation#iterator()}
+	 */
+	@Test
+	public void testIterator()
+	{
+		final int size = 100_000;
+		final RandomPermutation permutation = RandomPermutation.of(size, 7L);
+		final BitSet seen = new BitSet(size);
+		final PrimitiveIterator.OfLong iterator = permutation.iterator();
+		int count = 0;
+		int fixedPoints = 0;
+		while (iterator.hasNext())
+		{
+			final long value = iterator.nextLong();
+			if (value == count)
+			{
+				fixedPoints++;
+			}
+			seen.set((int)value);
+			count++;
+		}
+		assertEquals(size, count);
+		assertEquals(size, seen.cardinality());
+		assertTrue(fixedPoints < 20);
+		assertEquals(size, permutation.stream().parallel().distinct().count());
+	}
+
+	/**
+	 * Test method for {@link RandomPermutation#permute(long)} with a huge size
+	 */
+	@Test
+	public void testPermuteHugeSize()
+	{
+		final long size = 1_000_000_000_000L;
+		final RandomPermutation permutation = RandomPermutation.of(size, 11L);
+		for (long index = size - 1000; index < size; index++)
+		{
+			final long value = permutation.permute(index);
+			assertTrue(0 <= value && value < size);
+			assertEquals(index, permutation.inverse(value));
+		}
+		final RandomPermutation largest = RandomPermutation.of(Long.MAX_VALUE, 13L);
+		final long value = largest.permute(Long.MAX_VALUE - 1);
+		assertTrue(0 <= value);
+		assertEquals(Long.MAX_VALUE - 1, largest.inverse(value));
+	}
+
+	/**
+	 * Test method for {@link RandomPermutation#of(long, long)} and
+	 * {@link RandomPermutation#of(long, SecureRandomBean)}
+	 */
+	@Test
+	public void testSeeding()
+	{
+		final RandomPermutation first = RandomPermutation.of(1000, 42L);
+		final RandomPermutation second = RandomPermutation.of(1000, 42L);
+		final RandomPermutation other = RandomPermutation.of(1000, 43L);
+		boolean differs = false;
+		for (int index = 0; index < 1000; index++)
+		{
+			assertEquals(first.permute(index), second.permute(index));
+			differs |= first.permute(index) != other.permute(index);
+		}
+		assertTrue(differs);
+		final SecureRandomBean secureRandomBean = SecureRandomBean.builder()
+			.algorithm(SecureRandomBean.DEFAULT_ALGORITHM)
+			.provider(SecureRandomBean.DEFAULT_PROVIDER).seed(42L).build();
+		final RandomPermutation beanFirst = RandomPermutation.of(1000, secureRandomBean);
+		final RandomPermutation beanSecond = RandomPermutation.of(1000, secureRandomBean);
+		for (int index = 0; index < 1000; index++)
+		{
+			assertEquals(beanFirst.permute(index), beanSecond.permute(index));
+		}
+	}
+
+	/**
+	 * Test method for {@link RandomPermutation#permute(long)} with an index out of the range
+	 */
+	@Test(expectedExceptions = IndexOutOfBoundsException.class)
+	public void testPermuteOutOfRange()
+	{
+		RandomPermutation.of(10).permute(10);
+	}
+
+	/**
+	 * Test method for {@link RandomPermutation#of(long)} with a negative size
+	 */
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testOfNegativeSize()
+	{
+		RandomPermutation.of(-1);
+	}
+
+}
@@ -0,0 +1,154 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.permutation;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import org.testng.annotations.Test;
+
+import io.github.astrapi69.random.source.RandomSourceFactory;
+
+/**
+ * The unit test class for the class {@link RandomShuffleExtensions}
+ */
+public class RandomShuffleExtensionsTest
+{
+
+	/**
+	 * Test method for {@link RandomShuffleExtensions#shuffle(int[],
+	 * java.util.random.RandomGenerator)}
+	 */
+	@Test
+	public void testShuffleIntArrayIsUniform()
+	{
+		final SplittableRandom random = new SplittableRandom(1L);
+		final Map<String, Integer> permutations = new HashMap<>();
+		final int trials = 60_000;
+		for (int trial = 0; trial < trials; trial++)
+		{
+			final int[] array = { 1, 2, 3 };
+			RandomShuffleExtensions.shuffle(array, random);
+			permutations.merge(Arrays.toString(array), 1, Integer::sum);
+		}
+		assertEquals(6, permutations.size());
+		for (final int count : permutations.values())
+		{
+			assertEquals(1.0 / 6.0, (double)count / trials, 0.01);
+		}
+	}
+
+	/**
+	 * Test method for {@link RandomShuffleExtensions#shuffle(long[])} and
+	 * {@link RandomShuffleExtensions#shuffle(char[])}
+	 */
+	@Test
+	public void testShufflePrimitiveArrays()
+	{
+		final long[] longs = new long[1000];
+		Arrays.setAll(longs, i -> i);
+		RandomShuffleExtensions.shuffle(longs);
+		final long[] sortedLongs = longs.clone();
+		Arrays.sort(sortedLongs);
+		assertFalse(Arrays.equals(sortedLongs, longs));
+		for (int i = 0; i < sortedLongs.length; i++)
+		{
+			assertEquals(i, sortedLongs[i]);
+		}
+		final char[] chars = "abcdefghijklmnopqrstuvwxyz".toCharArray();
+		RandomShuffleExtensions.shuffle(chars,
+			RandomSourceFactory.newXoshiro256StarStarSource(2L));
+		final char[] sortedChars = chars.clone();
+		Arrays.sort(sortedChars);
+		assertEquals("abcdefghijklmnopqrstuvwxyz", new String(sortedChars));
+	}
+
+	/**
+	 * Test method for {@link RandomShuffleExtensions#partialShuffle(Object[], int,
+	 * java.util.random.RandomGenerator)}
+	 */
+	@Test
+	public void testPartialShuffle()
+	{
+		final SplittableRandom random = new SplittableRandom(3L);
+		final int trials = 50_000;
+		final int[] histogram = new int[10];
+		for (int trial = 0; trial < trials; trial++)
+		{
+			final Integer[] array = { 0, 1, 2, 3, 4, 5, 6, 7, 8, 9 };
+			RandomShuffleExtensions.partialShuffle(array, 3, random);
+			assertEquals(3, Arrays.stream(array, 0, 3).distinct().count());
+			for (int i = 0; i < 3; i++)
+			{
+				histogram[array[i]]++;
+			}
+		}
+		for (final int count : histogram)
+		{
+			assertEquals(0.3, (double)count / trials, 0.01);
+		}
+	}
+
+	/**
+	 * Test method for {@link RandomShuffleExtensions#shuffle(List,
+	 * java.util.random.RandomGenerator)} with a random access list and a linked list
+	 */
+	@Test
+	public void testShuffleList()
+	{
+		final List<Integer> expected = new ArrayList<>();
+		for (int i = 0; i < 100; i++)
+		{
+			expected.add(i);
+		}
+		final List<Integer> arrayList = new ArrayList<>(expected);
+		final List<Integer> linkedList = new LinkedList<>(expected);
+		RandomShuffleExtensions.shuffle(arrayList, new SplittableRandom(4L));
+		RandomShuffleExtensions.shuffle(linkedList, new SplittableRandom(4L));
+		assertEquals(arrayList, linkedList);
+		assertFalse(expected.equals(arrayList));
+		assertTrue(arrayList.containsAll(expected));
+	}
+
+	/**
+	 * Test method for {@link RandomShuffleExtensions#partialShuffle(int[], int)} with an invalid
+	 * sample size
+	 */
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testPartialShuffleInvalidSize()
+	{
+		RandomShuffleExtensions.partialShuffle(new int[3], 4);
+	}
+
+}
@@ -0,0 +1,119 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.source;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertSame;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.security.SecureRandom;
+import java.util.concurrent.CountDownLatch;
+
+import org.testng.annotations.Test;
+
+import io.github.astrapi69.random.SecureRandomBuilder;
+
+/**
+ * The unit test class for the class {@link AsyncSeededSecureRandom}
+ */
+public class AsyncSeededSecureRandomTest
+{
+
+	/**
+	 * Test method for {@link AsyncSeededSecureRandom} before and after the decorated secure random
+	 * is ready
+	 *
+	 * @throws InterruptedException
+	 *             if the current thread was interrupted while waiting
+	 */
+	@Test
+	public void testServeBeforeAndAfterSeeding() throws InterruptedException
+	{
+		final CountDownLatch latch = new CountDownLatch(1);
+		final SecureRandom decorated = SecureRandomBuilder.getInstance().seed(42L).build();
+		final AsyncSeededSecureRandom asyncSeededSecureRandom = new AsyncSeededSecureRandom(() -> {
+			try
+			{
+				latch.await();
+			}
+			catch (final InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+			}
+			return decorated;
+		});
+		assertFalse(asyncSeededSecureRandom.isSeeded());
+		final int value = asyncSeededSecureRandom.nextInt(10);
+		assertTrue(0 <= value && value < 10);
+		asyncSeededSecureRandom.nextBytes(new byte[16]);
+		latch.countDown();
+		assertSame(decorated, asyncSeededSecureRandom.awaitSecureRandom());
+		assertTrue(asyncSeededSecureRandom.isSeeded());
+		assertEquals(decorated.getAlgorithm(), asyncSeededSecureRandom.getAlgorithm());
+		final SecureRandom expected = SecureRandomBuilder.getInstance().seed(42L).build();
+		for (int i = 0; i < 100; i++)
+		{
+			assertEquals(expected.nextLong(), asyncSeededSecureRandom.nextLong());
+		}
+	}
+
+	/**
+	 * Test method for {@link AsyncSeededSecureRandom#awaitSecureRandom()} with a factory that fails
+	 * to create the decorated secure random
+	 */
+	@Test(expectedExceptions = IllegalStateException.class)
+	public void testAwaitSecureRandomSeedingFailed()
+	{
+		new AsyncSeededSecureRandom(() -> {
+			throw new IllegalArgumentException("no such provider");
+		}).awaitSecureRandom();
+	}
+
+	/**
+	 * Test method for {@link AsyncSeededSecureRandom#nextInt()} after the factory failed to create
+	 * the decorated secure random
+	 */
+	@Test(expectedExceptions = IllegalStateException.class)
+	public void testNextIntSeedingFailed()
+	{
+		final IllegalArgumentException failure = new IllegalArgumentException("no such provider");
+		final AsyncSeededSecureRandom asyncSeededSecureRandom = new AsyncSeededSecureRandom(() -> {
+			throw failure;
+		});
+		try
+		{
+			asyncSeededSecureRandom.awaitSecureRandom();
+		}
+		catch (final IllegalStateException expected)
+		{
+			assertSame(failure, expected.getCause());
+		}
+		assertFalse(asyncSeededSecureRandom.isSeeded());
+		assertEquals("unknown", asyncSeededSecureRandom.getAlgorithm());
+		asyncSeededSecureRandom.nextInt();
+	}
+
+}
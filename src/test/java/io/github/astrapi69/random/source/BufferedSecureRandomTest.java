@@ -0,0 +1,160 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.source;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.security.SecureRandom;
+import java.util.Arrays;
+
+import org.testng.annotations.Test;
+
+import io.github.astrapi69.random.DefaultSecureRandom;
+import io.github.astrapi69.random.SecureRandomBuilder;
+import io.github.astrapi69.random.enumeration.SecureRandomPoolStrategy;
+import io.github.astrapi69.random.number.RandomIntFactory;
+
+/**
+ * The unit test class for the class {@link BufferedSecureRandom}
+ */
+public class BufferedSecureRandomTest
+{
+
+	private static SecureRandom newSeededSecureRandom()
+	{
+		return SecureRandomBuilder.getInstance().seed(42L).build();
+	}
+
+	/**
+	 * Test method for {@link BufferedSecureRandom#nextBytes(byte[])}
+	 */
+	@Test
+	public void testNextBytes()
+	{
+		for (boolean prefetch : new boolean[] { false, true })
+		{
+			BufferedSecureRandom bufferedSecureRandom = new BufferedSecureRandom(
+				newSeededSecureRandom(), 64, prefetch);
+			byte[] expected = new byte[64 * 10];
+			newSeededSecureRandom().nextBytes(expected);
+			byte[] actual = new byte[64 * 10];
+			for (int offset = 0; offset < actual.length; offset += 10)
+			{
+				byte[] chunk = new byte[10];
+				bufferedSecureRandom.nextBytes(chunk);
+				System.arraycopy(chunk, 0, actual, offset, 10);
+			}
+			assertTrue(Arrays.equals(expected, actual));
+		}
+	}
+
+	/**
+	 * Test method for {@link BufferedSecureRandom#nextInt(int)} and
+	 * {@link BufferedSecureRandom#nextDouble()}
+	 */
+	@Test
+	public void testNextValues()
+	{
+		BufferedSecureRandom bufferedSecureRandom = new BufferedSecureRandom(
+			newSeededSecureRandom(), 72, true);
+		assertEquals(72, bufferedSecureRandom.getBlockSize());
+		for (int i = 0; i < 10000; i++)
+		{
+			int randomInt = bufferedSecureRandom.nextInt(7);
+			assertTrue(0 <= randomInt && randomInt < 7);
+			double randomDouble = bufferedSecureRandom.nextDouble();
+			assertTrue(0.0d <= randomDouble && randomDouble < 1.0d);
+			float randomFloat = bufferedSecureRandom.nextFloat();
+			assertTrue(0.0f <= randomFloat && randomFloat < 1.0f);
+			bufferedSecureRandom.nextBoolean();
+			bufferedSecureRandom.nextLong();
+		}
+	}
+
+	/**
+	 * Test method for {@link BufferedSecureRandom#setSeed(byte[])}
+	 */
+	@Test
+	public void testSetSeed()
+	{
+		byte[] seed = { 1, 2, 3, 4, 5, 6, 7, 8 };
+		for (boolean prefetch : new boolean[] { false, true })
+		{
+			BufferedSecureRandom bufferedSecureRandom = new BufferedSecureRandom(
+				newSeededSecureRandom(), 64, prefetch);
+			bufferedSecureRandom.nextLong();
+			bufferedSecureRandom.nextBoolean();
+			bufferedSecureRandom.setSeed(seed);
+			SecureRandom secureRandom = newSeededSecureRandom();
+			secureRandom.nextBytes(new byte[prefetch ? 128 : 64]);
+			secureRandom.setSeed(seed);
+			byte[] expected = new byte[64 * 3];
+			secureRandom.nextBytes(expected);
+			byte[] actual = new byte[64 * 3];
+			for (int offset = 0; offset < actual.length; offset += 16)
+			{
+				byte[] chunk = new byte[16];
+				bufferedSecureRandom.nextBytes(chunk);
+				System.arraycopy(chunk, 0, actual, offset, 16);
+			}
+			assertTrue(Arrays.equals(expected, actual));
+		}
+	}
+
+	/**
+	 * Test method for {@link BufferedSecureRandom} with an invalid block size
+	 */
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testNewWithInvalidBlockSize()
+	{
+		new BufferedSecureRandom(newSeededSecureRandom(), 4, false);
+	}
+
+	/**
+	 * Test method for {@link DefaultSecureRandom} with the strategy
+	 * {@link SecureRandomPoolStrategy#THREAD_LOCAL_BUFFERED}
+	 */
+	@Test
+	public void testDefaultSecureRandomBuffered()
+	{
+		SecureRandomPoolStrategy previous = DefaultSecureRandom.getPoolStrategy();
+		try
+		{
+			DefaultSecureRandom.setPoolStrategy(SecureRandomPoolStrategy.THREAD_LOCAL_BUFFERED);
+			assertTrue(DefaultSecureRandom.get() instanceof BufferedSecureRandom);
+			for (int i = 0; i < 100; i++)
+			{
+				int randomInt = RandomIntFactory.randomInt(10);
+				assertTrue(0 <= randomInt && randomInt < 10);
+			}
+		}
+		finally
+		{
+			DefaultSecureRandom.setPoolStrategy(previous);
+		}
+	}
+
+}
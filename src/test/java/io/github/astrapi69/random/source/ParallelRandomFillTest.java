@@ -0,0 +1,127 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.source;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import org.testng.annotations.Test;
+
+/**
+ * The unit test class for the class {@link ParallelRandomFill}
+ */
+public class ParallelRandomFillTest
+{
+
+	private static long[] parallelFill(final int length, final int chunkSize, final long seed,
+		final int parallelism) throws Exception
+	{
+		final long[] array = new long[length];
+		final ForkJoinPool pool = new ForkJoinPool(parallelism);
+		try
+		{
+			pool.submit(() -> ParallelRandomFill.fill(length, chunkSize,
+				new ReproducibleRandomSource(seed), (from, to, randomSource) -> {
+					for (int i = from; i < to; i++)
+					{
+						array[i] = randomSource.nextLong();
+					}
+				})).get();
+		}
+		finally
+		{
+			pool.shutdown();
+		}
+		return array;
+	}
+
+	/**
+	 * Test method for {@link ParallelRandomFill#fill(int, int, ReproducibleRandomSource,
+	 * ParallelRandomFill.ChunkFiller)}
+	 *
+	 * @throws Exception
+	 *             is thrown if the parallel generation fails
+	 */
+	@Test
+	public void testFillMatchesChunkSources() throws Exception
+	{
+		final long[] actual = parallelFill(1000, 64, 42L, 4);
+		final ReproducibleRandomSource root = new ReproducibleRandomSource(42L);
+		final long[] expected = new long[1000];
+		for (int chunk = 0; chunk * 64 < expected.length; chunk++)
+		{
+			final ReproducibleRandomSource randomSource = root.forTask(chunk);
+			for (int i = chunk * 64; i < Math.min(expected.length, (chunk + 1) * 64); i++)
+			{
+				expected[i] = randomSource.nextLong();
+			}
+		}
+		assertTrue(Arrays.equals(expected, actual));
+	}
+
+	/**
+	 * Test method for {@link ParallelRandomFill#fill(int, int, ReproducibleRandomSource,
+	 * ParallelRandomFill.ChunkFiller)} with different thread counts
+	 *
+	 * @throws Exception
+	 *             is thrown if the parallel generation fails
+	 */
+	@Test
+	public void testFillIsIndependentOfThreadCount() throws Exception
+	{
+		final long[] expected = parallelFill(100_000, 1000, 7L, 1);
+		assertTrue(Arrays.equals(expected, parallelFill(100_000, 1000, 7L, 3)));
+		assertTrue(Arrays.equals(expected, parallelFill(100_000, 1000, 7L, 8)));
+	}
+
+	/**
+	 * Test method for {@link ParallelRandomFill#fill(int, int, ReproducibleRandomSource,
+	 * ParallelRandomFill.ChunkFiller)} with an empty range
+	 */
+	@Test
+	public void testFillEmpty()
+	{
+		final int[] calls = new int[1];
+		ParallelRandomFill.fill(0, 16, new ReproducibleRandomSource(1L),
+			(from, to, randomSource) -> calls[0]++);
+		assertEquals(0, calls[0]);
+	}
+
+	/**
+	 * Test method for {@link ParallelRandomFill#fill(int, int, ReproducibleRandomSource,
+	 * ParallelRandomFill.ChunkFiller)} with an invalid chunk size
+	 */
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testFillInvalidChunkSize()
+	{
+		ParallelRandomFill.fill(10, 0, new ReproducibleRandomSource(1L),
+			(from, to, randomSource) -> {
+			});
+	}
+
+}
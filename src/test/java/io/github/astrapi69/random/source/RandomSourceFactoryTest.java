@@ -0,0 +1,184 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.source;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertNotNull;
+import static org.testng.AssertJUnit.assertSame;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.security.SecureRandom;
+import java.util.SplittableRandom;
+
+import org.meanbean.test.BeanTester;
+import org.testng.annotations.Test;
+
+import io.github.astrapi69.random.DefaultSecureRandom;
+
+/**
+ * The unit test class for the class {@link RandomSourceFactory}
+ */
+public class RandomSourceFactoryTest
+{
+
+	/**
+	 * Test method for {@link RandomSourceFactory#newRandomSource(java.util.random.RandomGenerator)}
+	 */
+	@Test
+	public void testNewRandomSourceRandomGenerator()
+	{
+		RandomSource randomSource = RandomSourceFactory.newRandomSource(new SplittableRandom());
+		assertNotNull(randomSource);
+		assertEquals("SplittableRandom", randomSource.getAlgorithm());
+		assertSame(randomSource, RandomSourceFactory.newRandomSource(randomSource));
+	}
+
+	/**
+	 * Test method for {@link RandomSourceFactory#newRandomSource(String)}
+	 */
+	@Test
+	public void testNewRandomSourceAlgorithm()
+	{
+		for (String algorithm : new String[] { RandomSourceFactory.SECURE_RANDOM,
+				RandomSourceFactory.SPLITTABLE_RANDOM, RandomSourceFactory.XOSHIRO_256_STAR_STAR,
+				RandomSourceFactory.L64X128_MIX_RANDOM })
+		{
+			RandomSource randomSource = RandomSourceFactory.newRandomSource(algorithm);
+			assertNotNull(randomSource);
+			assertEquals(algorithm, randomSource.getAlgorithm());
+			int randomInt = randomSource.nextInt(10);
+			assertTrue(0 <= randomInt && randomInt < 10);
+		}
+	}
+
+	/**
+	 * Test method for {@link RandomSourceFactory#newRandomSource(String, long)}
+	 */
+	@Test
+	public void testNewRandomSourceAlgorithmSeed()
+	{
+		for (String algorithm : new String[] { RandomSourceFactory.SPLITTABLE_RANDOM,
+				RandomSourceFactory.XOSHIRO_256_STAR_STAR,
+				RandomSourceFactory.L64X128_MIX_RANDOM })
+		{
+			RandomSource first = RandomSourceFactory.newRandomSource(algorithm, 42L);
+			RandomSource second = RandomSourceFactory.newRandomSource(algorithm, 42L);
+			for (int i = 0; i < 100; i++)
+			{
+				assertEquals(first.nextLong(), second.nextLong());
+			}
+		}
+	}
+
+	/**
+	 * Test method for {@link RandomSourceFactory#newRandomSource(String)} with an unknown algorithm
+	 */
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testNewRandomSourceUnknownAlgorithm()
+	{
+		RandomSourceFactory.newRandomSource("NoSuchAlgorithm");
+	}
+
+	/**
+	 * Test method for {@link RandomSourceFactory#isSupported(String)}
+	 */
+	@Test
+	public void testIsSupported()
+	{
+		assertTrue(RandomSourceFactory.isSupported(RandomSourceFactory.SECURE_RANDOM));
+		assertTrue(RandomSourceFactory.isSupported(RandomSourceFactory.RANDOM));
+		assertTrue(RandomSourceFactory.isSupported(RandomSourceFactory.SPLITTABLE_RANDOM));
+		assertTrue(RandomSourceFactory.isSupported(RandomSourceFactory.XOSHIRO_256_STAR_STAR));
+		assertTrue(RandomSourceFactory.isSupported(RandomSourceFactory.L64X128_MIX_RANDOM));
+		assertFalse(RandomSourceFactory.isSupported("NoSuchAlgorithm"));
+	}
+
+	/**
+	 * Test method for {@link RandomSourceFactory#newSecureRandomSource(SecureRandom)}
+	 */
+	@Test
+	public void testNewSecureRandomSource()
+	{
+		RandomSource randomSource = RandomSourceFactory
+			.newSecureRandomSource(DefaultSecureRandom.get());
+		assertNotNull(randomSource);
+		assertEquals(RandomSourceFactory.SECURE_RANDOM, randomSource.getAlgorithm());
+		assertNotNull(RandomSourceFactory.newSecureRandomSource());
+	}
+
+	/**
+	 * Test method for {@link RandomSourceFactory#newXoshiro256StarStarSource(long)}
+	 */
+	@Test
+	public void testNewXoshiro256StarStarSource()
+	{
+		RandomSource randomSource = RandomSourceFactory.newXoshiro256StarStarSource(1L);
+		double randomDouble;
+		for (int i = 0; i < 1000; i++)
+		{
+			randomDouble = randomSource.nextDouble();
+			assertTrue(0.0d <= randomDouble && randomDouble < 1.0d);
+		}
+		assertNotNull(RandomSourceFactory.newXoshiro256StarStarSource());
+		assertNotNull(RandomSourceFactory.newSplittableRandomSource());
+		assertNotNull(RandomSourceFactory.newSplittableRandomSource(1L));
+		assertNotNull(RandomSourceFactory.newL64X128MixRandomSource());
+		assertNotNull(RandomSourceFactory.newL64X128MixRandomSource(1L));
+	}
+
+	/**
+	 * Test method for {@link RandomSourceFactory#split(RandomSource)}
+	 */
+	@Test
+	public void testSplit()
+	{
+		final RandomSource secureSource = RandomSourceFactory.newSecureRandomSource();
+		final RandomSource secureSplit = RandomSourceFactory.split(secureSource);
+		assertEquals(RandomSourceFactory.SECURE_RANDOM, secureSplit.getAlgorithm());
+		assertTrue(secureSource != secureSplit);
+		final RandomSource xoshiroSplit = RandomSourceFactory
+			.split(RandomSourceFactory.newXoshiro256StarStarSource(1L));
+		assertEquals(RandomSourceFactory.XOSHIRO_256_STAR_STAR, xoshiroSplit.getAlgorithm());
+		assertEquals(xoshiroSplit.nextLong(), RandomSourceFactory
+			.split(RandomSourceFactory.newXoshiro256StarStarSource(1L)).nextLong());
+		assertEquals(RandomSourceFactory.SPLITTABLE_RANDOM, RandomSourceFactory
+			.split(RandomSourceFactory.newSplittableRandomSource(1L)).getAlgorithm());
+		final RandomSource reproducibleSplit = RandomSourceFactory
+			.split(RandomSourceFactory.newReproducibleRandomSource(1L));
+		assertTrue(reproducibleSplit instanceof ReproducibleRandomSource);
+	}
+
+	/**
+	 * Test method for {@link RandomSourceFactory} with {@link BeanTester}
+	 */
+	@Test
+	public void testWithBeanTester()
+	{
+		final BeanTester beanTester = new BeanTester();
+		beanTester.testBean(RandomSourceFactory.class);
+	}
+
+}
@@ -0,0 +1,114 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.source;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.testng.annotations.Test;
+
+import io.github.astrapi69.random.number.RandomIntFactory;
+import io.github.astrapi69.random.object.RandomStringFactory;
+
+/**
+ * The unit test class for the class {@link ReproducibleRandomSource}
+ */
+public class ReproducibleRandomSourceTest
+{
+
+	private static String newTaskValue(final ReproducibleRandomSource root, final int taskIndex)
+	{
+		final ReproducibleRandomSource randomSource = root.forTask(taskIndex);
+		return RandomIntFactory.randomIntBetween(0, 1000, randomSource) + ":"
+			+ RandomStringFactory.newRandomString(16, randomSource);
+	}
+
+	private static List<String> newTaskValues(final long seed, final int parallelism)
+		throws Exception
+	{
+		final ReproducibleRandomSource root = RandomSourceFactory.newReproducibleRandomSource(seed);
+		final ForkJoinPool pool = new ForkJoinPool(parallelism);
+		try
+		{
+			return pool.submit(() -> IntStream.range(0, 200).parallel()
+				.mapToObj(taskIndex -> newTaskValue(root, taskIndex)).collect(Collectors.toList()))
+				.get();
+		}
+		finally
+		{
+			pool.shutdown();
+		}
+	}
+
+	/**
+	 * Test method for {@link ReproducibleRandomSource#forTask(long)} with different thread counts
+	 *
+	 * @throws Exception
+	 *             is thrown if the parallel generation fails
+	 */
+	@Test
+	public void testForTaskIsIndependentOfThreadCount() throws Exception
+	{
+		final List<String> expected = newTaskValues(42L, 1);
+		assertEquals(expected, newTaskValues(42L, 4));
+		assertEquals(expected, newTaskValues(42L, 7));
+		assertFalse(expected.equals(newTaskValues(43L, 4)));
+	}
+
+	/**
+	 * Test method for {@link ReproducibleRandomSource#forTask(long)}
+	 */
+	@Test
+	public void testForTask()
+	{
+		final ReproducibleRandomSource root = new ReproducibleRandomSource(7L);
+		final ReproducibleRandomSource child = root.forTask(3);
+		root.nextLong();
+		assertEquals(child.getSeed(), root.forTask(3).getSeed());
+		assertEquals(child.nextLong(), new ReproducibleRandomSource(7L).forTask(3).nextLong());
+		assertFalse(root.forTask(3).getSeed() == root.forTask(4).getSeed());
+	}
+
+	/**
+	 * Test method for {@link ReproducibleRandomSource#split()}
+	 */
+	@Test
+	public void testSplit()
+	{
+		final ReproducibleRandomSource first = new ReproducibleRandomSource(11L);
+		final ReproducibleRandomSource second = new ReproducibleRandomSource(11L);
+		for (int i = 0; i < 10; i++)
+		{
+			assertEquals(first.split().nextLong(), second.split().nextLong());
+		}
+		assertEquals(first.nextLong(), second.nextLong());
+	}
+
+}
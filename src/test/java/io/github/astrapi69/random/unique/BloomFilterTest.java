@@ -0,0 +1,87 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.unique;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertTrue;
+
+import org.testng.annotations.Test;
+
+/**
+ * The unit test class for the class {@link BloomFilter}
+ */
+public class BloomFilterTest
+{
+
+	/**
+	 * Test method for {@link BloomFilter#add(long)} that no added value is reported as new and
+	 * that the false positive rate matches the configured probability
+	 */
+	@Test
+	public void testAdd()
+	{
+		final int size = 100_000;
+		final BloomFilter bloomFilter = new BloomFilter(size, 0.01);
+		assertEquals(7, bloomFilter.getHashCount());
+		int falsePositives = 0;
+		for (long value = 0; value < size; value++)
+		{
+			if (!bloomFilter.add(value))
+			{
+				falsePositives++;
+			}
+		}
+		for (long value = 0; value < size; value++)
+		{
+			assertFalse(bloomFilter.add(value));
+		}
+		assertTrue(falsePositives < size / 100);
+		int rejected = 0;
+		for (long value = size; value < 2 * size; value++)
+		{
+			if (!bloomFilter.add(value))
+			{
+				rejected++;
+			}
+			if (value == size + 10_000)
+			{
+				assertEquals(0.01, rejected / 10_000.0, 0.005);
+			}
+		}
+		bloomFilter.clear();
+		assertTrue(bloomFilter.add(0L));
+	}
+
+	/**
+	 * Test method for {@link BloomFilter#BloomFilter(long, double)} with an invalid probability
+	 */
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void testInvalidProbability()
+	{
+		new BloomFilter(10, 1.0);
+	}
+
+}
@@ -0,0 +1,83 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.unique;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertFalse;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import org.testng.annotations.Test;
+
+/**
+ * The unit test class for the class {@link LongFingerprintSet}
+ */
+public class LongFingerprintSetTest
+{
+
+	/**
+	 * Test method for {@link LongFingerprintSet#add(long)} and
+	 * {@link LongFingerprintSet#contains(long)} against a {@link HashSet}
+	 */
+	@Test
+	public void testAddAndContains()
+	{
+		final LongFingerprintSet set = new LongFingerprintSet(0);
+		final Set<Long> expected = new HashSet<>();
+		final SplittableRandom random = new SplittableRandom(1L);
+		for (int i = 0; i < 200_000; i++)
+		{
+			final long value = random.nextLong(-50_000, 50_000);
+			assertEquals(expected.add(value), set.add(value));
+		}
+		assertEquals(expected.size(), set.size());
+		for (long value = -60_000; value < 60_000; value++)
+		{
+			assertEquals(expected.contains(value), set.contains(value));
+		}
+	}
+
+	/**
+	 * Test method for {@link LongFingerprintSet#add(long)} with the value zero and
+	 * {@link LongFingerprintSet#clear()}
+	 */
+	@Test
+	public void testZeroAndClear()
+	{
+		final LongFingerprintSet set = new LongFingerprintSet(4);
+		assertTrue(set.add(0L));
+		assertFalse(set.add(0L));
+		assertTrue(set.add(Long.MIN_VALUE));
+		assertEquals(2, set.size());
+		set.clear();
+		assertEquals(0, set.size());
+		assertFalse(set.contains(0L));
+		assertTrue(set.add(Long.MIN_VALUE));
+	}
+
+}
@@ -0,0 +1,165 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.unique;
+
+import static org.testng.AssertJUnit.assertEquals;
+import static org.testng.AssertJUnit.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.testng.annotations.Test;
+
+import io.github.astrapi69.random.source.RandomSourceFactory;
+
+/**
+ * The unit test class for the class {@link UniqueRandomGenerator}
+ */
+public class UniqueRandomGeneratorTest
+{
+
+	/**
+	 * Test method for {@link UniqueRandomGenerator#stringBuilder(String, int)}
+	 */
+	@Test
+	public void testStrings()
+	{
+		final UniqueRandomGenerator<String> generator = UniqueRandomGenerator
+			.stringBuilder("abcdefghijklmnopqrstuvwxyz0123456789", 8).expectedSize(100_000)
+			.randomSource(RandomSourceFactory.newXoshiro256StarStarSource(1L)).build();
+		final List<String> values = generator.next(100_000);
+		assertEquals(100_000, values.size());
+		assertEquals(100_000, new HashSet<>(values).size());
+		assertEquals(100_000, generator.getCount());
+		for (final String value : values.subList(0, 100))
+		{
+			assertEquals(8, value.length());
+		}
+	}
+
+	/**
+	 * Test method for {@link UniqueRandomGenerator#next()} that exhausts a small value space
+	 */
+	@Test
+	public void testStringValueSpaceExhausted()
+	{
+		final UniqueRandomGenerator<String> generator = UniqueRandomGenerator
+			.stringBuilder("abc", 3).build();
+		assertEquals(27, generator.getValueSpace());
+		final Set<String> values = new HashSet<>(generator.next(27));
+		assertEquals(27, values.size());
+		try
+		{
+			generator.next();
+			throw new AssertionError("the value space should be exhausted");
+		}
+		catch (final IllegalStateException e)
+		{
+			assertTrue(e.getMessage().contains("exhausted"));
+		}
+		generator.reset();
+		assertEquals(values, new HashSet<>(generator.next(27)));
+	}
+
+	/**
+	 * Test method for {@link UniqueRandomGenerator#next(int)} with more values than the value
+	 * space
+	 */
+	@Test(expectedExceptions = IllegalStateException.class)
+	public void testNextTooManyValues()
+	{
+		UniqueRandomGenerator.longBuilder(0, 10).build().next(11);
+	}
+
+	/**
+	 * Test method for {@link UniqueRandomGenerator#longBuilder(long, long)}
+	 */
+	@Test
+	public void testLongRange()
+	{
+		final UniqueRandomGenerator<Long> generator = UniqueRandomGenerator.longBuilder(-5, 5)
+			.build();
+		final Set<Long> values = new HashSet<>(generator.next(10));
+		for (long value = -5; value < 5; value++)
+		{
+			assertTrue(values.contains(value));
+		}
+	}
+
+	/**
+	 * Test method for {@link UniqueRandomGenerator#next()} if the value space is not known but is
+	 * exhausted
+	 */
+	@Test(expectedExceptions = IllegalStateException.class)
+	public void testUnknownValueSpaceExhausted()
+	{
+		final UniqueRandomGenerator<Integer> generator = UniqueRandomGenerator
+			.builder(randomSource -> randomSource.nextInt(5)).maxAttempts(1000).build();
+		generator.next(5);
+		generator.next();
+	}
+
+	/**
+	 * Test method for {@link UniqueRandomGenerator.UniqueRandomGeneratorBuilder#bloomFilter(long,
+	 * double)}
+	 */
+	@Test
+	public void testBloomFilter()
+	{
+		final UniqueRandomGenerator<Long> generator = UniqueRandomGenerator.longBuilder(0, 1000)
+			.bloomFilter(1000, 0.0001)
+			.randomSource(RandomSourceFactory.newSplittableRandomSource(2L)).build();
+		final Set<Long> values = generator.stream().limit(500).collect(Collectors.toSet());
+		assertEquals(500, values.size());
+	}
+
+	/**
+	 * Test method for {@link UniqueRandomGenerator#emailBuilder()}
+	 */
+	@Test
+	public void testEmails()
+	{
+		final List<String> emails = UniqueRandomGenerator.emailBuilder().build().next(1000);
+		assertEquals(1000, new HashSet<>(emails).size());
+		assertTrue(emails.get(0).contains("@"));
+	}
+
+	/**
+	 * Test method for {@link UniqueRandomGenerator#fingerprint(CharSequence)}
+	 */
+	@Test
+	public void testFingerprint()
+	{
+		assertEquals(UniqueRandomGenerator.fingerprint("abc"),
+			UniqueRandomGenerator.fingerprint(new StringBuilder("abc")));
+		assertTrue(UniqueRandomGenerator.fingerprint("ab") != UniqueRandomGenerator
+			.fingerprint("ba"));
+		assertTrue(UniqueRandomGenerator.fingerprint("") != UniqueRandomGenerator
+			.fingerprint("\0"));
+	}
+
+}
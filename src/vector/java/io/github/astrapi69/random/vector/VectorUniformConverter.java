@@ -0,0 +1,120 @@
+/**
+ * The MIT License
+ *
+ * Copyright (C) 2015 Asterios Raptis
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining
+ * a copy of this software and associated documentation files (the
+ * "Software"), to deal in the Software without restriction, including
+ * without limitation the rights to use, copy, modify, merge, publish,
+ * distribute, sublicense, and/or sell copies of the Software, and to
+ * permit persons to whom the Software is furnished to do so, subject to
+ * the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be
+ * included in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND,
+ * EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF
+ * MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND
+ * NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR COPYRIGHT HOLDERS BE
+ * LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION
+ * OF CONTRACT, TORT OR OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION
+ * WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+package io.github.astrapi69.random.vector;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import io.github.astrapi69.random.number.spi.UniformConverter;
+
+/**
+ * The class {@link VectorUniformConverter} is the {@link UniformConverter} that converts the words
+ * in parallel lanes with the vector api of the incubator module <code>jdk.incubator.vector</code>.
+ * The lanes compute the same operations in the same order as the scalar converter of the number
+ * factories, so both converters produce exactly the same values. The remaining words that do not
+ * fill a whole vector are converted one after the other. The converter is provided as service
+ * for the {@link java.util.ServiceLoader}
+ */
+public final class VectorUniformConverter implements UniformConverter
+{
+
+	/** The species of the long words */
+	private static final VectorSpecies<Long> LONGS = LongVector.SPECIES_PREFERRED;
+
+	/** The species of the doubles with the same number of lanes as the long words */
+	private static final VectorSpecies<Double> DOUBLES = DoubleVector.SPECIES_PREFERRED;
+
+	/** The species of the int words */
+	private static final VectorSpecies<Integer> INTS = IntVector.SPECIES_PREFERRED;
+
+	/** The species of the floats with the same number of lanes as the int words */
+	private static final VectorSpecies<Float> FLOATS = FloatVector.SPECIES_PREFERRED;
+
+	/**
+	 * Instantiates a new {@link VectorUniformConverter}
+	 *
+	 * @throws UnsupportedOperationException
+	 *             if the platform has no vector registers with at least two long lanes
+	 */
+	public VectorUniformConverter()
+	{
+		if (LONGS.length() < 2)
+		{
+			throw new UnsupportedOperationException(
+				"No vector registers with at least two long lanes: " + LONGS);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void toDoubles(final long[] words, final int count, final double start,
+		final double range, final double[] target, final int offset)
+	{
+		final DoubleVector startVector = DoubleVector.broadcast(DOUBLES, start);
+		final DoubleVector rangeVector = DoubleVector.broadcast(DOUBLES, range);
+		final int bound = LONGS.loopBound(count);
+		int i = 0;
+		for (; i < bound; i += LONGS.length())
+		{
+			final DoubleVector unit = (DoubleVector)LongVector.fromArray(LONGS, words, i)
+				.lanewise(VectorOperators.LSHR, 11).convert(VectorOperators.L2D, 0);
+			startVector.add(unit.mul(DOUBLE_UNIT).mul(rangeVector)).intoArray(target, offset + i);
+		}
+		for (; i < count; i++)
+		{
+			target[offset + i] = start + (words[i] >>> 11) * DOUBLE_UNIT * range;
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void toFloats(final int[] words, final int count, final float start,
+		final float range, final float[] target, final int offset)
+	{
+		final FloatVector startVector = FloatVector.broadcast(FLOATS, start);
+		final FloatVector rangeVector = FloatVector.broadcast(FLOATS, range);
+		final int bound = INTS.loopBound(count);
+		int i = 0;
+		for (; i < bound; i += INTS.length())
+		{
+			final FloatVector unit = (FloatVector)IntVector.fromArray(INTS, words, i)
+				.lanewise(VectorOperators.LSHR, 8).convert(VectorOperators.I2F, 0);
+			startVector.add(unit.mul(FLOAT_UNIT).mul(rangeVector)).intoArray(target, offset + i);
+		}
+		for (; i < count; i++)
+		{
+			target[offset + i] = start + (words[i] >>> 8) * FLOAT_UNIT * range;
+		}
+	}
+
+}